@@ -0,0 +1,122 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for inserting new entities in bulk via {@link Neo4jOperations#insertAll} or
+ * {@link ReactiveNeo4jOperations#insertAll}. Instances are immutable, each option returns
+ * a new instance.
+ *
+ * @author Michael J. Simons
+ * @since 8.2
+ */
+@API(status = API.Status.STABLE, since = "8.2")
+public final class BulkInsertOptions {
+
+	private static final BulkInsertOptions DEFAULTS = new BulkInsertOptions(null, false, false);
+
+	@Nullable
+	private final Integer batchSize;
+
+	private final boolean transactionPerBatch;
+
+	private final boolean skipBeforeBindCallbacks;
+
+	private BulkInsertOptions(@Nullable Integer batchSize, boolean transactionPerBatch,
+			boolean skipBeforeBindCallbacks) {
+		this.batchSize = batchSize;
+		this.transactionPerBatch = transactionPerBatch;
+		this.skipBeforeBindCallbacks = skipBeforeBindCallbacks;
+	}
+
+	/**
+	 * Returns the default options: All instances are inserted in one transaction, using
+	 * the batch size configured on the template, and all before bind callbacks are
+	 * invoked.
+	 * @return the default options
+	 */
+	public static BulkInsertOptions defaults() {
+		return DEFAULTS;
+	}
+
+	/**
+	 * Limits the number of instances that are bound to a single statement. All batches
+	 * are inserted in the same transaction.
+	 * @param newBatchSize the maximum number of instances per statement, must be positive
+	 * @return new options
+	 */
+	public BulkInsertOptions inBatchesOf(int newBatchSize) {
+		Assert.isTrue(newBatchSize > 0, "The batch size must be greater than 0");
+		return new BulkInsertOptions(newBatchSize, false, this.skipBeforeBindCallbacks);
+	}
+
+	/**
+	 * Splits the instances into batches of the given size and inserts and commits each
+	 * batch in its own, new transaction. The relationships of all instances are created
+	 * after the nodes of all batches have been committed, again in batches of the given
+	 * size with one transaction each, so that relationships between instances of
+	 * different batches are supported and created only once. If a batch fails, the
+	 * batches committed before, including all nodes when creating a relationship fails,
+	 * stay committed.
+	 * @param newBatchSize the maximum number of instances per transaction, must be
+	 * positive
+	 * @return new options
+	 */
+	public BulkInsertOptions inTransactionsOf(int newBatchSize) {
+		Assert.isTrue(newBatchSize > 0, "The batch size must be greater than 0");
+		return new BulkInsertOptions(newBatchSize, true, this.skipBeforeBindCallbacks);
+	}
+
+	/**
+	 * Skips all before bind callbacks, including auditing. Ids are still generated for
+	 * entities using an id generator.
+	 * @return new options
+	 */
+	public BulkInsertOptions withoutBeforeBindCallbacks() {
+		return new BulkInsertOptions(this.batchSize, this.transactionPerBatch, true);
+	}
+
+	/**
+	 * Returns the configured batch size.
+	 * @return the maximum number of instances per statement or transaction,
+	 * {@literal null} if the batch size of the template is used
+	 */
+	@Nullable public Integer getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Returns whether each batch is committed on its own.
+	 * @return true if each batch is committed in its own transaction
+	 */
+	public boolean isTransactionPerBatch() {
+		return this.transactionPerBatch;
+	}
+
+	/**
+	 * Returns whether before bind callbacks are skipped.
+	 * @return true if before bind callbacks are skipped
+	 */
+	public boolean isSkipBeforeBindCallbacks() {
+		return this.skipBeforeBindCallbacks;
+	}
+
+}
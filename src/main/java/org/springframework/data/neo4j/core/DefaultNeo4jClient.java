@@ -15,16 +15,22 @@
  */
 package org.springframework.data.neo4j.core;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.jspecify.annotations.Nullable;
 import org.neo4j.driver.Bookmark;
@@ -51,6 +57,7 @@ import org.springframework.data.neo4j.core.support.BookmarkManagerReference;
 import org.springframework.data.neo4j.core.transaction.Neo4jBookmarkManager;
 import org.springframework.data.neo4j.core.transaction.Neo4jTransactionManager;
 import org.springframework.data.neo4j.core.transaction.Neo4jTransactionUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -110,6 +117,16 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 	@Override
 	public QueryRunner getQueryRunner(DatabaseSelection databaseSelection, UserSelection impersonatedUser) {
 
+		// Anything deferred before must be visible to whatever is run next
+		List<DeferredStatements.DeferredStatement> deferredStatements = DeferredStatements.drain(this);
+		if (!deferredStatements.isEmpty()) {
+			execute(deferredStatements);
+		}
+		return openQueryRunner(databaseSelection, impersonatedUser);
+	}
+
+	private QueryRunner openQueryRunner(DatabaseSelection databaseSelection, UserSelection impersonatedUser) {
+
 		QueryRunner queryRunner = Neo4jTransactionManager.retrieveTransaction(this.driver, databaseSelection,
 				impersonatedUser);
 		Collection<Bookmark> lastBookmarks = this.bookmarkManager.resolve().getBookmarks();
@@ -122,6 +139,36 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 		return new DelegatingQueryRunner(queryRunner, lastBookmarks, this.bookmarkManager.resolve()::updateBookmarks);
 	}
 
+	private void execute(List<DeferredStatements.DeferredStatement> deferredStatements) {
+
+		int i = 0;
+		while (i < deferredStatements.size()) {
+			DeferredStatements.DeferredStatement first = deferredStatements.get(i);
+			// Consecutive statements for the same target are sent back to back on one
+			// runner, their summaries are only consumed afterward
+			try (QueryRunner statementRunner = openQueryRunner(first.databaseSelection(), first.userSelection())) {
+				List<Result> results = new ArrayList<>();
+				while (i < deferredStatements.size()
+						&& deferredStatements.get(i).databaseSelection().equals(first.databaseSelection())
+						&& deferredStatements.get(i).userSelection().equals(first.userSelection())) {
+					DeferredStatements.DeferredStatement deferredStatement = deferredStatements.get(i++);
+					NamedParameters parameters = new NamedParameters();
+					parameters.addAll(deferredStatement.parameters());
+					results.add(new RunnableStatement(deferredStatement::cypher, parameters).runWith(statementRunner));
+				}
+				for (Result result : results) {
+					ResultSummaries.process(result.consume());
+				}
+			}
+			catch (RuntimeException ex) {
+				throw potentiallyConvertRuntimeException(ex, this.persistenceExceptionTranslator);
+			}
+			catch (Exception ex) {
+				throw new RuntimeException(ex);
+			}
+		}
+	}
+
 	@Override
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 
@@ -265,7 +312,8 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 
 	}
 
-	class DefaultRunnableSpec implements UnboundRunnableSpec, RunnableSpecBoundToDatabaseAndUser {
+	class DefaultRunnableSpec
+			implements UnboundRunnableSpec, RunnableSpecBoundToDatabaseAndUser, DeferredStatements.Deferrable {
 
 		private final RunnableStatement runnableStatement;
 
@@ -334,6 +382,21 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 			}
 		}
 
+		@Override
+		public void runDeferred(@Nullable String nameOfRows) {
+
+			if (!(TransactionSynchronizationManager.isSynchronizationActive()
+					&& Neo4jTransactionManager.retrieveTransaction(DefaultNeo4jClient.this.driver,
+							this.databaseSelection, this.userSelection) != null)) {
+				run();
+				return;
+			}
+			DeferredStatements.current(DefaultNeo4jClient.this, DefaultNeo4jClient.this::execute)
+				.add(new DeferredStatements.DeferredStatement(this.databaseSelection, this.userSelection,
+						this.runnableStatement.cypherSupplier.get(), this.runnableStatement.parameters.get(),
+						nameOfRows));
+		}
+
 		class DefaultOngoingBindSpec<T> implements OngoingBindSpec<T, RunnableSpec> {
 
 			@Nullable
@@ -505,15 +568,10 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 
 			try (QueryRunner statementRunner = getQueryRunner(this.databaseSelection, this.impersonatedUser)) {
 				Result result = this.runnableStatement.runWith(statementRunner);
-				Collection<T> values = result.stream().flatMap(r -> {
-					if (this.mappingFunction instanceof SingleValueMappingFunction && r.size() == 1
-							&& r.get(0).hasType(TypeSystem.getDefault().LIST())) {
-						return r.get(0)
-							.asList(v -> ((SingleValueMappingFunction<T>) this.mappingFunction).convertValue(v))
-							.stream();
-					}
-					return Stream.of(partialMappingFunction(TypeSystem.getDefault()).apply(r));
-				}).filter(Objects::nonNull).collect(Collectors.toList());
+				Collection<T> values = result.stream()
+					.flatMap(this::mapRecord)
+					.filter(Objects::nonNull)
+					.collect(Collectors.toList());
 				ResultSummaries.process(result.consume());
 				return values;
 			}
@@ -525,12 +583,93 @@ final class DefaultNeo4jClient implements Neo4jClient, ApplicationContextAware {
 			}
 		}
 
+		@Override
+		public Stream<T> stream() {
+
+			QueryRunner statementRunner = getQueryRunner(this.databaseSelection, this.impersonatedUser);
+			try {
+				Result result = this.runnableStatement.runWith(statementRunner);
+				Spliterator<Record> records = new TranslatingSpliterator(result);
+				return StreamSupport.stream(records, false)
+					.flatMap(this::mapRecord)
+					.filter(Objects::nonNull)
+					.onClose(() -> {
+						try {
+							ResultSummaries.process(result.consume());
+						}
+						catch (RuntimeException ex) {
+							throw potentiallyConvertRuntimeException(ex,
+									DefaultNeo4jClient.this.persistenceExceptionTranslator);
+						}
+						finally {
+							close(statementRunner);
+						}
+					});
+			}
+			catch (RuntimeException ex) {
+				close(statementRunner);
+				throw potentiallyConvertRuntimeException(ex, DefaultNeo4jClient.this.persistenceExceptionTranslator);
+			}
+		}
+
+		private void close(QueryRunner statementRunner) {
+			try {
+				statementRunner.close();
+			}
+			catch (RuntimeException ex) {
+				throw potentiallyConvertRuntimeException(ex, DefaultNeo4jClient.this.persistenceExceptionTranslator);
+			}
+			catch (Exception ex) {
+				throw new RuntimeException(ex);
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private Stream<T> mapRecord(Record r) {
+			if (this.mappingFunction instanceof SingleValueMappingFunction && r.size() == 1
+					&& r.get(0).hasType(TypeSystem.getDefault().LIST())) {
+				return r.get(0)
+					.asList(v -> ((SingleValueMappingFunction<T>) this.mappingFunction).convertValue(v))
+					.stream();
+			}
+			return Stream.of(partialMappingFunction(TypeSystem.getDefault()).apply(r));
+		}
+
 		private Function<Record, T> partialMappingFunction(TypeSystem typeSystem) {
 			return r -> this.mappingFunction.apply(typeSystem, r);
 		}
 
 	}
 
+	/**
+	 * Pulls records from a driver result one by one and translates exceptions occurring
+	 * while doing so.
+	 */
+	final class TranslatingSpliterator extends Spliterators.AbstractSpliterator<Record> {
+
+		private final Result result;
+
+		TranslatingSpliterator(Result result) {
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+			this.result = result;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Record> action) {
+			try {
+				if (!this.result.hasNext()) {
+					return false;
+				}
+				action.accept(this.result.next());
+				return true;
+			}
+			catch (RuntimeException ex) {
+				throw potentiallyConvertRuntimeException(ex, DefaultNeo4jClient.this.persistenceExceptionTranslator);
+			}
+		}
+
+	}
+
 	class DefaultRunnableDelegation<T> implements RunnableDelegation<T>, OngoingDelegation<T> {
 
 		private final Function<QueryRunner, Optional<T>> callback;
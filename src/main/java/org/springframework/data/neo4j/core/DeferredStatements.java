@@ -0,0 +1,209 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Statements without results that have been deferred within one transaction by the
+ * templates via {@link Deferrable#runDeferred(String)}. Instances are bound as
+ * transactional resource and executed before the next statement of the same client or
+ * before the transaction commits, whatever comes first. Consecutive statements with the
+ * same Cypher and otherwise equal parameters are coalesced into one if they have been
+ * deferred with the name of the list parameter whose rows they treat independently.
+ *
+ * @author Michael J. Simons
+ * @since 8.2
+ */
+final class DeferredStatements implements TransactionSynchronization {
+
+	private final Object resourceKey;
+
+	private final Consumer<List<DeferredStatement>> executor;
+
+	private final List<DeferredStatement> statements = new ArrayList<>();
+
+	DeferredStatements(Object resourceKey, Consumer<List<DeferredStatement>> executor) {
+		this.resourceKey = resourceKey;
+		this.executor = executor;
+	}
+
+	/**
+	 * Retrieves the deferred statements of the ongoing transaction, creating and
+	 * registering them if necessary.
+	 * @param resourceKey the key under which the statements are bound, usually the client
+	 * @param executor the executor of the statements when they are flushed
+	 * @return the deferred statements of the ongoing transaction
+	 */
+	static DeferredStatements current(Object resourceKey, Consumer<List<DeferredStatement>> executor) {
+
+		DeferredStatements deferredStatements = (DeferredStatements) TransactionSynchronizationManager
+			.getResource(resourceKey);
+		if (deferredStatements == null) {
+			deferredStatements = new DeferredStatements(resourceKey, executor);
+			TransactionSynchronizationManager.bindResource(resourceKey, deferredStatements);
+			TransactionSynchronizationManager.registerSynchronization(deferredStatements);
+		}
+		return deferredStatements;
+	}
+
+	/**
+	 * Removes all deferred statements of the ongoing transaction, if any.
+	 * @param resourceKey the key under which the statements are bound
+	 * @return the statements to execute in order, might be empty
+	 */
+	static List<DeferredStatement> drain(Object resourceKey) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return List.of();
+		}
+		DeferredStatements deferredStatements = (DeferredStatements) TransactionSynchronizationManager
+			.getResource(resourceKey);
+		return (deferredStatements != null) ? deferredStatements.drain() : List.of();
+	}
+
+	/**
+	 * Adds a statement, coalescing it with the previous one if possible.
+	 * @param statement the statement to defer
+	 */
+	void add(DeferredStatement statement) {
+
+		if (!this.statements.isEmpty()) {
+			int indexOfLast = this.statements.size() - 1;
+			DeferredStatement coalescedStatement = coalesce(this.statements.get(indexOfLast), statement);
+			if (coalescedStatement != null) {
+				this.statements.set(indexOfLast, coalescedStatement);
+				return;
+			}
+		}
+		this.statements.add(statement);
+	}
+
+	/**
+	 * Removes all statements.
+	 * @return the statements to execute in order
+	 */
+	List<DeferredStatement> drain() {
+
+		List<DeferredStatement> result = List.copyOf(this.statements);
+		this.statements.clear();
+		return result;
+	}
+
+	@Override
+	public void beforeCommit(boolean readOnly) {
+		List<DeferredStatement> pendingStatements = drain();
+		if (!pendingStatements.isEmpty()) {
+			this.executor.accept(pendingStatements);
+		}
+	}
+
+	@Override
+	public void suspend() {
+		TransactionSynchronizationManager.unbindResourceIfPossible(this.resourceKey);
+	}
+
+	@Override
+	public void resume() {
+		TransactionSynchronizationManager.bindResource(this.resourceKey, this);
+	}
+
+	@Override
+	public void afterCompletion(int status) {
+		this.statements.clear();
+		TransactionSynchronizationManager.unbindResourceIfPossible(this.resourceKey);
+	}
+
+	@Nullable private static DeferredStatement coalesce(DeferredStatement previous, DeferredStatement next) {
+
+		if (!(previous.cypher().equals(next.cypher()) && previous.databaseSelection().equals(next.databaseSelection())
+				&& previous.userSelection().equals(next.userSelection()))) {
+			return null;
+		}
+
+		String nameOfList = next.nameOfRows();
+		if (nameOfList == null || !nameOfList.equals(previous.nameOfRows())) {
+			return null;
+		}
+		if (!(previous.parameters().get(nameOfList) instanceof Collection<?> previousRows
+				&& next.parameters().get(nameOfList) instanceof Collection<?> nextRows)) {
+			return null;
+		}
+
+		Map<String, Object> otherParameters = new HashMap<>(next.parameters());
+		otherParameters.remove(nameOfList);
+		Map<String, Object> otherPreviousParameters = new HashMap<>(previous.parameters());
+		otherPreviousParameters.remove(nameOfList);
+		if (!otherParameters.equals(otherPreviousParameters)) {
+			return null;
+		}
+
+		List<Object> rows = new ArrayList<>(previousRows.size() + nextRows.size());
+		rows.addAll(previousRows);
+		rows.addAll(nextRows);
+		Map<String, Object> parameters = new HashMap<>(next.parameters());
+		parameters.put(nameOfList, rows);
+		return new DeferredStatement(next.databaseSelection(), next.userSelection(), next.cypher(), parameters,
+				nameOfList);
+	}
+
+	/**
+	 * Implemented by the runnable specs of {@link DefaultNeo4jClient}, so that the
+	 * templates can defer the statements they generated themselves. Not part of the
+	 * public API of the client.
+	 */
+	interface Deferrable {
+
+		/**
+		 * Executes the statement at a later point in time and discards the results.
+		 * Inside a transaction managed by Spring, the statement is queued and executed
+		 * before the next statement that is run through the same client within the same
+		 * transaction, or at the latest before the transaction commits. Outside a managed
+		 * transaction, the statement is executed right away.
+		 * @param nameOfRows the name of a list parameter, if the statement unwinds that
+		 * list and treats each of its elements independently, so that consecutive
+		 * statements may be coalesced by concatenating their lists; {@literal null}
+		 * otherwise
+		 */
+		void runDeferred(@Nullable String nameOfRows);
+
+	}
+
+	/**
+	 * A single statement waiting to be executed.
+	 *
+	 * @param databaseSelection the target database
+	 * @param userSelection the impersonated user
+	 * @param cypher the statement to execute
+	 * @param parameters the parameters of the statement
+	 * @param nameOfRows the name of the list parameter by which the statement can be
+	 * coalesced with others, {@literal null} if it must not be coalesced
+	 */
+	record DeferredStatement(DatabaseSelection databaseSelection, UserSelection userSelection, String cypher,
+			Map<String, Object> parameters, @Nullable String nameOfRows) {
+	}
+
+}
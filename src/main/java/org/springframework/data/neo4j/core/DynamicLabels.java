@@ -66,4 +66,12 @@ final class DynamicLabels implements UnaryOperator<OngoingMatchAndUpdate> {
 		return decoratedMatchAndUpdate;
 	}
 
+	List<String> getOldLabels() {
+		return Collections.unmodifiableList(this.oldLabels);
+	}
+
+	List<String> getNewLabels() {
+		return Collections.unmodifiableList(this.newLabels);
+	}
+
 }
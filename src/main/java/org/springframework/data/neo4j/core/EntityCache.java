@@ -0,0 +1,104 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A second-level cache of entities marked with
+ * {@link org.springframework.data.neo4j.core.schema.CacheableNode}, used by
+ * {@link Neo4jTemplate} and {@link ReactiveNeo4jTemplate} when looking up entities by id.
+ * Entries are grouped into regions, one per hierarchy of cacheable entities, and keyed by
+ * the id of the entity inside a region. The templates evict entries when they save or
+ * delete entities, whole regions when they save or delete entities that might be related
+ * to the cached ones, and entries when they load an entity whose version differs from
+ * the cached one. Implementations must be thread-safe and must not block, as they are used from
+ * reactive pipelines as well.
+ *
+ * @author Michael J. Simons
+ * @since 8.2
+ * @see InMemoryEntityCache
+ */
+@API(status = API.Status.STABLE, since = "8.2")
+public interface EntityCache {
+
+	/**
+	 * Retrieves a cached entity and records the lookup as a hit or a miss.
+	 * @param region the region of the entity
+	 * @param id the id of the entity
+	 * @return the cached entity or {@literal null}
+	 */
+	@Nullable Object get(Class<?> region, Object id);
+
+	/**
+	 * Retrieves a cached entity without recording the lookup.
+	 * @param region the region of the entity
+	 * @param id the id of the entity
+	 * @return the cached entity or {@literal null}
+	 */
+	@Nullable Object peek(Class<?> region, Object id);
+
+	/**
+	 * Adds or replaces a cached entity.
+	 * @param region the region of the entity
+	 * @param id the id of the entity
+	 * @param entity the entity to cache
+	 */
+	void put(Class<?> region, Object id, Object entity);
+
+	/**
+	 * Removes a cached entity, if present.
+	 * @param region the region of the entity
+	 * @param id the id of the entity
+	 */
+	void evict(Class<?> region, Object id);
+
+	/**
+	 * Removes all cached entities of a region.
+	 * @param region the region to clear
+	 */
+	void evictAll(Class<?> region);
+
+	/**
+	 * Returns the statistics of this cache.
+	 * @return a snapshot of the statistics
+	 */
+	Statistics getStatistics();
+
+	/**
+	 * Statistics of an {@link EntityCache}.
+	 *
+	 * @param hits the number of lookups answered from the cache
+	 * @param misses the number of lookups not answered from the cache
+	 * @param evictions the number of entries removed because of capacity, expiration or
+	 * invalidation
+	 * @param size the current number of entries
+	 */
+	record Statistics(long hits, long misses, long evictions, int size) {
+
+		/**
+		 * Computes the ratio of lookups answered from the cache.
+		 * @return the hit ratio, {@literal 0} when there have been no lookups at all
+		 */
+		public double hitRatio() {
+			long requests = this.hits + this.misses;
+			return (requests != 0) ? (double) this.hits / requests : 0.0;
+		}
+
+	}
+
+}
@@ -0,0 +1,408 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import reactor.core.publisher.Mono;
+
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.NodeDescription;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+import org.springframework.data.neo4j.core.schema.CacheableNode;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Connects an {@link EntityCache} with the templates: Resolves the cache region of
+ * entities, extracts ids and versions and evicts entries that are written. A cached
+ * entity holds the whole graph of related entities it has been loaded with, so writing an
+ * entity of a type that is reachable through the relationships of a cacheable entity
+ * evicts the complete region of the latter. Entries
+ * written inside a transaction that is synchronized with the
+ * {@link TransactionSynchronizationManager} or, for the reactive template, with the
+ * {@link org.springframework.transaction.reactive.TransactionSynchronizationManager
+ * reactive TransactionSynchronizationManager} are evicted again after the transaction
+ * completed, so that instances loaded in between with uncommitted state don't survive a
+ * rollback.
+ *
+ * @author Michael J. Simons
+ * @since 8.2
+ */
+final class EntityCacheSupport {
+
+	private final EntityCache entityCache;
+
+	private final Neo4jMappingContext mappingContext;
+
+	private final Map<Class<?>, Optional<Class<?>>> regions = new ConcurrentHashMap<>();
+
+	private final Map<Class<?>, Set<Class<?>>> regionsReaching = new ConcurrentHashMap<>();
+
+	EntityCacheSupport(EntityCache entityCache, Neo4jMappingContext mappingContext) {
+		this.entityCache = entityCache;
+		this.mappingContext = mappingContext;
+	}
+
+	EntityCache getEntityCache() {
+		return this.entityCache;
+	}
+
+	/**
+	 * Returns whether instances of the given type are cached at all.
+	 * @param domainType the type to check
+	 * @return true if instances of the type are cached
+	 */
+	boolean isCacheable(Class<?> domainType) {
+		return regionOf(domainType) != null;
+	}
+
+	/**
+	 * Retrieves a cached entity.
+	 * @param domainType the requested type
+	 * @param id the id of the entity
+	 * @param <T> the requested type
+	 * @return the cached entity or {@literal null}
+	 */
+	@Nullable <T> T get(Class<T> domainType, Object id) {
+
+		Class<?> region = regionOf(domainType);
+		if (region == null) {
+			return null;
+		}
+		Object entity = this.entityCache.get(region, id);
+		return domainType.isInstance(entity) ? domainType.cast(entity) : null;
+	}
+
+	/**
+	 * Adds a loaded entity to the cache, if it is cacheable.
+	 * @param entity the loaded entity
+	 */
+	void put(Object entity) {
+
+		Class<?> region = regionOf(entity.getClass());
+		Object id = (region != null) ? idOf(entity) : null;
+		if (region != null && id != null) {
+			this.entityCache.put(region, id, entity);
+		}
+	}
+
+	/**
+	 * Evicts a cached entity whose version differs from the version of the given, freshly
+	 * loaded instance.
+	 * @param entity the loaded entity
+	 */
+	void evictIfStale(Object entity) {
+
+		Class<?> region = regionOf(entity.getClass());
+		if (region == null) {
+			return;
+		}
+		Neo4jPersistentEntity<?> entityMetaData = this.mappingContext.getRequiredPersistentEntity(entity.getClass());
+		Object id = idOf(entity);
+		if (!entityMetaData.hasVersionProperty() || id == null) {
+			return;
+		}
+		Object cachedEntity = this.entityCache.peek(region, id);
+		if (cachedEntity != null && cachedEntity != entity
+				&& !Objects.equals(versionOf(cachedEntity), versionOf(entity))) {
+			this.entityCache.evict(region, id);
+		}
+	}
+
+	/**
+	 * Evicts a written entity.
+	 * @param entity the written entity
+	 */
+	void evict(Object entity) {
+
+		List<WrittenEntry> writtenEntries = writtenEntriesOf(entity);
+		if (!writtenEntries.isEmpty()) {
+			evictWritten(writtenEntries);
+		}
+	}
+
+	/**
+	 * Evicts a written entity inside a reactive flow.
+	 * @param entity the written entity
+	 * @return a publisher completing after the entity has been evicted
+	 */
+	Mono<Void> evictReactive(Object entity) {
+
+		return Mono.defer(() -> {
+			List<WrittenEntry> writtenEntries = writtenEntriesOf(entity);
+			return writtenEntries.isEmpty() ? Mono.empty() : evictWrittenReactive(writtenEntries);
+		});
+	}
+
+	/**
+	 * Evicts the entity with the given id from all regions related to the given type.
+	 * @param domainType the type of the entity
+	 * @param id the id of the entity
+	 */
+	void evictById(Class<?> domainType, Object id) {
+
+		List<WrittenEntry> writtenEntries = writtenEntriesOf(domainType, List.of(id));
+		if (!writtenEntries.isEmpty()) {
+			evictWritten(writtenEntries);
+		}
+	}
+
+	/**
+	 * Evicts the entities with the given ids from all regions related to the given type
+	 * inside a reactive flow.
+	 * @param domainType the type of the entities
+	 * @param ids the ids of the entities
+	 * @return a publisher completing after the entities have been evicted
+	 */
+	Mono<Void> evictAllByIdReactive(Class<?> domainType, Iterable<?> ids) {
+
+		return Mono.defer(() -> {
+			List<WrittenEntry> writtenEntries = writtenEntriesOf(domainType, ids);
+			return writtenEntries.isEmpty() ? Mono.empty() : evictWrittenReactive(writtenEntries);
+		});
+	}
+
+	/**
+	 * Evicts all entities of all regions related to the given type.
+	 * @param domainType the type of the entities
+	 */
+	void evictAll(Class<?> domainType) {
+
+		Set<Class<?>> regionsToEvict = relatedRegions(domainType);
+		regionsToEvict.addAll(regionsReaching(domainType));
+		for (Class<?> region : regionsToEvict) {
+			this.entityCache.evictAll(region);
+		}
+	}
+
+	private List<WrittenEntry> writtenEntriesOf(Object entity) {
+
+		Class<?> region = regionOf(entity.getClass());
+		Object id = (region != null) ? idOf(entity) : null;
+		List<WrittenEntry> writtenEntries = new ArrayList<>();
+		if (region != null && id != null) {
+			writtenEntries.add(new WrittenEntry(region, id));
+		}
+		for (Class<?> reachingRegion : regionsReaching(entity.getClass())) {
+			writtenEntries.add(new WrittenEntry(reachingRegion, null));
+		}
+		return writtenEntries;
+	}
+
+	private List<WrittenEntry> writtenEntriesOf(Class<?> domainType, Iterable<?> ids) {
+
+		List<WrittenEntry> writtenEntries = new ArrayList<>();
+		for (Class<?> region : relatedRegions(domainType)) {
+			ids.forEach(id -> writtenEntries.add(new WrittenEntry(region, id)));
+		}
+		for (Class<?> reachingRegion : regionsReaching(domainType)) {
+			writtenEntries.add(new WrittenEntry(reachingRegion, null));
+		}
+		return writtenEntries;
+	}
+
+	private void evictWritten(List<WrittenEntry> writtenEntriesToAdd) {
+
+		writtenEntriesToAdd.forEach(entry -> entry.evictFrom(this.entityCache));
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		@SuppressWarnings("unchecked")
+		Set<WrittenEntry> writtenEntries = (Set<WrittenEntry>) TransactionSynchronizationManager.getResource(this);
+		if (writtenEntries == null) {
+			Set<WrittenEntry> newWrittenEntries = new HashSet<>();
+			TransactionSynchronizationManager.bindResource(this, newWrittenEntries);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void suspend() {
+					TransactionSynchronizationManager.unbindResourceIfPossible(EntityCacheSupport.this);
+				}
+
+				@Override
+				public void resume() {
+					TransactionSynchronizationManager.bindResource(EntityCacheSupport.this, newWrittenEntries);
+				}
+
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(EntityCacheSupport.this);
+					newWrittenEntries.forEach(entry -> entry.evictFrom(EntityCacheSupport.this.entityCache));
+				}
+			});
+			writtenEntries = newWrittenEntries;
+		}
+		writtenEntries.addAll(writtenEntriesToAdd);
+	}
+
+	private Mono<Void> evictWrittenReactive(List<WrittenEntry> writtenEntries) {
+
+		writtenEntries.forEach(entry -> entry.evictFrom(this.entityCache));
+		return org.springframework.transaction.reactive.TransactionSynchronizationManager.forCurrentTransaction()
+			.filter(org.springframework.transaction.reactive.TransactionSynchronizationManager::isSynchronizationActive)
+			.doOnNext(synchronizationManager -> {
+				@SuppressWarnings("unchecked")
+				Set<WrittenEntry> entriesOfTransaction = (Set<WrittenEntry>) synchronizationManager.getResource(this);
+				if (entriesOfTransaction == null) {
+					Set<WrittenEntry> newEntriesOfTransaction = ConcurrentHashMap.newKeySet();
+					synchronizationManager.bindResource(this, newEntriesOfTransaction);
+					synchronizationManager.registerSynchronization(
+							new org.springframework.transaction.reactive.TransactionSynchronization() {
+								@Override
+								public Mono<Void> suspend() {
+									return Mono.fromRunnable(() -> synchronizationManager
+										.unbindResourceIfPossible(EntityCacheSupport.this));
+								}
+
+								@Override
+								public Mono<Void> resume() {
+									return Mono.fromRunnable(() -> synchronizationManager
+										.bindResource(EntityCacheSupport.this, newEntriesOfTransaction));
+								}
+
+								@Override
+								public Mono<Void> afterCompletion(int status) {
+									return Mono.fromRunnable(() -> {
+										synchronizationManager.unbindResourceIfPossible(EntityCacheSupport.this);
+										newEntriesOfTransaction
+											.forEach(entry -> entry.evictFrom(EntityCacheSupport.this.entityCache));
+									});
+								}
+							});
+					entriesOfTransaction = newEntriesOfTransaction;
+				}
+				entriesOfTransaction.addAll(writtenEntries);
+			})
+			.onErrorResume(NoTransactionException.class, ex -> Mono.empty())
+			.then();
+	}
+
+	private Set<Class<?>> relatedRegions(Class<?> domainType) {
+
+		Set<Class<?>> relatedRegions = new HashSet<>();
+		Class<?> region = regionOf(domainType);
+		if (region != null) {
+			relatedRegions.add(region);
+		}
+		// Subclasses might be cacheable without the requested type being cacheable
+		for (Optional<Class<?>> knownRegion : this.regions.values()) {
+			knownRegion.filter(domainType::isAssignableFrom).ifPresent(relatedRegions::add);
+		}
+		return relatedRegions;
+	}
+
+	@Nullable private Class<?> regionOf(Class<?> domainType) {
+
+		return this.regions.computeIfAbsent(domainType, type -> {
+			if (!type.isAnnotationPresent(CacheableNode.class)) {
+				return Optional.empty();
+			}
+			Class<?> region = type;
+			while (region.getSuperclass() != null && region.getSuperclass().isAnnotationPresent(CacheableNode.class)) {
+				region = region.getSuperclass();
+			}
+			// Regions reaching a written type are computed from the regions known so far
+			this.regionsReaching.clear();
+			return Optional.of(region);
+		}).orElse(null);
+	}
+
+	/**
+	 * Computes the known regions whose entities might hold instances of the given type in
+	 * their graph of related entities.
+	 * @param writtenType the type of a written entity
+	 * @return the regions to evict completely when an entity of the given type is written
+	 */
+	private Set<Class<?>> regionsReaching(Class<?> writtenType) {
+
+		return this.regionsReaching.computeIfAbsent(writtenType, type -> {
+			Set<Class<?>> result = new HashSet<>();
+			for (Optional<Class<?>> knownRegion : this.regions.values()) {
+				knownRegion
+					.filter(region -> reachableTypes(this.mappingContext.getRequiredPersistentEntity(region)).stream()
+						.anyMatch(reachableType -> reachableType.isAssignableFrom(type)
+								|| type.isAssignableFrom(reachableType)))
+					.ifPresent(result::add);
+			}
+			return result;
+		});
+	}
+
+	private static Set<Class<?>> reachableTypes(NodeDescription<?> nodeDescription) {
+
+		Set<Class<?>> reachableTypes = new HashSet<>();
+		Set<NodeDescription<?>> visited = new HashSet<>();
+		Deque<NodeDescription<?>> pending = new ArrayDeque<>();
+		pending.add(nodeDescription);
+		while (!pending.isEmpty()) {
+			NodeDescription<?> current = pending.pop();
+			if (!visited.add(current)) {
+				continue;
+			}
+			pending.addAll(current.getChildNodeDescriptionsInHierarchy());
+			for (RelationshipDescription relationship : current.getRelationships()) {
+				reachableTypes.add(relationship.getTarget().getUnderlyingClass());
+				pending.add(relationship.getTarget());
+			}
+		}
+		return reachableTypes;
+	}
+
+	@Nullable private Object idOf(Object entity) {
+
+		Neo4jPersistentEntity<?> entityMetaData = this.mappingContext.getRequiredPersistentEntity(entity.getClass());
+		return entityMetaData.getPropertyAccessor(entity).getProperty(entityMetaData.getRequiredIdProperty());
+	}
+
+	@Nullable private Object versionOf(Object entity) {
+
+		Neo4jPersistentEntity<?> entityMetaData = this.mappingContext.getRequiredPersistentEntity(entity.getClass());
+		return entityMetaData.getPropertyAccessor(entity).getProperty(entityMetaData.getRequiredVersionProperty());
+	}
+
+	/**
+	 * An entry written in a transaction, covering the whole region if there is no id.
+	 *
+	 * @param region the region of the entry
+	 * @param id the id of the entry
+	 */
+	private record WrittenEntry(Class<?> region, @Nullable Object id) {
+
+		void evictFrom(EntityCache entityCache) {
+			if (this.id != null) {
+				entityCache.evict(this.region, this.id);
+			}
+			else {
+				entityCache.evictAll(this.region);
+			}
+		}
+
+	}
+
+}
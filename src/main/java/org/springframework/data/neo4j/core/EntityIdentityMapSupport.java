@@ -0,0 +1,153 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.NodeDescription;
+import org.springframework.data.neo4j.core.transaction.EntityIdentityMap;
+
+/**
+ * Connects the {@link EntityIdentityMap} of a transaction with the templates: Instances
+ * are registered under the topmost node entity of their hierarchy, so that an instance
+ * loaded as a subtype is found when looked up via its supertype and vice versa.
+ *
+ * @author Michael J. Simons
+ * @since 8.2
+ */
+final class EntityIdentityMapSupport {
+
+	private final Neo4jMappingContext mappingContext;
+
+	private final Map<Class<?>, Optional<Class<?>>> identityTypes = new ConcurrentHashMap<>();
+
+	EntityIdentityMapSupport(Neo4jMappingContext mappingContext) {
+		this.mappingContext = mappingContext;
+	}
+
+	/**
+	 * Retrieves a registered instance.
+	 * @param identityMap the identity map of the ongoing transaction
+	 * @param domainType the requested type
+	 * @param id the id of the entity
+	 * @param <T> the requested type
+	 * @return the registered instance or {@literal null}
+	 */
+	@Nullable <T> T get(EntityIdentityMap identityMap, Class<T> domainType, Object id) {
+
+		Class<?> identityType = identityTypeOf(domainType);
+		if (identityType == null) {
+			return null;
+		}
+		Object entity = identityMap.get(identityType, id);
+		return domainType.isInstance(entity) ? domainType.cast(entity) : null;
+	}
+
+	/**
+	 * Registers a loaded instance unless an instance of the same entity has been
+	 * registered before.
+	 * @param identityMap the identity map of the ongoing transaction
+	 * @param entity the loaded instance
+	 * @param <T> the type of the instance
+	 * @return the instance registered before if it is compatible with the loaded one,
+	 * otherwise the loaded instance
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T register(EntityIdentityMap identityMap, T entity) {
+
+		Class<?> identityType = identityTypeOf(entity.getClass());
+		Object id = (identityType != null) ? idOf(entity) : null;
+		if (identityType == null || id == null) {
+			return entity;
+		}
+		Object registeredEntity = identityMap.putIfAbsent(identityType, id, entity);
+		return entity.getClass().isInstance(registeredEntity) ? (T) registeredEntity : entity;
+	}
+
+	/**
+	 * Removes the registered instance of the given entity.
+	 * @param identityMap the identity map of the ongoing transaction
+	 * @param entity the entity to remove
+	 */
+	void remove(EntityIdentityMap identityMap, Object entity) {
+
+		Class<?> identityType = identityTypeOf(entity.getClass());
+		Object id = (identityType != null) ? idOf(entity) : null;
+		if (identityType != null && id != null) {
+			identityMap.remove(identityType, id);
+		}
+	}
+
+	/**
+	 * Removes the registered instance of the entity with the given id.
+	 * @param identityMap the identity map of the ongoing transaction
+	 * @param domainType the type of the entity
+	 * @param id the id of the entity
+	 */
+	void removeById(EntityIdentityMap identityMap, Class<?> domainType, Object id) {
+
+		Class<?> identityType = identityTypeOf(domainType);
+		if (identityType != null) {
+			identityMap.remove(identityType, id);
+		}
+	}
+
+	/**
+	 * Removes all registered instances of the hierarchy of the given type.
+	 * @param identityMap the identity map of the ongoing transaction
+	 * @param domainType the type of the entities
+	 */
+	void removeAll(EntityIdentityMap identityMap, Class<?> domainType) {
+
+		Class<?> identityType = identityTypeOf(domainType);
+		if (identityType != null) {
+			identityMap.removeAll(identityType);
+		}
+	}
+
+	@Nullable private Class<?> identityTypeOf(Class<?> domainType) {
+
+		return this.identityTypes.computeIfAbsent(domainType, type -> {
+			if (!this.mappingContext.hasPersistentEntityFor(type)) {
+				return Optional.empty();
+			}
+			Neo4jPersistentEntity<?> entityMetaData = this.mappingContext.getRequiredPersistentEntity(type);
+			if (entityMetaData.isRelationshipPropertiesEntity() || entityMetaData.getIdProperty() == null) {
+				return Optional.empty();
+			}
+			NodeDescription<?> nodeDescription = entityMetaData;
+			NodeDescription<?> parentNodeDescription = nodeDescription.getParentNodeDescription();
+			while (parentNodeDescription != null) {
+				nodeDescription = parentNodeDescription;
+				parentNodeDescription = nodeDescription.getParentNodeDescription();
+			}
+			return Optional.of(nodeDescription.getUnderlyingClass());
+		}).orElse(null);
+	}
+
+	@Nullable private Object idOf(Object entity) {
+
+		Neo4jPersistentEntity<?> entityMetaData = this.mappingContext.getRequiredPersistentEntity(entity.getClass());
+		return entityMetaData.getPropertyAccessor(entity).getProperty(entityMetaData.getRequiredIdProperty());
+	}
+
+}
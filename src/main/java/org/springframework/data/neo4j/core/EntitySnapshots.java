@@ -0,0 +1,284 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.neo4j.core.mapping.AssociationHandlerSupport;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.MappingSupport;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.NestedRelationshipContext;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+
+/**
+ * Snapshots of the persistent state of entities as they have been last read or written by
+ * a template within one transaction, keyed by the type and the id of the entities. They
+ * are used to write only the properties that changed since and to add or remove only the
+ * relationships that changed when change tracking is enabled on a template.
+ * <p>
+ * Only relationships without properties and with a static type are tracked, all other
+ * relationships are always written as a whole. Changes that are made by other means than
+ * the templates, for example through custom queries, are not visible in the snapshots,
+ * and changes of relationships that have not been loaded are not detected.
+ *
+ * @author Michael J. Simons
+ * @since 8.2
+ */
+final class EntitySnapshots {
+
+	private final Neo4jMappingContext mappingContext;
+
+	private final Map<Key, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+	EntitySnapshots(Neo4jMappingContext mappingContext) {
+		this.mappingContext = mappingContext;
+	}
+
+	/**
+	 * Checks if the relationships described by the given description are tracked.
+	 * @param relationship the relationship to check
+	 * @return true if additions and removals of the relationship are tracked
+	 */
+	static boolean tracks(RelationshipDescription relationship) {
+		return !(relationship.isDynamic() || relationship.hasRelationshipProperties());
+	}
+
+	/**
+	 * Takes snapshots of the given entity and of all entities reachable from it. Values
+	 * that are not entities are ignored.
+	 * @param value an entity that has just been loaded
+	 */
+	void take(@Nullable Object value) {
+
+		if (value == null || !this.mappingContext.hasPersistentEntityFor(value.getClass())) {
+			return;
+		}
+
+		Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+		Deque<Object> entities = new ArrayDeque<>();
+		entities.push(value);
+		while (!entities.isEmpty()) {
+			Object entity = entities.pop();
+			if (!visited.add(entity)) {
+				continue;
+			}
+
+			Neo4jPersistentEntity<?> entityMetaData = this.mappingContext
+				.getRequiredPersistentEntity(entity.getClass());
+			if (entityMetaData.isRelationshipPropertiesEntity() || entityMetaData.getIdProperty() == null) {
+				continue;
+			}
+			PersistentPropertyAccessor<?> propertyAccessor = entityMetaData.getPropertyAccessor(entity);
+			Object id = propertyAccessor.getProperty(entityMetaData.getRequiredIdProperty());
+			if (id == null) {
+				continue;
+			}
+
+			Map<String, Set<Object>> relatedIds = new HashMap<>();
+			AssociationHandlerSupport.of(entityMetaData).doWithAssociations(association -> {
+				NestedRelationshipContext relationshipContext = NestedRelationshipContext.of(association,
+						propertyAccessor, entityMetaData);
+				RelationshipDescription relationship = relationshipContext.getRelationship();
+				Set<Object> idsOfRelationship = new HashSet<>();
+				for (Object relatedValue : MappingSupport.unifyRelationshipValue(relationshipContext.getInverse(),
+						relationshipContext.getValue())) {
+					if (relatedValue == null) {
+						continue;
+					}
+					Object relatedNode = relationshipContext.identifyAndExtractRelationshipTargetNode(relatedValue);
+					entities.push(relatedNode);
+					Neo4jPersistentEntity<?> targetEntity = this.mappingContext
+						.getRequiredPersistentEntity(relatedNode.getClass());
+					Object relatedId = targetEntity.getPropertyAccessor(relatedNode)
+						.getProperty(targetEntity.getRequiredIdProperty());
+					if (relatedId != null) {
+						idsOfRelationship.add(relatedId);
+					}
+				}
+				if (tracks(relationship)) {
+					relatedIds.put(relationship.getFieldName(), Set.copyOf(idsOfRelationship));
+				}
+			});
+
+			@SuppressWarnings("unchecked")
+			Function<Object, Map<String, Object>> binderFunction = this.mappingContext
+				.getRequiredBinderFunctionFor((Class<Object>) entity.getClass());
+			this.snapshots.put(new Key(entityMetaData.getType(), id),
+					new Snapshot(getProperties(binderFunction.apply(entity)), relatedIds));
+		}
+	}
+
+	/**
+	 * Decorates a binder function so that it binds only the properties that changed since
+	 * the last snapshot of an instance, if there is any. The bound properties are recorded
+	 * in the snapshots only when {@link ChangedPropertiesBinder#written()} is called after
+	 * the write succeeded, so that a failed write does not hide changes from the next
+	 * one.
+	 * @param entityMetaData the entity of all instances bound
+	 * @param binderFunction the original binder function
+	 * @param <T> the type of the instances
+	 * @return a new binder function
+	 */
+	<T> ChangedPropertiesBinder<T> retainChangedProperties(Neo4jPersistentEntity<?> entityMetaData,
+			Function<T, Map<String, Object>> binderFunction) {
+		return new ChangedPropertiesBinder<>(entityMetaData, binderFunction);
+	}
+
+	/**
+	 * Retrieves the ids of the targets of a relationship as of the last snapshot.
+	 * @param entityMetaData the entity owning the relationship
+	 * @param id the id of the owner
+	 * @param relationship the relationship
+	 * @return the ids of the related nodes, {@literal null} if the relationship is not
+	 * tracked for the given owner
+	 */
+	@Nullable Set<Object> getRelatedIds(Neo4jPersistentEntity<?> entityMetaData, @Nullable Object id,
+			RelationshipDescription relationship) {
+
+		if (id == null || !tracks(relationship)) {
+			return null;
+		}
+		Snapshot snapshot = this.snapshots.get(new Key(entityMetaData.getType(), id));
+		return (snapshot != null) ? snapshot.relatedIds().get(relationship.getFieldName()) : null;
+	}
+
+	/**
+	 * Records the ids of the targets of a relationship after it has been written.
+	 * @param entityMetaData the entity owning the relationship
+	 * @param id the id of the owner
+	 * @param relationship the relationship
+	 * @param relatedIds the ids of the related nodes
+	 */
+	void setRelatedIds(Neo4jPersistentEntity<?> entityMetaData, @Nullable Object id,
+			RelationshipDescription relationship, Set<Object> relatedIds) {
+
+		if (id == null || !tracks(relationship)) {
+			return;
+		}
+		this.snapshots.compute(new Key(entityMetaData.getType(), id), (key, snapshot) -> {
+			Map<String, Set<Object>> newRelatedIds = new HashMap<>(
+					(snapshot != null) ? snapshot.relatedIds() : Map.of());
+			newRelatedIds.put(relationship.getFieldName(), Set.copyOf(relatedIds));
+			return new Snapshot((snapshot != null) ? snapshot.properties() : Map.of(), newRelatedIds);
+		});
+	}
+
+	/**
+	 * Discards all snapshots, for example after nodes have been deleted, which removes
+	 * relationships, too.
+	 */
+	void clear() {
+		this.snapshots.clear();
+	}
+
+	/**
+	 * A binder function that binds only changed properties and remembers all properties
+	 * it bound until they have been written.
+	 *
+	 * @param <T> the type of the instances
+	 */
+	final class ChangedPropertiesBinder<T> implements Function<T, Map<String, Object>> {
+
+		private final Neo4jPersistentEntity<?> entityMetaData;
+
+		private final Function<T, Map<String, Object>> binderFunction;
+
+		private final Map<Key, Map<String, Object>> boundProperties = new ConcurrentHashMap<>();
+
+		private ChangedPropertiesBinder(Neo4jPersistentEntity<?> entityMetaData,
+				Function<T, Map<String, Object>> binderFunction) {
+			this.entityMetaData = entityMetaData;
+			this.binderFunction = binderFunction;
+		}
+
+		@Override
+		public Map<String, Object> apply(T instance) {
+
+			Map<String, Object> row = this.binderFunction.apply(instance);
+			Object id = this.entityMetaData.getPropertyAccessor(instance)
+				.getProperty(this.entityMetaData.getRequiredIdProperty());
+			if (id == null) {
+				return row;
+			}
+
+			Key key = new Key(this.entityMetaData.getType(), id);
+			Map<String, Object> properties = getProperties(row);
+			this.boundProperties.put(key, properties);
+			Snapshot previousSnapshot = EntitySnapshots.this.snapshots.get(key);
+			if (previousSnapshot == null) {
+				return row;
+			}
+
+			Map<String, Object> changedProperties = new HashMap<>();
+			properties.forEach((name, value) -> {
+				if (!(previousSnapshot.properties().containsKey(name)
+						&& Objects.equals(previousSnapshot.properties().get(name), value))) {
+					changedProperties.put(name, value);
+				}
+			});
+			Map<String, Object> newRow = new HashMap<>(row);
+			newRow.put(Constants.NAME_OF_PROPERTIES_PARAM, changedProperties);
+			return newRow;
+		}
+
+		/**
+		 * Records the properties bound so far in the snapshots. Must only be called after
+		 * the bound instances have been written successfully.
+		 */
+		void written() {
+
+			this.boundProperties.forEach((boundKey, properties) -> EntitySnapshots.this.snapshots.compute(boundKey,
+					(key, snapshot) -> {
+						if (snapshot == null) {
+							return new Snapshot(properties, Map.of());
+						}
+						Map<String, Object> newProperties = new HashMap<>(snapshot.properties());
+						newProperties.putAll(properties);
+						return new Snapshot(newProperties, snapshot.relatedIds());
+					}));
+			this.boundProperties.clear();
+		}
+
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> getProperties(Map<String, Object> row) {
+		Object properties = row.get(Constants.NAME_OF_PROPERTIES_PARAM);
+		return (properties != null) ? (Map<String, Object>) properties : Map.of();
+	}
+
+	private record Key(Class<?> type, Object id) {
+	}
+
+	private record Snapshot(Map<String, Object> properties, Map<String, Set<Object>> relatedIds) {
+	}
+
+}
@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
@@ -64,6 +65,17 @@ public interface FluentFindOperation {
 		 */
 		List<T> all();
 
+		/**
+		 * Stream all matching elements. The elements are mapped while the stream is
+		 * consumed, the stream must be closed after use.
+		 * @return never {@literal null}.
+		 * @since 8.2
+		 * @see Neo4jOperations.ExecutableQuery#getResultStream()
+		 */
+		default Stream<T> stream() {
+			return all().stream();
+		}
+
 	}
 
 	/**
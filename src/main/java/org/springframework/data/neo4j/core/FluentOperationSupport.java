@@ -18,6 +18,7 @@ package org.springframework.data.neo4j.core;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.neo4j.cypherdsl.core.Statement;
@@ -141,6 +142,12 @@ final class FluentOperationSupport implements FluentFindOperation, FluentSaveOpe
 			return doFind(TemplateSupport.FetchType.ALL);
 		}
 
+		@Override
+		public Stream<T> stream() {
+			return this.template.doStream(this.query, this.parameters, this.domainType, this.returnType,
+					this.queryFragmentsAndParameters);
+		}
+
 		private List<T> doFind(TemplateSupport.FetchType fetchType) {
 			return this.template.doFind(this.query, this.parameters, this.domainType, this.returnType, fetchType,
 					this.queryFragmentsAndParameters);
@@ -154,9 +161,35 @@ final class FluentOperationSupport implements FluentFindOperation, FluentSaveOpe
 
 		private final Class<DT> domainType;
 
+		@Nullable
+		private final Integer batchSize;
+
+		private final boolean transactionPerBatch;
+
 		ExecutableSaveSupport(Neo4jTemplate template, Class<DT> domainType) {
+			this(template, domainType, null, false);
+		}
+
+		ExecutableSaveSupport(Neo4jTemplate template, Class<DT> domainType, @Nullable Integer batchSize,
+				boolean transactionPerBatch) {
 			this.template = template;
 			this.domainType = domainType;
+			this.batchSize = batchSize;
+			this.transactionPerBatch = transactionPerBatch;
+		}
+
+		@Override
+		public ExecutableSave<DT> inBatchesOf(int batchSize) {
+
+			Assert.isTrue(batchSize > 0, "The batch size must be greater than 0");
+			return new ExecutableSaveSupport<>(this.template, this.domainType, batchSize, false);
+		}
+
+		@Override
+		public ExecutableSave<DT> inTransactionsOf(int batchSize) {
+
+			Assert.isTrue(batchSize > 0, "The batch size must be greater than 0");
+			return new ExecutableSaveSupport<>(this.template, this.domainType, batchSize, true);
 		}
 
 		@Override
@@ -176,7 +209,7 @@ final class FluentOperationSupport implements FluentFindOperation, FluentSaveOpe
 		}
 
 		private <T> List<T> doSave(Iterable<T> instances) {
-			return this.template.doSave(instances, this.domainType);
+			return this.template.doSave(instances, this.domainType, this.batchSize, this.transactionPerBatch);
 		}
 
 	}
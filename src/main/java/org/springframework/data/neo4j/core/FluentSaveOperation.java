@@ -53,6 +53,43 @@ public interface FluentSaveOperation {
 	 */
 	interface ExecutableSave<DT> {
 
+		/**
+		 * Limits the number of instances that are bound to a single statement when saving
+		 * several instances. All batches are saved in the same transaction.
+		 * <p>
+		 * Implementations that don't support batching may ignore the batch size, which is
+		 * what this default implementation does.
+		 * @param batchSize the maximum number of instances per statement, must be
+		 * positive
+		 * @return a save operation using the given batch size
+		 * @since 8.2
+		 */
+		default ExecutableSave<DT> inBatchesOf(int batchSize) {
+			return this;
+		}
+
+		/**
+		 * Splits the instances to be saved into batches of the given size and saves and
+		 * commits each batch in its own, new transaction. Use this for bulk loads that
+		 * don't need to be atomic: If a batch fails, the batches saved before stay
+		 * committed. Relationships between instances in different batches are saved with
+		 * whichever batch comes first.
+		 * <p>
+		 * This default implementation throws an {@link UnsupportedOperationException}, as
+		 * saving in several transactions changes the semantics of the operation and
+		 * cannot be silently ignored.
+		 * @param batchSize the maximum number of instances per transaction, must be
+		 * positive
+		 * @return a save operation committing each batch on its own
+		 * @throws UnsupportedOperationException if the implementation cannot commit
+		 * batches in their own transactions
+		 * @since 8.2
+		 */
+		default ExecutableSave<DT> inTransactionsOf(int batchSize) {
+			throw new UnsupportedOperationException(
+					"%s does not support saving in several transactions".formatted(getClass().getName()));
+		}
+
 		/**
 		 * Saves exactly one instance.
 		 * @param instance the instance to be saved
@@ -65,7 +102,10 @@ public interface FluentSaveOperation {
 		<T> T one(T instance);
 
 		/**
-		 * Saves several instances.
+		 * Saves several instances. The instances are saved with batched statements, each
+		 * binding at most as many instances as configured via {@link #inBatchesOf(int)},
+		 * or by default via {@link Neo4jTemplate#setSaveBatchSize(int)}. All batches are
+		 * saved in one transaction, unless {@link #inTransactionsOf(int)} has been used.
 		 * @param instances the instances to be saved
 		 * @param <T> the type of the instances passed to this method. It should be the
 		 * same as the domain type before or a projection of the domain type. If they are
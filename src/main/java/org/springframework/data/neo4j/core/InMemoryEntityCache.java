@@ -0,0 +1,156 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * A local, in-memory {@link EntityCache} that keeps a bounded number of entities and
+ * evicts the least recently used ones first. Entries expire after a fixed time to live,
+ * if one is configured. The cache is not shared between processes, so it is suitable for
+ * tests and for single instances of an application only.
+ *
+ * @author Michael J. Simons
+ * @since 8.2
+ */
+@API(status = API.Status.STABLE, since = "8.2")
+public final class InMemoryEntityCache implements EntityCache {
+
+	private final int capacity;
+
+	private final long timeToLiveInMillis;
+
+	private final Clock clock;
+
+	private final LinkedHashMap<Key, Entry> entries;
+
+	private long hits;
+
+	private long misses;
+
+	private long evictions;
+
+	/**
+	 * Creates a cache for at most {@code capacity} entities that never expire.
+	 * @param capacity the maximum number of cached entities
+	 */
+	public InMemoryEntityCache(int capacity) {
+		this(capacity, Duration.ZERO);
+	}
+
+	/**
+	 * Creates a cache for at most {@code capacity} entities, each expiring after
+	 * {@code timeToLive}.
+	 * @param capacity the maximum number of cached entities
+	 * @param timeToLive the time to live of each entry, {@link Duration#ZERO} for entries
+	 * that never expire
+	 */
+	public InMemoryEntityCache(int capacity, Duration timeToLive) {
+		this(capacity, timeToLive, Clock.systemUTC());
+	}
+
+	InMemoryEntityCache(int capacity, Duration timeToLive, Clock clock) {
+
+		Assert.isTrue(capacity > 0, "The capacity must be greater than 0");
+		Assert.isTrue(!timeToLive.isNegative(), "The time to live must not be negative");
+
+		this.capacity = capacity;
+		this.timeToLiveInMillis = timeToLive.toMillis();
+		this.clock = clock;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				boolean remove = size() > InMemoryEntityCache.this.capacity;
+				if (remove) {
+					++InMemoryEntityCache.this.evictions;
+				}
+				return remove;
+			}
+		};
+	}
+
+	@Override
+	@Nullable public synchronized Object get(Class<?> region, Object id) {
+
+		Object entity = peek(region, id);
+		if (entity != null) {
+			++this.hits;
+		}
+		else {
+			++this.misses;
+		}
+		return entity;
+	}
+
+	@Override
+	@Nullable public synchronized Object peek(Class<?> region, Object id) {
+
+		Key key = new Key(region, id);
+		Entry entry = this.entries.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expiresAt() != 0 && entry.expiresAt() <= this.clock.millis()) {
+			this.entries.remove(key);
+			++this.evictions;
+			return null;
+		}
+		return entry.entity();
+	}
+
+	@Override
+	public synchronized void put(Class<?> region, Object id, Object entity) {
+
+		long expiresAt = (this.timeToLiveInMillis != 0) ? this.clock.millis() + this.timeToLiveInMillis : 0;
+		this.entries.put(new Key(region, id), new Entry(entity, expiresAt));
+	}
+
+	@Override
+	public synchronized void evict(Class<?> region, Object id) {
+
+		if (this.entries.remove(new Key(region, id)) != null) {
+			++this.evictions;
+		}
+	}
+
+	@Override
+	public synchronized void evictAll(Class<?> region) {
+
+		int sizeBefore = this.entries.size();
+		this.entries.keySet().removeIf(key -> key.region() == region);
+		this.evictions += sizeBefore - this.entries.size();
+	}
+
+	@Override
+	public synchronized Statistics getStatistics() {
+		return new Statistics(this.hits, this.misses, this.evictions, this.entries.size());
+	}
+
+	private record Key(Class<?> region, Object id) {
+	}
+
+	private record Entry(Object entity, long expiresAt) {
+	}
+
+}
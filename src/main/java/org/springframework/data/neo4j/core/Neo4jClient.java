@@ -23,6 +23,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.apache.commons.logging.LogFactory;
 import org.apiguardian.api.API;
@@ -349,6 +350,19 @@ public interface Neo4jClient {
 		 */
 		Collection<T> all();
 
+		/**
+		 * Fetches all records as a lazily mapped stream. The records are pulled from the
+		 * database while the stream is consumed and the underlying session is kept open
+		 * until the stream is closed, so the stream must be closed after use, best with a
+		 * try-with-resources block. When participating in a Spring managed transaction,
+		 * the stream must be consumed before the transaction ends.
+		 * @return a stream of all records
+		 * @since 8.2
+		 */
+		default Stream<T> stream() {
+			return all().stream();
+		}
+
 	}
 
 	/**
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiPredicate;
+import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
@@ -89,6 +90,49 @@ public interface Neo4jOperations {
 	 */
 	<T> List<T> findAll(Class<T> domainType);
 
+	/**
+	 * Streams all entities of a given type. The entities are mapped one by one while the
+	 * stream is consumed, the stream must be closed after use. See
+	 * {@link ExecutableQuery#getResultStream()} for details.
+	 * @param domainType the type of the entities. Must not be {@code null}
+	 * @param <T> the type of the entities. Must not be {@code null}
+	 * @return guaranteed to be not {@code null}
+	 * @since 8.2
+	 */
+	default <T> Stream<T> streamAll(Class<T> domainType) {
+		return findAll(domainType).stream();
+	}
+
+	/**
+	 * Streams all entities of a given type by executing given statement with parameters.
+	 * The entities are mapped one by one while the stream is consumed, the stream must be
+	 * closed after use. See {@link ExecutableQuery#getResultStream()} for details.
+	 * @param statement the Cypher {@link Statement}. Must not be {@code null}
+	 * @param parameters map of parameters. Must not be {@code null}
+	 * @param domainType the type of the entities. Must not be {@code null}
+	 * @param <T> the type of the entities. Must not be {@code null}
+	 * @return guaranteed to be not {@code null}
+	 * @since 8.2
+	 */
+	default <T> Stream<T> streamAll(Statement statement, Map<String, Object> parameters, Class<T> domainType) {
+		return findAll(statement, parameters, domainType).stream();
+	}
+
+	/**
+	 * Streams all entities of a given type by executing given statement with parameters.
+	 * The entities are mapped one by one while the stream is consumed, the stream must be
+	 * closed after use. See {@link ExecutableQuery#getResultStream()} for details.
+	 * @param cypherQuery the Cypher query string. Must not be {@code null}
+	 * @param parameters map of parameters. Must not be {@code null}
+	 * @param domainType the type of the entities. Must not be {@code null}
+	 * @param <T> the type of the entities. Must not be {@code null}
+	 * @return guaranteed to be not {@code null}
+	 * @since 8.2
+	 */
+	default <T> Stream<T> streamAll(String cypherQuery, Map<String, Object> parameters, Class<T> domainType) {
+		return findAll(cypherQuery, parameters, domainType).stream();
+	}
+
 	/**
 	 * Load all entities of a given type by executing given statement.
 	 * @param statement the Cypher {@link Statement}. Must not be {@code null}
@@ -261,6 +305,42 @@ public interface Neo4jOperations {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Inserts several new instances of entities in bulk, creating their nodes without
+	 * checking whether they exist already, which is considerably faster than
+	 * {@link #saveAll(Iterable)} for initial loads. Instances of the same class are
+	 * created with one statement per batch. Afterward, their relationships are created,
+	 * looking up the related nodes by their ids. Related nodes are neither created nor
+	 * updated: They must either exist or be part of the same insert, otherwise the insert
+	 * fails with an {@link org.springframework.dao.InvalidDataAccessApiUsageException}.
+	 * <p>
+	 * Only entities with assigned or generated external ids are supported. Inserting
+	 * instances that already exist creates duplicates unless there is a uniqueness
+	 * constraint on the id property. Ids of relationships with properties are not
+	 * populated.
+	 * @param instances the new instances to insert. Must not be {@code null}.
+	 * @param options the options for the insert
+	 * @param <T> the type of the entities.
+	 * @return the inserted instances.
+	 * @since 8.2
+	 */
+	default <T> List<T> insertAll(Iterable<T> instances, BulkInsertOptions options) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Inserts several new instances of entities in bulk with the
+	 * {@link BulkInsertOptions#defaults() default options}.
+	 * @param instances the new instances to insert. Must not be {@code null}.
+	 * @param <T> the type of the entities.
+	 * @return the inserted instances.
+	 * @since 8.2
+	 * @see #insertAll(Iterable, BulkInsertOptions)
+	 */
+	default <T> List<T> insertAll(Iterable<T> instances) {
+		return insertAll(instances, BulkInsertOptions.defaults());
+	}
+
 	/**
 	 * Deletes a single entity including all entities related to that entity.
 	 * @param id the id of the entity to be deleted. Must not be {@code null}.
@@ -338,6 +418,27 @@ public interface Neo4jOperations {
 		 */
 		T getRequiredSingleResult();
 
+		/**
+		 * Returns all results as a stream. Records are pulled from the database and
+		 * mapped while the stream is consumed, instead of materializing all results
+		 * upfront. Each record is mapped on its own, so that instances of related
+		 * entities are not shared between the elements of the stream. Entities that might
+		 * contain cycles are loaded in several steps and cannot be streamed, their
+		 * results are materialized first.
+		 * <p>
+		 * When called inside an ongoing transaction, the stream participates in it and
+		 * must be consumed before the transaction ends. Otherwise, the records are read
+		 * through a dedicated session that is not bound to the current thread, so that
+		 * other operations on that thread are not affected by the stream. In both cases,
+		 * the stream keeps resources of the database open and must be closed after use,
+		 * best with a try-with-resources block.
+		 * @return a stream of all results
+		 * @since 8.2
+		 */
+		default Stream<T> getResultStream() {
+			return getResults().stream();
+		}
+
 	}
 
 }
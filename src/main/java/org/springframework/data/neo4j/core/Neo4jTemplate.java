@@ -21,6 +21,8 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +35,8 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.apache.commons.logging.LogFactory;
 import org.apiguardian.api.API;
@@ -46,6 +50,7 @@ import org.neo4j.cypherdsl.core.Node;
 import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.cypherdsl.core.renderer.Configuration;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.neo4j.driver.Record;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.exceptions.NoSuchRecordException;
 import org.neo4j.driver.summary.ResultSummary;
@@ -86,7 +91,9 @@ import org.springframework.data.neo4j.core.mapping.PropertyFilter;
 import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
 import org.springframework.data.neo4j.core.mapping.SpringDataCypherDsl;
 import org.springframework.data.neo4j.core.mapping.callback.EventSupport;
+import org.springframework.data.neo4j.core.schema.CacheableNode;
 import org.springframework.data.neo4j.core.schema.TargetNode;
+import org.springframework.data.neo4j.core.transaction.EntityIdentityMap;
 import org.springframework.data.neo4j.core.transaction.Neo4jTransactionManager;
 import org.springframework.data.neo4j.repository.NoResultException;
 import org.springframework.data.neo4j.repository.query.QueryFragments;
@@ -99,6 +106,8 @@ import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 
@@ -133,6 +142,13 @@ public final class Neo4jTemplate
 		}
 	};
 
+	private static final TransactionDefinition requiresNewTransactionDefinition = new TransactionDefinition() {
+		@Override
+		public int getPropagationBehavior() {
+			return PROPAGATION_REQUIRES_NEW;
+		}
+	};
+
 	private final Neo4jClient neo4jClient;
 
 	private final Neo4jMappingContext neo4jMappingContext;
@@ -149,14 +165,33 @@ public final class Neo4jTemplate
 
 	private Renderer renderer;
 
+	private RenderedStatementCache renderedStatementCache;
+
 	private Function<Named, FunctionInvocation> elementIdOrIdFunction;
 
+	private RelatedNodesLoadingStrategy relatedNodesLoadingStrategy = RelatedNodesLoadingStrategy.PER_RELATIONSHIP;
+
+	private int saveBatchSize = Integer.MAX_VALUE;
+
+	private boolean changeTrackingEnabled = false;
+
+	private boolean pipeliningEnabled = false;
+
+	@Nullable
+	private EntityCacheSupport entityCache;
+
+	@Nullable
+	private EntityIdentityMapSupport identityMap;
+
 	@Nullable
 	private TransactionTemplate transactionTemplate;
 
 	@Nullable
 	private TransactionTemplate transactionTemplateReadOnly;
 
+	@Nullable
+	private TransactionTemplate transactionTemplateRequiresNew;
+
 	public Neo4jTemplate(Neo4jClient neo4jClient) {
 		this(neo4jClient, new Neo4jMappingContext());
 	}
@@ -186,6 +221,7 @@ public final class Neo4jTemplate
 		this.cypherGenerator = CypherGenerator.INSTANCE;
 		this.eventSupport = EventSupport.useExistingCallbacks(neo4jMappingContext, entityCallbacks);
 		this.renderer = Renderer.getDefaultRenderer();
+		this.renderedStatementCache = new RenderedStatementCache(this.cypherGenerator, this.renderer);
 		this.elementIdOrIdFunction = SpringDataCypherDsl.elementIdOrIdFunction.apply(null);
 		setTransactionManager(platformTransactionManager);
 	}
@@ -203,6 +239,10 @@ public final class Neo4jTemplate
 		return Objects.requireNonNull(Objects.requireNonNull(this.transactionTemplateReadOnly).execute(action));
 	}
 
+	private <T> T executeInNewTransaction(TransactionCallback<T> action) throws TransactionException {
+		return Objects.requireNonNull(Objects.requireNonNull(this.transactionTemplateRequiresNew).execute(action));
+	}
+
 	private void executeWithoutResult(Consumer<TransactionStatus> action) throws TransactionException {
 		Objects.requireNonNull(this.transactionTemplate).executeWithoutResult(action);
 	}
@@ -260,6 +300,25 @@ public final class Neo4jTemplate
 		});
 	}
 
+	@Override
+	public <T> Stream<T> streamAll(Class<T> domainType) {
+
+		Neo4jPersistentEntity<?> entityMetaData = this.neo4jMappingContext.getRequiredPersistentEntity(domainType);
+		return createExecutableQuery(domainType, null,
+				QueryFragmentsAndParameters.forFindAll(entityMetaData, this.neo4jMappingContext), true)
+			.getResultStream();
+	}
+
+	@Override
+	public <T> Stream<T> streamAll(Statement statement, Map<String, Object> parameters, Class<T> domainType) {
+		return createExecutableQuery(domainType, null, statement, parameters, true).getResultStream();
+	}
+
+	@Override
+	public <T> Stream<T> streamAll(String cypherQuery, Map<String, Object> parameters, Class<T> domainType) {
+		return createExecutableQuery(domainType, null, cypherQuery, parameters, true).getResultStream();
+	}
+
 	@Override
 	public <T> List<T> findAll(Statement statement, Class<T> domainType) {
 		return executeReadOnly(tx -> createExecutableQuery(domainType, statement, true).getResults());
@@ -347,6 +406,40 @@ public final class Neo4jTemplate
 		});
 	}
 
+	@SuppressWarnings("unchecked")
+	<T, R> Stream<R> doStream(@Nullable String cypherQuery, @Nullable Map<String, Object> parameters,
+			Class<T> domainType, Class<R> resultType,
+			@Nullable QueryFragmentsAndParameters queryFragmentsAndParameters) {
+
+		ExecutableQuery<T> executableQuery;
+		if (queryFragmentsAndParameters != null) {
+			executableQuery = createExecutableQuery(domainType, resultType, queryFragmentsAndParameters, true);
+		}
+		else if (cypherQuery != null) {
+			executableQuery = createExecutableQuery(domainType, resultType, cypherQuery,
+					(parameters != null) ? parameters : Collections.emptyMap(), true);
+		}
+		else {
+			Neo4jPersistentEntity<?> entityMetaData = this.neo4jMappingContext.getRequiredPersistentEntity(domainType);
+			executableQuery = createExecutableQuery(domainType, resultType,
+					QueryFragmentsAndParameters.forFindAll(entityMetaData, this.neo4jMappingContext), true);
+		}
+		Stream<T> intermediateResults = executableQuery.getResultStream();
+		if (resultType.isAssignableFrom(domainType)) {
+			return (Stream<R>) intermediateResults;
+		}
+
+		if (resultType.isInterface()) {
+			return intermediateResults.map(instance -> getProjectionFactory().createProjection(resultType, instance));
+		}
+
+		DtoInstantiatingConverter converter = new DtoInstantiatingConverter(resultType, this.neo4jMappingContext);
+		return intermediateResults.map(EntityInstanceWithSource.class::cast)
+			.map(converter::convert)
+			.map(v -> (R) v)
+			.filter(Objects::nonNull);
+	}
+
 	@Override
 	public <T> boolean existsById(Object id, Class<T> domainType) {
 
@@ -363,32 +456,96 @@ public final class Neo4jTemplate
 
 	@Override
 	public <T> Optional<T> findById(Object id, Class<T> domainType) {
+
+		T registeredEntity = getFromIdentityMap(domainType, id);
+		if (registeredEntity != null) {
+			return Optional.of(registeredEntity);
+		}
+
+		EntityCacheSupport currentEntityCache = this.entityCache;
+		T cachedEntity = (currentEntityCache != null) ? currentEntityCache.get(domainType, id) : null;
+		if (cachedEntity != null) {
+			return Optional.of(registerInIdentityMap(cachedEntity));
+		}
+
 		return executeReadOnly(tx -> {
 			Neo4jPersistentEntity<?> entityMetaData = this.neo4jMappingContext.getRequiredPersistentEntity(domainType);
 
-			return createExecutableQuery(domainType, null,
+			Optional<T> result = createExecutableQuery(domainType, null,
 					QueryFragmentsAndParameters.forFindById(entityMetaData,
 							TemplateSupport.convertIdValues(this.neo4jMappingContext,
 									entityMetaData.getRequiredIdProperty(), id),
 							this.neo4jMappingContext),
 					true)
 				.getSingleResult();
+			if (currentEntityCache != null) {
+				result.ifPresent(currentEntityCache::put);
+			}
+			return result.map(this::registerInIdentityMap);
 		});
 	}
 
 	@Override
 	public <T> List<T> findAllById(Iterable<?> ids, Class<T> domainType) {
-		return executeReadOnly(tx -> {
+
+		List<T> cachedEntities = new ArrayList<>();
+		Iterable<?> idsToLoad = ids;
+		if (this.identityMap != null) {
+			List<Object> missingIds = new ArrayList<>();
+			for (Object id : idsToLoad) {
+				T registeredEntity = getFromIdentityMap(domainType, id);
+				if (registeredEntity != null) {
+					cachedEntities.add(registeredEntity);
+				}
+				else {
+					missingIds.add(id);
+				}
+			}
+			if (missingIds.isEmpty()) {
+				return cachedEntities;
+			}
+			idsToLoad = missingIds;
+		}
+
+		EntityCacheSupport currentEntityCache = this.entityCache;
+		if (currentEntityCache != null && currentEntityCache.isCacheable(domainType)) {
+			List<Object> missingIds = new ArrayList<>();
+			for (Object id : idsToLoad) {
+				T cachedEntity = currentEntityCache.get(domainType, id);
+				if (cachedEntity != null) {
+					cachedEntities.add(registerInIdentityMap(cachedEntity));
+				}
+				else {
+					missingIds.add(id);
+				}
+			}
+			if (missingIds.isEmpty()) {
+				return cachedEntities;
+			}
+			idsToLoad = missingIds;
+		}
+
+		Iterable<?> finalIdsToLoad = idsToLoad;
+		List<T> loadedEntities = executeReadOnly(tx -> {
 			Neo4jPersistentEntity<?> entityMetaData = this.neo4jMappingContext.getRequiredPersistentEntity(domainType);
 
 			return createExecutableQuery(domainType, null,
 					QueryFragmentsAndParameters.forFindByAllId(entityMetaData,
 							TemplateSupport.convertIdValues(this.neo4jMappingContext,
-									entityMetaData.getRequiredIdProperty(), ids),
+									entityMetaData.getRequiredIdProperty(), finalIdsToLoad),
 							this.neo4jMappingContext),
 					true)
 				.getResults();
 		});
+		if (currentEntityCache != null && currentEntityCache.isCacheable(domainType)) {
+			loadedEntities.forEach(currentEntityCache::put);
+		}
+		loadedEntities.replaceAll(this::registerInIdentityMap);
+		if (cachedEntities.isEmpty()) {
+			return loadedEntities;
+		}
+		cachedEntities.addAll(loadedEntities);
+		return cachedEntities;
 	}
 
 	@Override
@@ -468,12 +625,15 @@ public final class Neo4jTemplate
 		TemplateSupport.FilteredBinderFunction<T> binderFunction = TemplateSupport.createAndApplyPropertyFilter(
 				includedProperties, entityMetaData,
 				this.neo4jMappingContext.getRequiredBinderFunctionFor((Class<T>) entityToBeSaved.getClass()));
+		EntitySnapshots snapshots = currentSnapshots();
+		EntitySnapshots.ChangedPropertiesBinder<T> changedPropertiesBinder = (snapshots != null)
+				? snapshots.retainChangedProperties(entityMetaData, binderFunction) : null;
 		var canUseElementId = TemplateSupport.rendererRendersElementId(this.renderer);
-		var statement = this.cypherGenerator.prepareSaveOf(entityMetaData, dynamicLabels, canUseElementId);
-		Optional<Entity> newOrUpdatedNode = this.neo4jClient.query(() -> this.renderer.render(statement))
+		var statement = this.renderedStatementCache.getSaveOf(entityMetaData, dynamicLabels, canUseElementId);
+		Optional<Entity> newOrUpdatedNode = this.neo4jClient.query(statement.cypher())
 			.bind(entityToBeSaved)
-			.with(binderFunction)
-			.bindAll(statement.getCatalog().getParameters())
+			.with((changedPropertiesBinder != null) ? changedPropertiesBinder : binderFunction)
+			.bindAll(statement.parameters())
 			.fetchAs(Entity.class)
 			.one();
 
@@ -484,6 +644,9 @@ public final class Neo4jTemplate
 			// defensive exception throwing
 			throw new IllegalStateException("Could not retrieve an internal id while saving");
 		}
+		if (changedPropertiesBinder != null) {
+			changedPropertiesBinder.written();
+		}
 
 		Object elementId = newOrUpdatedNode.map(node -> {
 			if (!entityMetaData.isUsingDeprecatedInternalId() && canUseElementId) {
@@ -508,6 +671,7 @@ public final class Neo4jTemplate
 
 		T bean = propertyAccessor.getBean();
 		stateMachine.markAsAliased(instance, bean);
+		evictFromCache(bean);
 		return bean;
 	}
 
@@ -544,120 +708,211 @@ public final class Neo4jTemplate
 
 	@Override
 	public <T> List<T> saveAll(Iterable<T> instances) {
-		return execute(tx -> saveAllImpl(instances, Collections.emptySet(), null));
-	}
-
-	private boolean requiresSingleStatements(boolean heterogeneousCollection, Neo4jPersistentEntity<?> entityMetaData) {
-		return heterogeneousCollection || entityMetaData.isUsingInternalIds() || entityMetaData.hasVersionProperty()
-				|| entityMetaData.getDynamicLabelsProperty().isPresent();
+		return execute(tx -> saveAllImpl(instances, Collections.emptySet(), null, this.saveBatchSize));
 	}
 
 	private <T> List<T> saveAllImpl(Iterable<T> instances,
 			@Nullable Collection<PropertyFilter.ProjectedPath> includedProperties,
-			@Nullable BiPredicate<PropertyPath, Neo4jPersistentProperty> includeProperty) {
+			@Nullable BiPredicate<PropertyPath, Neo4jPersistentProperty> includeProperty, int batchSize) {
 
-		Set<Class<?>> types = new HashSet<>();
 		List<T> entities = new ArrayList<>();
-		Map<Class<?>, Collection<PropertyFilter.ProjectedPath>> includedPropertiesByClass = new HashMap<>();
+		Map<Class<?>, List<Integer>> indexesByClass = new LinkedHashMap<>();
 		instances.forEach(instance -> {
+			indexesByClass.computeIfAbsent(instance.getClass(), type -> new ArrayList<>()).add(entities.size());
 			entities.add(instance);
-			types.add(instance.getClass());
-			includedPropertiesByClass.put(instance.getClass(), PropertyFilterSupport
-				.getInputPropertiesForAggregateBoundary(instance.getClass(), this.neo4jMappingContext));
 		});
 
 		if (entities.isEmpty()) {
 			return Collections.emptyList();
 		}
 
-		boolean heterogeneousCollection = types.size() > 1;
-		Class<?> domainClass = types.iterator().next();
+		boolean hasExplicitProperties = (includedProperties != null && !includedProperties.isEmpty())
+				|| includeProperty != null;
+		NestedRelationshipProcessingStateMachine stateMachine = new NestedRelationshipProcessingStateMachine(
+				this.neo4jMappingContext);
+		boolean canUseElementId = TemplateSupport.rendererRendersElementId(this.renderer);
 
-		Collection<PropertyFilter.ProjectedPath> pps = (includeProperty != null) ? TemplateSupport
-			.computeIncludedPropertiesFromPredicate(this.neo4jMappingContext, domainClass, includeProperty)
-				: Objects.requireNonNullElseGet(includedProperties, List::of);
+		// Save the roots of all entities that can be saved in batches, one partition per
+		// class, and keep them at the position of the original instances
+		List<@Nullable BatchedInstance<T>> batchedInstances = new ArrayList<>(
+				Collections.nCopies(entities.size(), null));
+		Map<Class<?>, Collection<PropertyFilter.ProjectedPath>> includedPropertiesByClass = new HashMap<>();
+		indexesByClass.forEach((domainClass, indexes) -> {
+			Collection<PropertyFilter.ProjectedPath> pps = (includeProperty != null) ? TemplateSupport
+				.computeIncludedPropertiesFromPredicate(this.neo4jMappingContext, domainClass, includeProperty)
+					: Objects.requireNonNullElseGet(includedProperties, List::of);
+			Collection<PropertyFilter.ProjectedPath> filteredProperties = hasExplicitProperties ? pps
+					: PropertyFilterSupport.getInputPropertiesForAggregateBoundary(domainClass,
+							this.neo4jMappingContext);
+			includedPropertiesByClass.put(domainClass, filteredProperties);
+
+			Neo4jPersistentEntity<?> entityMetaData = this.neo4jMappingContext.getRequiredPersistentEntity(domainClass);
+			if (!TemplateSupport.canSaveRootsInBatch(entityMetaData)) {
+				return;
+			}
 
-		Neo4jPersistentEntity<?> entityMetaData = this.neo4jMappingContext.getRequiredPersistentEntity(domainClass);
+			List<BatchedInstance<T>> partition = saveAllInBatches(entityMetaData,
+					indexes.stream().map(entities::get).toList(), pps,
+					TemplateSupport.computeIncludePropertyPredicate(filteredProperties, entityMetaData), stateMachine,
+					canUseElementId, batchSize);
+			for (int i = 0; i < indexes.size(); ++i) {
+				batchedInstances.set(indexes.get(i), partition.get(i));
+			}
+		});
 
-		if (requiresSingleStatements(heterogeneousCollection, entityMetaData)) {
+		if (batchedInstances.contains(null)) {
 			log.debug("Saving entities using single statements.");
-
-			NestedRelationshipProcessingStateMachine stateMachine = new NestedRelationshipProcessingStateMachine(
-					this.neo4jMappingContext);
-			return entities.stream()
-				.map(e -> saveImpl(e,
-						((includedProperties != null && !includedProperties.isEmpty()) || includeProperty != null) ? pps
-								: includedPropertiesByClass.get(e.getClass()),
-						stateMachine))
-				.collect(Collectors.toList());
 		}
 
-		class Tuple3<T> {
-
-			final T originalInstance;
-
-			final boolean wasNew;
-
-			final T modifiedInstance;
-
-			Tuple3(T originalInstance, boolean wasNew, T modifiedInstance) {
-				this.originalInstance = originalInstance;
-				this.wasNew = wasNew;
-				this.modifiedInstance = modifiedInstance;
+		// Save related, in order of the original instances
+		List<T> savedInstances = new ArrayList<>(entities.size());
+		for (int i = 0; i < entities.size(); ++i) {
+			BatchedInstance<T> batchedInstance = batchedInstances.get(i);
+			if (batchedInstance == null) {
+				T instance = entities.get(i);
+				savedInstances
+					.add(saveImpl(instance, includedPropertiesByClass.get(instance.getClass()), stateMachine));
+				continue;
 			}
-
+			stateMachine.registerInitialObject(batchedInstance.originalInstance(), batchedInstance.elementId());
+			savedInstances.add(this.<T>processRelations(batchedInstance.entityMetaData(),
+					batchedInstance.propertyAccessor(), batchedInstance.wasNew(), stateMachine,
+					batchedInstance.includePropertyPredicate(), canUseElementId));
 		}
+		savedInstances.forEach(this::evictFromCache);
+		return savedInstances;
+	}
 
-		List<Tuple3<T>> entitiesToBeSaved = entities.stream()
-			.map(e -> new Tuple3<>(e, entityMetaData.isNew(e), this.eventSupport.maybeCallBeforeBind(e)))
-			.collect(Collectors.toList());
+	/**
+	 * Saves the roots of instances of the same class in batches, one batch per change of
+	 * dynamic labels, and removes the stale relationships of the existing ones. Related
+	 * nodes are not processed.
+	 * @param entityMetaData the entity of all instances
+	 * @param entities the instances to save
+	 * @param includedProperties the properties to write
+	 * @param includePropertyPredicate the filter for relationships
+	 * @param stateMachine the state machine of the ongoing save
+	 * @param canUseElementId flag if the renderer supports the elementId function
+	 * @param batchSize the maximum number of rows bound to one statement
+	 * @param <T> the type of the instances
+	 * @return the saved instances, in the order of the given instances
+	 */
+	private <T> List<BatchedInstance<T>> saveAllInBatches(Neo4jPersistentEntity<?> entityMetaData, List<T> entities,
+			Collection<PropertyFilter.ProjectedPath> includedProperties, PropertyFilter includePropertyPredicate,
+			NestedRelationshipProcessingStateMachine stateMachine, boolean canUseElementId, int batchSize) {
+
+		List<Boolean> wasNew = new ArrayList<>(entities.size());
+		List<T> entitiesToBeSaved = new ArrayList<>(entities.size());
+		this.eventSupport.reserveIdsIfNecessary(entities);
+		for (T entity : entities) {
+			wasNew.add(entityMetaData.isNew(entity));
+			entitiesToBeSaved.add(this.eventSupport.maybeCallBeforeBind(entity));
+		}
 
 		// Save roots
-		@SuppressWarnings("unchecked") // We can safely assume here that we have a
-										// humongous collection with only one single type
-										// being either T or extending it
-		Function<T, Map<String, Object>> binderFunction = this.neo4jMappingContext
-			.getRequiredBinderFunctionFor((Class<T>) domainClass);
-		binderFunction = TemplateSupport.createAndApplyPropertyFilter(pps, entityMetaData, binderFunction);
+		@SuppressWarnings("unchecked") // All instances are of the type of the entity
+		Function<T, Map<String, Object>> binderFunction = TemplateSupport.createAndApplyPropertyFilter(
+				includedProperties, entityMetaData,
+				this.neo4jMappingContext.getRequiredBinderFunctionFor((Class<T>) entityMetaData.getType()));
+		EntitySnapshots snapshots = currentSnapshots();
+		EntitySnapshots.ChangedPropertiesBinder<T> changedPropertiesBinder = (snapshots != null)
+				? snapshots.retainChangedProperties(entityMetaData, binderFunction) : null;
 		List<Map<String, Object>> entityList = entitiesToBeSaved.stream()
-			.map(h -> h.modifiedInstance)
-			.map(binderFunction)
-			.collect(Collectors.toList());
-		var statement = this.cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData);
-		Map<Value, String> idToInternalIdMapping = this.neo4jClient.query(() -> this.renderer.render(statement))
-			.bind(entityList)
-			.to(Constants.NAME_OF_ENTITY_LIST_PARAM)
-			.bindAll(statement.getCatalog().getParameters())
-			.fetchAs(Map.Entry.class)
-			.mappedBy((t, r) -> new AbstractMap.SimpleEntry<>(r.get(Constants.NAME_OF_ID),
-					TemplateSupport.convertIdOrElementIdToString(r.get(Constants.NAME_OF_ELEMENT_ID))))
-			.all()
-			.stream()
-			.collect(Collectors.toMap(m -> (Value) m.getKey(), m -> (String) m.getValue()));
+			.map((changedPropertiesBinder != null) ? changedPropertiesBinder : binderFunction)
+			.toList();
+		Map<Value, TemplateSupport.SavedInstance> savedInstances = new HashMap<>();
+		partitionByDynamicLabels(entityMetaData, entitiesToBeSaved, entityList, batchSize)
+			.forEach((dynamicLabels, rows) -> {
+				var statement = this.renderedStatementCache.getSaveOfMultipleInstancesOf(entityMetaData, dynamicLabels);
+				for (List<Map<String, Object>> batch : TemplateSupport.inBatchesOf(rows, batchSize)) {
+					this.neo4jClient.query(statement.cypher())
+						.bind(batch)
+						.to(Constants.NAME_OF_ENTITY_LIST_PARAM)
+						.bindAll(statement.parameters())
+						.fetchAs(Map.Entry.class)
+						.mappedBy((t, r) -> new AbstractMap.SimpleEntry<>(r.get(Constants.NAME_OF_ID),
+								TemplateSupport.SavedInstance.of(r)))
+						.all()
+						.forEach(m -> savedInstances.put((Value) m.getKey(),
+								(TemplateSupport.SavedInstance) m.getValue()));
+				}
+			});
 
-		// Save related
-		var stateMachine = new NestedRelationshipProcessingStateMachine(this.neo4jMappingContext, null, null);
-		return entitiesToBeSaved.stream().map(t -> {
-			PersistentPropertyAccessor<T> propertyAccessor = entityMetaData.getPropertyAccessor(t.modifiedInstance);
-			Neo4jPersistentProperty idProperty = entityMetaData.getRequiredIdProperty();
+		List<PersistentPropertyAccessor<T>> propertyAccessors = entitiesToBeSaved.stream()
+			.map(entityMetaData::getPropertyAccessor)
+			.toList();
+		if (entityMetaData.hasVersionProperty()) {
+			TemplateSupport.updateVersionPropertiesOfMultipleInstances(this.neo4jMappingContext, entityMetaData,
+					propertyAccessors, savedInstances);
+		}
+		if (changedPropertiesBinder != null) {
+			changedPropertiesBinder.written();
+		}
+
+		// Remove stale relationships of all existing entities at once
+		TemplateSupport
+			.prepareRemovalOfStaleRelationships(this.neo4jMappingContext, entityMetaData,
+					IntStream.range(0, entities.size())
+						.filter(i -> !wasNew.get(i))
+						.mapToObj(propertyAccessors::get)
+						.toList(),
+					includePropertyPredicate, stateMachine, snapshots)
+			.forEach((relationshipDescription, rows) -> {
+				var relationshipRemoveQuery = this.renderedStatementCache.getDeleteOfMultipleInstancesOf(entityMetaData,
+						relationshipDescription, canUseElementId);
+				for (List<Map<String, Object>> batch : TemplateSupport.inBatchesOf(rows, batchSize)) {
+					this.neo4jClient.query(relationshipRemoveQuery.cypher())
+						.bind(batch)
+						.to(Constants.NAME_OF_ENTITY_LIST_PARAM)
+						.bindAll(relationshipRemoveQuery.parameters())
+						.run();
+				}
+			});
+
+		Neo4jPersistentProperty idProperty = entityMetaData.getRequiredIdProperty();
+		List<BatchedInstance<T>> batchedInstances = new ArrayList<>(entities.size());
+		for (int i = 0; i < entities.size(); ++i) {
+			PersistentPropertyAccessor<T> propertyAccessor = propertyAccessors.get(i);
 			Object id = TemplateSupport.convertIdValues(this.neo4jMappingContext, idProperty,
 					propertyAccessor.getProperty(idProperty));
-			String internalId = Objects.requireNonNull(idToInternalIdMapping.get(id));
-			stateMachine.registerInitialObject(t.originalInstance, internalId);
-			return this.<T>processRelations(entityMetaData, propertyAccessor, t.wasNew, stateMachine,
-					TemplateSupport.computeIncludePropertyPredicate(
-							((includedProperties != null && !includedProperties.isEmpty()) || includeProperty != null)
-									? pps : includedPropertiesByClass.get(t.modifiedInstance.getClass()),
-							entityMetaData),
-					TemplateSupport.rendererRendersElementId(this.renderer));
-		}).collect(Collectors.toList());
+			batchedInstances.add(new BatchedInstance<>(entities.get(i), wasNew.get(i), propertyAccessor,
+					Objects.requireNonNull(savedInstances.get(id)).elementId(), entityMetaData,
+					includePropertyPredicate));
+		}
+		return batchedInstances;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> Map<DynamicLabels, List<Map<String, Object>>> partitionByDynamicLabels(
+			Neo4jPersistentEntity<?> entityMetaData, List<T> entities, List<Map<String, Object>> rows, int batchSize) {
+
+		if (entityMetaData.getDynamicLabelsProperty().isEmpty()) {
+			return Map.of(DynamicLabels.EMPTY, rows);
+		}
+
+		var statement = this.renderedStatementCache.getDynamicLabelsOfMultipleInstancesOf(entityMetaData);
+		Map<Value, List<String>> existingLabels = new HashMap<>();
+		for (List<Map<String, Object>> batch : TemplateSupport.inBatchesOf(rows, batchSize)) {
+			this.neo4jClient.query(statement.cypher())
+				.bind(batch)
+				.to(Constants.NAME_OF_ENTITY_LIST_PARAM)
+				.bind(entityMetaData.getStaticLabels())
+				.to(Constants.NAME_OF_STATIC_LABELS_PARAM)
+				.bindAll(statement.parameters())
+				.fetchAs(Map.Entry.class)
+				.mappedBy((t, r) -> new AbstractMap.SimpleEntry<>(r.get(Constants.NAME_OF_ID),
+						r.get(Constants.NAME_OF_LABELS).asList(Value::asString)))
+				.all()
+				.forEach(m -> existingLabels.put((Value) m.getKey(), (List<String>) m.getValue()));
+		}
+		return TemplateSupport.partitionByDynamicLabels(entityMetaData, entities, rows, existingLabels);
 	}
 
 	@Override
 	public <T> List<T> saveAllAs(Iterable<T> instances,
 			BiPredicate<PropertyPath, Neo4jPersistentProperty> includeProperty) {
 
-		return execute(tx -> saveAllImpl(instances, null, includeProperty));
+		return execute(tx -> saveAllImpl(instances, null, includeProperty, this.saveBatchSize));
 	}
 
 	@Override
@@ -692,7 +947,7 @@ public final class Neo4jTemplate
 			Collection<PropertyFilter.ProjectedPath> pps = PropertyFilterSupport.addPropertiesFrom(commonElementType,
 					resultType, localProjectionFactory, this.neo4jMappingContext);
 
-			List<T> savedInstances = saveAllImpl(instances, pps, null);
+			List<T> savedInstances = saveAllImpl(instances, pps, null, this.saveBatchSize);
 
 			if (projectionInformation.isClosed()) {
 				return savedInstances.stream()
@@ -715,6 +970,129 @@ public final class Neo4jTemplate
 		});
 	}
 
+	@Override
+	public <T> List<T> insertAll(Iterable<T> instances, BulkInsertOptions options) {
+
+		Assert.notNull(options, "The options for the bulk insert must not be null");
+
+		List<T> entities = new ArrayList<>();
+		instances.forEach(entities::add);
+		if (entities.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		int batchSize = Objects.requireNonNullElse(options.getBatchSize(), this.saveBatchSize);
+		if (!options.isTransactionPerBatch()) {
+			return execute(tx -> {
+				List<T> insertedInstances = insertNodes(entities, options.isSkipBeforeBindCallbacks(), batchSize);
+				createRelationships(insertedInstances, batchSize, false);
+				insertedInstances.forEach(this::evictFromCache);
+				return insertedInstances;
+			});
+		}
+
+		// Create all nodes first, so that relationships between instances of different
+		// batches can be created afterward
+		List<T> insertedInstances = new ArrayList<>(entities.size());
+		for (List<T> batch : TemplateSupport.inBatchesOf(entities, batchSize)) {
+			insertedInstances.addAll(executeInNewTransaction(
+					tx -> insertNodes(batch, options.isSkipBeforeBindCallbacks(), batchSize)));
+		}
+		createRelationships(insertedInstances, batchSize, true);
+		insertedInstances.forEach(this::evictFromCache);
+		return insertedInstances;
+	}
+
+	private <T> List<T> insertNodes(List<T> entities, boolean skipBeforeBindCallbacks, int batchSize) {
+
+		Map<Class<?>, List<Integer>> indexesByClass = new LinkedHashMap<>();
+		for (int i = 0; i < entities.size(); ++i) {
+			indexesByClass.computeIfAbsent(entities.get(i).getClass(), type -> new ArrayList<>()).add(i);
+		}
+
+		List<T> insertedInstances = new ArrayList<>(entities);
+		indexesByClass.forEach((domainClass, indexes) -> {
+			Neo4jPersistentEntity<?> entityMetaData = this.neo4jMappingContext.getRequiredPersistentEntity(domainClass);
+			if (entityMetaData.isUsingInternalIds()) {
+				throw new IllegalArgumentException(
+						"Bulk inserts require entities with external ids, %s uses internal ids".formatted(domainClass));
+			}
+
+			List<T> entitiesToBeInserted = new ArrayList<>(indexes.size());
+			this.eventSupport.reserveIdsIfNecessary(indexes.stream().map(entities::get).toList());
+			for (Integer index : indexes) {
+				T entity = entities.get(index);
+				entitiesToBeInserted.add(skipBeforeBindCallbacks ? this.eventSupport.populateIdIfNecessary(entity)
+						: this.eventSupport.maybeCallBeforeBind(entity));
+			}
+
+			@SuppressWarnings("unchecked") // All instances are of the type of the entity
+			Function<T, Map<String, Object>> binderFunction = this.neo4jMappingContext
+				.getRequiredBinderFunctionFor((Class<T>) domainClass);
+			List<Map<String, Object>> rows = entitiesToBeInserted.stream().map(binderFunction).toList();
+			Map<DynamicLabels, List<Map<String, Object>>> rowsByDynamicLabels = entityMetaData
+				.getDynamicLabelsProperty()
+				.isPresent()
+						? TemplateSupport.partitionByDynamicLabels(entityMetaData, entitiesToBeInserted, rows, Map.of())
+						: Map.of(DynamicLabels.EMPTY, rows);
+
+			Map<Value, TemplateSupport.SavedInstance> savedInstances = new HashMap<>();
+			rowsByDynamicLabels.forEach((dynamicLabels, rowsOfPartition) -> {
+				var statement = this.renderedStatementCache.getCreateOfMultipleInstancesOf(entityMetaData,
+						dynamicLabels);
+				for (List<Map<String, Object>> batch : TemplateSupport.inBatchesOf(rowsOfPartition, batchSize)) {
+					this.neo4jClient.query(statement.cypher())
+						.bind(batch)
+						.to(Constants.NAME_OF_ENTITY_LIST_PARAM)
+						.bindAll(statement.parameters())
+						.fetchAs(Map.Entry.class)
+						.mappedBy((t, r) -> new AbstractMap.SimpleEntry<>(r.get(Constants.NAME_OF_ID),
+								TemplateSupport.SavedInstance.of(r)))
+						.all()
+						.forEach(m -> savedInstances.put((Value) m.getKey(),
+								(TemplateSupport.SavedInstance) m.getValue()));
+				}
+			});
+
+			List<PersistentPropertyAccessor<T>> propertyAccessors = entitiesToBeInserted.stream()
+				.map(entityMetaData::getPropertyAccessor)
+				.toList();
+			if (entityMetaData.hasVersionProperty()) {
+				TemplateSupport.updateVersionPropertiesOfMultipleInstances(this.neo4jMappingContext, entityMetaData,
+						propertyAccessors, savedInstances);
+			}
+			for (int i = 0; i < indexes.size(); ++i) {
+				insertedInstances.set(indexes.get(i), propertyAccessors.get(i).getBean());
+			}
+		});
+		return insertedInstances;
+	}
+
+	/**
+	 * Creates the relationships of all instances of a bulk insert after their nodes have
+	 * been created.
+	 * @param insertedInstances all inserted instances
+	 * @param batchSize the maximum number of relationships created with one statement
+	 * @param transactionPerBatch whether to create each batch in a new transaction
+	 */
+	private void createRelationships(List<?> insertedInstances, int batchSize, boolean transactionPerBatch) {
+
+		boolean canUseElementId = TemplateSupport.rendererRendersElementId(this.renderer);
+		TemplateSupport.collectRelationshipsToCreate(this.neo4jMappingContext, insertedInstances)
+			.forEach((relationships, rows) -> {
+				String cypher = this.renderer.render(relationships.toStatement(this.cypherGenerator, canUseElementId));
+				for (List<Map<String, Object>> batch : TemplateSupport.inBatchesOf(rows, batchSize)) {
+					Supplier<ResultSummary> createBatch = () -> this.neo4jClient.query(cypher)
+						.bind(batch)
+						.to(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM)
+						.run();
+					ResultSummary summary = transactionPerBatch ? executeInNewTransaction(tx -> createBatch.get())
+							: createBatch.get();
+					relationships.assertAllCreated(summary, batch.size());
+				}
+			});
+	}
+
 	@Override
 	public <T> void deleteById(Object id, Class<T> domainType) {
 
@@ -734,6 +1112,11 @@ public final class Neo4jTemplate
 				.bindAll(statement.getCatalog().getParameters())
 				.run();
 
+			discardSnapshots();
+			if (this.entityCache != null) {
+				this.entityCache.evictById(domainType, id);
+			}
+			removeFromIdentityMap(domainType, List.of(id));
 			log.debug(() -> String.format("Deleted %d nodes and %d relationships.", summary.counters().nodesDeleted(),
 					summary.counters().relationshipsDeleted()));
 		});
@@ -795,6 +1178,13 @@ public final class Neo4jTemplate
 				.bindAll(statement.getCatalog().getParameters())
 				.run();
 
+			discardSnapshots();
+			if (this.entityCache != null) {
+				for (Object id : ids) {
+					this.entityCache.evictById(domainType, id);
+				}
+			}
+			removeFromIdentityMap(domainType, ids);
 			log.debug(() -> String.format("Deleted %d nodes and %d relationships.", summary.counters().nodesDeleted(),
 					summary.counters().relationshipsDeleted()));
 		});
@@ -814,6 +1204,14 @@ public final class Neo4jTemplate
 				.bindAll(statement.getCatalog().getParameters())
 				.run();
 
+			discardSnapshots();
+			if (this.entityCache != null) {
+				this.entityCache.evictAll(domainType);
+			}
+			EntityIdentityMap currentIdentityMap = currentIdentityMap();
+			if (this.identityMap != null && currentIdentityMap != null) {
+				this.identityMap.removeAll(currentIdentityMap, domainType);
+			}
 			log.debug(() -> String.format("Deleted %d nodes and %d relationships.", summary.counters().nodesDeleted(),
 					summary.counters().relationshipsDeleted()));
 		});
@@ -879,6 +1277,7 @@ public final class Neo4jTemplate
 			boolean canUseElementId, PropertyFilter.RelaxedPropertyPath previousPath) {
 
 		Object fromId = propertyAccessor.getProperty(sourceEntity.getRequiredIdProperty());
+		EntitySnapshots snapshots = currentSnapshots();
 
 		AssociationHandlerSupport.of(sourceEntity).doWithAssociations(association -> {
 
@@ -919,12 +1318,36 @@ public final class Neo4jTemplate
 				return;
 			}
 
+			// Relationships tracked by the snapshots of the ongoing transaction are
+			// neither removed nor recreated as a whole
+			Set<Object> trackedRelatedIds = (snapshots != null)
+					? snapshots.getRelatedIds(sourceEntity, fromId, relationshipDescription) : null;
+
 			// Remove all relationships before creating all new if the entity is not new
 			// and the relationship
 			// has not been processed before.
 			// This avoids the usage of cache but might have significant impact on overall
 			// performance
-			if (!isParentObjectNew && !stateMachine.hasProcessedRelationship(fromId, relationshipDescription)) {
+			if (!isParentObjectNew && !stateMachine.hasProcessedRelationship(fromId, relationshipDescription)
+					&& !stateMachine.hasRemovedStaleRelationships(fromId, relationshipDescription)
+					&& trackedRelatedIds != null) {
+
+				List<Object> removedIds = TemplateSupport.collectRemovedRelatedIds(this.neo4jMappingContext,
+						relationshipContext, relatedValuesToStore, trackedRelatedIds);
+				if (!removedIds.isEmpty()) {
+					var relationshipRemoveQuery = this.renderedStatementCache.getDeleteOfRelationshipsTo(sourceEntity,
+							relationshipDescription, canUseElementId);
+					runWithoutResult(this.neo4jClient.query(relationshipRemoveQuery.cypher())
+						.bind(TemplateSupport.convertIdValues(this.neo4jMappingContext, sourceEntity.getIdProperty(),
+								fromId))
+						.to(Constants.FROM_ID_PARAMETER_NAME)
+						.bind(removedIds)
+						.to(Constants.NAME_OF_IDS)
+						.bindAll(relationshipRemoveQuery.parameters()));
+				}
+			}
+			else if (!isParentObjectNew && !stateMachine.hasProcessedRelationship(fromId, relationshipDescription)
+					&& !stateMachine.hasRemovedStaleRelationships(fromId, relationshipDescription)) {
 
 				List<Object> knownRelationshipsIds = new ArrayList<>();
 				if (idProperty != null) {
@@ -945,35 +1368,46 @@ public final class Neo4jTemplate
 					}
 				}
 
-				Statement relationshipRemoveQuery = this.cypherGenerator.prepareDeleteOf(sourceEntity,
+				var relationshipRemoveQuery = this.renderedStatementCache.getDeleteOf(sourceEntity,
 						relationshipDescription, canUseElementId);
 
-				this.neo4jClient.query(this.renderer.render(relationshipRemoveQuery))
+				runWithoutResult(this.neo4jClient.query(relationshipRemoveQuery.cypher())
 					.bind(TemplateSupport.convertIdValues(this.neo4jMappingContext, sourceEntity.getIdProperty(),
 							fromId)) //
 					.to(Constants.FROM_ID_PARAMETER_NAME) //
 					.bind(knownRelationshipsIds) //
 					.to(Constants.NAME_OF_KNOWN_RELATIONSHIPS_PARAM) //
-					.bindAll(relationshipRemoveQuery.getCatalog().getParameters())
-					.run();
+					.bindAll(relationshipRemoveQuery.parameters()));
 			}
 
 			// nothing to do because there is nothing to map
 			if (relationshipContext.inverseValueIsEmpty()) {
+				if (snapshots != null) {
+					snapshots.setRelatedIds(sourceEntity, fromId, relationshipDescription, Set.of());
+				}
 				return;
 			}
 
 			stateMachine.markRelationshipAsProcessed(fromId, relationshipDescription);
 
 			Neo4jPersistentProperty relationshipProperty = association.getInverse();
+			Set<Object> relatedIds = new HashSet<>();
 
 			RelationshipHandler relationshipHandler = RelationshipHandler.forProperty(relationshipProperty, rawValue);
 			List<Object> plainRelationshipRows = new ArrayList<>();
+			List<Object> plainRelationshipRowsMatchingTargetsById = new ArrayList<>();
 			List<Map<String, Object>> relationshipPropertiesRows = new ArrayList<>();
 			List<Map<String, Object>> newRelationshipPropertiesRows = new ArrayList<>();
 			List<Object> updateRelatedValuesToStore = new ArrayList<>();
 			List<Object> newRelationshipPropertiesToStore = new ArrayList<>();
 
+			this.eventSupport.reserveIdsIfNecessary(relatedValuesToStore.stream()
+				.filter(Objects::nonNull)
+				.map(relationshipContext::identifyAndExtractRelationshipTargetNode)
+				.toList());
+			Map<Object, BatchedRelatedNode> batchedRelatedNodes = saveOrLoadRelatedNodesInBatches(relationshipContext,
+					relatedValuesToStore, stateMachine, includeProperty, currentPropertyPath);
+
 			for (Object relatedValueToStore : relatedValuesToStore) {
 
 				// here a map entry is not always anymore a dynamic association
@@ -981,16 +1415,37 @@ public final class Neo4jTemplate
 					.identifyAndExtractRelationshipTargetNode(relatedValueToStore);
 				Neo4jPersistentEntity<?> targetEntity = this.neo4jMappingContext
 					.getRequiredPersistentEntity(relatedObjectBeforeCallbacksApplied.getClass());
-				boolean isNewEntity = targetEntity.isNew(relatedObjectBeforeCallbacksApplied);
-
-				Object newRelatedObject = stateMachine.hasProcessedValue(relatedObjectBeforeCallbacksApplied)
-						? stateMachine.getProcessedAs(relatedObjectBeforeCallbacksApplied)
-						: this.eventSupport.maybeCallBeforeBind(relatedObjectBeforeCallbacksApplied);
+				BatchedRelatedNode batchedRelatedNode = batchedRelatedNodes.get(relatedValueToStore);
+				boolean isNewEntity = (batchedRelatedNode != null) ? batchedRelatedNode.wasNew()
+						: targetEntity.isNew(relatedObjectBeforeCallbacksApplied);
+				// Existing targets are matched by their id within the statement creating
+				// the relationships, without looking up their internal ids
+				boolean matchTargetById = !isNewEntity
+						&& TemplateSupport.canMatchTargetById(relationshipDescription, targetEntity);
+
+				Object newRelatedObject;
+				if (stateMachine.hasProcessedValue(relatedObjectBeforeCallbacksApplied)) {
+					newRelatedObject = stateMachine.getProcessedAs(relatedObjectBeforeCallbacksApplied);
+				}
+				else if (batchedRelatedNode != null) {
+					newRelatedObject = batchedRelatedNode.boundObject();
+				}
+				else {
+					newRelatedObject = this.eventSupport.maybeCallBeforeBind(relatedObjectBeforeCallbacksApplied);
+				}
 
 				Object relatedInternalId;
 				Entity savedEntity = null;
-				// No need to save values if processed
-				if (stateMachine.hasProcessedValue(relatedValueToStore)) {
+				// No need to save values if processed or saved in a batch
+				if (matchTargetById) {
+					Neo4jPersistentProperty targetIdProperty = targetEntity.getRequiredIdProperty();
+					relatedInternalId = TemplateSupport.convertIdValues(this.neo4jMappingContext, targetIdProperty,
+							targetEntity.getPropertyAccessor(newRelatedObject).getProperty(targetIdProperty));
+				}
+				else if (batchedRelatedNode != null && batchedRelatedNode.internalId() != null) {
+					relatedInternalId = batchedRelatedNode.internalId();
+				}
+				else if (stateMachine.hasProcessedValue(relatedValueToStore)) {
 					relatedInternalId = stateMachine.getObjectId(relatedValueToStore);
 				}
 				else {
@@ -1023,7 +1478,15 @@ public final class Neo4jTemplate
 				if (savedEntity != null) {
 					TemplateSupport.updateVersionPropertyIfPossible(targetEntity, targetPropertyAccessor, savedEntity);
 				}
-				stateMachine.markAsAliased(relatedObjectBeforeCallbacksApplied, targetPropertyAccessor.getBean());
+				Object relatedId = targetPropertyAccessor.getProperty(requiredIdProperty);
+				if (relatedId != null) {
+					relatedIds.add(relatedId);
+				}
+				// Targets matched by id have not been processed, and there is no internal
+				// id to remember for them
+				if (!matchTargetById) {
+					stateMachine.markAsAliased(relatedObjectBeforeCallbacksApplied, targetPropertyAccessor.getBean());
+				}
 				stateMachine.markRelationshipAsProcessed(
 						(possibleInternalLongId != null) ? possibleInternalLongId : relatedInternalId,
 						relationshipDescription.getRelationshipObverse());
@@ -1081,7 +1544,7 @@ public final class Neo4jTemplate
 
 						List<Object> row = Collections.singletonList(properties);
 						statementHolder = statementHolder.addProperty(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM, row);
-						this.neo4jClient.query(this.renderer.render(statementHolder.getStatement()))
+						runWithoutResult(this.neo4jClient.query(this.renderer.render(statementHolder.getStatement()))
 							.bind(TemplateSupport.convertIdValues(this.neo4jMappingContext,
 									sourceEntity.getRequiredIdProperty(), fromId)) //
 							.to(Constants.FROM_ID_PARAMETER_NAME) //
@@ -1089,8 +1552,7 @@ public final class Neo4jTemplate
 							.to(Constants.TO_ID_PARAMETER_NAME) //
 							.bind(idValue)
 							.to(Constants.NAME_OF_KNOWN_RELATIONSHIP_PARAM) //
-							.bindAll(statementHolder.getProperties())
-							.run();
+							.bindAll(statementHolder.getProperties()));
 					}
 				}
 				else if (relationshipDescription.hasRelationshipProperties() && fromId != null) {
@@ -1116,9 +1578,14 @@ public final class Neo4jTemplate
 								hlp.getRelatedEntity(), relationshipContext.getRelationship());
 					}
 				}
-				else {
+				else if (trackedRelatedIds == null || relatedId == null || !trackedRelatedIds.contains(relatedId)) {
 					// non-dynamic relationship or relationship with properties
-					plainRelationshipRows.add(properties);
+					if (matchTargetById) {
+						plainRelationshipRowsMatchingTargetsById.add(properties);
+					}
+					else {
+						plainRelationshipRows.add(properties);
+					}
 				}
 
 				if (processState != ProcessState.PROCESSED_ALL_VALUES) {
@@ -1134,17 +1601,11 @@ public final class Neo4jTemplate
 						potentiallyRecreatedNewRelatedObject);
 			}
 			// batch operations
-			if (!(relationshipDescription.hasRelationshipProperties() || relationshipDescription.isDynamic()
-					|| plainRelationshipRows.isEmpty())) {
-				CreateRelationshipStatementHolder statementHolder = this.neo4jMappingContext
-					.createStatementForImperativeSimpleRelationshipBatch(sourceEntity, relationshipDescription,
-							plainRelationshipRows, canUseElementId);
-				statementHolder = statementHolder.addProperty(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM,
-						plainRelationshipRows);
-				this.neo4jClient.query(this.renderer.render(statementHolder.getStatement()))
-					.bindAll(statementHolder.getProperties())
-					.bindAll(statementHolder.getStatement().getCatalog().getParameters())
-					.run();
+			if (!(relationshipDescription.hasRelationshipProperties() || relationshipDescription.isDynamic())) {
+				createPlainRelationships(sourceEntity, relationshipDescription, plainRelationshipRows, canUseElementId,
+						false);
+				createPlainRelationships(sourceEntity, relationshipDescription,
+						plainRelationshipRowsMatchingTargetsById, canUseElementId, true);
 			}
 			else if (relationshipDescription.hasRelationshipProperties()) {
 				if (!relationshipPropertiesRows.isEmpty()) {
@@ -1155,10 +1616,9 @@ public final class Neo4jTemplate
 					statementHolder = statementHolder.addProperty(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM,
 							relationshipPropertiesRows);
 
-					this.neo4jClient.query(this.renderer.render(statementHolder.getStatement()))
+					runWithoutResult(this.neo4jClient.query(this.renderer.render(statementHolder.getStatement()))
 						.bindAll(statementHolder.getProperties())
-						.bindAll(statementHolder.getStatement().getCatalog().getParameters())
-						.run();
+						.bindAll(statementHolder.getStatement().getCatalog().getParameters()));
 				}
 				if (!(newRelationshipPropertiesToStore.isEmpty() || idProperty == null)) {
 					CreateRelationshipStatementHolder statementHolder = this.neo4jMappingContext
@@ -1184,6 +1644,9 @@ public final class Neo4jTemplate
 			// Possible grab missing relationship ids now for bidirectional ones, with
 			// properties, mapped in opposite directions
 			stateMachine.updateRelationshipIds(this::getRelationshipId);
+			if (snapshots != null) {
+				snapshots.setRelatedIds(sourceEntity, fromId, relationshipDescription, relatedIds);
+			}
 
 			relationshipHandler.applyFinalResultToOwner(propertyAccessor);
 		});
@@ -1193,6 +1656,50 @@ public final class Neo4jTemplate
 		return finalSubgraphRoot;
 	}
 
+	private void createPlainRelationships(Neo4jPersistentEntity<?> sourceEntity,
+			RelationshipDescription relationshipDescription, List<Object> rows, boolean canUseElementId,
+			boolean matchTargetsById) {
+
+		if (rows.isEmpty()) {
+			return;
+		}
+		CreateRelationshipStatementHolder statementHolder = this.neo4jMappingContext
+			.createStatementForImperativeSimpleRelationshipBatch(sourceEntity, relationshipDescription, rows,
+					canUseElementId, matchTargetsById);
+		statementHolder = statementHolder.addProperty(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM, rows);
+		Neo4jClient.RunnableSpec runnableSpec = this.neo4jClient
+			.query(this.renderer.render(statementHolder.getStatement()))
+			.bindAll(statementHolder.getProperties())
+			.bindAll(statementHolder.getStatement().getCatalog().getParameters());
+		if (!matchTargetsById) {
+			// Each row is merged on its own, so consecutive statements can be coalesced
+			runWithoutResult(runnableSpec, Constants.NAME_OF_RELATIONSHIP_LIST_PARAM);
+			return;
+		}
+
+		// The statement returns one row per matched target, missing targets must not
+		// be skipped silently
+		int matchedTargets = runnableSpec.fetch().all().size();
+		if (matchedTargets != rows.size()) {
+			throw TemplateSupport.unmatchedTargets(relationshipDescription, rows.size(), matchedTargets);
+		}
+	}
+
+	private void runWithoutResult(Neo4jClient.RunnableSpec runnableSpec) {
+		runWithoutResult(runnableSpec, null);
+	}
+
+	// Statements whose results are not needed can be deferred to the next statement or
+	// the end of the transaction when pipelining is enabled and the client supports it
+	private void runWithoutResult(Neo4jClient.RunnableSpec runnableSpec, @Nullable String nameOfRows) {
+		if (this.pipeliningEnabled && runnableSpec instanceof DeferredStatements.Deferrable deferrable) {
+			deferrable.runDeferred(nameOfRows);
+		}
+		else {
+			runnableSpec.run();
+		}
+	}
+
 	private Optional<Object> getRelationshipId(Statement statement, @Nullable Neo4jPersistentProperty idProperty,
 			Object fromId, Object toId) {
 
@@ -1248,12 +1755,43 @@ public final class Neo4jTemplate
 
 		Neo4jPersistentEntity<?> targetPersistentEntity = (Neo4jPersistentEntity<?>) targetNodeDescription;
 		DynamicLabels dynamicLabels = determineDynamicLabels(entity, targetPersistentEntity);
+		Function<Object, Map<String, Object>> binderFunction = createRelatedNodeBinderFunction(targetPersistentEntity,
+				includeProperty, currentPropertyPath);
+		EntitySnapshots snapshots = currentSnapshots();
+		EntitySnapshots.ChangedPropertiesBinder<Object> changedPropertiesBinder = (snapshots != null)
+				? snapshots.retainChangedProperties(targetPersistentEntity, binderFunction) : null;
+		var statement = this.renderedStatementCache.getSaveOf(targetPersistentEntity, dynamicLabels,
+				TemplateSupport.rendererRendersElementId(this.renderer));
+		Optional<Entity> optionalSavedNode = this.neo4jClient.query(statement.cypher())
+			.bind(entity)
+			.with((changedPropertiesBinder != null) ? changedPropertiesBinder : binderFunction)
+			.bindAll(statement.parameters())
+			.fetchAs(Entity.class)
+			.one();
+
+		if (targetPersistentEntity.hasVersionProperty() && !optionalSavedNode.isPresent()) {
+			throw new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE);
+		}
+		if (changedPropertiesBinder != null) {
+			changedPropertiesBinder.written();
+		}
+		evictFromCache(entity);
+
+		// It is checked above, god dammit.
+		// noinspection OptionalGetWithoutIsPresent
+		return optionalSavedNode.get();
+	}
+
+	private Function<Object, Map<String, Object>> createRelatedNodeBinderFunction(
+			Neo4jPersistentEntity<?> targetPersistentEntity, PropertyFilter includeProperty,
+			PropertyFilter.RelaxedPropertyPath currentPropertyPath) {
+
 		@SuppressWarnings("rawtypes")
 		Class entityType = targetPersistentEntity.getType();
 		@SuppressWarnings("unchecked")
 		Function<Object, Map<String, Object>> binderFunction = this.neo4jMappingContext
 			.getRequiredBinderFunctionFor(entityType);
-		binderFunction = binderFunction.andThen(tree -> {
+		return binderFunction.andThen(tree -> {
 			@SuppressWarnings("unchecked")
 			Map<String, Object> properties = (Map<String, Object>) tree.get(Constants.NAME_OF_PROPERTIES_PARAM);
 			String idPropertyName = targetPersistentEntity.getRequiredIdProperty().getPropertyName();
@@ -1270,22 +1808,168 @@ public final class Neo4jTemplate
 			}
 			return tree;
 		});
-		var statement = this.cypherGenerator.prepareSaveOf(targetNodeDescription, dynamicLabels,
-				TemplateSupport.rendererRendersElementId(this.renderer));
-		Optional<Entity> optionalSavedNode = this.neo4jClient.query(() -> this.renderer.render(statement))
-			.bind(entity)
-			.with(binderFunction)
-			.bindAll(statement.getCatalog().getParameters())
-			.fetchAs(Entity.class)
-			.one();
+	}
 
-		if (targetPersistentEntity.hasVersionProperty() && !optionalSavedNode.isPresent()) {
-			throw new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE);
+	/**
+	 * Saves or loads the targets of a relationship with one statement per target entity
+	 * type instead of one statement per target, as long as the targets of that type can
+	 * be identified by their external ids. Targets that have been processed already, that
+	 * are using internal ids, versions, dynamic labels, vectors or composite ids are left
+	 * for {@link #saveRelatedNode} and {@link #loadRelatedNode}, as are targets that are
+	 * the only ones of their type. Existing targets that can be matched by their id when
+	 * creating the relationships are not loaded at all. Targets handled here are marked
+	 * as processed in the state machine, so that they are not saved again while
+	 * descending into the relationships of their siblings.
+	 * @param relationshipContext the context of the relationship being processed
+	 * @param relatedValuesToStore the values of the relationship
+	 * @param stateMachine the state machine of the current save operation
+	 * @param includeProperty the property filter
+	 * @param currentPropertyPath the path of the relationship
+	 * @return the targets handled keyed by the identity of the related values
+	 */
+	private Map<Object, BatchedRelatedNode> saveOrLoadRelatedNodesInBatches(
+			NestedRelationshipContext relationshipContext, Collection<?> relatedValuesToStore,
+			NestedRelationshipProcessingStateMachine stateMachine, PropertyFilter includeProperty,
+			PropertyFilter.RelaxedPropertyPath currentPropertyPath) {
+
+		if (relatedValuesToStore.size() < 2) {
+			return Map.of();
 		}
 
-		// It is checked above, god dammit.
-		// noinspection OptionalGetWithoutIsPresent
-		return optionalSavedNode.get();
+		boolean cascadeUpdates = relationshipContext.getRelationship().cascadeUpdates();
+		Map<Neo4jPersistentEntity<?>, List<Object>> nodesToSave = new LinkedHashMap<>();
+		Map<Neo4jPersistentEntity<?>, List<Object>> nodesToLoad = new LinkedHashMap<>();
+		Set<Object> targetsSeen = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Object relatedValueToStore : relatedValuesToStore) {
+			if (relatedValueToStore == null || stateMachine.hasProcessedValue(relatedValueToStore)) {
+				continue;
+			}
+			Object relatedObjectBeforeCallbacksApplied = relationshipContext
+				.identifyAndExtractRelationshipTargetNode(relatedValueToStore);
+			if (!targetsSeen.add(relatedObjectBeforeCallbacksApplied)) {
+				continue;
+			}
+			Neo4jPersistentEntity<?> targetEntity = this.neo4jMappingContext
+				.getRequiredPersistentEntity(relatedObjectBeforeCallbacksApplied.getClass());
+			if (targetEntity.isNew(relatedObjectBeforeCallbacksApplied) || cascadeUpdates) {
+				if (canBeSavedInBatch(targetEntity)) {
+					nodesToSave.computeIfAbsent(targetEntity, k -> new ArrayList<>()).add(relatedValueToStore);
+				}
+			}
+			else if (canBeLoadedInBatch(targetEntity)
+					&& !TemplateSupport.canMatchTargetById(relationshipContext.getRelationship(), targetEntity)) {
+				nodesToLoad.computeIfAbsent(targetEntity, k -> new ArrayList<>()).add(relatedValueToStore);
+			}
+		}
+
+		Map<Object, BatchedRelatedNode> result = new IdentityHashMap<>();
+		EntitySnapshots snapshots = currentSnapshots();
+		nodesToSave.forEach((targetEntity, values) -> {
+			if (values.size() < 2) {
+				return;
+			}
+			Function<Object, Map<String, Object>> binderFunction = createRelatedNodeBinderFunction(targetEntity,
+					includeProperty, currentPropertyPath);
+			EntitySnapshots.ChangedPropertiesBinder<Object> changedPropertiesBinder = (snapshots != null)
+					? snapshots.retainChangedProperties(targetEntity, binderFunction) : null;
+			List<Object> boundObjects = bind(relationshipContext, targetEntity, values, result);
+			var statement = this.renderedStatementCache.getSaveOfMultipleInstancesOf(targetEntity);
+			Map<Value, Object> internalIds = fetchInternalIds(this.neo4jClient.query(statement.cypher())
+				.bind(boundObjects.stream()
+					.map((changedPropertiesBinder != null) ? changedPropertiesBinder : binderFunction)
+					.toList())
+				.to(Constants.NAME_OF_ENTITY_LIST_PARAM)
+				.bindAll(statement.parameters()),
+					TemplateSupport.rendererCanUseElementIdIfPresent(this.renderer, targetEntity));
+			if (changedPropertiesBinder != null) {
+				changedPropertiesBinder.written();
+			}
+			markAsProcessed(relationshipContext, targetEntity, values, internalIds, result, stateMachine);
+		});
+		nodesToLoad.forEach((targetEntity, values) -> {
+			if (values.size() < 2) {
+				return;
+			}
+			Neo4jPersistentProperty idProperty = targetEntity.getRequiredIdProperty();
+			List<Object> ids = bind(relationshipContext, targetEntity, values, result).stream()
+				.map(boundObject -> TemplateSupport.convertIdValues(this.neo4jMappingContext, idProperty,
+						targetEntity.getPropertyAccessor(boundObject).getProperty(idProperty)))
+				.toList();
+			var statement = this.renderedStatementCache.getMatchOfMultipleInstancesOf(targetEntity);
+			Map<Value, Object> internalIds = fetchInternalIds(this.neo4jClient.query(statement.cypher())
+				.bind(ids)
+				.to(Constants.NAME_OF_IDS)
+				.bindAll(statement.parameters()),
+					TemplateSupport.rendererCanUseElementIdIfPresent(this.renderer, targetEntity));
+			markAsProcessed(relationshipContext, targetEntity, values, internalIds, result, stateMachine);
+		});
+		return result;
+	}
+
+	private List<Object> bind(NestedRelationshipContext relationshipContext, Neo4jPersistentEntity<?> targetEntity,
+			List<Object> relatedValuesToStore, Map<Object, BatchedRelatedNode> batchedRelatedNodes) {
+
+		List<Object> boundObjects = new ArrayList<>(relatedValuesToStore.size());
+		for (Object relatedValueToStore : relatedValuesToStore) {
+			Object relatedObjectBeforeCallbacksApplied = relationshipContext
+				.identifyAndExtractRelationshipTargetNode(relatedValueToStore);
+			boolean isNewEntity = targetEntity.isNew(relatedObjectBeforeCallbacksApplied);
+			Object boundObject = this.eventSupport.maybeCallBeforeBind(relatedObjectBeforeCallbacksApplied);
+			batchedRelatedNodes.put(relatedValueToStore, new BatchedRelatedNode(boundObject, isNewEntity, null));
+			boundObjects.add(boundObject);
+		}
+		return boundObjects;
+	}
+
+	private static boolean canBeLoadedInBatch(Neo4jPersistentEntity<?> targetEntity) {
+		Neo4jPersistentProperty idProperty = targetEntity.getIdProperty();
+		return !targetEntity.isUsingInternalIds() && idProperty != null && !idProperty.isComposite();
+	}
+
+	private static boolean canBeSavedInBatch(Neo4jPersistentEntity<?> targetEntity) {
+		return canBeLoadedInBatch(targetEntity) && !targetEntity.hasVersionProperty()
+				&& targetEntity.getDynamicLabelsProperty().isEmpty() && !targetEntity.hasVectorProperty();
+	}
+
+	private static Map<Value, Object> fetchInternalIds(Neo4jClient.RunnableSpec query, boolean canUseElementId) {
+		Map<Value, Object> internalIds = new HashMap<>();
+		query.fetchAs(Map.Entry.class)
+			.mappedBy((t, r) -> new AbstractMap.SimpleEntry<>(r.get(Constants.NAME_OF_ID),
+					r.get(Constants.NAME_OF_ELEMENT_ID)))
+			.all()
+			.forEach(entry -> internalIds.put((Value) entry.getKey(),
+					TemplateSupport.convertToInternalId((Value) entry.getValue(), canUseElementId)));
+		return internalIds;
+	}
+
+	private void markAsProcessed(NestedRelationshipContext relationshipContext, Neo4jPersistentEntity<?> targetEntity,
+			List<Object> relatedValuesToStore, Map<Value, Object> internalIds,
+			Map<Object, BatchedRelatedNode> batchedRelatedNodes,
+			NestedRelationshipProcessingStateMachine stateMachine) {
+
+		Neo4jPersistentProperty idProperty = targetEntity.getRequiredIdProperty();
+		for (Object relatedValueToStore : relatedValuesToStore) {
+			BatchedRelatedNode batchedRelatedNode = Objects
+				.requireNonNull(batchedRelatedNodes.get(relatedValueToStore));
+			Object id = targetEntity.getPropertyAccessor(batchedRelatedNode.boundObject()).getProperty(idProperty);
+			Object internalId = (id != null)
+					? internalIds.get((Value) TemplateSupport.convertIdValues(this.neo4jMappingContext, idProperty, id))
+					: null;
+			if (internalId == null) {
+				// Not found, the single statements will take care of it
+				continue;
+			}
+			batchedRelatedNodes.put(relatedValueToStore,
+					new BatchedRelatedNode(batchedRelatedNode.boundObject(), batchedRelatedNode.wasNew(), internalId));
+			evictFromCache(batchedRelatedNode.boundObject());
+			stateMachine.markEntityAsProcessed(relatedValueToStore, internalId);
+			if (relatedValueToStore instanceof MappingSupport.RelationshipPropertiesWithEntityHolder holder) {
+				stateMachine.markAsAliased(holder.getRelatedEntity(), internalId);
+			}
+			stateMachine.markAsAliased(
+					relationshipContext.identifyAndExtractRelationshipTargetNode(relatedValueToStore),
+					batchedRelatedNode.boundObject());
+		}
 	}
 
 	@Override
@@ -1311,6 +1995,7 @@ public final class Neo4jTemplate
 		this.elementIdOrIdFunction = SpringDataCypherDsl.elementIdOrIdFunction
 			.apply(cypherDslConfiguration.getDialect());
 		this.cypherGenerator.setElementIdOrIdFunction(this.elementIdOrIdFunction);
+		this.renderedStatementCache = new RenderedStatementCache(this.cypherGenerator, this.renderer);
 
 		if (this.transactionTemplate != null && this.transactionTemplateReadOnly != null) {
 			return;
@@ -1334,6 +2019,238 @@ public final class Neo4jTemplate
 	// only used for the CDI configuration
 	public void setCypherRenderer(Renderer rendererFromCdiConfiguration) {
 		this.renderer = rendererFromCdiConfiguration;
+		this.renderedStatementCache = new RenderedStatementCache(this.cypherGenerator, this.renderer);
+	}
+
+	/**
+	 * Returns the statistics of the cache for rendered save and delete statements of this
+	 * template.
+	 * @return a snapshot of the statistics
+	 * @since 8.2
+	 */
+	public RenderedStatementCache.Statistics getStatementCacheStatistics() {
+		return this.renderedStatementCache.getStatistics();
+	}
+
+	/**
+	 * Configures the default strategy for loading the related nodes of entities that
+	 * might contain cycles. Individual queries can override this via their
+	 * {@link QueryFragments}.
+	 * @param relatedNodesLoadingStrategy the new default strategy
+	 * @since 8.2
+	 */
+	public void setRelatedNodesLoadingStrategy(RelatedNodesLoadingStrategy relatedNodesLoadingStrategy) {
+		Assert.notNull(relatedNodesLoadingStrategy, "The loading strategy for related nodes must not be null");
+		this.relatedNodesLoadingStrategy = relatedNodesLoadingStrategy;
+	}
+
+	/**
+	 * Configures the maximum number of entities that are bound to a single statement when
+	 * saving collections of entities. Larger collections are saved with several
+	 * statements in the same transaction. The default is to save all entities of the same
+	 * type with one statement. The batch size can be changed for individual calls via
+	 * {@link FluentSaveOperation.ExecutableSave#inBatchesOf(int)}.
+	 * @param saveBatchSize the new default batch size, must be positive
+	 * @since 8.2
+	 */
+	public void setSaveBatchSize(int saveBatchSize) {
+		Assert.isTrue(saveBatchSize > 0, "The batch size must be greater than 0");
+		this.saveBatchSize = saveBatchSize;
+	}
+
+	/**
+	 * Enables or disables change tracking. With change tracking enabled, the state of all
+	 * entities loaded or saved within a transaction is recorded, and saving them again in
+	 * the same transaction writes only the properties that changed since. Relationships
+	 * without properties and with a static type are not recreated as a whole anymore,
+	 * only the relationships to targets that have been removed are deleted and only those
+	 * to targets that have been added are created. Change tracking requires an ongoing
+	 * transaction spanning both loading and saving, otherwise entities are written as a
+	 * whole. Changes made by other means than this template, such as custom queries, are
+	 * not taken into account. Deleting entities through this template discards all
+	 * recorded state of the ongoing transaction.
+	 * @param changeTrackingEnabled {@literal true} to enable change tracking
+	 * @since 8.2
+	 */
+	public void setChangeTrackingEnabled(boolean changeTrackingEnabled) {
+		this.changeTrackingEnabled = changeTrackingEnabled;
+	}
+
+	/**
+	 * Enables or disables pipelining of statements without results. With pipelining
+	 * enabled, statements that neither return values nor have their summaries inspected,
+	 * such as the removal of stale relationships and the creation of relationships while
+	 * saving entities, are deferred within a managed transaction. They are sent back to
+	 * back before the next statement of the same client or before the transaction
+	 * commits, consecutive statements creating relationships without properties of the
+	 * same type are coalesced into one. Only statements generated by the template are
+	 * deferred, and only if the template uses the default {@link Neo4jClient}. Errors of
+	 * deferred statements surface when they are executed and fail the transaction.
+	 * Statements run directly through the driver don't see deferred changes.
+	 * @param pipeliningEnabled {@literal true} to enable pipelining
+	 * @since 8.2
+	 */
+	public void setPipeliningEnabled(boolean pipeliningEnabled) {
+		this.pipeliningEnabled = pipeliningEnabled;
+	}
+
+	/**
+	 * Configures a second-level cache for entities marked with {@link CacheableNode}.
+	 * {@link #findById(Object, Class)} and {@link #findAllById(Iterable, Class)} answer
+	 * lookups of those entities from the cache and add the instances they load. Saving
+	 * and deleting entities through this template evicts them, loading an entity whose
+	 * version differs from the cached one evicts the cached one. Changes made by other
+	 * means than this template, such as custom queries, are not taken into account.
+	 * Cached instances are shared between all callers and should not be modified. No
+	 * cache is configured by default.
+	 * @param entityCache the cache to use, {@literal null} to disable caching
+	 * @since 8.2
+	 */
+	public void setEntityCache(@Nullable EntityCache entityCache) {
+		this.entityCache = (entityCache != null) ? new EntityCacheSupport(entityCache, this.neo4jMappingContext)
+				: null;
+	}
+
+	/**
+	 * Enables or disables the identity map of Neo4j transactions. With the identity map
+	 * enabled, the instances of entities loaded by {@link #findById(Object, Class)} and
+	 * {@link #findAllById(Iterable, Class)} within a transaction are registered with that
+	 * transaction. Both methods answer lookups of registered entities without querying
+	 * the database. Other queries neither register nor return registered instances, as
+	 * they might load entities only partially. Saving or deleting entities through this
+	 * template removes them, so that they are loaded again on the next lookup. The identity map requires
+	 * an ongoing transaction of a {@link Neo4jTransactionManager} or a transaction that
+	 * has been synchronized with one and is discarded when the transaction completes.
+	 * Changes made by other means than this template, such as custom queries, are not
+	 * taken into account.
+	 * @param identityMapEnabled {@literal true} to enable the identity map
+	 * @since 8.2
+	 */
+	public void setIdentityMapEnabled(boolean identityMapEnabled) {
+		this.identityMap = identityMapEnabled ? new EntityIdentityMapSupport(this.neo4jMappingContext) : null;
+	}
+
+	/**
+	 * Returns the statistics of the configured entity cache.
+	 * @return a snapshot of the statistics, empty if no cache is configured
+	 * @since 8.2
+	 */
+	public Optional<EntityCache.Statistics> getEntityCacheStatistics() {
+		return Optional.ofNullable(this.entityCache).map(cache -> cache.getEntityCache().getStatistics());
+	}
+
+	/**
+	 * Retrieves the snapshots of the ongoing transaction, creating and registering them
+	 * if necessary.
+	 * @return the snapshots of the ongoing transaction or {@literal null} if change
+	 * tracking is disabled or there is no transaction
+	 */
+	@Nullable private EntitySnapshots currentSnapshots() {
+
+		if (!this.changeTrackingEnabled || !TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+
+		EntitySnapshots snapshots = (EntitySnapshots) TransactionSynchronizationManager.getResource(this);
+		if (snapshots == null) {
+			EntitySnapshots newSnapshots = new EntitySnapshots(this.neo4jMappingContext);
+			TransactionSynchronizationManager.bindResource(this, newSnapshots);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void suspend() {
+					TransactionSynchronizationManager.unbindResourceIfPossible(Neo4jTemplate.this);
+				}
+
+				@Override
+				public void resume() {
+					TransactionSynchronizationManager.bindResource(Neo4jTemplate.this, newSnapshots);
+				}
+
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(Neo4jTemplate.this);
+				}
+			});
+			snapshots = newSnapshots;
+		}
+		return snapshots;
+	}
+
+	private <T> T takeSnapshots(T value) {
+		EntitySnapshots snapshots = currentSnapshots();
+		if (snapshots != null) {
+			snapshots.take(value);
+		}
+		return value;
+	}
+
+	/**
+	 * Records the state of a loaded instance and evicts cached instances of the same
+	 * entity with another version. Loaded instances are not registered in the identity
+	 * map here, as custom queries, projections and depth-limited loads might yield
+	 * partially populated instances; only {@link #findById(Object, Class)} and
+	 * {@link #findAllById(Iterable, Class)} register the instances they load.
+	 * @param value the loaded instance
+	 * @param <T> the type of the instance
+	 * @return the loaded instance
+	 */
+	private <T> T afterLoad(T value) {
+		if (this.entityCache != null) {
+			this.entityCache.evictIfStale(value);
+		}
+		return takeSnapshots(value);
+	}
+
+	private void evictFromCache(Object entity) {
+		if (this.entityCache != null) {
+			this.entityCache.evict(entity);
+		}
+		EntityIdentityMap currentIdentityMap = currentIdentityMap();
+		if (this.identityMap != null && currentIdentityMap != null) {
+			this.identityMap.remove(currentIdentityMap, entity);
+		}
+	}
+
+	/**
+	 * Retrieves the identity map of the ongoing transaction.
+	 * @return the identity map of the ongoing transaction or {@literal null} if the
+	 * identity map is disabled or there is no transaction
+	 */
+	@Nullable private EntityIdentityMap currentIdentityMap() {
+		return (this.identityMap != null) ? Neo4jTransactionManager.retrieveIdentityMap() : null;
+	}
+
+	@Nullable private <T> T getFromIdentityMap(Class<T> domainType, Object id) {
+		EntityIdentityMap currentIdentityMap = currentIdentityMap();
+		return (this.identityMap != null && currentIdentityMap != null)
+				? this.identityMap.get(currentIdentityMap, domainType, id) : null;
+	}
+
+	private <T> T registerInIdentityMap(T entity) {
+		EntityIdentityMap currentIdentityMap = currentIdentityMap();
+		return (this.identityMap != null && currentIdentityMap != null)
+				? this.identityMap.register(currentIdentityMap, entity) : entity;
+	}
+
+	private void removeFromIdentityMap(Class<?> domainType, Iterable<?> ids) {
+		EntityIdentityMap currentIdentityMap = currentIdentityMap();
+		if (this.identityMap != null && currentIdentityMap != null) {
+			for (Object id : ids) {
+				this.identityMap.removeById(currentIdentityMap, domainType, id);
+			}
+		}
+	}
+
+	private void discardSnapshots() {
+		EntitySnapshots snapshots = currentSnapshots();
+		if (snapshots != null) {
+			snapshots.clear();
+		}
+	}
+
+	private RelatedNodesLoadingStrategy getRelatedNodesLoadingStrategy(QueryFragments queryFragments) {
+		RelatedNodesLoadingStrategy strategy = queryFragments.getRelatedNodesLoadingStrategy();
+		return (strategy != null) ? strategy : this.relatedNodesLoadingStrategy;
 	}
 
 	public void setTransactionManager(@Nullable PlatformTransactionManager transactionManager) {
@@ -1342,6 +2259,8 @@ public final class Neo4jTemplate
 		}
 		this.transactionTemplate = new TransactionTemplate(transactionManager);
 		this.transactionTemplateReadOnly = new TransactionTemplate(transactionManager, readOnlyTransactionDefinition);
+		this.transactionTemplateRequiresNew = new TransactionTemplate(transactionManager,
+				requiresNewTransactionDefinition);
 	}
 
 	@Override
@@ -1378,7 +2297,8 @@ public final class Neo4jTemplate
 		return new FluentOperationSupport(this).save(domainType);
 	}
 
-	<T, R> List<R> doSave(Iterable<R> instances, Class<T> domainType) {
+	<T, R> List<R> doSave(Iterable<R> instances, Class<T> domainType, @Nullable Integer batchSize,
+			boolean transactionPerBatch) {
 		if (!instances.iterator().hasNext()) {
 			return Collections.emptyList();
 		}
@@ -1387,29 +2307,44 @@ public final class Neo4jTemplate
 				() -> "Could not find a common type element to store and then project multiple instances of type %s"
 					.formatted(domainType));
 
-		return execute(tx -> {
-			Collection<PropertyFilter.ProjectedPath> pps = PropertyFilterSupport.addPropertiesFrom(domainType,
-					resultType, getProjectionFactory(), this.neo4jMappingContext);
-
-			NestedRelationshipProcessingStateMachine stateMachine = new NestedRelationshipProcessingStateMachine(
-					this.neo4jMappingContext);
-			List<R> results = new ArrayList<>();
-			EntityFromDtoInstantiatingConverter<T> converter = new EntityFromDtoInstantiatingConverter<>(domainType,
-					this.neo4jMappingContext);
-			for (R instance : instances) {
+		int batchSizeToUse = (batchSize != null) ? batchSize : this.saveBatchSize;
+		Collection<PropertyFilter.ProjectedPath> pps = PropertyFilterSupport.addPropertiesFrom(domainType, resultType,
+				getProjectionFactory(), this.neo4jMappingContext);
+		EntityFromDtoInstantiatingConverter<T> converter = new EntityFromDtoInstantiatingConverter<>(domainType,
+				this.neo4jMappingContext);
+		DtoInstantiatingConverter resultConverter = new DtoInstantiatingConverter(resultType, this.neo4jMappingContext);
+		Function<List<R>, List<R>> saveBatch = batch -> {
+			List<T> domainObjects = new ArrayList<>(batch.size());
+			for (R instance : batch) {
 				T domainObject = converter.convert(instance);
-				if (domainObject == null) {
-					continue;
+				if (domainObject != null) {
+					domainObjects.add(domainObject);
 				}
-				T savedEntity = saveImpl(domainObject, pps, stateMachine);
-
+			}
+			// Single instances don't benefit from the batch statements
+			List<T> savedEntities = (domainObjects.size() == 1)
+					? List.of(saveImpl(domainObjects.get(0), pps, null))
+					: saveAllImpl(domainObjects, pps, null, batchSizeToUse);
+			List<R> results = new ArrayList<>(savedEntities.size());
+			for (T savedEntity : savedEntities) {
 				@SuppressWarnings("unchecked")
-				R convertedBack = (R) new DtoInstantiatingConverter(resultType, this.neo4jMappingContext)
-					.convertDirectly(savedEntity);
+				R convertedBack = (R) resultConverter.convertDirectly(savedEntity);
 				results.add(convertedBack);
 			}
 			return results;
-		});
+		};
+
+		List<R> allInstances = new ArrayList<>();
+		instances.forEach(allInstances::add);
+		if (!transactionPerBatch) {
+			return execute(tx -> saveBatch.apply(allInstances));
+		}
+
+		List<R> results = new ArrayList<>(allInstances.size());
+		for (List<R> batch : TemplateSupport.inBatchesOf(allInstances, batchSizeToUse)) {
+			results.addAll(executeInNewTransaction(tx -> saveBatch.apply(batch)));
+		}
+		return results;
 	}
 
 	String render(Statement statement) {
@@ -1435,13 +2370,12 @@ public final class Neo4jTemplate
 			return this.txTemplate.execute(tx -> {
 				Collection<T> all = createFetchSpec().map(Neo4jClient.RecordFetchSpec::all)
 					.orElse(Collections.emptyList());
-				if (this.preparedQuery.resultsHaveBeenAggregated()) {
-					return all.stream()
-						.flatMap(nested -> ((Collection<T>) nested).stream())
-						.distinct()
-						.collect(Collectors.toList());
-				}
-				return new ArrayList<>(all);
+				List<T> results = this.preparedQuery.resultsHaveBeenAggregated() ? all.stream()
+					.flatMap(nested -> ((Collection<T>) nested).stream())
+					.distinct()
+					.collect(Collectors.toCollection(ArrayList::new)) : new ArrayList<>(all);
+				results.replaceAll(Neo4jTemplate.this::afterLoad);
+				return results;
 			});
 		}
 
@@ -1452,9 +2386,9 @@ public final class Neo4jTemplate
 				try {
 					Optional<T> one = createFetchSpec().flatMap(Neo4jClient.RecordFetchSpec::one);
 					if (this.preparedQuery.resultsHaveBeenAggregated()) {
-						return one.map(aggregatedResults -> ((LinkedHashSet<T>) aggregatedResults).iterator().next());
+						one = one.map(aggregatedResults -> ((LinkedHashSet<T>) aggregatedResults).iterator().next());
 					}
-					return one;
+					return one.map(Neo4jTemplate.this::afterLoad);
 				}
 				catch (NoSuchRecordException ex) {
 					// This exception is thrown by the driver in both cases when there are
@@ -1474,12 +2408,56 @@ public final class Neo4jTemplate
 				if (this.preparedQuery.resultsHaveBeenAggregated()) {
 					one = one.map(aggregatedResults -> ((LinkedHashSet<T>) aggregatedResults).iterator().next());
 				}
-				return one.orElseThrow(() -> new NoResultException(1,
-						this.preparedQuery.getQueryFragmentsAndParameters().getCypherQuery()));
+				return afterLoad(one.orElseThrow(() -> new NoResultException(1,
+						this.preparedQuery.getQueryFragmentsAndParameters().getCypherQuery())));
 			});
 		}
 
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public Stream<T> getResultStream() {
+			QueryFragmentsAndParameters queryFragmentsAndParameters = this.preparedQuery
+				.getQueryFragmentsAndParameters();
+			Neo4jPersistentEntity<?> entityMetaData = (Neo4jPersistentEntity<?>) queryFragmentsAndParameters
+				.getNodeDescription();
+			QueryFragments queryFragments = queryFragmentsAndParameters.getQueryFragments();
+
+			// Entities with possible cycles are loaded in several steps and aggregated
+			// afterward, those can't be streamed
+			if (entityMetaData != null && entityMetaData.containsPossibleCircles(queryFragments.getIncludeField())) {
+				return getResults().stream();
+			}
+
+			Optional<BiFunction<TypeSystem, Record, Collection<T>>> streamingMappingFunction = this.preparedQuery
+				.getOptionalStreamingMappingFunction();
+			Optional<Neo4jClient.RunnableSpec> runnableSpec = createRunnableSpec();
+			if (runnableSpec.isEmpty()) {
+				return Stream.empty();
+			}
+			if (streamingMappingFunction.isEmpty()) {
+				return runnableSpec.get()
+					.fetchAs(this.preparedQuery.getResultType())
+					.stream()
+					.map(Neo4jTemplate.this::afterLoad);
+			}
+			Stream<Collection<T>> mappedRecords = runnableSpec.get()
+				.fetchAs((Class<Collection<T>>) (Class) Collection.class)
+				.mappedBy(streamingMappingFunction.get())
+				.stream();
+			return mappedRecords.flatMap(Collection::stream).map(Neo4jTemplate.this::afterLoad);
+		}
+
 		private Optional<Neo4jClient.RecordFetchSpec<T>> createFetchSpec() {
+			return createRunnableSpec().map(runnableSpec -> {
+				Neo4jClient.MappingSpec<T> newMappingSpec = runnableSpec.fetchAs(this.preparedQuery.getResultType());
+				return this.preparedQuery
+					.getOptionalMappingFunction().<Neo4jClient
+							.RecordFetchSpec<T>>map(newMappingSpec::mappedBy)
+					.orElse(newMappingSpec);
+			});
+		}
+
+		private Optional<Neo4jClient.RunnableSpec> createRunnableSpec() {
 			QueryFragmentsAndParameters queryFragmentsAndParameters = this.preparedQuery
 				.getQueryFragmentsAndParameters();
 			String cypherQuery = queryFragmentsAndParameters.getCypherQuery();
@@ -1490,7 +2468,7 @@ public final class Neo4jTemplate
 				.getNodeDescription();
 
 			boolean containsPossibleCircles = entityMetaData != null
-					&& entityMetaData.containsPossibleCircles(queryFragments::includeField);
+					&& entityMetaData.containsPossibleCircles(queryFragments.getIncludeField());
 			if (cypherQuery == null || containsPossibleCircles) {
 				Statement statement;
 				// The null check for the metadata is superfluous, but the easiest way to
@@ -1511,19 +2489,38 @@ public final class Neo4jTemplate
 				finalParameters = TemplateSupport.mergeParameters(statement, finalParameters);
 			}
 
-			Neo4jClient.MappingSpec<T> newMappingSpec = Neo4jTemplate.this.neo4jClient
+			return Optional.of(Neo4jTemplate.this.neo4jClient
 				.query(Objects.requireNonNull(cypherQuery, "Could not compute a query"))
-				.bindAll(finalParameters)
-				.fetchAs(this.preparedQuery.getResultType());
-			return this.preparedQuery.getOptionalMappingFunction()
-				.map(newMappingSpec::mappedBy)
-				.or(() -> Optional.of(newMappingSpec));
+				.bindAll(finalParameters));
 		}
 
 		private NodesAndRelationshipsByIdStatementProvider createNodesAndRelationshipsByIdStatementProvider(
 				Neo4jPersistentEntity<?> entityMetaData, QueryFragments queryFragments,
 				Map<String, Object> parameters) {
 
+			if (getRelatedNodesLoadingStrategy(queryFragments) == RelatedNodesLoadingStrategy.PER_LEVEL) {
+				RelatedNodesPerLevel relatedNodes = new RelatedNodesPerLevel(Neo4jTemplate.this.cypherGenerator,
+						Neo4jTemplate.this.elementIdOrIdFunction, queryFragments, this.preparedQuery.getResultType());
+				// only the root nodes of the requested page are expanded
+				Statement rootNodeIdsStatement = relatedNodes.toRootNodeIdsStatement(entityMetaData);
+				Set<String> rootNodeIds = RelatedNodesPerLevel.rootNodeIds(Neo4jTemplate.this.neo4jClient
+					.query(Neo4jTemplate.this.renderer.render(rootNodeIdsStatement))
+					.bindAll(TemplateSupport.mergeParameters(rootNodeIdsStatement, parameters))
+					.fetch()
+					.all());
+				List<RelatedNodesPerLevel.Expansion> level = relatedNodes.firstLevel(entityMetaData, rootNodeIds);
+				while (!level.isEmpty()) {
+					Statement statement = relatedNodes.toStatement(level);
+					Collection<Map<String, Object>> rows = Neo4jTemplate.this.neo4jClient
+						.query(Neo4jTemplate.this.renderer.render(statement))
+						.bindAll(TemplateSupport.mergeParameters(statement, parameters))
+						.fetch()
+						.all();
+					level = relatedNodes.nextLevel(level, rows);
+				}
+				return relatedNodes.toStatementProvider(rootNodeIds);
+			}
+
 			// first check if the root node(s) exist(s) at all
 			Statement rootNodesStatement = Neo4jTemplate.this.cypherGenerator
 				.prepareMatchOf(entityMetaData, queryFragments.getMatchOn(), queryFragments.getCondition())
@@ -1546,11 +2543,12 @@ public final class Neo4jTemplate
 				// fast return if no matching root node(s) are found
 				return NodesAndRelationshipsByIdStatementProvider.EMPTY;
 			}
+
 			// load first level relationships
 			final Map<String, Set<String>> relationshipsToRelatedNodeIds = new HashMap<>();
 
 			for (RelationshipDescription relationshipDescription : entityMetaData
-				.getRelationshipsInHierarchy(queryFragments::includeField)) {
+				.getRelationshipsInHierarchy(queryFragments.getIncludeField())) {
 
 				Statement statement = Neo4jTemplate.this.cypherGenerator
 					.prepareMatchOf(entityMetaData, relationshipDescription, queryFragments.getMatchOn(),
@@ -1596,16 +2594,10 @@ public final class Neo4jTemplate
 				nextPathStep = currentPathStep.with(fieldName);
 			}
 
-			Collection<RelationshipDescription> relationships = target
-				.getRelationshipsInHierarchy(relaxedPropertyPath -> {
-
-					PropertyFilter.RelaxedPropertyPath prepend = relaxedPropertyPath.prepend(nextPathStep.path);
-					prepend = PropertyFilter.RelaxedPropertyPath.withRootType(this.preparedQuery.getResultType())
-						.append(prepend.toDotPath());
-					return this.preparedQuery.getQueryFragmentsAndParameters()
-						.getQueryFragments()
-						.includeField(prepend);
-				});
+			Collection<RelationshipDescription> relationships = target.getRelationshipsInHierarchy(
+					this.preparedQuery.getQueryFragmentsAndParameters().getQueryFragments().getIncludeField(),
+					PropertyFilter.RelaxedPropertyPath.withRootType(this.preparedQuery.getResultType())
+						.append(nextPathStep.path));
 
 			for (RelationshipDescription relationshipDescription : relationships) {
 
@@ -1672,4 +2664,32 @@ public final class Neo4jTemplate
 
 	}
 
+	/**
+	 * The target of a relationship that has been handled by
+	 * {@link #saveOrLoadRelatedNodesInBatches}.
+	 *
+	 * @param boundObject the target after the before bind callbacks have been applied
+	 * @param wasNew flag if the target was new before it has been saved
+	 * @param internalId the internal or element id of the target, {@literal null} if the
+	 * target must be saved or loaded with a single statement
+	 */
+	private record BatchedRelatedNode(Object boundObject, boolean wasNew, @Nullable Object internalId) {
+	}
+
+	/**
+	 * The root of a batched save, waiting for its relationships to be processed.
+	 *
+	 * @param originalInstance the instance as passed to the template
+	 * @param wasNew flag if the instance was new before it has been saved
+	 * @param propertyAccessor the accessor of the saved instance
+	 * @param elementId the element id of the saved node
+	 * @param entityMetaData the entity of the instance
+	 * @param includePropertyPredicate the filter for relationships
+	 * @param <T> the type of the instance
+	 */
+	private record BatchedInstance<T>(T originalInstance, boolean wasNew,
+			PersistentPropertyAccessor<T> propertyAccessor, String elementId, Neo4jPersistentEntity<?> entityMetaData,
+			PropertyFilter includePropertyPredicate) {
+	}
+
 }
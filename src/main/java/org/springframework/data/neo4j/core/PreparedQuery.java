@@ -95,6 +95,25 @@ public final class PreparedQuery<T> {
 		return this.lastMappingFunction;
 	}
 
+	/**
+	 * Creates a mapping function suitable for streaming the results of this query. Each
+	 * record is mapped with a new instance of the mapping function, so that no state is
+	 * retained between records, and each record is mapped into a collection that contains
+	 * either the single mapped entity or all aggregated entities of the record.
+	 * @return an optional mapping function for streaming results
+	 */
+	@SuppressWarnings("unchecked")
+	Optional<BiFunction<TypeSystem, Record, Collection<T>>> getOptionalStreamingMappingFunction() {
+		return Optional.ofNullable(this.mappingFunctionSupplier).map(supplier -> (typeSystem, record) -> {
+			AggregatingMappingFunction mappingFunction = new AggregatingMappingFunction(supplier.get());
+			Object result = mappingFunction.apply(typeSystem, record);
+			if (result == null) {
+				return List.of();
+			}
+			return mappingFunction.hasAggregated() ? (Collection<T>) result : List.of((T) result);
+		});
+	}
+
 	synchronized boolean resultsHaveBeenAggregated() {
 		return this.lastMappingFunction.filter(AggregatingMappingFunction.class::isInstance)
 			.map(AggregatingMappingFunction.class::cast)
@@ -113,9 +113,8 @@ public final class PropertyFilterSupport {
 		}
 		Collection<PropertyFilter.RelaxedPropertyPath> relaxedPropertyPathFilter = createRelaxedPropertyPathFilter(
 				domainType, mappingContext, new HashSet<RelationshipDescription>());
-		return (rpp) -> {
-			return relaxedPropertyPathFilter.contains(rpp);
-		};
+		Set<PropertyFilter.RelaxedPropertyPath> includedPaths = Set.copyOf(relaxedPropertyPathFilter);
+		return PropertyFilter.withKey(includedPaths, includedPaths::contains);
 	}
 
 	private static Collection<PropertyFilter.RelaxedPropertyPath> createRelaxedPropertyPathFilter(Class<?> domainType,
@@ -127,7 +126,8 @@ public final class PropertyFilterSupport {
 		domainEntity.getGraphProperties().stream().forEach(property -> {
 			relaxedPropertyPaths.add(relaxedPropertyPath.append(property.getFieldName()));
 		});
-		for (RelationshipDescription relationshipDescription : domainEntity.getRelationshipsInHierarchy(any -> true)) {
+		for (RelationshipDescription relationshipDescription : domainEntity
+			.getRelationshipsInHierarchy(PropertyFilter.NO_FILTER)) {
 			var target = relationshipDescription.getTarget();
 			PropertyFilter.RelaxedPropertyPath relationshipPath = relaxedPropertyPath
 				.append(relationshipDescription.getFieldName());
@@ -155,7 +155,7 @@ public final class PropertyFilterSupport {
 			relaxedPropertyPaths.add(relaxedPropertyPath.append(property.getFieldName()));
 		});
 		for (RelationshipDescription relationshipDescription : nodeDescription
-			.getRelationshipsInHierarchy(any -> true)) {
+			.getRelationshipsInHierarchy(PropertyFilter.NO_FILTER)) {
 			if (processedRelationships.contains(relationshipDescription)) {
 				continue;
 			}
@@ -179,7 +179,8 @@ public final class PropertyFilterSupport {
 			filteredProperties
 				.add(new PropertyFilter.ProjectedPath(relaxedPropertyPath.append(property.getFieldName()), false));
 		});
-		for (RelationshipDescription relationshipDescription : domainEntity.getRelationshipsInHierarchy(any -> true)) {
+		for (RelationshipDescription relationshipDescription : domainEntity
+			.getRelationshipsInHierarchy(PropertyFilter.NO_FILTER)) {
 			var target = relationshipDescription.getTarget();
 			filteredProperties.addAll(createListForAggregate(domainType, target,
 					relaxedPropertyPath.append(relationshipDescription.getFieldName())));
@@ -204,7 +205,7 @@ public final class PropertyFilterSupport {
 				.add(new PropertyFilter.ProjectedPath(relaxedPropertyPath.append(property.getFieldName()), false));
 		});
 		for (RelationshipDescription relationshipDescription : nodeDescription
-			.getRelationshipsInHierarchy(any -> true)) {
+			.getRelationshipsInHierarchy(PropertyFilter.NO_FILTER)) {
 			var target = relationshipDescription.getTarget();
 			filteredProperties.addAll(createListForAggregate(domainType, target,
 					relaxedPropertyPath.append(relationshipDescription.getFieldName())));
@@ -218,7 +219,8 @@ public final class PropertyFilterSupport {
 		if (AGGREGATE_BOUNDARIES.hasEntry(domainEntity, domainType)) {
 			return AGGREGATE_BOUNDARIES.getCachedStatus(domainEntity, domainType);
 		}
-		for (RelationshipDescription relationshipDescription : domainEntity.getRelationshipsInHierarchy(any -> true)) {
+		for (RelationshipDescription relationshipDescription : domainEntity
+			.getRelationshipsInHierarchy(PropertyFilter.NO_FILTER)) {
 			var target = relationshipDescription.getTarget();
 			if (target.hasAggregateBoundaries(domainType)) {
 				AGGREGATE_BOUNDARIES.add(domainEntity, domainType, true);
@@ -236,7 +238,7 @@ public final class PropertyFilterSupport {
 	private static boolean containsAggregateBoundary(Class<?> domainType, NodeDescription<?> nodeDescription,
 			Set<RelationshipDescription> processedRelationships) {
 		for (RelationshipDescription relationshipDescription : nodeDescription
-			.getRelationshipsInHierarchy(any -> true)) {
+			.getRelationshipsInHierarchy(PropertyFilter.NO_FILTER)) {
 			var target = relationshipDescription.getTarget();
 			Class<?> underlyingClass = nodeDescription.getUnderlyingClass();
 			if (processedRelationships.contains(relationshipDescription)) {
@@ -148,9 +148,35 @@ final class ReactiveFluentOperationSupport implements ReactiveFluentFindOperatio
 
 		private final Class<DT> domainType;
 
+		@Nullable
+		private final Integer batchSize;
+
+		private final boolean transactionPerBatch;
+
 		ExecutableSaveSupport(ReactiveNeo4jTemplate template, Class<DT> domainType) {
+			this(template, domainType, null, false);
+		}
+
+		ExecutableSaveSupport(ReactiveNeo4jTemplate template, Class<DT> domainType, @Nullable Integer batchSize,
+				boolean transactionPerBatch) {
 			this.template = template;
 			this.domainType = domainType;
+			this.batchSize = batchSize;
+			this.transactionPerBatch = transactionPerBatch;
+		}
+
+		@Override
+		public ExecutableSave<DT> inBatchesOf(int batchSize) {
+
+			Assert.isTrue(batchSize > 0, "The batch size must be greater than 0");
+			return new ExecutableSaveSupport<>(this.template, this.domainType, batchSize, false);
+		}
+
+		@Override
+		public ExecutableSave<DT> inTransactionsOf(int batchSize) {
+
+			Assert.isTrue(batchSize > 0, "The batch size must be greater than 0");
+			return new ExecutableSaveSupport<>(this.template, this.domainType, batchSize, true);
 		}
 
 		@Override
@@ -166,7 +192,7 @@ final class ReactiveFluentOperationSupport implements ReactiveFluentFindOperatio
 		}
 
 		private <T> Flux<T> doSave(Iterable<T> instances) {
-			return this.template.doSave(instances, this.domainType);
+			return this.template.doSave(instances, this.domainType, this.batchSize, this.transactionPerBatch);
 		}
 
 	}
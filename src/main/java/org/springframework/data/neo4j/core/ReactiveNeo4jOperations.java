@@ -261,6 +261,42 @@ public interface ReactiveNeo4jOperations {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Inserts several new instances of entities in bulk, creating their nodes without
+	 * checking whether they exist already, which is considerably faster than
+	 * {@link #saveAll(Iterable)} for initial loads. Instances of the same class are
+	 * created with one statement per batch. Afterward, their relationships are created,
+	 * looking up the related nodes by their ids. Related nodes are neither created nor
+	 * updated: They must either exist or be part of the same insert, otherwise the insert
+	 * fails with an {@link org.springframework.dao.InvalidDataAccessApiUsageException}.
+	 * <p>
+	 * Only entities with assigned or generated external ids are supported. Inserting
+	 * instances that already exist creates duplicates unless there is a uniqueness
+	 * constraint on the id property. Ids of relationships with properties are not
+	 * populated.
+	 * @param instances the new instances to insert. Must not be {@code null}.
+	 * @param options the options for the insert
+	 * @param <T> the type of the entities.
+	 * @return the inserted instances.
+	 * @since 8.2
+	 */
+	default <T> Flux<T> insertAll(Iterable<T> instances, BulkInsertOptions options) {
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Inserts several new instances of entities in bulk with the
+	 * {@link BulkInsertOptions#defaults() default options}.
+	 * @param instances the new instances to insert. Must not be {@code null}.
+	 * @param <T> the type of the entities.
+	 * @return the inserted instances.
+	 * @since 8.2
+	 * @see #insertAll(Iterable, BulkInsertOptions)
+	 */
+	default <T> Flux<T> insertAll(Iterable<T> instances) {
+		return insertAll(instances, BulkInsertOptions.defaults());
+	}
+
 	/**
 	 * Deletes a single entity including all entities related to that entity.
 	 * @param id the id of the entity to be deleted. Must not be {@code null}.
@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -32,7 +33,7 @@ import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.commons.logging.LogFactory;
 import org.apiguardian.api.API;
@@ -47,6 +48,7 @@ import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.cypherdsl.core.renderer.Configuration;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
 import org.neo4j.driver.Value;
+import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.types.Entity;
 import org.neo4j.driver.types.MapAccessor;
 import org.neo4j.driver.types.TypeSystem;
@@ -54,7 +56,6 @@ import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
-import reactor.util.function.Tuple3;
 import reactor.util.function.Tuples;
 
 import org.springframework.beans.BeansException;
@@ -91,15 +92,20 @@ import org.springframework.data.neo4j.core.mapping.PropertyFilter;
 import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
 import org.springframework.data.neo4j.core.mapping.SpringDataCypherDsl;
 import org.springframework.data.neo4j.core.mapping.callback.ReactiveEventSupport;
+import org.springframework.data.neo4j.core.schema.CacheableNode;
 import org.springframework.data.neo4j.core.schema.TargetNode;
+import org.springframework.data.neo4j.core.transaction.EntityIdentityMap;
 import org.springframework.data.neo4j.core.transaction.ReactiveNeo4jTransactionManager;
 import org.springframework.data.neo4j.repository.query.QueryFragments;
 import org.springframework.data.neo4j.repository.query.QueryFragmentsAndParameters;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.ProjectionInformation;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.NoTransactionException;
 import org.springframework.transaction.ReactiveTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
 import org.springframework.transaction.reactive.TransactionalOperator;
 import org.springframework.util.Assert;
 
@@ -134,6 +140,13 @@ public final class ReactiveNeo4jTemplate
 		}
 	};
 
+	private static final TransactionDefinition requiresNewTransactionDefinition = new TransactionDefinition() {
+		@Override
+		public int getPropagationBehavior() {
+			return PROPAGATION_REQUIRES_NEW;
+		}
+	};
+
 	private final ReactiveNeo4jClient neo4jClient;
 
 	private final Neo4jMappingContext neo4jMappingContext;
@@ -146,6 +159,9 @@ public final class ReactiveNeo4jTemplate
 	@Nullable
 	private TransactionalOperator transactionalOperator;
 
+	@Nullable
+	private TransactionalOperator transactionalOperatorRequiresNew;
+
 	@Nullable
 	private ClassLoader beanClassLoader;
 
@@ -156,6 +172,20 @@ public final class ReactiveNeo4jTemplate
 
 	private Renderer renderer;
 
+	private RenderedStatementCache renderedStatementCache;
+
+	private RelatedNodesLoadingStrategy relatedNodesLoadingStrategy = RelatedNodesLoadingStrategy.PER_RELATIONSHIP;
+
+	private int saveBatchSize = Integer.MAX_VALUE;
+
+	private boolean changeTrackingEnabled = false;
+
+	@Nullable
+	private EntityCacheSupport entityCache;
+
+	@Nullable
+	private EntityIdentityMapSupport identityMap;
+
 	private Function<Named, FunctionInvocation> elementIdOrIdFunction;
 
 	public ReactiveNeo4jTemplate(ReactiveNeo4jClient neo4jClient, Neo4jMappingContext neo4jMappingContext) {
@@ -174,6 +204,7 @@ public final class ReactiveNeo4jTemplate
 		this.eventSupport = ReactiveEventSupport.useExistingCallbacks(neo4jMappingContext,
 				ReactiveEntityCallbacks.create());
 		this.renderer = Renderer.getDefaultRenderer();
+		this.renderedStatementCache = new RenderedStatementCache(this.cypherGenerator, this.renderer);
 		this.elementIdOrIdFunction = SpringDataCypherDsl.elementIdOrIdFunction.apply(null);
 		setTransactionManager(transactionManager);
 	}
@@ -234,6 +265,10 @@ public final class ReactiveNeo4jTemplate
 		return Objects.requireNonNull(this.transactionalOperator).transactional(action);
 	}
 
+	private <T> Flux<T> executeInNewTransaction(Flux<T> action) {
+		return Objects.requireNonNull(this.transactionalOperatorRequiresNew).transactional(action);
+	}
+
 	@Override
 	public <T> Flux<T> findAll(Class<T> domainType) {
 
@@ -346,12 +381,34 @@ public final class ReactiveNeo4jTemplate
 
 		Neo4jPersistentEntity<?> entityMetaData = this.neo4jMappingContext.getRequiredPersistentEntity(domainType);
 
-		return executeReadOnly(createExecutableQuery(domainType, null,
-				QueryFragmentsAndParameters.forFindById(entityMetaData,
-						TemplateSupport.convertIdValues(this.neo4jMappingContext,
-								entityMetaData.getRequiredIdProperty(), id),
-						this.neo4jMappingContext))
-			.flatMap(ExecutableQuery::getSingleResult));
+		return Mono.defer(() -> currentIdentityMap().flatMap(optionalIdentityMap -> {
+			EntityIdentityMapSupport currentIdentityMapSupport = this.identityMap;
+			EntityIdentityMap currentIdentityMap = optionalIdentityMap.orElse(null);
+			if (currentIdentityMapSupport != null && currentIdentityMap != null) {
+				T registeredEntity = currentIdentityMapSupport.get(currentIdentityMap, domainType, id);
+				if (registeredEntity != null) {
+					return Mono.just(registeredEntity);
+				}
+			}
+
+			EntityCacheSupport currentEntityCache = this.entityCache;
+			T cachedEntity = (currentEntityCache != null) ? currentEntityCache.get(domainType, id) : null;
+			if (cachedEntity != null) {
+				return Mono.just((currentIdentityMapSupport != null && currentIdentityMap != null)
+						? currentIdentityMapSupport.register(currentIdentityMap, cachedEntity) : cachedEntity);
+			}
+
+			Mono<T> result = executeReadOnly(createExecutableQuery(domainType, null,
+					QueryFragmentsAndParameters.forFindById(entityMetaData,
+							TemplateSupport.convertIdValues(this.neo4jMappingContext,
+									entityMetaData.getRequiredIdProperty(), id),
+							this.neo4jMappingContext))
+				.flatMap(ExecutableQuery::getSingleResult));
+			if (currentEntityCache != null) {
+				result = result.doOnNext(currentEntityCache::put);
+			}
+			return result.map(entity -> registerInIdentityMap(entity, optionalIdentityMap));
+		}));
 	}
 
 	@Override
@@ -359,6 +416,46 @@ public final class ReactiveNeo4jTemplate
 
 		Neo4jPersistentEntity<?> entityMetaData = this.neo4jMappingContext.getRequiredPersistentEntity(domainType);
 
+		return Flux.defer(() -> currentIdentityMap().flatMapMany(optionalIdentityMap -> {
+			EntityIdentityMapSupport currentIdentityMapSupport = this.identityMap;
+			EntityIdentityMap currentIdentityMap = optionalIdentityMap.orElse(null);
+			EntityCacheSupport currentEntityCache = (this.entityCache != null
+					&& this.entityCache.isCacheable(domainType)) ? this.entityCache : null;
+			if ((currentIdentityMapSupport == null || currentIdentityMap == null) && currentEntityCache == null) {
+				return findAllByIdImpl(ids, domainType, entityMetaData);
+			}
+
+			List<T> knownEntities = new ArrayList<>();
+			List<Object> missingIds = new ArrayList<>();
+			for (Object id : ids) {
+				T knownEntity = (currentIdentityMapSupport != null && currentIdentityMap != null)
+						? currentIdentityMapSupport.get(currentIdentityMap, domainType, id) : null;
+				if (knownEntity == null && currentEntityCache != null) {
+					knownEntity = currentEntityCache.get(domainType, id);
+					if (knownEntity != null && currentIdentityMapSupport != null && currentIdentityMap != null) {
+						knownEntity = currentIdentityMapSupport.register(currentIdentityMap, knownEntity);
+					}
+				}
+				if (knownEntity != null) {
+					knownEntities.add(knownEntity);
+				}
+				else {
+					missingIds.add(id);
+				}
+			}
+			Flux<T> loadedEntities = missingIds.isEmpty() ? Flux.empty()
+					: findAllByIdImpl(missingIds, domainType, entityMetaData);
+			if (currentEntityCache != null) {
+				loadedEntities = loadedEntities.doOnNext(currentEntityCache::put);
+			}
+			return Flux.fromIterable(knownEntities)
+				.concatWith(loadedEntities.map(entity -> registerInIdentityMap(entity, optionalIdentityMap)));
+		}));
+	}
+
+	private <T> Flux<T> findAllByIdImpl(Iterable<?> ids, Class<T> domainType,
+			Neo4jPersistentEntity<?> entityMetaData) {
+
 		return executeReadOnly(createExecutableQuery(domainType, null,
 				QueryFragmentsAndParameters.forFindByAllId(entityMetaData,
 						TemplateSupport.convertIdValues(this.neo4jMappingContext,
@@ -437,7 +534,8 @@ public final class ReactiveNeo4jTemplate
 		});
 	}
 
-	<T, R> Flux<R> doSave(Iterable<R> instances, Class<T> domainType) {
+	<T, R> Flux<R> doSave(Iterable<R> instances, Class<T> domainType, @Nullable Integer batchSize,
+			boolean transactionPerBatch) {
 		// empty check
 		if (!instances.iterator().hasNext()) {
 			return Flux.empty();
@@ -447,26 +545,35 @@ public final class ReactiveNeo4jTemplate
 				() -> "Could not find a common type element to store and then project multiple instances of type %s"
 					.formatted(domainType));
 
+		int batchSizeToUse = (batchSize != null) ? batchSize : this.saveBatchSize;
 		Collection<PropertyFilter.ProjectedPath> pps = PropertyFilterSupport.addPropertiesFrom(domainType, resultType,
 				getProjectionFactory(), this.neo4jMappingContext);
-
-		NestedRelationshipProcessingStateMachine stateMachine = new NestedRelationshipProcessingStateMachine(
-				this.neo4jMappingContext);
-		Collection<Object> knownRelationshipsIds = new HashSet<>();
 		EntityFromDtoInstantiatingConverter<T> converter = new EntityFromDtoInstantiatingConverter<>(domainType,
 				this.neo4jMappingContext);
-		return Flux.fromIterable(instances).concatMap(instance -> {
-			T domainObject = converter.convert(instance);
-			if (domainObject == null) {
-				return Mono.empty();
+		DtoInstantiatingConverter resultConverter = new DtoInstantiatingConverter(resultType, this.neo4jMappingContext);
+		Function<List<R>, Flux<R>> saveBatch = batch -> {
+			List<T> domainObjects = new ArrayList<>(batch.size());
+			for (R instance : batch) {
+				T domainObject = converter.convert(instance);
+				if (domainObject != null) {
+					domainObjects.add(domainObject);
+				}
 			}
-
+			// Single instances don't benefit from the batch statements
+			Flux<T> savedEntities = (domainObjects.size() == 1) ? saveImpl(domainObjects.get(0), pps, null).flux()
+					: saveAllImpl(domainObjects, pps, null, batchSizeToUse);
 			@SuppressWarnings("unchecked")
-			Mono<R> result = execute(saveImpl(domainObject, pps, stateMachine, knownRelationshipsIds)
-				.map(savedEntity -> (R) new DtoInstantiatingConverter(resultType, this.neo4jMappingContext)
-					.convertDirectly(savedEntity)));
-			return result;
-		});
+			Flux<R> results = savedEntities.map(savedEntity -> (R) resultConverter.convertDirectly(savedEntity));
+			return results;
+		};
+
+		List<R> allInstances = new ArrayList<>();
+		instances.forEach(allInstances::add);
+		if (!transactionPerBatch) {
+			return execute(Flux.defer(() -> saveBatch.apply(allInstances)));
+		}
+		return Flux.fromIterable(TemplateSupport.inBatchesOf(allInstances, batchSizeToUse))
+			.concatMap(batch -> executeInNewTransaction(Flux.defer(() -> saveBatch.apply(batch))));
 	}
 
 	private <T> Mono<T> saveImpl(T instance, @Nullable Collection<PropertyFilter.ProjectedPath> includedProperties,
@@ -497,24 +604,33 @@ public final class ReactiveNeo4jTemplate
 		return Mono.just(instance)
 			.flatMap(this.eventSupport::maybeCallBeforeBind)
 			.flatMap(entityToBeSaved -> determineDynamicLabels(entityToBeSaved, entityMetaData))
+			.zipWith(currentSnapshots())
 			.flatMap(t -> {
-				T entityToBeSaved = t.getT1();
+				T entityToBeSaved = t.getT1().getT1();
 
-				DynamicLabels dynamicLabels = t.getT2();
+				DynamicLabels dynamicLabels = t.getT1().getT2();
+				EntitySnapshots snapshots = t.getT2().orElse(null);
 
 				@SuppressWarnings("unchecked")
 				FilteredBinderFunction<T> binderFunction = TemplateSupport.createAndApplyPropertyFilter(
 						includedProperties, entityMetaData,
 						this.neo4jMappingContext.getRequiredBinderFunctionFor((Class<T>) entityToBeSaved.getClass()));
 
+				EntitySnapshots.ChangedPropertiesBinder<T> changedPropertiesBinder = (snapshots != null)
+						? snapshots.retainChangedProperties(entityMetaData, binderFunction) : null;
 				boolean canUseElementId = TemplateSupport.rendererRendersElementId(this.renderer);
-				var statement = this.cypherGenerator.prepareSaveOf(entityMetaData, dynamicLabels, canUseElementId);
-				Mono<Entity> idMono = this.neo4jClient.query(() -> this.renderer.render(statement))
+				var statement = this.renderedStatementCache.getSaveOf(entityMetaData, dynamicLabels, canUseElementId);
+				Mono<Entity> idMono = this.neo4jClient.query(statement.cypher())
 					.bind(entityToBeSaved)
-					.with(binderFunction)
-					.bindAll(statement.getCatalog().getParameters())
+					.with((changedPropertiesBinder != null) ? changedPropertiesBinder : binderFunction)
+					.bindAll(statement.parameters())
 					.fetchAs(Entity.class)
 					.one()
+					.doOnNext(newOrUpdatedNode -> {
+						if (changedPropertiesBinder != null) {
+							changedPropertiesBinder.written();
+						}
+					})
 					.switchIfEmpty(Mono.defer(() -> {
 						if (entityMetaData.hasVersionProperty()) {
 							return Mono
@@ -534,8 +650,9 @@ public final class ReactiveNeo4jTemplate
 				})
 					.map(IdentitySupport::getElementId)
 					.flatMap(internalId -> processRelations(entityMetaData, propertyAccessor, isNewEntity,
-							finalStateMachine, knownRelationshipsIds, binderFunction.filter));
-			});
+							finalStateMachine, knownRelationshipsIds, binderFunction.filter, snapshots));
+			})
+			.flatMap(this::evictFromCache);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -574,14 +691,14 @@ public final class ReactiveNeo4jTemplate
 
 	@Override
 	public <T> Flux<T> saveAll(Iterable<T> instances) {
-		return execute(saveAllImpl(instances, Collections.emptySet(), null));
+		return execute(saveAllImpl(instances, Collections.emptySet(), null, this.saveBatchSize));
 	}
 
 	@Override
 	public <T> Flux<T> saveAllAs(Iterable<T> instances,
 			BiPredicate<PropertyPath, Neo4jPersistentProperty> includeProperty) {
 
-		return execute(saveAllImpl(instances, null, includeProperty));
+		return execute(saveAllImpl(instances, null, includeProperty, this.saveBatchSize));
 	}
 
 	@Override
@@ -609,7 +726,7 @@ public final class ReactiveNeo4jTemplate
 		Collection<PropertyFilter.ProjectedPath> pps = PropertyFilterSupport.addPropertiesFrom(commonElementType,
 				resultType, localProjectionFactory, this.neo4jMappingContext);
 
-		Flux<T> savedInstances = execute(saveAllImpl(instances, pps, null));
+		Flux<T> savedInstances = execute(saveAllImpl(instances, pps, null, this.saveBatchSize));
 		if (projectionInformation.isClosed()) {
 			return savedInstances.map(instance -> localProjectionFactory.createProjection(resultType, instance));
 		}
@@ -625,91 +742,211 @@ public final class ReactiveNeo4jTemplate
 		}).map(instance -> localProjectionFactory.createProjection(resultType, instance));
 	}
 
-	@SuppressWarnings("unchecked")
 	private <T> Flux<T> saveAllImpl(Iterable<T> instances,
 			@Nullable Collection<PropertyFilter.ProjectedPath> includedProperties,
-			@Nullable BiPredicate<PropertyPath, Neo4jPersistentProperty> includeProperty) {
+			@Nullable BiPredicate<PropertyPath, Neo4jPersistentProperty> includeProperty, int batchSize) {
 
-		Set<Class<?>> types = new HashSet<>();
 		List<T> entities = new ArrayList<>();
-		Map<Class<?>, Collection<PropertyFilter.ProjectedPath>> includedPropertiesByClass = new HashMap<>();
+		Map<Class<?>, List<Integer>> indexesByClass = new LinkedHashMap<>();
 		instances.forEach(instance -> {
+			indexesByClass.computeIfAbsent(instance.getClass(), type -> new ArrayList<>()).add(entities.size());
 			entities.add(instance);
-			types.add(instance.getClass());
-			includedPropertiesByClass.put(instance.getClass(), PropertyFilterSupport
-				.getInputPropertiesForAggregateBoundary(instance.getClass(), this.neo4jMappingContext));
 		});
 
 		if (entities.isEmpty()) {
 			return Flux.empty();
 		}
 
-		boolean heterogeneousCollection = types.size() > 1;
-		Class<?> domainClass = types.iterator().next();
+		boolean hasExplicitProperties = (includedProperties != null && !includedProperties.isEmpty())
+				|| includeProperty != null;
+		boolean canUseElementId = TemplateSupport.rendererRendersElementId(this.renderer);
 
-		Collection<PropertyFilter.ProjectedPath> pps = (includeProperty != null) ? TemplateSupport
-			.computeIncludedPropertiesFromPredicate(this.neo4jMappingContext, domainClass, includeProperty)
-				: Objects.requireNonNullElseGet(includedProperties, List::of);
+		Map<Class<?>, Collection<PropertyFilter.ProjectedPath>> propertiesToSaveByClass = new HashMap<>();
+		Map<Class<?>, Collection<PropertyFilter.ProjectedPath>> includedPropertiesByClass = new HashMap<>();
+		indexesByClass.keySet().forEach(domainClass -> {
+			Collection<PropertyFilter.ProjectedPath> pps = (includeProperty != null) ? TemplateSupport
+				.computeIncludedPropertiesFromPredicate(this.neo4jMappingContext, domainClass, includeProperty)
+					: Objects.requireNonNullElseGet(includedProperties, List::of);
+			propertiesToSaveByClass.put(domainClass, pps);
+			includedPropertiesByClass.put(domainClass, hasExplicitProperties ? pps : PropertyFilterSupport
+				.getInputPropertiesForAggregateBoundary(domainClass, this.neo4jMappingContext));
+		});
 
-		Neo4jPersistentEntity<?> entityMetaData = this.neo4jMappingContext.getRequiredPersistentEntity(domainClass);
-		if (heterogeneousCollection || entityMetaData.isUsingInternalIds() || entityMetaData.hasVersionProperty()
-				|| entityMetaData.getDynamicLabelsProperty().isPresent()) {
-			log.debug("Saving entities using single statements.");
+		return currentSnapshots().flatMapMany(optionalSnapshots -> Flux.deferContextual(ctx -> {
+			NestedRelationshipProcessingStateMachine stateMachine = ctx.get("stateMachine");
+			Collection<Object> knownRelIds = ctx.get("knownRelIds");
+			EntitySnapshots snapshots = optionalSnapshots.orElse(null);
+
+			// Save the roots of all entities that can be saved in batches, one partition
+			// per class, and keep them at the position of the original instances
+			List<@Nullable BatchedInstance<T>> batchedInstances = new ArrayList<>(
+					Collections.nCopies(entities.size(), null));
+			Mono<Void> savingRoots = Flux.fromIterable(indexesByClass.entrySet())
+				.filter(partition -> TemplateSupport
+					.canSaveRootsInBatch(this.neo4jMappingContext.getRequiredPersistentEntity(partition.getKey())))
+				.concatMap(partition -> {
+					Class<?> domainClass = partition.getKey();
+					List<Integer> indexes = partition.getValue();
+					Neo4jPersistentEntity<?> entityMetaData = this.neo4jMappingContext
+						.getRequiredPersistentEntity(domainClass);
+					return saveAllInBatches(entityMetaData, indexes.stream().map(entities::get).toList(),
+							propertiesToSaveByClass.get(domainClass),
+							TemplateSupport.computeIncludePropertyPredicate(includedPropertiesByClass.get(domainClass),
+									entityMetaData),
+							stateMachine, snapshots, canUseElementId, batchSize)
+						.doOnNext(savedPartition -> {
+							for (int i = 0; i < indexes.size(); ++i) {
+								batchedInstances.set(indexes.get(i), savedPartition.get(i));
+							}
+						});
+				})
+				.then();
+
+			// Save related, in order of the original instances
+			return savingRoots.thenMany(Flux.range(0, entities.size()).concatMap(i -> {
+				BatchedInstance<T> batchedInstance = batchedInstances.get(i);
+				if (batchedInstance == null) {
+					T instance = entities.get(i);
+					return this.saveImpl(instance, includedPropertiesByClass.get(instance.getClass()), stateMachine);
+				}
+				return this.<T>processRelations(batchedInstance.entityMetaData(), batchedInstance.propertyAccessor(),
+						batchedInstance.wasNew(), stateMachine, knownRelIds, batchedInstance.includePropertyPredicate(),
+						snapshots)
+					.flatMap(this::evictFromCache);
+			}));
+		}))
+			.contextWrite(ctx -> ctx
+				.put("stateMachine", new NestedRelationshipProcessingStateMachine(this.neo4jMappingContext, null, null))
+				.put("knownRelIds", new HashSet<>()));
+	}
 
-			NestedRelationshipProcessingStateMachine stateMachine = new NestedRelationshipProcessingStateMachine(
-					this.neo4jMappingContext);
+	/**
+	 * Saves the roots of instances of the same class in batches, one batch per change of
+	 * dynamic labels, and removes the stale relationships of the existing ones. Related
+	 * nodes are not processed.
+	 * @param entityMetaData the entity of all instances
+	 * @param entities the instances to save
+	 * @param includedProperties the properties to write
+	 * @param includePropertyPredicate the filter for relationships
+	 * @param stateMachine the state machine of the ongoing save
+	 * @param snapshots the snapshots of the current transaction if change tracking is
+	 * enabled
+	 * @param canUseElementId flag if the renderer supports the elementId function
+	 * @param batchSize the maximum number of rows bound to one statement
+	 * @param <T> the type of the instances
+	 * @return the saved instances, in the order of the given instances
+	 */
+	private <T> Mono<List<BatchedInstance<T>>> saveAllInBatches(Neo4jPersistentEntity<?> entityMetaData,
+			List<T> entities, Collection<PropertyFilter.ProjectedPath> includedProperties,
+			PropertyFilter includePropertyPredicate, NestedRelationshipProcessingStateMachine stateMachine,
+			@Nullable EntitySnapshots snapshots, boolean canUseElementId, int batchSize) {
+
+		List<Boolean> wasNew = entities.stream().map(entityMetaData::isNew).toList();
+
+		@SuppressWarnings("unchecked") // All instances are of the type of the entity
+		Function<T, Map<String, Object>> binderFunction = TemplateSupport.createAndApplyPropertyFilter(
+				includedProperties, entityMetaData,
+				this.neo4jMappingContext.getRequiredBinderFunctionFor((Class<T>) entityMetaData.getType()));
+		return this.eventSupport.reserveIdsIfNecessary(entities)
+			.thenMany(Flux.fromIterable(entities))
+			.flatMapSequential(this.eventSupport::maybeCallBeforeBind)
+			.collectList()
+			.flatMap(entitiesToBeSaved -> {
+				// Save roots
+				EntitySnapshots.ChangedPropertiesBinder<T> changedPropertiesBinder = (snapshots != null)
+						? snapshots.retainChangedProperties(entityMetaData, binderFunction) : null;
+				List<Map<String, Object>> entityList = entitiesToBeSaved.stream()
+					.map((changedPropertiesBinder != null) ? changedPropertiesBinder : binderFunction)
+					.toList();
+				return partitionByDynamicLabels(entityMetaData, entitiesToBeSaved, entityList, batchSize)
+					.flatMapMany(partitions -> Flux.fromIterable(partitions.entrySet()))
+					.concatMap(partition -> {
+						var statement = this.renderedStatementCache.getSaveOfMultipleInstancesOf(entityMetaData,
+								partition.getKey());
+						return Flux.fromIterable(TemplateSupport.inBatchesOf(partition.getValue(), batchSize))
+							.concatMap(batch -> this.neo4jClient.query(statement.cypher())
+								.bind(batch)
+								.to(Constants.NAME_OF_ENTITY_LIST_PARAM)
+								.bindAll(statement.parameters())
+								.fetchAs(Tuple2.class)
+								.mappedBy((t, r) -> Tuples.of(r.get(Constants.NAME_OF_ID),
+										TemplateSupport.SavedInstance.of(r)))
+								.all());
+					})
+					.collectMap(m -> (Value) m.getT1(), m -> (TemplateSupport.SavedInstance) m.getT2())
+					.flatMap(savedInstances -> {
+						List<PersistentPropertyAccessor<T>> propertyAccessors = entitiesToBeSaved.stream()
+							.map(entityMetaData::getPropertyAccessor)
+							.toList();
+						if (entityMetaData.hasVersionProperty()) {
+							TemplateSupport.updateVersionPropertiesOfMultipleInstances(this.neo4jMappingContext,
+									entityMetaData, propertyAccessors, savedInstances);
+						}
+						if (changedPropertiesBinder != null) {
+							changedPropertiesBinder.written();
+						}
 
-			return Flux.fromIterable(entities)
-				.concatMap(e -> this.saveImpl(e,
-						((includedProperties != null && !includedProperties.isEmpty()) || includeProperty != null) ? pps
-								: includedPropertiesByClass.get(e.getClass()),
-						stateMachine));
+						// Remove stale relationships of all existing entities at once
+						Flux<Void> relationshipRemoval = Flux
+							.fromIterable(
+									TemplateSupport
+										.prepareRemovalOfStaleRelationships(this.neo4jMappingContext, entityMetaData,
+												IntStream.range(0, entities.size())
+													.filter(i -> !wasNew.get(i))
+													.mapToObj(propertyAccessors::get)
+													.toList(),
+												includePropertyPredicate, stateMachine, snapshots)
+										.entrySet())
+							.concatMap(rowsOfRelationship -> {
+								var relationshipRemoveQuery = this.renderedStatementCache
+									.getDeleteOfMultipleInstancesOf(entityMetaData, rowsOfRelationship.getKey(),
+											canUseElementId);
+								return Flux
+									.fromIterable(TemplateSupport.inBatchesOf(rowsOfRelationship.getValue(), batchSize))
+									.concatMap(batch -> this.neo4jClient.query(relationshipRemoveQuery.cypher())
+										.bind(batch)
+										.to(Constants.NAME_OF_ENTITY_LIST_PARAM)
+										.bindAll(relationshipRemoveQuery.parameters())
+										.run()
+										.checkpoint("delete relationships")
+										.then());
+							});
+
+						return relationshipRemoval.then(Mono.fromSupplier(() -> {
+							List<BatchedInstance<T>> batchedInstances = new ArrayList<>(entities.size());
+							for (int i = 0; i < entities.size(); ++i) {
+								batchedInstances.add(new BatchedInstance<>(wasNew.get(i), propertyAccessors.get(i),
+										entityMetaData, includePropertyPredicate));
+							}
+							return batchedInstances;
+						}));
+					});
+			});
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> Mono<Map<DynamicLabels, List<Map<String, Object>>>> partitionByDynamicLabels(
+			Neo4jPersistentEntity<?> entityMetaData, List<T> entities, List<Map<String, Object>> rows, int batchSize) {
+
+		if (entityMetaData.getDynamicLabelsProperty().isEmpty()) {
+			return Mono.just(Map.of(DynamicLabels.EMPTY, rows));
 		}
 
-		@SuppressWarnings("unchecked") // We can safely assume here that we have a
-										// humongous collection with only one single type
-										// being either T or extending it
-		Function<T, Map<String, Object>> binderFunction = TemplateSupport.createAndApplyPropertyFilter(pps,
-				entityMetaData, this.neo4jMappingContext.getRequiredBinderFunctionFor((Class<T>) domainClass));
-		return (Flux<T>) Flux.deferContextual((ctx) -> Flux.fromIterable(entities)
-			// Map all entities into a tuple <Original, OriginalWasNew>
-			.map(e -> Tuples.of(e, entityMetaData.isNew(e)))
-			// Map that tuple into a tuple <<Original, OriginalWasNew>,
-			// PotentiallyModified>
-			.zipWith(Flux.fromIterable(entities).flatMapSequential(this.eventSupport::maybeCallBeforeBind))
-			// And for my own sanity, back into a flat Tuple3
-			.map(nested -> Tuples.of(nested.getT1().getT1(), nested.getT1().getT2(), nested.getT2()))
-			.collectList()
-			.flatMapMany(entitiesToBeSaved -> Mono.defer(() -> {
-				// Defer the actual save statement until the previous flux completes
-				List<Map<String, Object>> boundedEntityList = entitiesToBeSaved.stream()
-					.map(Tuple3::getT3) // extract PotentiallyModified
-					.map(binderFunction)
-					.collect(Collectors.toList());
-				var statement = this.cypherGenerator.prepareSaveOfMultipleInstancesOf(entityMetaData);
-				return this.neo4jClient.query(() -> this.renderer.render(statement))
-					.bind(boundedEntityList)
-					.to(Constants.NAME_OF_ENTITY_LIST_PARAM)
-					.bindAll(statement.getCatalog().getParameters())
-					.fetchAs(Tuple2.class)
-					.mappedBy((t, r) -> Tuples.of(r.get(Constants.NAME_OF_ID),
-							TemplateSupport.convertIdOrElementIdToString(r.get(Constants.NAME_OF_ELEMENT_ID))))
-					.all()
-					.collectMap(m -> (Value) m.getT1(), m -> (String) m.getT2());
-			}).flatMapMany(idToInternalIdMapping -> Flux.fromIterable(entitiesToBeSaved).concatMap(t -> {
-				PersistentPropertyAccessor<T> propertyAccessor = entityMetaData.getPropertyAccessor(t.getT3());
-				return processRelations(entityMetaData, propertyAccessor, t.getT2(), ctx.get("stateMachine"),
-						ctx.get("knownRelIds"),
-						TemplateSupport
-							.computeIncludePropertyPredicate(
-									((includedProperties != null && !includedProperties.isEmpty())
-											|| includeProperty != null) ? pps
-													: includedPropertiesByClass.get(t.getT3().getClass()),
-									entityMetaData));
-			}))))
-			.contextWrite(ctx -> ctx
-				.put("stateMachine", new NestedRelationshipProcessingStateMachine(this.neo4jMappingContext, null, null))
-				.put("knownRelIds", new HashSet<>()));
+		var statement = this.renderedStatementCache.getDynamicLabelsOfMultipleInstancesOf(entityMetaData);
+		return Flux.fromIterable(TemplateSupport.inBatchesOf(rows, batchSize))
+			.concatMap(batch -> this.neo4jClient.query(statement.cypher())
+				.bind(batch)
+				.to(Constants.NAME_OF_ENTITY_LIST_PARAM)
+				.bind(entityMetaData.getStaticLabels())
+				.to(Constants.NAME_OF_STATIC_LABELS_PARAM)
+				.bindAll(statement.parameters())
+				.fetchAs(Tuple2.class)
+				.mappedBy((t, r) -> Tuples.of(r.get(Constants.NAME_OF_ID),
+						r.get(Constants.NAME_OF_LABELS).asList(Value::asString)))
+				.all())
+			.collectMap(m -> (Value) m.getT1(), m -> (List<String>) m.getT2())
+			.map(existingLabels -> TemplateSupport.partitionByDynamicLabels(entityMetaData, entities, rows,
+					existingLabels));
 	}
 
 	@Override
@@ -726,7 +963,143 @@ public final class ReactiveNeo4jTemplate
 			.to(nameOfParameter)
 			.bindAll(statement.getCatalog().getParameters())
 			.run()
-			.then()));
+			.then(discardSnapshots())
+			.then(Mono.defer(() -> (this.entityCache != null) ? this.entityCache.evictAllByIdReactive(domainType, ids)
+					: Mono.empty()))
+			.then(removeFromIdentityMap(domainType, ids))));
+	}
+
+	@Override
+	public <T> Flux<T> insertAll(Iterable<T> instances, BulkInsertOptions options) {
+
+		Assert.notNull(options, "The options for the bulk insert must not be null");
+
+		List<T> entities = new ArrayList<>();
+		instances.forEach(entities::add);
+		if (entities.isEmpty()) {
+			return Flux.empty();
+		}
+
+		int batchSize = Objects.requireNonNullElse(options.getBatchSize(), this.saveBatchSize);
+		if (!options.isTransactionPerBatch()) {
+			return execute(insertNodes(entities, options.isSkipBeforeBindCallbacks(), batchSize)
+				.flatMapMany(insertedInstances -> createRelationships(insertedInstances, batchSize, false)
+					.thenMany(Flux.fromIterable(insertedInstances))
+					.concatMap(this::evictFromCache)));
+		}
+
+		// Create all nodes first, so that relationships between instances of different
+		// batches can be created afterward
+		return Flux.fromIterable(TemplateSupport.inBatchesOf(entities, batchSize))
+			.concatMap(batch -> executeInNewTransaction(
+					insertNodes(batch, options.isSkipBeforeBindCallbacks(), batchSize).flatMapMany(Flux::fromIterable)))
+			.collectList()
+			.flatMapMany(insertedInstances -> createRelationships(insertedInstances, batchSize, true)
+				.thenMany(Flux.fromIterable(insertedInstances))
+				.concatMap(this::evictFromCache));
+	}
+
+	private <T> Mono<List<T>> insertNodes(List<T> entities, boolean skipBeforeBindCallbacks, int batchSize) {
+
+		Map<Class<?>, List<Integer>> indexesByClass = new LinkedHashMap<>();
+		for (int i = 0; i < entities.size(); ++i) {
+			indexesByClass.computeIfAbsent(entities.get(i).getClass(), type -> new ArrayList<>()).add(i);
+		}
+
+		return Mono.defer(() -> {
+			List<T> insertedInstances = new ArrayList<>(entities);
+			return Flux.fromIterable(indexesByClass.entrySet()).concatMap(partition -> {
+				Class<?> domainClass = partition.getKey();
+				List<Integer> indexes = partition.getValue();
+				Neo4jPersistentEntity<?> entityMetaData = this.neo4jMappingContext
+					.getRequiredPersistentEntity(domainClass);
+				if (entityMetaData.isUsingInternalIds()) {
+					return Mono.error(() -> new IllegalArgumentException(
+							"Bulk inserts require entities with external ids, %s uses internal ids"
+								.formatted(domainClass)));
+				}
+
+				List<T> entitiesOfPartition = indexes.stream().map(entities::get).toList();
+				return this.eventSupport.reserveIdsIfNecessary(entitiesOfPartition)
+					.thenMany(Flux.fromIterable(entitiesOfPartition))
+					.concatMap(entity -> skipBeforeBindCallbacks
+							? Mono.fromSupplier(() -> this.eventSupport.populateIdIfNecessary(entity))
+							: this.eventSupport.maybeCallBeforeBind(entity))
+					.collectList()
+					.flatMap(entitiesToBeInserted -> {
+						@SuppressWarnings("unchecked") // All instances are of the type of
+														// the entity
+						Function<T, Map<String, Object>> binderFunction = this.neo4jMappingContext
+							.getRequiredBinderFunctionFor((Class<T>) domainClass);
+						List<Map<String, Object>> rows = entitiesToBeInserted.stream().map(binderFunction).toList();
+						Map<DynamicLabels, List<Map<String, Object>>> rowsByDynamicLabels = entityMetaData
+							.getDynamicLabelsProperty()
+							.isPresent()
+									? TemplateSupport.partitionByDynamicLabels(entityMetaData, entitiesToBeInserted,
+											rows, Map.of())
+									: Map.of(DynamicLabels.EMPTY, rows);
+
+						return Flux.fromIterable(rowsByDynamicLabels.entrySet()).concatMap(rowsOfPartition -> {
+							var statement = this.renderedStatementCache.getCreateOfMultipleInstancesOf(entityMetaData,
+									rowsOfPartition.getKey());
+							return Flux.fromIterable(TemplateSupport.inBatchesOf(rowsOfPartition.getValue(), batchSize))
+								.concatMap(batch -> this.neo4jClient.query(statement.cypher())
+									.bind(batch)
+									.to(Constants.NAME_OF_ENTITY_LIST_PARAM)
+									.bindAll(statement.parameters())
+									.fetchAs(Tuple2.class)
+									.mappedBy((t, r) -> Tuples.of(r.get(Constants.NAME_OF_ID),
+											TemplateSupport.SavedInstance.of(r)))
+									.all());
+						})
+							.collectMap(m -> (Value) m.getT1(), m -> (TemplateSupport.SavedInstance) m.getT2())
+							.doOnNext(savedInstances -> {
+								List<PersistentPropertyAccessor<T>> propertyAccessors = entitiesToBeInserted.stream()
+									.map(entityMetaData::getPropertyAccessor)
+									.toList();
+								if (entityMetaData.hasVersionProperty()) {
+									TemplateSupport.updateVersionPropertiesOfMultipleInstances(this.neo4jMappingContext,
+											entityMetaData, propertyAccessors, savedInstances);
+								}
+								for (int i = 0; i < indexes.size(); ++i) {
+									insertedInstances.set(indexes.get(i), propertyAccessors.get(i).getBean());
+								}
+							});
+					});
+			}).then(Mono.fromSupplier(() -> insertedInstances));
+		});
+	}
+
+	/**
+	 * Creates the relationships of all instances of a bulk insert after their nodes have
+	 * been created.
+	 * @param insertedInstances all inserted instances
+	 * @param batchSize the maximum number of relationships created with one statement
+	 * @param transactionPerBatch whether to create each batch in a new transaction
+	 * @return a publisher completing after all relationships have been created
+	 */
+	private Mono<Void> createRelationships(List<?> insertedInstances, int batchSize, boolean transactionPerBatch) {
+
+		boolean canUseElementId = TemplateSupport.rendererRendersElementId(this.renderer);
+		return Flux
+			.defer(() -> Flux.fromIterable(
+					TemplateSupport.collectRelationshipsToCreate(this.neo4jMappingContext, insertedInstances)
+						.entrySet()))
+			.concatMap(relationships -> {
+				String cypher = this.renderer
+					.render(relationships.getKey().toStatement(this.cypherGenerator, canUseElementId));
+				return Flux.fromIterable(TemplateSupport.inBatchesOf(relationships.getValue(), batchSize))
+					.concatMap(batch -> {
+						Flux<ResultSummary> createBatch = this.neo4jClient.query(cypher)
+							.bind(batch)
+							.to(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM)
+							.run()
+							.flux();
+						return (transactionPerBatch ? executeInNewTransaction(createBatch) : createBatch)
+							.doOnNext(summary -> relationships.getKey().assertAllCreated(summary, batch.size()));
+					});
+			})
+			.then();
 	}
 
 	@Override
@@ -744,7 +1117,10 @@ public final class ReactiveNeo4jTemplate
 			.to(nameOfParameter)
 			.bindAll(statement.getCatalog().getParameters())
 			.run()
-			.then()));
+			.then(discardSnapshots())
+			.then(Mono.defer(() -> (this.entityCache != null)
+					? this.entityCache.evictAllByIdReactive(domainType, List.of(id)) : Mono.empty()))
+			.then(removeFromIdentityMap(domainType, List.of(id)))));
 	}
 
 	@Override
@@ -789,7 +1165,22 @@ public final class ReactiveNeo4jTemplate
 
 		Neo4jPersistentEntity<?> entityMetaData = this.neo4jMappingContext.getRequiredPersistentEntity(domainType);
 		Statement statement = this.cypherGenerator.prepareDeleteOf(entityMetaData);
-		return execute(Mono.defer(() -> this.neo4jClient.query(() -> this.renderer.render(statement)).run().then()));
+		return execute(Mono.defer(() -> this.neo4jClient.query(() -> this.renderer.render(statement))
+			.run()
+			.then(discardSnapshots())
+			.doOnSuccess(v -> {
+				if (this.entityCache != null) {
+					this.entityCache.evictAll(domainType);
+				}
+			})
+			.then(currentIdentityMap().doOnNext(optionalIdentityMap -> {
+				EntityIdentityMapSupport currentIdentityMapSupport = this.identityMap;
+				if (currentIdentityMapSupport != null) {
+					optionalIdentityMap
+						.ifPresent(identityMap -> currentIdentityMapSupport.removeAll(identityMap, domainType));
+				}
+			}))
+			.then()));
 	}
 
 	private <T> Mono<ExecutableQuery<T>> createExecutableQuery(Class<T> domainType, Statement statement) {
@@ -827,7 +1218,7 @@ public final class ReactiveNeo4jTemplate
 		QueryFragments queryFragments = queryFragmentsAndParameters.getQueryFragments();
 
 		boolean containsPossibleCircles = entityMetaData != null
-				&& entityMetaData.containsPossibleCircles(queryFragments::includeField);
+				&& entityMetaData.containsPossibleCircles(queryFragments.getIncludeField());
 		if (containsPossibleCircles && !queryFragments.isScalarValueReturn()) {
 			return createNodesAndRelationshipsByIdStatementProvider(entityMetaData, queryFragments,
 					queryFragmentsAndParameters.getParameters())
@@ -846,12 +1237,41 @@ public final class ReactiveNeo4jTemplate
 	private Mono<NodesAndRelationshipsByIdStatementProvider> createNodesAndRelationshipsByIdStatementProvider(
 			Neo4jPersistentEntity<?> entityMetaData, QueryFragments queryFragments, Map<String, Object> parameters) {
 
+		if (getRelatedNodesLoadingStrategy(queryFragments) == RelatedNodesLoadingStrategy.PER_LEVEL) {
+			return Mono.defer(() -> {
+				RelatedNodesPerLevel relatedNodes = new RelatedNodesPerLevel(this.cypherGenerator,
+						this.elementIdOrIdFunction, queryFragments, entityMetaData.getUnderlyingClass());
+				// only the root nodes of the requested page are expanded
+				Statement rootNodeIdsStatement = relatedNodes.toRootNodeIdsStatement(entityMetaData);
+				return this.neo4jClient.query(this.renderer.render(rootNodeIdsStatement))
+					.bindAll(TemplateSupport.mergeParameters(rootNodeIdsStatement, parameters))
+					.fetch()
+					.all()
+					.collectList()
+					.map(RelatedNodesPerLevel::rootNodeIds)
+					.flatMap(rootNodeIds -> Mono.just(relatedNodes.firstLevel(entityMetaData, rootNodeIds))
+						.expand(level -> {
+							if (level.isEmpty()) {
+								return Mono.empty();
+							}
+							Statement statement = relatedNodes.toStatement(level);
+							return this.neo4jClient.query(this.renderer.render(statement))
+								.bindAll(TemplateSupport.mergeParameters(statement, parameters))
+								.fetch()
+								.all()
+								.collectList()
+								.map(rows -> relatedNodes.nextLevel(level, rows));
+						})
+						.then(Mono.fromSupplier(() -> relatedNodes.toStatementProvider(rootNodeIds))));
+			});
+		}
+
 		return Mono.deferContextual(ctx -> {
 			Class<?> rootClass = entityMetaData.getUnderlyingClass();
 
 			Set<String> rootNodeIds = ctx.get("rootNodes");
 			Map<String, Set<String>> relationshipsToRelatedNodeIds = ctx.get("relationshipsToRelatedNodeIds");
-			return Flux.fromIterable(entityMetaData.getRelationshipsInHierarchy(queryFragments::includeField))
+			return Flux.fromIterable(entityMetaData.getRelationshipsInHierarchy(queryFragments.getIncludeField()))
 				.concatMap(relationshipDescription -> {
 
 					Statement statement = this.cypherGenerator
@@ -916,35 +1336,35 @@ public final class ReactiveNeo4jTemplate
 			nextPathStep = currentPathStep.with(fieldName);
 		}
 
-		return Flux.fromIterable(target.getRelationshipsInHierarchy(relaxedPropertyPath -> {
-			PropertyFilter.RelaxedPropertyPath prepend = relaxedPropertyPath.prepend(nextPathStep.path);
-			prepend = PropertyFilter.RelaxedPropertyPath.withRootType(rootClass).append(prepend.toDotPath());
-			return queryFragments.includeField(prepend);
-		})).concatMap(relDe -> {
-			Node node = anyNode(Constants.NAME_OF_TYPED_ROOT_NODE.apply(target));
-
-			Statement statement = this.cypherGenerator
-				.prepareMatchOf(target, relDe, null,
-						this.elementIdOrIdFunction.apply(node).in(Cypher.parameter(Constants.NAME_OF_ID)))
-				.returning(this.cypherGenerator.createGenericReturnStatement())
-				.build();
-
-			return this.neo4jClient.query(this.renderer.render(statement))
-				.bindAll(Collections.singletonMap(Constants.NAME_OF_ID,
-						TemplateSupport.convertToLongIdOrStringElementId(relatedNodeIds)))
-				.fetchAs(Tuple2.class)
-				.mappedBy((t, r) -> {
-					Collection<String> newRelationshipIds = r.get(Constants.NAME_OF_SYNTHESIZED_RELATIONS)
-						.asList(TemplateSupport::convertIdOrElementIdToString);
-					Collection<String> newRelatedNodeIds = r.get(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES)
-						.asList(TemplateSupport::convertIdOrElementIdToString);
+		return Flux
+			.fromIterable(target.getRelationshipsInHierarchy(queryFragments.getIncludeField(),
+					PropertyFilter.RelaxedPropertyPath.withRootType(rootClass).append(nextPathStep.path)))
+			.concatMap(relDe -> {
+				Node node = anyNode(Constants.NAME_OF_TYPED_ROOT_NODE.apply(target));
+
+				Statement statement = this.cypherGenerator
+					.prepareMatchOf(target, relDe, null,
+							this.elementIdOrIdFunction.apply(node).in(Cypher.parameter(Constants.NAME_OF_ID)))
+					.returning(this.cypherGenerator.createGenericReturnStatement())
+					.build();
+
+				return this.neo4jClient.query(this.renderer.render(statement))
+					.bindAll(Collections.singletonMap(Constants.NAME_OF_ID,
+							TemplateSupport.convertToLongIdOrStringElementId(relatedNodeIds)))
+					.fetchAs(Tuple2.class)
+					.mappedBy((t, r) -> {
+						Collection<String> newRelationshipIds = r.get(Constants.NAME_OF_SYNTHESIZED_RELATIONS)
+							.asList(TemplateSupport::convertIdOrElementIdToString);
+						Collection<String> newRelatedNodeIds = r.get(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES)
+							.asList(TemplateSupport::convertIdOrElementIdToString);
 
-					return Tuples.of(newRelationshipIds, newRelatedNodeIds);
-				})
-				.one()
-				.map((t) -> (Tuple2<Collection<String>, Collection<String>>) t)
-				.expand(object -> iterateAndMapNextLevel(relDe, queryFragments, rootClass, nextPathStep).apply(object));
-		});
+						return Tuples.of(newRelationshipIds, newRelatedNodeIds);
+					})
+					.one()
+					.map((t) -> (Tuple2<Collection<String>, Collection<String>>) t)
+					.expand(object -> iterateAndMapNextLevel(relDe, queryFragments, rootClass, nextPathStep)
+						.apply(object));
+			});
 
 	}
 
@@ -995,6 +1415,8 @@ public final class ReactiveNeo4jTemplate
 	 * visited
 	 * @param includeProperty a predicate telling to include a relationship property or
 	 * not
+	 * @param snapshots the snapshots of the current transaction if change tracking is
+	 * enabled
 	 * @param <T> the type of the object being initially processed
 	 * @return a mono representing the whole stream of save operations, eventually
 	 * containing the owner of the relations being processed
@@ -1002,19 +1424,20 @@ public final class ReactiveNeo4jTemplate
 	private <T> Mono<T> processRelations(Neo4jPersistentEntity<?> neo4jPersistentEntity,
 			PersistentPropertyAccessor<?> parentPropertyAccessor, boolean isParentObjectNew,
 			NestedRelationshipProcessingStateMachine stateMachine, Collection<Object> knownRelationshipsIds,
-			PropertyFilter includeProperty) {
+			PropertyFilter includeProperty, @Nullable EntitySnapshots snapshots) {
 
 		PropertyFilter.RelaxedPropertyPath startingPropertyPath = PropertyFilter.RelaxedPropertyPath
 			.withRootType(neo4jPersistentEntity.getUnderlyingClass());
 		return processNestedRelations(neo4jPersistentEntity, parentPropertyAccessor, isParentObjectNew, stateMachine,
-				knownRelationshipsIds, includeProperty, startingPropertyPath);
+				knownRelationshipsIds, includeProperty, startingPropertyPath, snapshots);
 	}
 
 	@SuppressWarnings("deprecation")
 	private <T> Mono<T> processNestedRelations(Neo4jPersistentEntity<?> sourceEntity,
 			PersistentPropertyAccessor<?> parentPropertyAccessor, boolean isParentObjectNew,
 			NestedRelationshipProcessingStateMachine stateMachine, Collection<Object> knownRelationshipsIds,
-			PropertyFilter includeProperty, PropertyFilter.RelaxedPropertyPath previousPath) {
+			PropertyFilter includeProperty, PropertyFilter.RelaxedPropertyPath previousPath,
+			@Nullable EntitySnapshots snapshots) {
 
 		Object fromId = parentPropertyAccessor.getProperty(sourceEntity.getRequiredIdProperty());
 		List<Mono<Void>> relationshipDeleteMonos = new ArrayList<>();
@@ -1059,13 +1482,38 @@ public final class ReactiveNeo4jTemplate
 				return;
 			}
 
+			Set<Object> trackedRelatedIds = (snapshots != null)
+					? snapshots.getRelatedIds(sourceEntity, fromId, relationshipDescription) : null;
+
 			// Remove all relationships before creating all new if the entity is not new
 			// and the relationship
 			// has not been processed before.
 			// This avoids the usage of cache but might have significant impact on overall
 			// performance
 			boolean canUseElementId = TemplateSupport.rendererRendersElementId(this.renderer);
-			if (!isParentObjectNew && !stateMachine.hasProcessedRelationship(fromId, relationshipDescription)) {
+			if (!isParentObjectNew && !stateMachine.hasProcessedRelationship(fromId, relationshipDescription)
+					&& !stateMachine.hasRemovedStaleRelationships(fromId, relationshipDescription)
+					&& trackedRelatedIds != null) {
+
+				List<Object> removedIds = TemplateSupport.collectRemovedRelatedIds(this.neo4jMappingContext,
+						relationshipContext, relatedValuesToStore, trackedRelatedIds);
+				if (!removedIds.isEmpty()) {
+					var relationshipRemoveQuery = this.renderedStatementCache.getDeleteOfRelationshipsTo(sourceEntity,
+							relationshipDescription, canUseElementId);
+					relationshipDeleteMonos.add(this.neo4jClient.query(relationshipRemoveQuery.cypher())
+						.bind(TemplateSupport.convertIdValues(this.neo4jMappingContext, sourceEntity.getIdProperty(),
+								fromId))
+						.to(Constants.FROM_ID_PARAMETER_NAME)
+						.bind(removedIds)
+						.to(Constants.NAME_OF_IDS)
+						.bindAll(relationshipRemoveQuery.parameters())
+						.run()
+						.checkpoint("delete relationships")
+						.then());
+				}
+			}
+			else if (!isParentObjectNew && !stateMachine.hasProcessedRelationship(fromId, relationshipDescription)
+					&& !stateMachine.hasRemovedStaleRelationships(fromId, relationshipDescription)) {
 
 				if (idProperty != null) {
 					for (Object relatedValueToStore : relatedValuesToStore) {
@@ -1084,16 +1532,16 @@ public final class ReactiveNeo4jTemplate
 					}
 				}
 
-				Statement relationshipRemoveQuery = this.cypherGenerator.prepareDeleteOf(sourceEntity,
+				var relationshipRemoveQuery = this.renderedStatementCache.getDeleteOf(sourceEntity,
 						relationshipDescription, canUseElementId);
 
-				relationshipDeleteMonos.add(this.neo4jClient.query(this.renderer.render(relationshipRemoveQuery))
+				relationshipDeleteMonos.add(this.neo4jClient.query(relationshipRemoveQuery.cypher())
 					.bind(TemplateSupport.convertIdValues(this.neo4jMappingContext, sourceEntity.getIdProperty(),
 							fromId)) //
 					.to(Constants.FROM_ID_PARAMETER_NAME) //
 					.bind(knownRelationshipsIds) //
 					.to(Constants.NAME_OF_KNOWN_RELATIONSHIPS_PARAM) //
-					.bindAll(relationshipRemoveQuery.getCatalog().getParameters())
+					.bindAll(relationshipRemoveQuery.parameters())
 					.run()
 					.checkpoint("delete relationships")
 					.then());
@@ -1101,9 +1549,13 @@ public final class ReactiveNeo4jTemplate
 
 			// nothing to do because there is nothing to map
 			if (relationshipContext.inverseValueIsEmpty()) {
+				if (snapshots != null) {
+					snapshots.setRelatedIds(sourceEntity, fromId, relationshipDescription, Set.of());
+				}
 				return;
 			}
 			Neo4jPersistentProperty relationshipProperty = association.getInverse();
+			Set<Object> relatedIds = new HashSet<>();
 
 			stateMachine.markRelationshipAsProcessed(fromId, relationshipDescription);
 			Flux<RelationshipHandler> relationshipCreation = Flux.fromIterable(relatedValuesToStore)
@@ -1114,6 +1566,10 @@ public final class ReactiveNeo4jTemplate
 					Neo4jPersistentEntity<?> targetEntity = this.neo4jMappingContext
 						.getRequiredPersistentEntity(relatedObjectBeforeCallbacksApplied.getClass());
 					boolean isNewEntity = targetEntity.isNew(relatedObjectBeforeCallbacksApplied);
+					// Existing targets are matched by their id within the statement
+					// creating the relationship, without looking up their internal ids
+					boolean matchTargetById = !isNewEntity
+							&& TemplateSupport.canMatchTargetById(relationshipDescription, targetEntity);
 
 					return Mono.deferContextual(ctx ->
 
@@ -1124,7 +1580,15 @@ public final class ReactiveNeo4jTemplate
 					.flatMap(newRelatedObject -> {
 
 						Mono<Tuple2<AtomicReference<Object>, AtomicReference<Entity>>> queryOrSave;
-						if (stateMachine.hasProcessedValue(relatedValueToStore)) {
+						if (matchTargetById) {
+							Neo4jPersistentProperty targetIdProperty = targetEntity.getRequiredIdProperty();
+							Object targetId = TemplateSupport.convertIdValues(this.neo4jMappingContext,
+									targetIdProperty,
+									targetEntity.getPropertyAccessor(newRelatedObject).getProperty(targetIdProperty));
+							queryOrSave = Mono
+								.just(Tuples.of(new AtomicReference<>(targetId), new AtomicReference<>()));
+						}
+						else if (stateMachine.hasProcessedValue(relatedValueToStore)) {
 							AtomicReference<Object> relatedInternalId = new AtomicReference<>();
 							Object possibleValue = stateMachine.getObjectId(relatedValueToStore);
 							if (possibleValue != null) {
@@ -1136,7 +1600,7 @@ public final class ReactiveNeo4jTemplate
 							Mono<Entity> savedEntity;
 							if (isNewEntity || relationshipDescription.cascadeUpdates()) {
 								savedEntity = saveRelatedNode(newRelatedObject, targetEntity, includeProperty,
-										currentPropertyPath);
+										currentPropertyPath, snapshots);
 							}
 							else {
 								var targetPropertyAccessor = targetEntity.getPropertyAccessor(newRelatedObject);
@@ -1177,8 +1641,16 @@ public final class ReactiveNeo4jTemplate
 								TemplateSupport.updateVersionPropertyIfPossible(targetEntity, targetPropertyAccessor,
 										savedEntity);
 							}
-							stateMachine.markAsAliased(relatedObjectBeforeCallbacksApplied,
-									targetPropertyAccessor.getBean());
+							Object relatedId = targetPropertyAccessor.getProperty(requiredIdProperty);
+							if (relatedId != null) {
+								relatedIds.add(relatedId);
+							}
+							// Targets matched by id have not been processed, and there is
+							// no internal id to remember for them
+							if (!matchTargetById) {
+								stateMachine.markAsAliased(relatedObjectBeforeCallbacksApplied,
+										targetPropertyAccessor.getBean());
+							}
 							stateMachine.markRelationshipAsProcessed(
 									(possibleInternalLongId != null) ? possibleInternalLongId : relatedInternalId,
 									relationshipDescription.getRelationshipObverse());
@@ -1191,7 +1663,7 @@ public final class ReactiveNeo4jTemplate
 							boolean isNewRelationship = idValue == null;
 							CreateRelationshipStatementHolder statementHolder = this.neo4jMappingContext
 								.createStatementForSingleRelationship(sourceEntity, relationshipDescription,
-										relatedValueToStore, isNewRelationship, canUseElementId);
+										relatedValueToStore, isNewRelationship, canUseElementId, matchTargetById);
 
 							Map<String, @Nullable Object> properties = new HashMap<>();
 							properties.put(Constants.FROM_ID_PARAMETER_NAME, TemplateSupport.convertIdValues(
@@ -1223,6 +1695,31 @@ public final class ReactiveNeo4jTemplate
 							// in case of no properties the bind will just return an empty
 							// map
 							if (update) {
+								Mono<Object> processRelatedNode = Mono.defer(() -> {
+									Mono<Object> nestedRelationshipsSignal = null;
+									if (processState != ProcessState.PROCESSED_ALL_VALUES) {
+										nestedRelationshipsSignal = processNestedRelations(targetEntity,
+												targetPropertyAccessor, targetEntity.isNew(newRelatedObject),
+												stateMachine, knownRelationshipsIds, includeProperty,
+												currentPropertyPath, snapshots);
+									}
+
+									Mono<Object> getRelationshipOrRelationshipPropertiesObject = Mono
+										.fromSupplier(() -> MappingSupport
+											.getRelationshipOrRelationshipPropertiesObject(this.neo4jMappingContext,
+													relationshipDescription.hasRelationshipProperties(),
+													relationshipProperty.isDynamicAssociation(), relatedValueToStore,
+													targetPropertyAccessor));
+									return (nestedRelationshipsSignal != null)
+											? nestedRelationshipsSignal
+												.then(getRelationshipOrRelationshipPropertiesObject)
+											: getRelationshipOrRelationshipPropertiesObject;
+								});
+								// The relationship is known to exist already
+								if (trackedRelatedIds != null && relatedId != null
+										&& trackedRelatedIds.contains(relatedId)) {
+									return processRelatedNode;
+								}
 								return this.neo4jClient.query(this.renderer.render(statementHolder.getStatement()))
 									.bind(TemplateSupport.convertIdValues(this.neo4jMappingContext,
 											sourceEntity.getRequiredIdProperty(), fromId)) //
@@ -1236,6 +1733,10 @@ public final class ReactiveNeo4jTemplate
 									.fetchAs(Object.class)
 									.mappedBy((t, r) -> IdentitySupport.mapperForRelatedIdValues(idProperty).apply(r))
 									.one()
+									.switchIfEmpty(Mono.defer(() -> matchTargetById
+											? Mono.error(() -> TemplateSupport.unmatchedTargets(relationshipDescription,
+													1, 0))
+											: Mono.empty()))
 									.flatMap(relationshipInternalId -> {
 										if (idProperty != null && isNewRelationship
 												&& relationshipPropertiesPropertyAccessor != null) {
@@ -1243,25 +1744,7 @@ public final class ReactiveNeo4jTemplate
 													relationshipInternalId);
 											knownRelationshipsIds.add(relationshipInternalId);
 										}
-
-										Mono<Object> nestedRelationshipsSignal = null;
-										if (processState != ProcessState.PROCESSED_ALL_VALUES) {
-											nestedRelationshipsSignal = processNestedRelations(targetEntity,
-													targetPropertyAccessor, targetEntity.isNew(newRelatedObject),
-													stateMachine, knownRelationshipsIds, includeProperty,
-													currentPropertyPath);
-										}
-
-										Mono<Object> getRelationshipOrRelationshipPropertiesObject = Mono
-											.fromSupplier(() -> MappingSupport
-												.getRelationshipOrRelationshipPropertiesObject(this.neo4jMappingContext,
-														relationshipDescription.hasRelationshipProperties(),
-														relationshipProperty.isDynamicAssociation(),
-														relatedValueToStore, targetPropertyAccessor));
-										return (nestedRelationshipsSignal != null)
-												? nestedRelationshipsSignal
-													.then(getRelationshipOrRelationshipPropertiesObject)
-												: getRelationshipOrRelationshipPropertiesObject;
+										return processRelatedNode;
 									});
 							}
 							return Mono.fromSupplier(() -> MappingSupport.getRelationshipOrRelationshipPropertiesObject(
@@ -1281,6 +1764,11 @@ public final class ReactiveNeo4jTemplate
 					RelationshipHandler relationshipHandler = RelationshipHandler.forProperty(relationshipProperty,
 							rawValue);
 					return ctx.put(CONTEXT_RELATIONSHIP_HANDLER, relationshipHandler);
+				})
+				.doOnComplete(() -> {
+					if (snapshots != null) {
+						snapshots.setRelatedIds(sourceEntity, fromId, relationshipDescription, relatedIds);
+					}
 				});
 			relationshipCreationCreations.add(relationshipCreation);
 		});
@@ -1311,7 +1799,7 @@ public final class ReactiveNeo4jTemplate
 	}
 
 	// The pendant to {@link #saveRelatedNode(Object, Neo4jPersistentEntity,
-	// PropertyFilter, PropertyFilter.RelaxedPropertyPath)}
+	// PropertyFilter, PropertyFilter.RelaxedPropertyPath, EntitySnapshots)}
 	// We can't do without a query, as we need to refresh the internal id
 	private Mono<Entity> loadRelatedNode(NodeDescription<?> targetNodeDescription, @Nullable Object relatedInternalId) {
 
@@ -1337,7 +1825,8 @@ public final class ReactiveNeo4jTemplate
 	}
 
 	private Mono<Entity> saveRelatedNode(Object relatedNode, Neo4jPersistentEntity<?> targetNodeDescription,
-			PropertyFilter includeProperty, PropertyFilter.RelaxedPropertyPath currentPropertyPath) {
+			PropertyFilter includeProperty, PropertyFilter.RelaxedPropertyPath currentPropertyPath,
+			@Nullable EntitySnapshots snapshots) {
 
 		return determineDynamicLabels(relatedNode, targetNodeDescription).flatMap(t -> {
 			Object entity = t.getT1();
@@ -1365,14 +1854,22 @@ public final class ReactiveNeo4jTemplate
 				}
 				return tree;
 			});
-			var statement = this.cypherGenerator.prepareSaveOf(targetNodeDescription, dynamicLabels,
+			EntitySnapshots.ChangedPropertiesBinder<Object> changedPropertiesBinder = (snapshots != null)
+					? snapshots.retainChangedProperties(targetNodeDescription, binderFunction) : null;
+			var statement = this.renderedStatementCache.getSaveOf(targetNodeDescription, dynamicLabels,
 					TemplateSupport.rendererRendersElementId(this.renderer));
-			return this.neo4jClient.query(() -> this.renderer.render(statement))
+			return this.neo4jClient.query(statement.cypher())
 				.bind(entity)
-				.with(binderFunction)
-				.bindAll(statement.getCatalog().getParameters())
+				.with((changedPropertiesBinder != null) ? changedPropertiesBinder : binderFunction)
+				.bindAll(statement.parameters())
 				.fetchAs(Entity.class)
-				.one();
+				.one()
+				.doOnNext(savedNode -> {
+					if (changedPropertiesBinder != null) {
+						changedPropertiesBinder.written();
+					}
+				})
+				.flatMap(savedNode -> evictFromCache(entity).thenReturn(savedNode));
 		}).switchIfEmpty(Mono.defer(() -> {
 			if (targetNodeDescription.hasVersionProperty()) {
 				return Mono.error(() -> new OptimisticLockingFailureException(OPTIMISTIC_LOCKING_ERROR_MESSAGE));
@@ -1395,7 +1892,7 @@ public final class ReactiveNeo4jTemplate
 				.getNodeDescription();
 
 			boolean containsPossibleCircles = entityMetaData != null
-					&& entityMetaData.containsPossibleCircles(queryFragments::includeField);
+					&& entityMetaData.containsPossibleCircles(queryFragments.getIncludeField());
 			if (cypherQuery == null || containsPossibleCircles) {
 
 				if (entityMetaData != null && containsPossibleCircles && !queryFragments.isScalarValueReturn()) {
@@ -1449,6 +1946,7 @@ public final class ReactiveNeo4jTemplate
 		this.elementIdOrIdFunction = SpringDataCypherDsl.elementIdOrIdFunction
 			.apply(cypherDslConfiguration.getDialect());
 		this.cypherGenerator.setElementIdOrIdFunction(this.elementIdOrIdFunction);
+		this.renderedStatementCache = new RenderedStatementCache(this.cypherGenerator, this.renderer);
 
 		if (this.transactionalOperator != null && this.transactionalOperatorReadOnly != null) {
 			return;
@@ -1470,6 +1968,218 @@ public final class ReactiveNeo4jTemplate
 		setTransactionManager(reactiveTransactionManager);
 	}
 
+	/**
+	 * Returns the statistics of the cache for rendered save and delete statements of this
+	 * template.
+	 * @return a snapshot of the statistics
+	 * @since 8.2
+	 */
+	public RenderedStatementCache.Statistics getStatementCacheStatistics() {
+		return this.renderedStatementCache.getStatistics();
+	}
+
+	/**
+	 * Configures the default strategy for loading the related nodes of entities that
+	 * might contain cycles. Individual queries can override this via their
+	 * {@link QueryFragments}.
+	 * @param relatedNodesLoadingStrategy the new default strategy
+	 * @since 8.2
+	 */
+	public void setRelatedNodesLoadingStrategy(RelatedNodesLoadingStrategy relatedNodesLoadingStrategy) {
+		Assert.notNull(relatedNodesLoadingStrategy, "The loading strategy for related nodes must not be null");
+		this.relatedNodesLoadingStrategy = relatedNodesLoadingStrategy;
+	}
+
+	/**
+	 * Configures the maximum number of entities that are bound to a single statement when
+	 * saving collections of entities. Larger collections are saved with several
+	 * statements in the same transaction. The default is to save all entities of the same
+	 * type with one statement. The batch size can be changed for individual calls via
+	 * {@link ReactiveFluentSaveOperation.ExecutableSave#inBatchesOf(int)}.
+	 * @param saveBatchSize the new default batch size, must be positive
+	 * @since 8.2
+	 */
+	public void setSaveBatchSize(int saveBatchSize) {
+		Assert.isTrue(saveBatchSize > 0, "The batch size must be greater than 0");
+		this.saveBatchSize = saveBatchSize;
+	}
+
+	/**
+	 * Configures a second-level cache for entities marked with {@link CacheableNode}.
+	 * {@link #findById(Object, Class)} and {@link #findAllById(Iterable, Class)} answer
+	 * lookups of those entities from the cache and add the instances they load. Saving
+	 * and deleting entities through this template evicts them, loading an entity whose
+	 * version differs from the cached one evicts the cached one. Changes made by other
+	 * means than this template, such as custom queries, are not taken into account.
+	 * Cached instances are shared between all callers and should not be modified. No
+	 * cache is configured by default.
+	 * @param entityCache the cache to use, {@literal null} to disable caching
+	 * @since 8.2
+	 */
+	public void setEntityCache(@Nullable EntityCache entityCache) {
+		this.entityCache = (entityCache != null) ? new EntityCacheSupport(entityCache, this.neo4jMappingContext)
+				: null;
+	}
+
+	/**
+	 * Enables or disables the identity map of Neo4j transactions. With the identity map
+	 * enabled, the instances of entities loaded by {@link #findById(Object, Class)} and
+	 * {@link #findAllById(Iterable, Class)} within a transaction are registered with that
+	 * transaction. Both methods answer lookups of registered entities without querying
+	 * the database. Other queries neither register nor return registered instances, as
+	 * they might load entities only partially. Saving or deleting entities through this
+	 * template removes them, so that they are loaded again on the next lookup. The identity map requires
+	 * an ongoing transaction of a {@link ReactiveNeo4jTransactionManager} and is
+	 * discarded when the transaction completes. Changes made by other means than this
+	 * template, such as custom queries, are not taken into account.
+	 * @param identityMapEnabled {@literal true} to enable the identity map
+	 * @since 8.2
+	 */
+	public void setIdentityMapEnabled(boolean identityMapEnabled) {
+		this.identityMap = identityMapEnabled ? new EntityIdentityMapSupport(this.neo4jMappingContext) : null;
+	}
+
+	/**
+	 * Returns the statistics of the configured entity cache.
+	 * @return a snapshot of the statistics, empty if no cache is configured
+	 * @since 8.2
+	 */
+	public Optional<EntityCache.Statistics> getEntityCacheStatistics() {
+		return Optional.ofNullable(this.entityCache).map(cache -> cache.getEntityCache().getStatistics());
+	}
+
+	/**
+	 * Enables or disables change tracking. With change tracking enabled, the state of all
+	 * entities loaded or saved within a transaction is recorded, and saving them again in
+	 * the same transaction writes only the properties that changed since. Relationships
+	 * without properties and with a static type are not recreated as a whole anymore,
+	 * only the relationships to targets that have been removed are deleted and only those
+	 * to targets that have been added are created. Change tracking requires an ongoing
+	 * transaction spanning both loading and saving, otherwise entities are written as a
+	 * whole. Changes made by other means than this template, such as custom queries, are
+	 * not taken into account. Deleting entities through this template discards all
+	 * recorded state of the ongoing transaction.
+	 * @param changeTrackingEnabled {@literal true} to enable change tracking
+	 * @since 8.2
+	 */
+	public void setChangeTrackingEnabled(boolean changeTrackingEnabled) {
+		this.changeTrackingEnabled = changeTrackingEnabled;
+	}
+
+	private Mono<Optional<EntitySnapshots>> currentSnapshots() {
+
+		if (!this.changeTrackingEnabled) {
+			return Mono.just(Optional.empty());
+		}
+
+		return TransactionSynchronizationManager.forCurrentTransaction()
+			.filter(TransactionSynchronizationManager::isSynchronizationActive)
+			.map(synchronizationManager -> {
+				EntitySnapshots snapshots = (EntitySnapshots) synchronizationManager.getResource(this);
+				if (snapshots == null) {
+					EntitySnapshots newSnapshots = new EntitySnapshots(this.neo4jMappingContext);
+					synchronizationManager.bindResource(this, newSnapshots);
+					synchronizationManager.registerSynchronization(new TransactionSynchronization() {
+						@Override
+						public Mono<Void> suspend() {
+							return Mono.fromRunnable(
+									() -> synchronizationManager.unbindResourceIfPossible(ReactiveNeo4jTemplate.this));
+						}
+
+						@Override
+						public Mono<Void> resume() {
+							return Mono.fromRunnable(
+									() -> synchronizationManager.bindResource(ReactiveNeo4jTemplate.this, newSnapshots));
+						}
+
+						@Override
+						public Mono<Void> afterCompletion(int status) {
+							return Mono.fromRunnable(
+									() -> synchronizationManager.unbindResourceIfPossible(ReactiveNeo4jTemplate.this));
+						}
+					});
+					snapshots = newSnapshots;
+				}
+				return Optional.of(snapshots);
+			})
+			.onErrorResume(NoTransactionException.class, ex -> Mono.empty())
+			.defaultIfEmpty(Optional.empty());
+	}
+
+	private void evictIfStale(Object loadedEntity) {
+		if (this.entityCache != null) {
+			this.entityCache.evictIfStale(loadedEntity);
+		}
+	}
+
+	private <T> Mono<T> evictFromCache(T entity) {
+		Mono<Void> evicted = (this.entityCache != null) ? this.entityCache.evictReactive(entity) : Mono.empty();
+		return evicted.then(currentIdentityMap().map(optionalIdentityMap -> {
+			EntityIdentityMapSupport currentIdentityMapSupport = this.identityMap;
+			if (currentIdentityMapSupport != null) {
+				optionalIdentityMap.ifPresent(identityMap -> currentIdentityMapSupport.remove(identityMap, entity));
+			}
+			return entity;
+		}));
+	}
+
+	/**
+	 * Retrieves the identity map of the ongoing transaction.
+	 * @return the identity map of the ongoing transaction, empty if the identity map is
+	 * disabled or there is no transaction
+	 */
+	private Mono<Optional<EntityIdentityMap>> currentIdentityMap() {
+
+		if (this.identityMap == null) {
+			return Mono.just(Optional.empty());
+		}
+		return ReactiveNeo4jTransactionManager.retrieveIdentityMap()
+			.map(Optional::of)
+			.defaultIfEmpty(Optional.empty());
+	}
+
+	private Mono<Void> removeFromIdentityMap(Class<?> domainType, Iterable<?> ids) {
+		return currentIdentityMap().doOnNext(optionalIdentityMap -> {
+			EntityIdentityMapSupport currentIdentityMapSupport = this.identityMap;
+			if (currentIdentityMapSupport != null) {
+				optionalIdentityMap.ifPresent(identityMap -> ids
+					.forEach(id -> currentIdentityMapSupport.removeById(identityMap, domainType, id)));
+			}
+		}).then();
+	}
+
+	/**
+	 * Records the state of a loaded instance. Loaded instances are not registered in the
+	 * identity map here, as custom queries, projections and depth-limited loads might
+	 * yield partially populated instances; only {@link #findById(Object, Class)} and
+	 * {@link #findAllById(Iterable, Class)} register the instances they load.
+	 * @param value the loaded instance
+	 * @param snapshots the snapshots of the ongoing transaction
+	 * @param <T> the type of the instance
+	 * @return the loaded instance
+	 */
+	private <T> T afterLoad(T value, Optional<EntitySnapshots> snapshots) {
+
+		snapshots.ifPresent(s -> s.take(value));
+		return value;
+	}
+
+	private <T> T registerInIdentityMap(T entity, Optional<EntityIdentityMap> identityMap) {
+
+		EntityIdentityMapSupport currentIdentityMapSupport = this.identityMap;
+		return (currentIdentityMapSupport != null && identityMap.isPresent())
+				? currentIdentityMapSupport.register(identityMap.get(), entity) : entity;
+	}
+
+	private Mono<Void> discardSnapshots() {
+		return currentSnapshots().doOnNext(snapshots -> snapshots.ifPresent(EntitySnapshots::clear)).then();
+	}
+
+	private RelatedNodesLoadingStrategy getRelatedNodesLoadingStrategy(QueryFragments queryFragments) {
+		RelatedNodesLoadingStrategy strategy = queryFragments.getRelatedNodesLoadingStrategy();
+		return (strategy != null) ? strategy : this.relatedNodesLoadingStrategy;
+	}
+
 	private void setTransactionManager(@Nullable ReactiveTransactionManager reactiveTransactionManager) {
 		if (reactiveTransactionManager == null) {
 			return;
@@ -1477,6 +2187,8 @@ public final class ReactiveNeo4jTemplate
 		this.transactionalOperator = TransactionalOperator.create(reactiveTransactionManager);
 		this.transactionalOperatorReadOnly = TransactionalOperator.create(reactiveTransactionManager,
 				readOnlyTransactionDefinition);
+		this.transactionalOperatorRequiresNew = TransactionalOperator.create(reactiveTransactionManager,
+				requiresNewTransactionDefinition);
 	}
 
 	@Override
@@ -1510,17 +2222,19 @@ public final class ReactiveNeo4jTemplate
 		@SuppressWarnings("unchecked")
 		public Flux<T> getResults() {
 
-			return execute(this.fetchSpec.all().switchOnFirst((signal, f) -> {
+			Flux<T> results = this.fetchSpec.all().switchOnFirst((signal, f) -> {
 				if (signal.hasValue() && this.preparedQuery.resultsHaveBeenAggregated()) {
 					return f.concatMap(nested -> Flux.fromIterable((Collection<T>) nested).distinct()).distinct();
 				}
 				return f;
-			}));
+			}).doOnNext(ReactiveNeo4jTemplate.this::evictIfStale);
+			return execute(
+					currentSnapshots().flatMapMany(snapshots -> results.map(value -> afterLoad(value, snapshots))));
 		}
 
 		@Override
 		public Mono<T> getSingleResult() {
-			return execute(this.fetchSpec.one().map(t -> {
+			Mono<T> result = this.fetchSpec.one().map(t -> {
 				if (t instanceof LinkedHashSet) {
 					@SuppressWarnings("unchecked")
 					T firstItem = (T) ((LinkedHashSet<?>) t).iterator().next();
@@ -1529,9 +2243,15 @@ public final class ReactiveNeo4jTemplate
 				return t;
 			})
 				.onErrorMap(IndexOutOfBoundsException.class,
-						e -> new IncorrectResultSizeDataAccessException(Objects.requireNonNull(e.getMessage()), 1)));
+						e -> new IncorrectResultSizeDataAccessException(Objects.requireNonNull(e.getMessage()), 1))
+				.doOnNext(ReactiveNeo4jTemplate.this::evictIfStale);
+			return execute(currentSnapshots().flatMap(snapshots -> result.map(value -> afterLoad(value, snapshots))));
 		}
 
 	}
 
+	private record BatchedInstance<T>(boolean wasNew, PersistentPropertyAccessor<T> propertyAccessor,
+			Neo4jPersistentEntity<?> entityMetaData, PropertyFilter includePropertyPredicate) {
+	}
+
 }
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import org.apiguardian.api.API;
+
+/**
+ * Strategies for discovering the related nodes and relationships of entities that might
+ * contain cycles. Those entities cannot be loaded with a single, nested projection, so
+ * the ids of all reachable nodes and relationships are collected first, and the entities
+ * are loaded afterward in one go.
+ *
+ * @author Michael J. Simons
+ * @since 8.2
+ */
+@API(status = API.Status.STABLE, since = "8.2")
+public enum RelatedNodesLoadingStrategy {
+
+	/**
+	 * Issues one query per relationship and traversal step, following each relationship
+	 * as deep as possible before continuing with the next one. This is the default.
+	 */
+	PER_RELATIONSHIP,
+
+	/**
+	 * Traverses the graph breadth first and issues one query per level, combining all
+	 * relationships to follow on that level into a single statement. This reduces the
+	 * number of round trips for deep graphs considerably.
+	 */
+	PER_LEVEL
+
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.neo4j.cypherdsl.core.Condition;
+import org.neo4j.cypherdsl.core.Cypher;
+import org.neo4j.cypherdsl.core.FunctionInvocation;
+import org.neo4j.cypherdsl.core.Named;
+import org.neo4j.cypherdsl.core.Node;
+import org.neo4j.cypherdsl.core.Statement;
+
+import org.springframework.data.mapping.Association;
+import org.springframework.data.neo4j.core.TemplateSupport.NodesAndRelationshipsByIdStatementProvider;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.CypherGenerator;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.core.mapping.NodeDescription;
+import org.springframework.data.neo4j.core.mapping.PropertyFilter;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+import org.springframework.data.neo4j.core.schema.TargetNode;
+import org.springframework.data.neo4j.repository.query.QueryFragments;
+
+/**
+ * Collects the ids of all nodes and relationships reachable from the root nodes of a
+ * query for entities that might contain cycles, one level at a time. The first level
+ * starts from the ids of the root nodes of the requested page. All relationships
+ * that need to be followed on a level are combined into one statement via
+ * {@code UNION ALL}, each part tagged with the index of its expansion, so that a level
+ * costs exactly one round trip. Used by both templates for
+ * {@link RelatedNodesLoadingStrategy#PER_LEVEL}. Instances are stateful and must be used
+ * for one query only.
+ *
+ * @author Michael J. Simons
+ */
+final class RelatedNodesPerLevel {
+
+	private static final String NAME_OF_EXPANSION = "__expansion__";
+
+	private final CypherGenerator cypherGenerator;
+
+	private final Function<Named, FunctionInvocation> elementIdOrIdFunction;
+
+	private final QueryFragments queryFragments;
+
+	private final Class<?> rootClass;
+
+	private final Map<String, Set<String>> relationshipsToRelatedNodeIds = new HashMap<>();
+
+	RelatedNodesPerLevel(CypherGenerator cypherGenerator, Function<Named, FunctionInvocation> elementIdOrIdFunction,
+			QueryFragments queryFragments, Class<?> rootClass) {
+		this.cypherGenerator = cypherGenerator;
+		this.elementIdOrIdFunction = elementIdOrIdFunction;
+		this.queryFragments = queryFragments;
+		this.rootClass = rootClass;
+	}
+
+	private static List<String> ids(@Nullable Object values) {
+		if (!(values instanceof Collection<?> collection)) {
+			return List.of();
+		}
+		return collection.stream().map(TemplateSupport::convertIdOrElementIdToString).toList();
+	}
+
+	/**
+	 * Creates the statement retrieving the ids of the root nodes matching the query
+	 * fragments, honoring their order, skip and limit.
+	 * @param entityMetaData the entity being loaded
+	 * @return a statement returning one id per row
+	 */
+	Statement toRootNodeIdsStatement(Neo4jPersistentEntity<?> entityMetaData) {
+		return this.cypherGenerator.prepareMatchOfRootNodeIds(entityMetaData, this.queryFragments.getMatchOn(),
+				this.queryFragments.getCondition(), this.queryFragments.getOrderBy(), this.queryFragments.getSkip(),
+				this.queryFragments.getLimit());
+	}
+
+	/**
+	 * Extracts the ids of the root nodes from the rows returned by the statement created
+	 * through {@link #toRootNodeIdsStatement(Neo4jPersistentEntity)}.
+	 * @param rows the rows returned
+	 * @return the ids of the root nodes in the order of the rows
+	 */
+	static Set<String> rootNodeIds(Collection<Map<String, Object>> rows) {
+		Set<String> rootNodeIds = new LinkedHashSet<>();
+		for (Map<String, Object> row : rows) {
+			Object rootNodeId = row.get(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE);
+			if (rootNodeId != null) {
+				rootNodeIds.add(TemplateSupport.convertIdOrElementIdToString(rootNodeId));
+			}
+		}
+		return rootNodeIds;
+	}
+
+	/**
+	 * Computes the first level, starting at the given root nodes.
+	 * @param entityMetaData the entity being loaded
+	 * @param rootNodeIds the ids of the root nodes
+	 * @return the expansions of the first level, empty if there are no root nodes
+	 */
+	List<Expansion> firstLevel(Neo4jPersistentEntity<?> entityMetaData, Collection<String> rootNodeIds) {
+		List<Expansion> expansions = new ArrayList<>();
+		if (rootNodeIds.isEmpty()) {
+			return expansions;
+		}
+		for (RelationshipDescription relationshipDescription : entityMetaData
+			.getRelationshipsInHierarchy(this.queryFragments.getIncludeField())) {
+			expansions.add(new Expansion(entityMetaData, relationshipDescription, PropertyPathWalkStep.empty(),
+					new LinkedHashSet<>(rootNodeIds)));
+		}
+		return expansions;
+	}
+
+	/**
+	 * Creates a single statement for all expansions of a level. Each part of the
+	 * statement returns exactly one row.
+	 * @param level the expansions of the level, must not be empty
+	 * @return a statement retrieving all related nodes and relationships of the level
+	 */
+	Statement toStatement(List<Expansion> level) {
+
+		List<Statement> parts = new ArrayList<>(level.size());
+		for (int i = 0; i < level.size(); ++i) {
+			Expansion expansion = level.get(i);
+			Node node = Cypher.anyNode(Constants.NAME_OF_TYPED_ROOT_NODE.apply(expansion.source()));
+			Condition condition = this.elementIdOrIdFunction.apply(node)
+				.in(Cypher.parameter(Constants.NAME_OF_IDS + i,
+						TemplateSupport.convertToLongIdOrStringElementId(expansion.sourceNodeIds())));
+			parts.add(this.cypherGenerator
+				.prepareMatchOf(expansion.source(), expansion.relationship(), null, condition)
+				.returning(this.cypherGenerator.createGenericReturnStatement(Cypher.literalOf(i).as(NAME_OF_EXPANSION)))
+				.build());
+		}
+		return (parts.size() == 1) ? parts.get(0) : Cypher.unionAll(parts.toArray(Statement[]::new));
+	}
+
+	/**
+	 * Processes the result of a level and computes the next level. Newly discovered nodes
+	 * of the same relationship and path are combined into one expansion.
+	 * @param level the level that has been executed
+	 * @param rows the rows returned by the statement for that level
+	 * @return the expansions of the next level, might be empty
+	 */
+	List<Expansion> nextLevel(List<Expansion> level, Collection<Map<String, Object>> rows) {
+
+		List<Map<String, Object>> orderedRows = new ArrayList<>(rows);
+		orderedRows.sort(Comparator.comparingInt(row -> ((Number) row.get(NAME_OF_EXPANSION)).intValue()));
+
+		List<Expansion> nextLevel = new ArrayList<>();
+		for (Map<String, Object> row : orderedRows) {
+			Expansion expansion = level.get(((Number) row.get(NAME_OF_EXPANSION)).intValue());
+
+			Set<String> relatedIds = merge(ids(row.get(Constants.NAME_OF_SYNTHESIZED_RELATIONS)),
+					new HashSet<>(ids(row.get(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES))));
+			if (relatedIds.isEmpty()) {
+				continue;
+			}
+
+			NodeDescription<?> target = expansion.relationship().getTarget();
+			PropertyPathWalkStep nextPathStep = nextPathStep(expansion);
+			for (RelationshipDescription relationshipDescription : target.getRelationshipsInHierarchy(
+					this.queryFragments.getIncludeField(),
+					PropertyFilter.RelaxedPropertyPath.withRootType(this.rootClass).append(nextPathStep.path))) {
+				Expansion next = nextLevel.stream()
+					.filter(candidate -> candidate.relationship() == relationshipDescription
+							&& candidate.pathStep().path.equals(nextPathStep.path))
+					.findFirst()
+					.orElseGet(() -> {
+						Expansion newExpansion = new Expansion(target, relationshipDescription, nextPathStep,
+								new LinkedHashSet<>());
+						nextLevel.add(newExpansion);
+						return newExpansion;
+					});
+				next.sourceNodeIds().addAll(relatedIds);
+			}
+		}
+		return nextLevel;
+	}
+
+	/**
+	 * Records new relationships and returns the related nodes that still need to be
+	 * explored. As we don't know which id came with which node, we need to assume that a
+	 * relationship id connects to all related nodes.
+	 * @param newRelationshipIds the ids of the relationships retrieved
+	 * @param relatedIds the ids of the related nodes retrieved
+	 * @return the ids of the nodes that need to be explored further
+	 */
+	private Set<String> merge(List<String> newRelationshipIds, Set<String> relatedIds) {
+
+		Map<String, Set<String>> relatedNodesVisited = new HashMap<>(this.relationshipsToRelatedNodeIds);
+		for (String newRelationshipId : newRelationshipIds) {
+			relatedNodesVisited.put(newRelationshipId, relatedIds);
+			Set<String> knownRelatedNodesBefore = this.relationshipsToRelatedNodeIds.get(newRelationshipId);
+			if (knownRelatedNodesBefore != null) {
+				Set<String> mergedKnownRelatedNodes = new HashSet<>(knownRelatedNodesBefore);
+				mergedKnownRelatedNodes.addAll(relatedIds);
+				relatedNodesVisited.put(newRelationshipId, mergedKnownRelatedNodes);
+				relatedIds.removeAll(knownRelatedNodesBefore);
+			}
+		}
+		this.relationshipsToRelatedNodeIds.putAll(relatedNodesVisited);
+		return new HashSet<>(relatedIds);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static PropertyPathWalkStep nextPathStep(Expansion expansion) {
+
+		RelationshipDescription relationshipDescription = expansion.relationship();
+		String fieldName = ((Association<@NonNull Neo4jPersistentProperty>) relationshipDescription).getInverse()
+			.getFieldName();
+		if (relationshipDescription.hasRelationshipProperties()) {
+			Neo4jPersistentEntity<?> relationshipPropertiesEntity = (Neo4jPersistentEntity<?>) relationshipDescription
+				.getRequiredRelationshipPropertiesEntity();
+			Neo4jPersistentProperty targetNodeProperty = Objects.requireNonNull(
+					relationshipPropertiesEntity.getPersistentProperty(TargetNode.class),
+					() -> "Could not get target node property on %s".formatted(relationshipPropertiesEntity.getType()));
+			return expansion.pathStep().with(fieldName + "." + targetNodeProperty.getFieldName());
+		}
+		return expansion.pathStep().with(fieldName);
+	}
+
+	/**
+	 * Creates the provider for the final statement, loading all discovered nodes and
+	 * relationships at once. As the root node ids already represent the requested page,
+	 * the final statement does not skip or limit them again.
+	 * @param rootNodeIds the ids of the root nodes
+	 * @return a statement provider
+	 */
+	NodesAndRelationshipsByIdStatementProvider toStatementProvider(Collection<String> rootNodeIds) {
+		if (rootNodeIds.isEmpty()) {
+			return NodesAndRelationshipsByIdStatementProvider.EMPTY;
+		}
+		return new NodesAndRelationshipsByIdStatementProvider(rootNodeIds, this.relationshipsToRelatedNodeIds.keySet(),
+				this.relationshipsToRelatedNodeIds.values().stream().flatMap(Collection::stream).toList(),
+				this.queryFragments, this.elementIdOrIdFunction, true);
+	}
+
+	/**
+	 * A relationship to follow from a set of source nodes.
+	 *
+	 * @param source the description of the source nodes
+	 * @param relationship the relationship to follow
+	 * @param pathStep the path leading to the source nodes
+	 * @param sourceNodeIds the ids of the source nodes
+	 */
+	record Expansion(NodeDescription<?> source, RelationshipDescription relationship, PropertyPathWalkStep pathStep,
+			Set<String> sourceNodeIds) {
+	}
+
+}
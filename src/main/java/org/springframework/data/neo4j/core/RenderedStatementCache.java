@@ -0,0 +1,290 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.neo4j.cypherdsl.core.Statement;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+
+import org.springframework.data.neo4j.core.mapping.CypherGenerator;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * A bounded, thread-safe cache of rendered save, create, lookup and delete statements
+ * used by the templates. The Cypher generated for those statements depends only on the
+ * entity metadata, a couple of flags and the dynamic labels to change (which might be
+ * rendered as literals, depending on the dialect), so there is no need to build and
+ * render the statement on each save. The cache is tied to a {@link Renderer} and must be
+ * recreated when the renderer changes.
+ *
+ * @author Michael J. Simons
+ * @since 8.2
+ */
+@API(status = API.Status.INTERNAL, since = "8.2")
+public final class RenderedStatementCache {
+
+	/**
+	 * Default number of rendered statements kept.
+	 */
+	static final int DEFAULT_CAPACITY = 256;
+
+	private final ConcurrentLruCache<Key, RenderedStatement> cache;
+
+	private final LongAdder requests = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	RenderedStatementCache(CypherGenerator cypherGenerator, Renderer renderer) {
+		this(cypherGenerator, renderer, DEFAULT_CAPACITY);
+	}
+
+	RenderedStatementCache(CypherGenerator cypherGenerator, Renderer renderer, int capacity) {
+		this.cache = new ConcurrentLruCache<>(capacity, key -> {
+			this.misses.increment();
+			Statement statement = key.toStatement(cypherGenerator);
+			return new RenderedStatement(renderer.render(statement),
+					Map.copyOf(statement.getCatalog().getParameters()));
+		});
+	}
+
+	/**
+	 * Retrieves the rendered statement saving a single instance of the given entity.
+	 * @param entity the entity to save
+	 * @param dynamicLabels the dynamic labels of the instance to save
+	 * @param canUseElementId flag if the renderer supports the elementId function
+	 * @return a rendered statement
+	 * @see CypherGenerator#prepareSaveOf
+	 */
+	RenderedStatement getSaveOf(Neo4jPersistentEntity<?> entity, DynamicLabels dynamicLabels, boolean canUseElementId) {
+		return get(new Key(Kind.SAVE, entity, null, canUseElementId, dynamicLabels.getOldLabels(),
+				dynamicLabels.getNewLabels()));
+	}
+
+	/**
+	 * Retrieves the rendered statement saving multiple instances of the given entity.
+	 * @param entity the entity to save
+	 * @return a rendered statement
+	 * @see CypherGenerator#prepareSaveOfMultipleInstancesOf
+	 */
+	RenderedStatement getSaveOfMultipleInstancesOf(Neo4jPersistentEntity<?> entity) {
+		return getSaveOfMultipleInstancesOf(entity, DynamicLabels.EMPTY);
+	}
+
+	/**
+	 * Retrieves the rendered statement saving multiple instances of the given entity that
+	 * all share the same change of dynamic labels.
+	 * @param entity the entity to save
+	 * @param dynamicLabels the dynamic labels of all instances to save
+	 * @return a rendered statement
+	 * @see CypherGenerator#prepareSaveOfMultipleInstancesOf
+	 */
+	RenderedStatement getSaveOfMultipleInstancesOf(Neo4jPersistentEntity<?> entity, DynamicLabels dynamicLabels) {
+		return get(new Key(Kind.SAVE_ALL, entity, null, false, dynamicLabels.getOldLabels(),
+				dynamicLabels.getNewLabels()));
+	}
+
+	/**
+	 * Retrieves the rendered statement creating multiple new instances of the given
+	 * entity that all share the same dynamic labels.
+	 * @param entity the entity to create
+	 * @param dynamicLabels the dynamic labels of all instances to create
+	 * @return a rendered statement
+	 * @see CypherGenerator#prepareCreateOfMultipleInstancesOf
+	 */
+	RenderedStatement getCreateOfMultipleInstancesOf(Neo4jPersistentEntity<?> entity, DynamicLabels dynamicLabels) {
+		return get(new Key(Kind.CREATE_ALL, entity, null, false, dynamicLabels.getOldLabels(),
+				dynamicLabels.getNewLabels()));
+	}
+
+	/**
+	 * Retrieves the rendered statement returning the dynamic labels of multiple instances
+	 * of the given entity.
+	 * @param entity the entity to look up
+	 * @return a rendered statement
+	 * @see CypherGenerator#createStatementReturningDynamicLabelsOfMultipleInstances
+	 */
+	RenderedStatement getDynamicLabelsOfMultipleInstancesOf(Neo4jPersistentEntity<?> entity) {
+		return get(new Key(Kind.DYNAMIC_LABELS_OF_ALL, entity, null, false, List.of(), List.of()));
+	}
+
+	/**
+	 * Retrieves the rendered statement looking up multiple existing instances of the
+	 * given entity by their ids.
+	 * @param entity the entity to look up
+	 * @return a rendered statement
+	 * @see CypherGenerator#prepareMatchOfMultipleInstancesOf
+	 */
+	RenderedStatement getMatchOfMultipleInstancesOf(Neo4jPersistentEntity<?> entity) {
+		return get(new Key(Kind.MATCH_ALL, entity, null, false, List.of(), List.of()));
+	}
+
+	/**
+	 * Retrieves the rendered statement removing stale relationships of the given entity.
+	 * @param entity the source of the relationships
+	 * @param relationshipDescription the relationships to remove
+	 * @param canUseElementId flag if the renderer supports the elementId function
+	 * @return a rendered statement
+	 * @see CypherGenerator#prepareDeleteOf(Neo4jPersistentEntity,
+	 * RelationshipDescription, boolean)
+	 */
+	RenderedStatement getDeleteOf(Neo4jPersistentEntity<?> entity, RelationshipDescription relationshipDescription,
+			boolean canUseElementId) {
+		return get(new Key(Kind.DELETE_RELATIONSHIPS, entity, relationshipDescription, canUseElementId, List.of(),
+				List.of()));
+	}
+
+	/**
+	 * Retrieves the rendered statement removing stale relationships of multiple instances
+	 * of the given entity at once.
+	 * @param entity the source of the relationships
+	 * @param relationshipDescription the relationships to remove
+	 * @param canUseElementId flag if the renderer supports the elementId function
+	 * @return a rendered statement
+	 * @see CypherGenerator#prepareDeleteOfRelationshipsOfMultipleInstancesOf
+	 */
+	RenderedStatement getDeleteOfMultipleInstancesOf(Neo4jPersistentEntity<?> entity,
+			RelationshipDescription relationshipDescription, boolean canUseElementId) {
+		return get(new Key(Kind.DELETE_RELATIONSHIPS_OF_ALL, entity, relationshipDescription, canUseElementId,
+				List.of(), List.of()));
+	}
+
+	/**
+	 * Retrieves the rendered statement removing the relationships of an instance of the
+	 * given entity to specific targets.
+	 * @param entity the source of the relationships
+	 * @param relationshipDescription the relationships to remove
+	 * @param canUseElementId flag if the renderer supports the elementId function
+	 * @return a rendered statement
+	 * @see CypherGenerator#prepareDeleteOfRelationshipsTo
+	 */
+	RenderedStatement getDeleteOfRelationshipsTo(Neo4jPersistentEntity<?> entity,
+			RelationshipDescription relationshipDescription, boolean canUseElementId) {
+		return get(new Key(Kind.DELETE_RELATIONSHIPS_TO, entity, relationshipDescription, canUseElementId, List.of(),
+				List.of()));
+	}
+
+	private RenderedStatement get(Key key) {
+		this.requests.increment();
+		return this.cache.get(key);
+	}
+
+	/**
+	 * Returns a snapshot of the statistics of this cache.
+	 * @return the current statistics
+	 */
+	public Statistics getStatistics() {
+		long numberOfMisses = this.misses.sum();
+		return new Statistics(Math.max(0, this.requests.sum() - numberOfMisses), numberOfMisses, this.cache.size(),
+				this.cache.capacity());
+	}
+
+	enum Kind {
+
+		SAVE, SAVE_ALL, CREATE_ALL, MATCH_ALL, DYNAMIC_LABELS_OF_ALL, DELETE_RELATIONSHIPS, DELETE_RELATIONSHIPS_OF_ALL,
+		DELETE_RELATIONSHIPS_TO
+
+	}
+
+	/**
+	 * A rendered statement together with the parameters that have been defined while
+	 * building the statement. Additional parameters must be bound at runtime.
+	 *
+	 * @param cypher the rendered Cypher
+	 * @param parameters the parameters from the statements catalog
+	 */
+	record RenderedStatement(String cypher, Map<String, Object> parameters) {
+	}
+
+	/**
+	 * Statistics of a {@link RenderedStatementCache}.
+	 *
+	 * @param hits the number of requests that have been answered from the cache
+	 * @param misses the number of requests that required building and rendering a
+	 * statement
+	 * @param size the number of statements currently cached
+	 * @param capacity the maximum number of statements cached
+	 */
+	public record Statistics(long hits, long misses, int size, int capacity) {
+
+		/**
+		 * Computes the ratio of hits to all requests.
+		 * @return the hit ratio, {@literal 0.0} if the cache has not been used
+		 */
+		public double hitRatio() {
+			long total = this.hits + this.misses;
+			return (total != 0) ? (double) this.hits / total : 0.0;
+		}
+
+	}
+
+	/**
+	 * The key for a rendered statement. Node and relationship descriptions are compared
+	 * by identity, as they are unique for a mapping context. The version property is
+	 * implied by the entity.
+	 */
+	private record Key(Kind kind, Neo4jPersistentEntity<?> entity, @Nullable RelationshipDescription relationship,
+			boolean canUseElementId, List<String> oldLabels, List<String> newLabels) {
+
+		Statement toStatement(CypherGenerator cypherGenerator) {
+			return switch (this.kind) {
+				case SAVE -> cypherGenerator.prepareSaveOf(this.entity,
+						new DynamicLabels(this.entity, this.oldLabels, this.newLabels), this.canUseElementId);
+				case SAVE_ALL -> cypherGenerator.prepareSaveOfMultipleInstancesOf(this.entity,
+						new DynamicLabels(this.entity, this.oldLabels, this.newLabels));
+				case CREATE_ALL -> cypherGenerator.prepareCreateOfMultipleInstancesOf(this.entity,
+						new DynamicLabels(this.entity, this.oldLabels, this.newLabels));
+				case MATCH_ALL -> cypherGenerator.prepareMatchOfMultipleInstancesOf(this.entity);
+				case DYNAMIC_LABELS_OF_ALL ->
+					cypherGenerator.createStatementReturningDynamicLabelsOfMultipleInstances(this.entity);
+				case DELETE_RELATIONSHIPS -> cypherGenerator.prepareDeleteOf(this.entity,
+						Objects.requireNonNull(this.relationship), this.canUseElementId);
+				case DELETE_RELATIONSHIPS_OF_ALL -> cypherGenerator.prepareDeleteOfRelationshipsOfMultipleInstancesOf(
+						this.entity, Objects.requireNonNull(this.relationship), this.canUseElementId);
+				case DELETE_RELATIONSHIPS_TO -> cypherGenerator.prepareDeleteOfRelationshipsTo(this.entity,
+						Objects.requireNonNull(this.relationship), this.canUseElementId);
+			};
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key that)) {
+				return false;
+			}
+			return this.kind == that.kind && this.entity == that.entity && this.relationship == that.relationship
+					&& this.canUseElementId == that.canUseElementId && this.oldLabels.equals(that.oldLabels)
+					&& this.newLabels.equals(that.newLabels);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.kind, System.identityHashCode(this.entity),
+					System.identityHashCode(this.relationship), this.canUseElementId, this.oldLabels, this.newLabels);
+		}
+
+	}
+
+}
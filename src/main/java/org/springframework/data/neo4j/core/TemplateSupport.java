@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -45,25 +46,35 @@ import org.neo4j.cypherdsl.core.Relationship;
 import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.cypherdsl.core.renderer.Dialect;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.neo4j.driver.Record;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
+import org.neo4j.driver.summary.ResultSummary;
 import org.neo4j.driver.types.Entity;
 import org.neo4j.driver.types.MapAccessor;
 import org.neo4j.driver.types.TypeSystem;
 
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.core.PropertyPath;
 import org.springframework.data.core.TypeInformation;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.neo4j.core.mapping.AssociationHandlerSupport;
 import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.CypherGenerator;
 import org.springframework.data.neo4j.core.mapping.EntityInstanceWithSource;
 import org.springframework.data.neo4j.core.mapping.IdDescription;
 import org.springframework.data.neo4j.core.mapping.IdentitySupport;
+import org.springframework.data.neo4j.core.mapping.MappingSupport;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.core.mapping.NestedRelationshipContext;
+import org.springframework.data.neo4j.core.mapping.NestedRelationshipProcessingStateMachine;
 import org.springframework.data.neo4j.core.mapping.NodeDescription;
 import org.springframework.data.neo4j.core.mapping.PropertyFilter;
 import org.springframework.data.neo4j.core.mapping.PropertyTraverser;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
 import org.springframework.data.neo4j.core.mapping.SpringDataCypherDsl;
 import org.springframework.data.neo4j.repository.query.QueryFragments;
 import org.springframework.util.Assert;
@@ -152,6 +163,40 @@ public final class TemplateSupport {
 		}
 	}
 
+	/**
+	 * Applies the versions returned by a batched save to the saved instances. Instances
+	 * that failed the version check don't have a corresponding row in the result.
+	 * @param ctx the mapping context, used to convert the ids
+	 * @param entityMetaData the versioned entity that has been saved
+	 * @param propertyAccessors the accessors of all instances saved
+	 * @param savedInstances the rows returned by the batched save, keyed by their ids
+	 * @throws OptimisticLockingFailureException listing the ids of all instances that
+	 * failed the version check
+	 */
+	static void updateVersionPropertiesOfMultipleInstances(Neo4jMappingContext ctx,
+			Neo4jPersistentEntity<?> entityMetaData, List<? extends PersistentPropertyAccessor<?>> propertyAccessors,
+			Map<Value, SavedInstance> savedInstances) {
+
+		Neo4jPersistentProperty idProperty = entityMetaData.getRequiredIdProperty();
+		Neo4jPersistentProperty versionProperty = entityMetaData.getRequiredVersionProperty();
+		List<Object> failedIds = new ArrayList<>();
+		for (PersistentPropertyAccessor<?> propertyAccessor : propertyAccessors) {
+			Object id = propertyAccessor.getProperty(idProperty);
+			SavedInstance savedInstance = savedInstances.get(convertIdValues(ctx, idProperty, id));
+			if (savedInstance == null || savedInstance.version() == null) {
+				failedIds.add(id);
+			}
+			else {
+				propertyAccessor.setProperty(versionProperty, savedInstance.version());
+			}
+		}
+
+		if (!failedIds.isEmpty()) {
+			throw new OptimisticLockingFailureException(
+					"Entities with the required version do not exist for the following ids: " + failedIds);
+		}
+	}
+
 	/**
 	 * Merges statement and explicit parameters. Statement parameters have a higher
 	 * precedence
@@ -168,6 +213,260 @@ public final class TemplateSupport {
 		return mergedParameters;
 	}
 
+	/**
+	 * Collects the rows needed for removing the stale relationships of multiple existing
+	 * instances of an entity with one statement per relationship and marks those
+	 * relationships in the state machine, so that they are not removed again one by one.
+	 * Relationships that are mapped from both sides are skipped: whether their stale
+	 * instances are removed depends on the order in which the instances are processed.
+	 * Relationships that are tracked in the given snapshots are skipped as well, only
+	 * their removed targets are deleted one by one.
+	 * @param ctx the mapping context
+	 * @param entityMetaData the entity owning the relationships
+	 * @param existingInstances accessors for the instances that are not new
+	 * @param includeProperty the property filter in use
+	 * @param stateMachine the state machine of the current save operation
+	 * @param snapshots the snapshots of the ongoing transaction, might be {@literal null}
+	 * @return one list of rows per relationship
+	 */
+	@SuppressWarnings("deprecation")
+	static Map<RelationshipDescription, List<Map<String, Object>>> prepareRemovalOfStaleRelationships(
+			Neo4jMappingContext ctx, Neo4jPersistentEntity<?> entityMetaData,
+			Collection<? extends PersistentPropertyAccessor<?>> existingInstances, PropertyFilter includeProperty,
+			NestedRelationshipProcessingStateMachine stateMachine, @Nullable EntitySnapshots snapshots) {
+
+		Map<RelationshipDescription, List<Map<String, Object>>> rows = new LinkedHashMap<>();
+		PropertyFilter.RelaxedPropertyPath startingPropertyPath = PropertyFilter.RelaxedPropertyPath
+			.withRootType(entityMetaData.getUnderlyingClass());
+		for (PersistentPropertyAccessor<?> propertyAccessor : existingInstances) {
+			Object fromId = propertyAccessor.getProperty(entityMetaData.getRequiredIdProperty());
+			if (fromId == null) {
+				continue;
+			}
+			AssociationHandlerSupport.of(entityMetaData).doWithAssociations(association -> {
+				NestedRelationshipContext relationshipContext = NestedRelationshipContext.of(association,
+						propertyAccessor, entityMetaData);
+				RelationshipDescription relationshipDescription = relationshipContext.getRelationship();
+				if (relationshipContext.isReadOnly() || relationshipDescription.getRelationshipObverse() != null
+						|| (!includeProperty.isNotFiltering() && !includeProperty
+							.contains(startingPropertyPath.append(relationshipDescription.getFieldName())))
+						|| (snapshots != null
+								&& snapshots.getRelatedIds(entityMetaData, fromId, relationshipDescription) != null)) {
+					return;
+				}
+
+				Neo4jPersistentProperty idProperty = null;
+				if (relationshipDescription.hasInternalIdProperty() && relationshipDescription
+					.getRelationshipPropertiesEntity() instanceof Neo4jPersistentEntity<?> relationshipPropertiesEntity) {
+					idProperty = relationshipPropertiesEntity.getIdProperty();
+				}
+				List<Object> knownRelationshipsIds = new ArrayList<>();
+				if (idProperty != null) {
+					for (Object relatedValueToStore : MappingSupport
+						.unifyRelationshipValue(relationshipContext.getInverse(), relationshipContext.getValue())) {
+						PersistentPropertyAccessor<?> relationshipPropertiesPropertyAccessor = (relatedValueToStore != null)
+								? relationshipContext.getRelationshipPropertiesPropertyAccessor(relatedValueToStore)
+								: null;
+						Object id = (relationshipPropertiesPropertyAccessor != null)
+								? relationshipPropertiesPropertyAccessor.getProperty(idProperty) : null;
+						if (id != null) {
+							knownRelationshipsIds.add(id);
+						}
+					}
+				}
+
+				Map<String, Object> row = new HashMap<>();
+				row.put(Constants.FROM_ID_PARAMETER_NAME, convertIdValues(ctx, entityMetaData.getIdProperty(), fromId));
+				row.put(Constants.NAME_OF_KNOWN_RELATIONSHIPS_PARAM, knownRelationshipsIds);
+				rows.computeIfAbsent(relationshipDescription, k -> new ArrayList<>()).add(row);
+				stateMachine.markStaleRelationshipsAsRemoved(fromId, relationshipDescription);
+			});
+		}
+		return rows;
+	}
+
+	/**
+	 * Collects the ids of the targets that have been removed from a relationship since
+	 * its last snapshot. Targets without an id are new and cannot have been removed.
+	 * @param ctx the mapping context
+	 * @param relationshipContext the relationship
+	 * @param relatedValues the current values of the relationship
+	 * @param trackedRelatedIds the ids of the targets as of the last snapshot
+	 * @return the converted ids of the removed targets
+	 */
+	static List<Object> collectRemovedRelatedIds(Neo4jMappingContext ctx, NestedRelationshipContext relationshipContext,
+			Collection<?> relatedValues, Set<Object> trackedRelatedIds) {
+
+		Set<Object> removedIds = new HashSet<>(trackedRelatedIds);
+		for (Object relatedValue : relatedValues) {
+			if (relatedValue == null) {
+				continue;
+			}
+			Object relatedNode = relationshipContext.identifyAndExtractRelationshipTargetNode(relatedValue);
+			Neo4jPersistentEntity<?> targetEntity = ctx.getRequiredPersistentEntity(relatedNode.getClass());
+			Object relatedId = targetEntity.getPropertyAccessor(relatedNode)
+				.getProperty(targetEntity.getRequiredIdProperty());
+			if (relatedId != null) {
+				removedIds.remove(relatedId);
+			}
+		}
+
+		Neo4jPersistentProperty idProperty = ((Neo4jPersistentEntity<?>) relationshipContext.getRelationship()
+			.getTarget()).getRequiredIdProperty();
+		return removedIds.stream().map(id -> convertIdValues(ctx, idProperty, id)).toList();
+	}
+
+	/**
+	 * Checks if relationships to an existing target can be created by matching the target
+	 * on its label and id property, instead of looking up its internal id first. This is
+	 * the case for relationships without properties and with a static type that don't
+	 * cascade updates, and for targets that are instances of exactly the declared target
+	 * type, with a single, external id and without a version.
+	 * @param relationship the relationship to create
+	 * @param targetEntity the entity of the actual target
+	 * @return true if the target can be matched by its id
+	 */
+	static boolean canMatchTargetById(RelationshipDescription relationship, Neo4jPersistentEntity<?> targetEntity) {
+
+		if (relationship.isDynamic() || relationship.hasRelationshipProperties() || relationship.cascadeUpdates()
+				|| !targetEntity.equals(relationship.getTarget())) {
+			return false;
+		}
+		Neo4jPersistentProperty idProperty = targetEntity.getIdProperty();
+		return !targetEntity.isUsingInternalIds() && idProperty != null && !idProperty.isComposite()
+				&& !targetEntity.hasVersionProperty();
+	}
+
+	/**
+	 * Creates the exception for relationships whose existing targets, matched by their
+	 * id, could not all be found. Looking up those targets one by one would have failed,
+	 * too.
+	 * @param relationship the relationship to create
+	 * @param expectedTargets the number of targets the relationships should have been
+	 * created to
+	 * @param matchedTargets the number of targets that have been matched
+	 * @return the exception to throw
+	 */
+	static InvalidDataAccessApiUsageException unmatchedTargets(RelationshipDescription relationship,
+			int expectedTargets, int matchedTargets) {
+		return new InvalidDataAccessApiUsageException(String.format(
+				"Could only match %d of %d existing targets of relationship %s to %s, related nodes must exist",
+				matchedTargets, expectedTargets, relationship.getType(),
+				relationship.getTarget().getUnderlyingClass().getName()));
+	}
+
+	/**
+	 * Collects the relationships of all instances of a bulk insert once all of their
+	 * nodes have been created, so that relationships between instances of different
+	 * types or batches are created exactly once.
+	 * @param ctx the mapping context
+	 * @param insertedInstances the inserted instances
+	 * @return the rows of relationships to create, partitioned by statement
+	 * @see #collectRelationshipsToCreate(Neo4jMappingContext, Neo4jPersistentEntity,
+	 * Collection, Set)
+	 */
+	static Map<RelationshipsToCreate, List<Map<String, Object>>> collectRelationshipsToCreate(Neo4jMappingContext ctx,
+			List<?> insertedInstances) {
+
+		Map<Class<?>, List<PersistentPropertyAccessor<?>>> propertyAccessorsByClass = new LinkedHashMap<>();
+		for (Object instance : insertedInstances) {
+			propertyAccessorsByClass.computeIfAbsent(instance.getClass(), type -> new ArrayList<>())
+				.add(ctx.getRequiredPersistentEntity(instance.getClass()).getPropertyAccessor(instance));
+		}
+
+		Map<RelationshipsToCreate, List<Map<String, Object>>> rows = new LinkedHashMap<>();
+		Set<List<Object>> collectedRelationships = new HashSet<>();
+		propertyAccessorsByClass.forEach((type, propertyAccessors) -> collectRelationshipsToCreate(ctx,
+				ctx.getRequiredPersistentEntity(type), propertyAccessors, collectedRelationships)
+			.forEach((key, rowsOfRelationship) -> rows.computeIfAbsent(key, k -> new ArrayList<>())
+				.addAll(rowsOfRelationship)));
+		return rows;
+	}
+
+	/**
+	 * Collects the relationships of new instances for a bulk insert, partitioned so that
+	 * each partition can be created with one statement. Related nodes are referenced by
+	 * their ids only and are neither created nor updated. Relationships that are mapped
+	 * from both sides are collected only once, using the given set of already collected
+	 * relationships.
+	 * @param ctx the mapping context
+	 * @param entityMetaData the entity owning the relationships
+	 * @param newInstances accessors for the new instances
+	 * @param collectedRelationships the relationships mapped from both sides that have
+	 * been collected so far, will be modified
+	 * @return the rows of relationships to create, partitioned by statement
+	 */
+	static Map<RelationshipsToCreate, List<Map<String, Object>>> collectRelationshipsToCreate(Neo4jMappingContext ctx,
+			Neo4jPersistentEntity<?> entityMetaData, Collection<? extends PersistentPropertyAccessor<?>> newInstances,
+			Set<List<Object>> collectedRelationships) {
+
+		Map<RelationshipsToCreate, List<Map<String, Object>>> rows = new LinkedHashMap<>();
+		for (PersistentPropertyAccessor<?> propertyAccessor : newInstances) {
+			Object fromId = Objects
+				.requireNonNull(propertyAccessor.getProperty(entityMetaData.getRequiredIdProperty()));
+			AssociationHandlerSupport.of(entityMetaData).doWithAssociations(association -> {
+				NestedRelationshipContext relationshipContext = NestedRelationshipContext.of(association,
+						propertyAccessor, entityMetaData);
+				if (relationshipContext.isReadOnly()) {
+					return;
+				}
+
+				RelationshipDescription relationshipDescription = relationshipContext.getRelationship();
+				Neo4jPersistentProperty inverse = relationshipContext.getInverse();
+				for (Object relatedValue : MappingSupport.unifyRelationshipValue(inverse,
+						relationshipContext.getValue())) {
+					if (relatedValue == null) {
+						continue;
+					}
+					Object relatedNode = relationshipContext.identifyAndExtractRelationshipTargetNode(relatedValue);
+					Neo4jPersistentEntity<?> targetEntity = ctx.getRequiredPersistentEntity(relatedNode.getClass());
+					Object toId = targetEntity.getPropertyAccessor(relatedNode)
+						.getProperty(targetEntity.getRequiredIdProperty());
+					if (toId == null) {
+						throw new IllegalArgumentException(("Cannot create a relationship from %s to an instance of %s "
+								+ "without id, related nodes must either exist or be inserted together")
+							.formatted(entityMetaData.getUnderlyingClass(), targetEntity.getUnderlyingClass()));
+					}
+
+					String type = relationshipDescription.getType();
+					Object relationshipValue = relatedValue;
+					if (relationshipDescription.isDynamic()) {
+						Map.Entry<?, ?> entry = (Map.Entry<?, ?>) relatedValue;
+						type = ctx.getConversionService()
+							.writeValue(entry.getKey(), inverse.getTypeInformation().getRequiredComponentType(),
+									inverse.getOptionalConverter())
+							.asString();
+						relationshipValue = entry.getValue();
+					}
+
+					if (relationshipDescription.getRelationshipObverse() != null
+							&& !collectedRelationships.add(relationshipDescription.isOutgoing()
+									? List.of(type, entityMetaData.getPrimaryLabel(), fromId,
+											targetEntity.getPrimaryLabel(), toId)
+									: List.of(type, targetEntity.getPrimaryLabel(), toId,
+											entityMetaData.getPrimaryLabel(), fromId))) {
+						continue;
+					}
+
+					Map<String, Object> row = new HashMap<>();
+					if (relationshipDescription.hasRelationshipProperties()) {
+						ctx.getEntityConverter()
+							.write(((MappingSupport.RelationshipPropertiesWithEntityHolder) relationshipValue)
+								.getRelationshipProperties(), row);
+					}
+					row.put(Constants.FROM_ID_PARAMETER_NAME,
+							convertIdValues(ctx, entityMetaData.getRequiredIdProperty(), fromId));
+					row.put(Constants.TO_ID_PARAMETER_NAME,
+							convertIdValues(ctx, targetEntity.getRequiredIdProperty(), toId));
+					rows.computeIfAbsent(new RelationshipsToCreate(entityMetaData, relationshipDescription,
+							targetEntity, relationshipDescription.isDynamic() ? type : null), k -> new ArrayList<>())
+						.add(row);
+				}
+			});
+		}
+		return rows;
+	}
+
 	/**
 	 * Checks if the {@code domainType} is a known entity in the {@code mappingContext}
 	 * and retrieves the mapping function for it. If the {@code resultType} is not an
@@ -339,6 +638,17 @@ public final class TemplateSupport {
 		return !targetEntity.isUsingDeprecatedInternalId() && rendererRendersElementId(renderer);
 	}
 
+	/**
+	 * Checks whether the roots of the given entity can be saved with the batch statement.
+	 * That statement neither deals with internal ids nor writes vector properties, which
+	 * require a procedure call per instance.
+	 * @param entityMetaData the entity to save
+	 * @return {@literal true} if the batch statement can be used
+	 */
+	static boolean canSaveRootsInBatch(Neo4jPersistentEntity<?> entityMetaData) {
+		return !entityMetaData.isUsingInternalIds() && !entityMetaData.hasVectorProperty();
+	}
+
 	static boolean rendererRendersElementId(Renderer renderer) {
 		return renderer.render(Cypher.returning(Cypher.elementId(Cypher.anyNode("n"))).build())
 			.endsWith("RETURN elementId(n)");
@@ -355,6 +665,24 @@ public final class TemplateSupport {
 		return value.toString();
 	}
 
+	/**
+	 * Converts the id of a node returned by a batch statement into the id used for that
+	 * node by the relationship statements, the same way the single statements use either
+	 * {@code Entity#elementId} or {@code Entity#id}: The element id is used only if the
+	 * renderer can use element ids for the given entity. Otherwise, the numeric id is
+	 * used, even if older dialects returned it as string via {@code toString(id(n))}.
+	 * @param value the value returned for the id of a node
+	 * @param canUseElementId the result of
+	 * {@link #rendererCanUseElementIdIfPresent(Renderer, Neo4jPersistentEntity)}
+	 * @return the element id or the numeric id
+	 */
+	static Object convertToInternalId(Value value, boolean canUseElementId) {
+		if (value.hasType(TypeSystem.getDefault().NUMBER())) {
+			return value.asLong();
+		}
+		return canUseElementId ? value.asString() : Long.valueOf(value.asString());
+	}
+
 	@Nullable static Object convertToLongIdOrStringElementId(@Nullable Collection<String> ids) {
 		if (ids == null) {
 			return null;
@@ -390,6 +718,118 @@ public final class TemplateSupport {
 		}
 	}
 
+	/**
+	 * Partitions the rows of a batched save by their change of dynamic labels, so that
+	 * each partition can be saved with one statement. Label sets are compared regardless
+	 * of their order.
+	 * @param entityMetaData the entity of all instances, must have dynamic labels
+	 * @param entities the instances to save
+	 * @param rows the bound instances, in the same order
+	 * @param existingLabels the current dynamic labels of existing nodes, keyed by id
+	 * @param <T> the type of the instances
+	 * @return the rows to save, partitioned by the change of dynamic labels
+	 */
+	static <T> Map<DynamicLabels, List<Map<String, Object>>> partitionByDynamicLabels(
+			Neo4jPersistentEntity<?> entityMetaData, List<T> entities, List<Map<String, Object>> rows,
+			Map<Value, List<String>> existingLabels) {
+
+		Neo4jPersistentProperty dynamicLabelsProperty = entityMetaData.getDynamicLabelsProperty().orElseThrow();
+		Map<List<List<String>>, List<Map<String, Object>>> rowsByLabels = new LinkedHashMap<>();
+		for (int i = 0; i < entities.size(); ++i) {
+			Map<String, Object> row = rows.get(i);
+			@SuppressWarnings("unchecked")
+			Collection<String> newLabels = (Collection<String>) entityMetaData.getPropertyAccessor(entities.get(i))
+				.getProperty(dynamicLabelsProperty);
+			List<List<String>> labels = List.of(normalizeLabels(existingLabels.get(row.get(Constants.NAME_OF_ID))),
+					normalizeLabels(newLabels));
+			rowsByLabels.computeIfAbsent(labels, key -> new ArrayList<>()).add(row);
+		}
+
+		Map<DynamicLabels, List<Map<String, Object>>> partitions = new LinkedHashMap<>();
+		rowsByLabels.forEach((labels, rowsOfPartition) -> partitions
+			.put(new DynamicLabels(entityMetaData, labels.get(0), labels.get(1)), rowsOfPartition));
+		return partitions;
+	}
+
+	private static List<String> normalizeLabels(@Nullable Collection<String> labels) {
+		return (labels != null) ? labels.stream().distinct().sorted().toList() : List.of();
+	}
+
+	/**
+	 * Splits the given values into consecutive batches of at most the given size. The
+	 * batches are views of the given list.
+	 * @param values the values to split
+	 * @param batchSize the maximum size of a batch, must be positive
+	 * @param <T> the type of the values
+	 * @return the batches, a single batch if the values fit into one
+	 */
+	static <T> List<List<T>> inBatchesOf(List<T> values, int batchSize) {
+
+		if (values.size() <= batchSize) {
+			return List.of(values);
+		}
+		List<List<T>> batches = new ArrayList<>((values.size() + batchSize - 1) / batchSize);
+		for (int i = 0; i < values.size(); i += batchSize) {
+			batches.add(values.subList(i, Math.min(values.size(), i + batchSize)));
+		}
+		return batches;
+	}
+
+	/**
+	 * Relationships of the same type between instances of the same source and target
+	 * entities, created with one statement during a bulk insert.
+	 *
+	 * @param source the entity of the start nodes
+	 * @param relationship the relationship to create
+	 * @param target the entity of the end nodes
+	 * @param dynamicType the type of dynamic relationships, {@literal null} otherwise
+	 */
+	record RelationshipsToCreate(Neo4jPersistentEntity<?> source, RelationshipDescription relationship,
+			Neo4jPersistentEntity<?> target, @Nullable String dynamicType) {
+
+		Statement toStatement(CypherGenerator cypherGenerator, boolean canUseElementId) {
+			return cypherGenerator.prepareCreateOfRelationships(this.source, this.relationship, this.target,
+					this.dynamicType, canUseElementId);
+		}
+
+		/**
+		 * Makes sure that each row of a batch created a relationship. The statement only
+		 * creates relationships between nodes it can match, so fewer relationships mean
+		 * that related nodes neither exist nor were part of the insert.
+		 * @param summary the summary of the statement
+		 * @param numberOfRows the number of rows in the batch
+		 */
+		void assertAllCreated(ResultSummary summary, int numberOfRows) {
+			int relationshipsCreated = summary.counters().relationshipsCreated();
+			if (relationshipsCreated < numberOfRows) {
+				throw new InvalidDataAccessApiUsageException(String.format("Could only create %d of %d relationships"
+						+ " of type %s from %s to %s, related nodes must either exist or be part of the same insert",
+						relationshipsCreated, numberOfRows,
+						(this.dynamicType != null) ? this.dynamicType : this.relationship.getType(),
+						this.source.getUnderlyingClass().getName(), this.target.getUnderlyingClass().getName()));
+			}
+		}
+
+	}
+
+	/**
+	 * A row returned by a batched save.
+	 *
+	 * @param elementId the element id (or the stringified internal id on older dialects)
+	 * of the saved node
+	 * @param version the version of the saved node, {@literal null} for entities without
+	 * version
+	 */
+	record SavedInstance(String elementId, @Nullable Long version) {
+
+		static SavedInstance of(Record record) {
+			Value version = record.get(Constants.NAME_OF_VERSION_PARAM);
+			return new SavedInstance(convertIdOrElementIdToString(record.get(Constants.NAME_OF_ELEMENT_ID)),
+					version.isNull() ? null : version.asLong());
+		}
+
+	}
+
 	enum FetchType {
 
 		ONE, ALL
@@ -429,11 +869,31 @@ public final class TemplateSupport {
 
 		private final Function<Named, FunctionInvocation> elementIdFunction;
 
+		private final boolean rootNodeIdsPaged;
+
 		NodesAndRelationshipsByIdStatementProvider(Collection<String> rootNodeIds, Collection<String> relationshipsIds,
 				Collection<String> relatedNodeIds, QueryFragments queryFragments,
 				Function<Named, FunctionInvocation> elementIdFunction) {
+			this(rootNodeIds, relationshipsIds, relatedNodeIds, queryFragments, elementIdFunction, false);
+		}
+
+		/**
+		 * Creates a new provider.
+		 * @param rootNodeIds the ids of the root nodes
+		 * @param relationshipsIds the ids of the relationships
+		 * @param relatedNodeIds the ids of the related nodes
+		 * @param queryFragments the fragments of the original query
+		 * @param elementIdFunction the function to retrieve ids
+		 * @param rootNodeIdsPaged {@literal true} if the root node ids already represent
+		 * the requested page, so that skip and limit of the query fragments must not be
+		 * applied again
+		 */
+		NodesAndRelationshipsByIdStatementProvider(Collection<String> rootNodeIds, Collection<String> relationshipsIds,
+				Collection<String> relatedNodeIds, QueryFragments queryFragments,
+				Function<Named, FunctionInvocation> elementIdFunction, boolean rootNodeIdsPaged) {
 
 			this.elementIdFunction = elementIdFunction;
+			this.rootNodeIdsPaged = rootNodeIdsPaged;
 			this.parameters.put(ROOT_NODE_IDS, rootNodeIds);
 			this.parameters.put(RELATIONSHIP_IDS, relationshipsIds);
 			this.parameters.put(RELATED_NODE_IDS, relatedNodeIds);
@@ -487,8 +947,8 @@ public final class TemplateSupport {
 						Cypher.name(Constants.NAME_OF_SYNTHESIZED_RELATED_NODES))
 				.orderBy(this.queryFragments.getOrderBy())
 				.returning(projection)
-				.skip(this.queryFragments.getSkip())
-				.limit(this.queryFragments.getLimit())
+				.skip(this.rootNodeIdsPaged ? null : this.queryFragments.getSkip())
+				.limit(this.rootNodeIdsPaged ? null : this.queryFragments.getLimit())
 				.build();
 		}
 
@@ -21,6 +21,7 @@ import org.neo4j.driver.Value;
 
 import org.springframework.dao.TypeMismatchDataAccessException;
 import org.springframework.data.core.TypeInformation;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
 
 /**
  * This service orchestrates a standard Spring conversion service with
@@ -84,6 +85,36 @@ public interface Neo4jConversionService {
 	Value writeValue(@Nullable Object value, TypeInformation<?> sourceType,
 			@Nullable Neo4jPersistentPropertyConverter<?> conversionOverride);
 
+	/**
+	 * Reads a {@link Value} into the given property, using the conversion of that
+	 * property. Implementations may resolve the conversion once per property.
+	 * @param source the value to be read, may be null.
+	 * @param property the property to read the value for
+	 * @return a simple type or null, if the value was {@literal null} or
+	 * {@link org.neo4j.driver.Values#NULL}.
+	 * @throws TypeMismatchDataAccessException in case the value cannot be converted to
+	 * the type of the property
+	 * @since 8.2
+	 */
+	@API(status = API.Status.INTERNAL, since = "8.2")
+	@Nullable default Object readValue(@Nullable Value source, Neo4jPersistentProperty property) {
+		return readValue(source, property.getTypeInformation(), property.getOptionalConverter());
+	}
+
+	/**
+	 * Converts the value of the given property to a driver's value object, using the
+	 * conversion of that property. Implementations may resolve the conversion once per
+	 * property.
+	 * @param value the value to get written, may be null.
+	 * @param property the property the value belongs to
+	 * @return a driver compatible value object.
+	 * @since 8.2
+	 */
+	@API(status = API.Status.INTERNAL, since = "8.2")
+	default Value writeValue(@Nullable Object value, Neo4jPersistentProperty property) {
+		return writeValue(value, property.getTypeInformation(), property.getOptionalConverter());
+	}
+
 	/**
 	 * Return {@literal true} if the given class represents a Neo4j simple type.
 	 * @param type a type that should be checked whether it's simple or not
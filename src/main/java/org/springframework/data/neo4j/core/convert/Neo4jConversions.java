@@ -18,12 +18,22 @@ package org.springframework.data.neo4j.core.convert;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
 
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.converter.ConverterFactory;
 import org.springframework.core.convert.converter.ConverterRegistry;
+import org.springframework.core.convert.converter.GenericConverter;
+import org.springframework.core.convert.converter.GenericConverter.ConvertiblePair;
+import org.springframework.data.convert.ConverterBuilder;
 import org.springframework.data.convert.CustomConversions;
+import org.springframework.util.ClassUtils;
 
 /**
  * Manages all build-in Neo4j conversions: Cypher types, some additional types and the
@@ -39,6 +49,8 @@ public final class Neo4jConversions extends CustomConversions {
 
 	private static final List<Object> STORE_CONVERTERS;
 
+	@Nullable private final Set<ConvertiblePair> customConvertiblePairs;
+
 	static {
 
 		List<Object> converters = new ArrayList<>();
@@ -64,6 +76,69 @@ public final class Neo4jConversions extends CustomConversions {
 	 */
 	public Neo4jConversions(Collection<?> converters) {
 		super(STORE_CONVERSIONS, converters);
+		this.customConvertiblePairs = collectConvertiblePairs(converters);
+	}
+
+	/**
+	 * Collects the pairs of types the given converters convert between. Returns
+	 * {@literal null} if the types of any converter cannot be determined.
+	 * @param converters the converters to inspect
+	 * @return the convertible pairs of all converters or {@literal null}
+	 */
+	@Nullable private static Set<ConvertiblePair> collectConvertiblePairs(Collection<?> converters) {
+
+		Set<ConvertiblePair> convertiblePairs = new HashSet<>();
+		for (Object converter : converters) {
+			Set<ConvertiblePair> convertibleTypes = null;
+			if (converter instanceof GenericConverter genericConverter) {
+				convertibleTypes = genericConverter.getConvertibleTypes();
+			}
+			else if (converter instanceof ConverterBuilder.ConverterAware converterAware) {
+				convertibleTypes = new HashSet<>();
+				for (GenericConverter genericConverter : converterAware.getConverters()) {
+					Set<ConvertiblePair> types = genericConverter.getConvertibleTypes();
+					if (types == null) {
+						return null;
+					}
+					convertibleTypes.addAll(types);
+				}
+			}
+			else if (converter instanceof Converter<?, ?> || converter instanceof ConverterFactory<?, ?>) {
+				Class<?>[] arguments = GenericTypeResolver.resolveTypeArguments(converter.getClass(),
+						(converter instanceof Converter<?, ?>) ? Converter.class : ConverterFactory.class);
+				convertibleTypes = (arguments != null) ? Set.of(new ConvertiblePair(arguments[0], arguments[1]))
+						: null;
+			}
+			if (convertibleTypes == null) {
+				return null;
+			}
+			convertiblePairs.addAll(convertibleTypes);
+		}
+		return Collections.unmodifiableSet(convertiblePairs);
+	}
+
+	/**
+	 * Returns whether any of the custom converters given to this instance might read or
+	 * write values of the given type. The check is conservative: Converters whose types
+	 * cannot be determined are assumed to convert every type.
+	 * @param type the type to check
+	 * @return true if a custom converter might convert values of {@code type}
+	 * @since 8.2
+	 */
+	@API(status = API.Status.INTERNAL, since = "8.2")
+	public boolean hasCustomConverterFor(Class<?> type) {
+
+		if (this.customConvertiblePairs == null) {
+			return true;
+		}
+		Class<?> boxedType = ClassUtils.resolvePrimitiveIfNecessary(type);
+		for (ConvertiblePair convertiblePair : this.customConvertiblePairs) {
+			if (convertiblePair.getSourceType().isAssignableFrom(boxedType)
+					|| convertiblePair.getTargetType().isAssignableFrom(boxedType)) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	@Override
@@ -242,6 +242,40 @@ public enum CypherGenerator {
 		return match.where(conditionOrNoCondition(condition)).with(expressions.toArray(IdentifiableElement[]::new));
 	}
 
+	/**
+	 * Creates a statement returning the ids of the distinct root nodes matching the given
+	 * pattern and condition, one per row. The root nodes are ordered and paged the same
+	 * way as the root nodes of the final statement loading the entities, so that only
+	 * the ids of the requested page are returned.
+	 * @param nodeDescription the node description of the root nodes
+	 * @param initialMatchOn the pattern to match on
+	 * @param condition an optional condition
+	 * @param orderBy the sort items of the query
+	 * @param skip the number of root nodes to skip, might be {@literal null}
+	 * @param limit the maximum number of root nodes, might be {@literal null}
+	 * @return a statement returning the ids of the root nodes as
+	 * {@link Constants#NAME_OF_SYNTHESIZED_ROOT_NODE}
+	 * @since 8.2
+	 */
+	public Statement prepareMatchOfRootNodeIds(NodeDescription<?> nodeDescription,
+			@Nullable List<PatternElement> initialMatchOn, @Nullable Condition condition, Collection<SortItem> orderBy,
+			@Nullable Number skip, @Nullable Number limit) {
+
+		Node rootNode = createRootNode(nodeDescription);
+		SymbolicName rootNodeName = rootNode.getRequiredSymbolicName();
+
+		return prepareMatchOfRootNode(rootNode, initialMatchOn).where(conditionOrNoCondition(condition))
+			.with(Cypher.collectDistinct(rootNode).as(Constants.NAME_OF_ROOT_NODE))
+			.unwind(Constants.NAME_OF_ROOT_NODE)
+			.as(rootNodeName.getValue())
+			.with(rootNodeName)
+			.orderBy(orderBy)
+			.returning(this.elementIdOrIdFunction.apply(rootNode).as(Constants.NAME_OF_SYNTHESIZED_ROOT_NODE))
+			.skip(skip)
+			.limit(limit)
+			.build();
+	}
+
 	public StatementBuilder.OngoingReading prepareMatchOf(NodeDescription<?> nodeDescription,
 			RelationshipDescription relationshipDescription, @Nullable List<PatternElement> initialMatchOn,
 			@Nullable Condition condition) {
@@ -351,6 +385,51 @@ public enum CypherGenerator {
 			.build();
 	}
 
+	/**
+	 * Creates a statement that returns the dynamic labels of multiple instances at once.
+	 * The instances are expected as a list of maps in the parameter named
+	 * {@link Constants#NAME_OF_ENTITY_LIST_PARAM}, each containing the id and, for
+	 * versioned entities, the version. Each row returned contains the id of a node and
+	 * its labels that are not in the list of static labels.
+	 * @param nodeDescription the description of the nodes to look up
+	 * @return a statement returning the ids together with the dynamic labels of the nodes
+	 * @since 8.2
+	 */
+	public Statement createStatementReturningDynamicLabelsOfMultipleInstances(NodeDescription<?> nodeDescription) {
+
+		IdDescription idDescription = Objects.requireNonNull(nodeDescription.getIdDescription(),
+				"Cannot load specific nodes by id without a corresponding attribute");
+
+		final Node rootNode = createRootNode(nodeDescription);
+		String row = "entity";
+
+		Condition versionCondition;
+		if (((Neo4jPersistentEntity<?>) nodeDescription).hasVersionProperty()) {
+
+			PersistentProperty<?> versionProperty = ((Neo4jPersistentEntity<?>) nodeDescription)
+				.getRequiredVersionProperty();
+			versionCondition = rootNode.property(versionProperty.getName())
+				.isEqualTo(coalesce(Cypher.property(row, Constants.NAME_OF_VERSION_PARAM), literalOf(0)));
+		}
+		else {
+			versionCondition = Cypher.noCondition();
+		}
+
+		SymbolicName label = Cypher.name("label");
+		return Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM))
+			.as(row)
+			.match(rootNode)
+			.where(idDescription.asIdExpression().isEqualTo(Cypher.property(row, Constants.NAME_OF_ID)))
+			.and(versionCondition)
+			.returning(idDescription.asIdExpression().as(Constants.NAME_OF_ID),
+					Cypher.listWith(label)
+						.in(rootNode.labels())
+						.where(label.in(parameter(Constants.NAME_OF_STATIC_LABELS_PARAM)).not())
+						.returning()
+						.as(Constants.NAME_OF_LABELS))
+			.build();
+	}
+
 	public Statement prepareDeleteOf(NodeDescription<?> nodeDescription) {
 		return prepareDeleteOf(nodeDescription, null);
 	}
@@ -518,8 +597,23 @@ public enum CypherGenerator {
 		}
 	}
 
-	@SuppressWarnings("deprecation")
 	public Statement prepareSaveOfMultipleInstancesOf(NodeDescription<?> nodeDescription) {
+		return prepareSaveOfMultipleInstancesOf(nodeDescription, UnaryOperator.identity());
+	}
+
+	/**
+	 * Creates a statement saving multiple instances of the given node description at
+	 * once, decorating the update of each node with the given operator, for example for
+	 * changing dynamic labels that are the same for all instances.
+	 * @param nodeDescription the description of the nodes to save
+	 * @param updateDecorator the decorator for the update of each node
+	 * @return a statement saving all instances passed in the parameter named
+	 * {@link Constants#NAME_OF_ENTITY_LIST_PARAM}
+	 * @since 8.2
+	 */
+	@SuppressWarnings("deprecation")
+	public Statement prepareSaveOfMultipleInstancesOf(NodeDescription<?> nodeDescription,
+			UnaryOperator<OngoingMatchAndUpdate> updateDecorator) {
 
 		Assert.isTrue(!nodeDescription.isUsingInternalIds(),
 				"Only entities that use external IDs can be saved in a batch");
@@ -543,14 +637,184 @@ public enum CypherGenerator {
 		expressions.add(rootNode.property(nameOfIdProperty).as(Constants.NAME_OF_ID));
 
 		String row = "entity";
-		return Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM))
-			.as(row)
-			.merge(rootNode.withProperties(nameOfIdProperty, Cypher.property(row, Constants.NAME_OF_ID)))
-			.mutate(rootNode, Cypher.property(row, Constants.NAME_OF_PROPERTIES_PARAM))
+		if (nodeDescription instanceof Neo4jPersistentEntity<?> entity && entity.hasVersionProperty()) {
+			return prepareSaveOfMultipleVersionedInstancesOf(entity, rootNode, nameOfIdProperty, row, expressions,
+					updateDecorator);
+		}
+		return updateDecorator
+			.apply(Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM))
+				.as(row)
+				.merge(rootNode.withProperties(nameOfIdProperty, Cypher.property(row, Constants.NAME_OF_ID)))
+				.mutate(rootNode, Cypher.property(row, Constants.NAME_OF_PROPERTIES_PARAM)))
 			.returning(expressions)
 			.build();
 	}
 
+	private Statement prepareSaveOfMultipleVersionedInstancesOf(Neo4jPersistentEntity<?> entity, Node rootNode,
+			String nameOfIdProperty, String row, List<Expression> expressions,
+			UnaryOperator<OngoingMatchAndUpdate> updateDecorator) {
+
+		// Same as the single statement for versioned entities: New nodes are created
+		// with version 0, existing nodes are only updated when their version matches the
+		// one of the row and are locked by incrementing the version first. Rows failing
+		// that check don't produce a result, so that the caller can determine them from
+		// the returned ids.
+
+		String nameOfVersionProperty = entity.getRequiredVersionProperty().getName();
+		Property versionProperty = rootNode.property(nameOfVersionProperty);
+		Property versionOfRow = Cypher.property(row, Constants.NAME_OF_VERSION_PARAM);
+		Node possibleExistingNode = node(entity.getPrimaryLabel(), entity.getAdditionalLabels()).named("hlp");
+
+		List<Expression> expressionsWithVersion = new ArrayList<>(expressions);
+		expressionsWithVersion.add(versionProperty.as(Constants.NAME_OF_VERSION_PARAM));
+
+		return updateDecorator
+			.apply(Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM))
+				.as(row)
+				.optionalMatch(possibleExistingNode.withProperties(nameOfIdProperty,
+						Cypher.property(row, Constants.NAME_OF_ID)))
+				.with(Cypher.name(row), possibleExistingNode.getRequiredSymbolicName())
+				.where(possibleExistingNode.isNull()
+					.or(possibleExistingNode.property(nameOfVersionProperty).isEqualTo(versionOfRow)))
+				.merge(rootNode.withProperties(nameOfIdProperty, Cypher.property(row, Constants.NAME_OF_ID)))
+				.onCreate()
+				.set(versionProperty.to(literalOf(0)))
+				.onMatch()
+				.set(versionProperty.to(versionProperty.add(literalOf(1)))) // Acquire
+																			// lock
+				.with(Cypher.name(row), possibleExistingNode.getRequiredSymbolicName(),
+						rootNode.getRequiredSymbolicName())
+				.where(possibleExistingNode.isNull().or(versionProperty.isEqualTo(versionOfRow.add(literalOf(1)))))
+				.mutate(rootNode, Cypher.property(row, Constants.NAME_OF_PROPERTIES_PARAM)))
+			.returning(expressionsWithVersion)
+			.build();
+	}
+
+	/**
+	 * Creates a statement that looks up the existing instances of the given node
+	 * description by their ids. The ids are expected as a list in the parameter named
+	 * {@link Constants#NAME_OF_IDS}, each row returned contains the element id (or the
+	 * stringified internal id on older dialects) and the id of a node found.
+	 * @param nodeDescription the description of the nodes to look up
+	 * @return a statement returning the element ids together with the ids of the nodes
+	 * @since 8.2
+	 */
+	public Statement prepareMatchOfMultipleInstancesOf(NodeDescription<?> nodeDescription) {
+
+		Assert.isTrue(!nodeDescription.isUsingInternalIds(),
+				"Only entities that use external IDs can be looked up in a batch");
+
+		Node rootNode = node(nodeDescription.getPrimaryLabel(), nodeDescription.getAdditionalLabels())
+			.named(Constants.NAME_OF_TYPED_ROOT_NODE.apply(nodeDescription));
+		String nameOfIdProperty = Optional.ofNullable(nodeDescription.getIdDescription())
+			.flatMap(IdDescription::getOptionalGraphPropertyName)
+			.orElseThrow(() -> new MappingException("External id does not correspond to a graph property"));
+
+		SymbolicName row = Cypher.name("id");
+		return Cypher.unwind(parameter(Constants.NAME_OF_IDS))
+			.as(row)
+			.match(rootNode.withProperties(nameOfIdProperty, row))
+			.returning(this.elementIdOrIdFunction.apply(rootNode).as(Constants.NAME_OF_ELEMENT_ID),
+					rootNode.property(nameOfIdProperty).as(Constants.NAME_OF_ID))
+			.build();
+	}
+
+	/**
+	 * Creates a statement that creates multiple new instances of the given node
+	 * description without checking whether they exist already, so that no index lookup is
+	 * needed per row. Versioned nodes start with version {@literal 0}. Vector properties
+	 * are written per row with the same procedure as for a single save.
+	 * @param nodeDescription the description of the nodes to create
+	 * @param updateDecorator the decorator for the update of each node, for example for
+	 * setting dynamic labels that are the same for all instances
+	 * @return a statement creating all instances passed in the parameter named
+	 * {@link Constants#NAME_OF_ENTITY_LIST_PARAM}
+	 * @since 8.2
+	 */
+	public Statement prepareCreateOfMultipleInstancesOf(NodeDescription<?> nodeDescription,
+			UnaryOperator<OngoingMatchAndUpdate> updateDecorator) {
+
+		Assert.isTrue(!nodeDescription.isUsingInternalIds(),
+				"Only entities that use external IDs can be created in a batch");
+
+		Node rootNode = node(nodeDescription.getPrimaryLabel(), nodeDescription.getAdditionalLabels())
+			.named(Constants.NAME_OF_TYPED_ROOT_NODE.apply(nodeDescription));
+		String nameOfIdProperty = Optional.ofNullable(nodeDescription.getIdDescription())
+			.flatMap(IdDescription::getOptionalGraphPropertyName)
+			.orElseThrow(() -> new MappingException("External id does not correspond to a graph property"));
+
+		String row = "entity";
+		List<Expression> expressions = new ArrayList<>();
+		expressions.add(this.elementIdOrIdFunction.apply(rootNode).as(Constants.NAME_OF_ELEMENT_ID));
+		expressions.add(rootNode.property(nameOfIdProperty).as(Constants.NAME_OF_ID));
+
+		OngoingMatchAndUpdate create = Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM))
+			.as(row)
+			.create(rootNode.withProperties(nameOfIdProperty, Cypher.property(row, Constants.NAME_OF_ID)))
+			.mutate(rootNode, Cypher.property(row, Constants.NAME_OF_PROPERTIES_PARAM));
+		if (nodeDescription instanceof Neo4jPersistentEntity<?> entity && entity.hasVersionProperty()) {
+			Property versionProperty = rootNode.property(entity.getRequiredVersionProperty().getName());
+			create = create.set(versionProperty.to(literalOf(0)));
+			expressions.add(versionProperty.as(Constants.NAME_OF_VERSION_PARAM));
+		}
+		create = updateDecorator.apply(create);
+		if (nodeDescription instanceof Neo4jPersistentEntity<?> entity && entity.hasVectorProperty()) {
+			return create.with(rootNode, Cypher.name(row))
+				.call("db.create.setNodeVectorProperty")
+				.withArgs(rootNode.getRequiredSymbolicName(), Cypher.property(row, Constants.NAME_OF_VECTOR_PROPERTY),
+						Cypher.property(row, Constants.NAME_OF_VECTOR_VALUE))
+				.withoutResults()
+				.returning(expressions)
+				.build();
+		}
+		return create.returning(expressions).build();
+	}
+
+	/**
+	 * Creates a statement that creates new relationships between existing nodes, looking
+	 * up both the start and the end nodes by their ids. The rows are expected as a list
+	 * in the parameter named {@link Constants#NAME_OF_RELATIONSHIP_LIST_PARAM}, each
+	 * containing the ids of the start and end nodes and, for relationships with
+	 * properties, their properties. Rows for which either node does not exist create no
+	 * relationship, callers are expected to compare the number of created relationships
+	 * with the number of rows.
+	 * @param source the entity of the start nodes, must use external ids
+	 * @param relationship the relationship to create
+	 * @param target the entity of the end nodes
+	 * @param dynamicRelationshipType the type to use for dynamic relationships
+	 * @param canUseElementId flag if the renderer supports the elementId function
+	 * @return a statement creating all relationships
+	 * @since 8.2
+	 */
+	public Statement prepareCreateOfRelationships(Neo4jPersistentEntity<?> source, RelationshipDescription relationship,
+			Neo4jPersistentEntity<?> target, @Nullable String dynamicRelationshipType, boolean canUseElementId) {
+
+		Node startNode = node(source.getPrimaryLabel(), source.getAdditionalLabels()).named(START_NODE_NAME);
+		Node endNode = target.isUsingInternalIds() ? anyNode(END_NODE_NAME)
+				: node(target.getPrimaryLabel(), target.getAdditionalLabels()).named(END_NODE_NAME);
+
+		String type = relationship.isDynamic() ? dynamicRelationshipType : relationship.getType();
+		Relationship relationshipFragment = (relationship.isOutgoing() ? startNode.relationshipTo(endNode, type)
+				: startNode.relationshipFrom(endNode, type))
+			.named(RELATIONSHIP_NAME);
+
+		String row = "relationship";
+		Function<Node, Expression> endNodeIdFunction = target.isUsingInternalIds()
+				? getEndNodeIdFunction(target, canUseElementId) : getNodeIdFunction(target, canUseElementId);
+		StatementBuilder.OngoingUpdate create = Cypher.unwind(parameter(Constants.NAME_OF_RELATIONSHIP_LIST_PARAM))
+			.as(row)
+			.match(startNode)
+			.where(getNodeIdFunction(source, canUseElementId).apply(startNode)
+				.isEqualTo(Cypher.property(row, Constants.FROM_ID_PARAMETER_NAME)))
+			.match(endNode)
+			.where(endNodeIdFunction.apply(endNode).isEqualTo(Cypher.property(row, Constants.TO_ID_PARAMETER_NAME)))
+			.create(relationshipFragment);
+		if (relationship.hasRelationshipProperties()) {
+			return create.mutate(RELATIONSHIP_NAME, Cypher.property(row, Constants.NAME_OF_PROPERTIES_PARAM)).build();
+		}
+		return create.build();
+	}
+
 	public Statement prepareSaveOfRelationship(Neo4jPersistentEntity<?> neo4jPersistentEntity,
 			RelationshipDescription relationship, String dynamicRelationshipType, boolean canUseElementId) {
 		final Node startNode = neo4jPersistentEntity.isUsingInternalIds() ? anyNode(START_NODE_NAME)
@@ -578,12 +842,41 @@ public enum CypherGenerator {
 
 	public Statement prepareSaveOfRelationships(Neo4jPersistentEntity<?> neo4jPersistentEntity,
 			RelationshipDescription relationship, @Nullable String dynamicRelationshipType, boolean canUseElementId) {
+		return prepareSaveOfRelationships(neo4jPersistentEntity, relationship, dynamicRelationshipType, canUseElementId,
+				false);
+	}
+
+	/**
+	 * Creates a statement that merges a batch of relationships, one per row of the
+	 * relationship list parameter. Targets are matched by their internal or element id,
+	 * or, if {@code matchTargetsById} is {@literal true}, by their label and the id
+	 * property of the target of the relationship. The latter lets existing targets be
+	 * linked without looking up their internal ids first.
+	 * @param neo4jPersistentEntity the source of the relationships
+	 * @param relationship the relationship to merge
+	 * @param dynamicRelationshipType the type of dynamic relationships
+	 * @param canUseElementId flag if the renderer supports the elementId function
+	 * @param matchTargetsById flag if the rows contain the ids of the targets as defined
+	 * by their id property instead of their internal ids
+	 * @return a statement merging the relationships
+	 * @since 8.2
+	 */
+	public Statement prepareSaveOfRelationships(Neo4jPersistentEntity<?> neo4jPersistentEntity,
+			RelationshipDescription relationship, @Nullable String dynamicRelationshipType, boolean canUseElementId,
+			boolean matchTargetsById) {
 
 		final Node startNode = neo4jPersistentEntity.isUsingInternalIds() ? anyNode(START_NODE_NAME)
 				: node(neo4jPersistentEntity.getPrimaryLabel(), neo4jPersistentEntity.getAdditionalLabels())
 					.named(START_NODE_NAME);
 
-		final Node endNode = anyNode(END_NODE_NAME);
+		Neo4jPersistentEntity<?> target = (Neo4jPersistentEntity<?>) relationship.getTarget();
+		Assert.isTrue(!(matchTargetsById && target.isUsingInternalIds()),
+				"Targets using internal ids can only be matched by their internal ids");
+		final Node endNode = matchTargetsById
+				? node(target.getPrimaryLabel(), target.getAdditionalLabels()).named(END_NODE_NAME)
+				: anyNode(END_NODE_NAME);
+		Function<Node, Expression> endNodeIdFunction = matchTargetsById ? getNodeIdFunction(target, canUseElementId)
+				: getEndNodeIdFunction(target, canUseElementId);
 
 		String type = relationship.isDynamic() ? dynamicRelationshipType : relationship.getType();
 		Relationship relationshipFragment = (relationship.isOutgoing() ? startNode.relationshipTo(endNode, type) : // CypherDSL
@@ -604,9 +897,7 @@ public enum CypherGenerator {
 			.match(startNode)
 			.where(getNodeIdFunction(neo4jPersistentEntity, canUseElementId).apply(startNode).isEqualTo(idProperty))
 			.match(endNode)
-			.where(getEndNodeIdFunction((Neo4jPersistentEntity<?>) relationship.getTarget(), canUseElementId)
-				.apply(endNode)
-				.isEqualTo(Cypher.property(row, Constants.TO_ID_PARAMETER_NAME)))
+			.where(endNodeIdFunction.apply(endNode).isEqualTo(Cypher.property(row, Constants.TO_ID_PARAMETER_NAME)))
 			.merge(relationshipFragment)
 			.returning(getReturnedIdExpressionsForRelationship(relationship, relationshipFragment))
 			.build();
@@ -720,6 +1011,66 @@ public enum CypherGenerator {
 
 	public Statement prepareDeleteOf(Neo4jPersistentEntity<?> neo4jPersistentEntity,
 			RelationshipDescription relationshipDescription, boolean canUseElementId) {
+
+		return prepareDeleteOf(neo4jPersistentEntity, relationshipDescription, canUseElementId, null);
+	}
+
+	/**
+	 * Creates a statement removing the stale relationships of multiple instances of an
+	 * entity at once. The statement expects a list of rows in the parameter named
+	 * {@link Constants#NAME_OF_ENTITY_LIST_PARAM}, each row containing the id of a source
+	 * node as {@link Constants#FROM_ID_PARAMETER_NAME} and the ids of the relationships
+	 * to keep as {@link Constants#NAME_OF_KNOWN_RELATIONSHIPS_PARAM}.
+	 * @param neo4jPersistentEntity the entity owning the relationships
+	 * @param relationshipDescription the relationships to remove
+	 * @param canUseElementId flag if the renderer supports the elementId function
+	 * @return a statement removing all relationships that are not known anymore
+	 * @since 8.2
+	 */
+	public Statement prepareDeleteOfRelationshipsOfMultipleInstancesOf(Neo4jPersistentEntity<?> neo4jPersistentEntity,
+			RelationshipDescription relationshipDescription, boolean canUseElementId) {
+
+		return prepareDeleteOf(neo4jPersistentEntity, relationshipDescription, canUseElementId, "row");
+	}
+
+	/**
+	 * Creates a statement removing the relationships of one instance of an entity to
+	 * specific targets. The statement expects the id of the source node as
+	 * {@link Constants#FROM_ID_PARAMETER_NAME} and the ids of the target nodes as
+	 * {@link Constants#NAME_OF_IDS}.
+	 * @param neo4jPersistentEntity the entity owning the relationships
+	 * @param relationshipDescription the relationships to remove, must not be dynamic
+	 * @param canUseElementId flag if the renderer supports the elementId function
+	 * @return a statement removing the relationships to the given targets
+	 * @since 8.2
+	 */
+	public Statement prepareDeleteOfRelationshipsTo(Neo4jPersistentEntity<?> neo4jPersistentEntity,
+			RelationshipDescription relationshipDescription, boolean canUseElementId) {
+
+		Assert.isTrue(!relationshipDescription.isDynamic(), "Dynamic relationships cannot be removed by their targets");
+
+		Node startNode = neo4jPersistentEntity.isUsingInternalIds() ? anyNode(START_NODE_NAME)
+				: node(neo4jPersistentEntity.getPrimaryLabel(), neo4jPersistentEntity.getAdditionalLabels())
+					.named(START_NODE_NAME);
+		Neo4jPersistentEntity<?> target = (Neo4jPersistentEntity<?>) relationshipDescription.getTarget();
+		Node endNode = target.isUsingInternalIds() ? anyNode(END_NODE_NAME)
+				: node(target.getPrimaryLabel(), target.getAdditionalLabels()).named(END_NODE_NAME);
+
+		String type = relationshipDescription.getType();
+		Relationship relationship = (relationshipDescription.isOutgoing() ? startNode.relationshipTo(endNode, type)
+				: startNode.relationshipFrom(endNode, type))
+			.named(RELATIONSHIP_NAME);
+
+		return match(relationship)
+			.where(getNodeIdFunction(neo4jPersistentEntity, canUseElementId).apply(startNode)
+				.isEqualTo(parameter(Constants.FROM_ID_PARAMETER_NAME)))
+			.and(getNodeIdFunction(target, canUseElementId).apply(endNode).in(parameter(Constants.NAME_OF_IDS)))
+			.delete(relationship.getRequiredSymbolicName())
+			.build();
+	}
+
+	private Statement prepareDeleteOf(Neo4jPersistentEntity<?> neo4jPersistentEntity,
+			RelationshipDescription relationshipDescription, boolean canUseElementId, @Nullable String row) {
 		final Node startNode = neo4jPersistentEntity.isUsingInternalIds() ? anyNode(START_NODE_NAME)
 				: node(neo4jPersistentEntity.getPrimaryLabel(), neo4jPersistentEntity.getAdditionalLabels())
 					.named(START_NODE_NAME);
@@ -736,11 +1087,25 @@ public enum CypherGenerator {
 				? startNode.relationshipTo(endNode, relationshipType).named(relationshipToRemoveName)
 				: startNode.relationshipFrom(endNode, relationshipType).named(relationshipToRemoveName);
 
-		Parameter<?> idParameter = parameter(Constants.FROM_ID_PARAMETER_NAME);
-		return match(relationship)
-			.where(getNodeIdFunction(neo4jPersistentEntity, canUseElementId).apply(startNode).isEqualTo(idParameter))
+		Expression fromId;
+		Expression knownRelationshipIds;
+		StatementBuilder.OngoingReadingWithoutWhere matchRelationship;
+		if (row != null) {
+			fromId = Cypher.property(row, Constants.FROM_ID_PARAMETER_NAME);
+			knownRelationshipIds = Cypher.property(row, Constants.NAME_OF_KNOWN_RELATIONSHIPS_PARAM);
+			matchRelationship = Cypher.unwind(parameter(Constants.NAME_OF_ENTITY_LIST_PARAM))
+				.as(row)
+				.match(relationship);
+		}
+		else {
+			fromId = parameter(Constants.FROM_ID_PARAMETER_NAME);
+			knownRelationshipIds = parameter(Constants.NAME_OF_KNOWN_RELATIONSHIPS_PARAM);
+			matchRelationship = match(relationship);
+		}
+		return matchRelationship
+			.where(getNodeIdFunction(neo4jPersistentEntity, canUseElementId).apply(startNode).isEqualTo(fromId))
 			.and(getRelationshipIdFunction(relationshipDescription, canUseElementId).apply(relationship)
-				.in(Cypher.parameter(Constants.NAME_OF_KNOWN_RELATIONSHIPS_PARAM))
+				.in(knownRelationshipIds)
 				.not())
 			.delete(relationship.getRequiredSymbolicName())
 			.build();
@@ -868,8 +1233,8 @@ public enum CypherGenerator {
 			Predicate<PropertyFilter.RelaxedPropertyPath> includedProperties,
 			@Nullable List<RelationshipDescription> processedRelationships) {
 
-		Collection<RelationshipDescription> relationships = ((DefaultNeo4jPersistentEntity<?>) nodeDescription)
-			.getRelationshipsInHierarchy(includedProperties, parentPath);
+		Collection<RelationshipDescription> relationships = new ArrayList<>(
+				nodeDescription.getRelationshipsInHierarchy(includedProperties, parentPath));
 		relationships.removeIf(r -> !includedProperties.test(parentPath.append(r.getFieldName())));
 
 		List<Object> propertiesProjection = projectNodeProperties(parentPath, nodeDescription, nodeName,
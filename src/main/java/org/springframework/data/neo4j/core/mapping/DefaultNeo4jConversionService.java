@@ -15,9 +15,15 @@
  */
 package org.springframework.data.neo4j.core.mapping;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZonedDateTime;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
-import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -26,7 +32,9 @@ import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
 
 import org.springframework.core.CollectionFactory;
+import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.support.ConfigurableConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
 import org.springframework.dao.TypeMismatchDataAccessException;
@@ -45,12 +53,31 @@ import org.springframework.data.neo4j.core.convert.Neo4jPersistentPropertyConver
  */
 final class DefaultNeo4jConversionService implements Neo4jConversionService {
 
+	/**
+	 * Reading conversions of the types the driver supports natively. They are the same as
+	 * registered in {@code CypherTypes} and {@code AdditionalTypes} and are used directly
+	 * as long as no custom converter is registered for the type.
+	 */
+	private static final Map<Class<?>, Function<Value, Object>> NATIVE_READERS = Map.ofEntries(
+			Map.entry(String.class, Value::asString), Map.entry(Boolean.class, Value::asBoolean),
+			Map.entry(boolean.class, Value::asBoolean), Map.entry(Long.class, Value::asLong),
+			Map.entry(long.class, Value::asLong), Map.entry(Double.class, Value::asDouble),
+			Map.entry(double.class, Value::asDouble), Map.entry(Integer.class, Value::asInt),
+			Map.entry(int.class, Value::asInt), Map.entry(LocalDate.class, Value::asLocalDate),
+			Map.entry(LocalTime.class, Value::asLocalTime), Map.entry(LocalDateTime.class, Value::asLocalDateTime),
+			Map.entry(OffsetTime.class, Value::asOffsetTime), Map.entry(OffsetDateTime.class, Value::asOffsetDateTime),
+			Map.entry(ZonedDateTime.class, Value::asZonedDateTime));
+
+	private static final TypeDescriptor VALUE_TYPE = TypeDescriptor.valueOf(Value.class);
+
 	private final ConversionService conversionService;
 
 	private final Predicate<Class<?>> hasCustomWriteTargetPredicate;
 
 	private final SimpleTypeHolder simpleTypes;
 
+	private final Predicate<Class<?>> hasCustomConverterPredicate;
+
 	DefaultNeo4jConversionService(Neo4jConversions neo4jConversions) {
 
 		final ConfigurableConversionService configurableConversionService = new DefaultConversionService();
@@ -59,6 +86,7 @@ final class DefaultNeo4jConversionService implements Neo4jConversionService {
 		this.conversionService = configurableConversionService;
 		this.hasCustomWriteTargetPredicate = neo4jConversions::hasCustomWriteTarget;
 		this.simpleTypes = neo4jConversions.getSimpleTypeHolder();
+		this.hasCustomConverterPredicate = neo4jConversions::hasCustomConverterFor;
 	}
 
 	private static boolean isCollection(TypeInformation<?> type) {
@@ -79,41 +107,32 @@ final class DefaultNeo4jConversionService implements Neo4jConversionService {
 	@Nullable public Object readValue(@Nullable Value source, TypeInformation<?> targetType,
 			@Nullable Neo4jPersistentPropertyConverter<?> conversionOverride) {
 
-		BiFunction<Value, Class<?>, Object> conversion;
-		boolean applyConversionToCompleteCollection = false;
-		if (conversionOverride == null) {
-			conversion = this.conversionService::convert;
-		}
-		else {
-			applyConversionToCompleteCollection = conversionOverride instanceof NullSafeNeo4jPersistentPropertyConverter
-					&& ((NullSafeNeo4jPersistentPropertyConverter<?>) conversionOverride).isForCollection();
-			conversion = (v, t) -> conversionOverride.read(v);
-		}
+		return readValue(source, resolveConversion(targetType, conversionOverride));
+	}
+
+	@Override
+	@Nullable public Object readValue(@Nullable Value source, Neo4jPersistentProperty property) {
 
-		return readValueImpl(source, targetType, conversion, applyConversionToCompleteCollection);
+		return readValue(source, getConversion(property));
 	}
 
-	@Nullable private Object readValueImpl(@Nullable Value value, TypeInformation<?> type,
-			BiFunction<Value, Class<?>, Object> conversion, boolean applyConversionToCompleteCollection) {
+	@Nullable private Object readValue(@Nullable Value value, PropertyValueConversion conversion) {
 
 		boolean valueIsLiteralNullOrNullValue = value == null || value == Values.NULL;
 
 		try {
-			Class<?> rawType = type.getType();
-
-			if (!valueIsLiteralNullOrNullValue && isCollection(type) && !applyConversionToCompleteCollection) {
+			if (!valueIsLiteralNullOrNullValue && conversion.elementWise()) {
 				// value can't be null at this point in time
 				@SuppressWarnings("NullAway")
-				Collection<Object> target = CollectionFactory.createCollection(rawType,
-						Objects.requireNonNull(type.getComponentType()).getType(), value.size());
-				value.values()
-					.forEach(element -> target.add(conversion.apply(element, type.getComponentType().getType())));
+				Collection<Object> target = CollectionFactory.createCollection(conversion.type().getType(),
+						Objects.requireNonNull(conversion.type().getComponentType()).getType(), value.size());
+				value.values().forEach(element -> target.add(conversion.reader().apply(element)));
 				return target;
 			}
-			return valueIsLiteralNullOrNullValue ? null : conversion.apply(value, rawType);
+			return valueIsLiteralNullOrNullValue ? null : conversion.reader().apply(value);
 		}
 		catch (Exception ex) {
-			String msg = String.format("Could not convert %s into %s", value, type);
+			String msg = String.format("Could not convert %s into %s", value, conversion.type());
 			throw new TypeMismatchDataAccessException(msg, ex);
 		}
 	}
@@ -122,43 +141,88 @@ final class DefaultNeo4jConversionService implements Neo4jConversionService {
 	public Value writeValue(@Nullable Object value, TypeInformation<?> sourceType,
 			@Nullable Neo4jPersistentPropertyConverter<?> writingConverter) {
 
-		Function<Object, Value> conversion;
-		boolean applyConversionToCompleteCollection = false;
-		if (writingConverter == null) {
-			conversion = v -> this.conversionService.convert(v, Value.class);
-		}
-		else {
-			@SuppressWarnings("unchecked")
-			Neo4jPersistentPropertyConverter<Object> hlp = (Neo4jPersistentPropertyConverter<Object>) writingConverter;
-			applyConversionToCompleteCollection = writingConverter instanceof NullSafeNeo4jPersistentPropertyConverter
-					&& ((NullSafeNeo4jPersistentPropertyConverter<?>) writingConverter).isForCollection();
-			conversion = hlp::write;
-		}
+		return writeValue(value, resolveConversion(sourceType, writingConverter));
+	}
 
-		return writeValueImpl(value, sourceType, conversion, applyConversionToCompleteCollection);
+	@Override
+	public Value writeValue(@Nullable Object value, Neo4jPersistentProperty property) {
+
+		return writeValue(value, getConversion(property));
 	}
 
-	private Value writeValueImpl(@Nullable Object value, TypeInformation<?> type, Function<Object, Value> conversion,
-			boolean applyConversionToCompleteCollection) {
+	private Value writeValue(@Nullable Object value, PropertyValueConversion conversion) {
 
 		if (value == null) {
 			try {
 				// Some conversion services may treat null special, so we pass it anyway
 				// and ask for forgiveness
-				return conversion.apply(null);
+				return conversion.writer().apply(null);
 			}
 			catch (NullPointerException ex) {
 				return Values.NULL;
 			}
 		}
 
-		if (isCollection(type) && !applyConversionToCompleteCollection) {
+		if (conversion.elementWise()) {
 			Collection<?> sourceCollection = (Collection<?>) value;
-			Object[] targetCollection = (sourceCollection).stream().map(conversion::apply).toArray();
+			Object[] targetCollection = (sourceCollection).stream().map(conversion.writer()).toArray();
 			return Values.value(targetCollection);
 		}
 
-		return conversion.apply(value);
+		return conversion.writer().apply(value);
+	}
+
+	private PropertyValueConversion getConversion(Neo4jPersistentProperty property) {
+
+		if (property instanceof DefaultNeo4jPersistentProperty defaultProperty) {
+			PropertyValueConversion conversion = defaultProperty.getValueConversion();
+			if (conversion.resolvedBy() == this) {
+				return conversion;
+			}
+		}
+		return resolveConversion(property.getTypeInformation(), property.getOptionalConverter());
+	}
+
+	/**
+	 * Resolves the conversion of values of the given type. Values of types the driver
+	 * supports natively are converted directly, as long as there is neither an explicit
+	 * converter nor a custom converter registered for the type, everything else goes
+	 * through the conversion service.
+	 * @param type the type of the values to convert
+	 * @param converter an optional, explicit converter
+	 * @return the resolved conversion
+	 */
+	PropertyValueConversion resolveConversion(TypeInformation<?> type,
+			@Nullable Neo4jPersistentPropertyConverter<?> converter) {
+
+		if (converter != null) {
+			@SuppressWarnings("unchecked")
+			Neo4jPersistentPropertyConverter<Object> hlp = (Neo4jPersistentPropertyConverter<Object>) converter;
+			boolean applyConversionToCompleteCollection = converter instanceof NullSafeNeo4jPersistentPropertyConverter
+					&& ((NullSafeNeo4jPersistentPropertyConverter<?>) converter).isForCollection();
+			return new PropertyValueConversion(this, type, isCollection(type) && !applyConversionToCompleteCollection,
+					hlp::read, hlp::write);
+		}
+
+		boolean elementWise = isCollection(type);
+		TypeInformation<?> componentType = type.getComponentType();
+		Class<?> targetType = (elementWise && componentType != null) ? componentType.getType()
+				: elementWise ? Object.class : type.getType();
+		Function<Value, Object> nativeReader = NATIVE_READERS.get(targetType);
+		if (nativeReader != null && !this.hasCustomConverterPredicate.test(targetType)) {
+			TypeDescriptor targetTypeDescriptor = TypeDescriptor.valueOf(targetType);
+			// Failures and null are treated the same way as by the conversion service
+			return new PropertyValueConversion(this, type, elementWise, v -> {
+				try {
+					return nativeReader.apply(v);
+				}
+				catch (RuntimeException ex) {
+					throw new ConversionFailedException(VALUE_TYPE, targetTypeDescriptor, v, ex);
+				}
+			}, v -> (v != null) ? Values.value(v) : null);
+		}
+		return new PropertyValueConversion(this, type, elementWise, v -> this.conversionService.convert(v, targetType),
+				v -> this.conversionService.convert(v, Value.class));
 	}
 
 	@Override
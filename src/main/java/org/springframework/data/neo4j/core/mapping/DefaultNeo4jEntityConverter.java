@@ -18,6 +18,8 @@ package org.springframework.data.neo4j.core.mapping;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -26,9 +28,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -59,6 +59,7 @@ import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.data.mapping.model.ParameterValueProvider;
 import org.springframework.data.neo4j.core.convert.Neo4jConversionService;
 import org.springframework.data.neo4j.core.mapping.callback.EventSupport;
+import org.springframework.data.neo4j.core.schema.Relationship.Direction;
 import org.springframework.data.neo4j.core.schema.TargetNode;
 import org.springframework.data.util.ReflectionUtils;
 import org.springframework.util.Assert;
@@ -81,7 +82,8 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 
 	private final EventSupport eventSupport;
 
-	private final KnownObjects knownObjects = new KnownObjects();
+	@Nullable
+	private final EntityMappingPlans mappingPlans;
 
 	private final Type nodeType;
 
@@ -93,10 +95,14 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 
 	private final Type pathType;
 
-	private final Map<String, Collection<Node>> labelNodeCache = new HashMap<>();
-
 	DefaultNeo4jEntityConverter(EntityInstantiators entityInstantiators, NodeDescriptionStore nodeDescriptionStore,
 			Neo4jConversionService conversionService, EventSupport eventSupport, TypeSystem typeSystem) {
+		this(entityInstantiators, nodeDescriptionStore, conversionService, eventSupport, typeSystem, null);
+	}
+
+	DefaultNeo4jEntityConverter(EntityInstantiators entityInstantiators, NodeDescriptionStore nodeDescriptionStore,
+			Neo4jConversionService conversionService, EventSupport eventSupport, TypeSystem typeSystem,
+			@Nullable EntityMappingPlans mappingPlans) {
 
 		Assert.notNull(entityInstantiators, "EntityInstantiators must not be null");
 		Assert.notNull(conversionService, "Neo4jConversionService must not be null");
@@ -107,6 +113,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		this.conversionService = conversionService;
 		this.nodeDescriptionStore = nodeDescriptionStore;
 		this.eventSupport = eventSupport;
+		this.mappingPlans = mappingPlans;
 
 		this.nodeType = typeSystem.NODE();
 		this.relationshipType = typeSystem.RELATIONSHIP();
@@ -186,21 +193,43 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 
 	@Override
 	public <R> R read(Class<R> targetType, MapAccessor mapAccessor) {
+		return read(targetType, mapAccessor, new KnownObjects());
+	}
+
+	@Override
+	public <R> Function<MapAccessor, R> readerForResult(Class<R> targetType) {
+
+		AtomicReference<@Nullable KnownObjects> session = new AtomicReference<>(new KnownObjects());
+		return mapAccessor -> {
+			// A reader applied by several threads at once maps the records of all but one
+			// of them with objects of their own instead of sharing the session
+			KnownObjects knownObjects = session.getAndSet(null);
+			try {
+				return read(targetType, mapAccessor, (knownObjects != null) ? knownObjects : new KnownObjects());
+			}
+			finally {
+				if (knownObjects != null) {
+					session.set(knownObjects);
+				}
+			}
+		};
+	}
+
+	private <R> R read(Class<R> targetType, MapAccessor mapAccessor, KnownObjects knownObjects) {
 
-		this.knownObjects.nextRecord();
-		this.labelNodeCache.clear();
+		knownObjects.nextRecord();
 
 		@SuppressWarnings("unchecked") // ¯\_(ツ)_/¯
 		Neo4jPersistentEntity<R> rootNodeDescription = Objects.requireNonNull(
 				(Neo4jPersistentEntity<R>) this.nodeDescriptionStore.getNodeDescription(targetType),
 				() -> "Can't read an entity of type %s without description".formatted(targetType));
-		MapAccessor queryRoot = determineQueryRoot(mapAccessor, rootNodeDescription, true);
+		MapAccessor queryRoot = determineQueryRoot(mapAccessor, rootNodeDescription, true, knownObjects);
 		if (queryRoot == null) {
 			throw new IllegalStateException("No query root");
 		}
 
 		try {
-			return map(queryRoot, queryRoot, rootNodeDescription);
+			return map(queryRoot, queryRoot, rootNodeDescription, knownObjects);
 		}
 		catch (Exception ex) {
 			throw new MappingException("Error mapping " + mapAccessor, ex);
@@ -208,7 +237,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 	}
 
 	@Nullable private <R> MapAccessor determineQueryRoot(MapAccessor mapAccessor,
-			@Nullable Neo4jPersistentEntity<R> rootNodeDescription, boolean firstTry) {
+			@Nullable Neo4jPersistentEntity<R> rootNodeDescription, boolean firstTry, KnownObjects knownObjects) {
 
 		if (rootNodeDescription == null) {
 			return null;
@@ -236,7 +265,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 				if (primaryLabels.stream().anyMatch(node::hasLabel)) { // it has a
 																		// matching label
 					// We haven't seen this node yet, so we take it
-					if (this.knownObjects.getObject("N" + IdentitySupport.getElementId(node)) == null) {
+					if (knownObjects.getNode(IdentitySupport.getElementId(node)) == null) {
 						matchingNodes.add(node);
 					}
 					else {
@@ -297,7 +326,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 			// whether there's a nested, aggregatable path
 			if (firstTry && !canBeAggregated(mapAccessor)) {
 				Value value = Values.value(Collections.singletonMap("_", mapAccessor.asMap(Function.identity())));
-				return determineQueryRoot(value, rootNodeDescription, false);
+				return determineQueryRoot(value, rootNodeDescription, false, knownObjects);
 			}
 		}
 
@@ -335,6 +364,12 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 			return;
 		}
 
+		if (this.mappingPlans != null) {
+			this.mappingPlans.getWritePlan(nodeDescription)
+				.write(nodeDescription.getPropertyAccessor(source), parameters);
+			return;
+		}
+
 		Map<String, Object> properties = new HashMap<>();
 
 		if (nodeDescription.hasRelationshipPropertyPersistTypeInfoFlag()) {
@@ -352,8 +387,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 				return;
 			}
 
-			final Value value = this.conversionService.writeValue(propertyAccessor.getProperty(p),
-					p.getTypeInformation(), p.getOptionalConverter());
+			final Value value = this.conversionService.writeValue(propertyAccessor.getProperty(p), p);
 			if (p.isComposite()) {
 				properties.put(p.getPropertyName(), new MapValueWrapper(value));
 			}
@@ -368,8 +402,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		if (nodeDescription.hasIdProperty()) {
 			Neo4jPersistentProperty idProperty = nodeDescription.getRequiredIdProperty();
 			parameters.put(Constants.NAME_OF_ID,
-					this.conversionService.writeValue(propertyAccessor.getProperty(idProperty),
-							idProperty.getTypeInformation(), idProperty.getOptionalConverter()));
+					this.conversionService.writeValue(propertyAccessor.getProperty(idProperty), idProperty));
 		}
 		// in case of relationship properties ignore internal id property
 		if (nodeDescription.hasVersionProperty()) {
@@ -386,8 +419,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 			Neo4jPersistentProperty vectorProperty = nodeDescription.getRequiredVectorProperty();
 			parameters.put(Constants.NAME_OF_VECTOR_PROPERTY, vectorProperty.getPropertyName());
 			parameters.put(Constants.NAME_OF_VECTOR_VALUE,
-					this.conversionService.writeValue(propertyAccessor.getProperty(vectorProperty),
-							vectorProperty.getTypeInformation(), vectorProperty.getOptionalConverter()));
+					this.conversionService.writeValue(propertyAccessor.getProperty(vectorProperty), vectorProperty));
 		}
 	}
 
@@ -399,20 +431,25 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 	 * @param allValues the original query result
 	 * @param nodeDescription the node description of the current entity to be mapped from
 	 * the result
+	 * @param knownObjects the objects known to the current mapping session
 	 * @param <ET> the entity type
 	 * @return the mapped entity
 	 */
-	private <ET> ET map(MapAccessor queryResult, MapAccessor allValues, Neo4jPersistentEntity<ET> nodeDescription) {
+	private <ET> ET map(MapAccessor queryResult, MapAccessor allValues, Neo4jPersistentEntity<ET> nodeDescription,
+			KnownObjects knownObjects) {
 		Collection<Relationship> relationshipsFromResult = extractRelationships(allValues);
 		Collection<Node> nodesFromResult = extractNodes(allValues);
-		return map(queryResult, nodeDescription, nodeDescription, null, null, relationshipsFromResult, nodesFromResult);
+		knownObjects.recordIndex = new RecordIndex(relationshipsFromResult, nodesFromResult);
+		return map(queryResult, nodeDescription, nodeDescription, null, null, relationshipsFromResult, nodesFromResult,
+				knownObjects);
 	}
 
 	@SuppressWarnings("unchecked")
 	private <ET> ET map(MapAccessor queryResult, Neo4jPersistentEntity<ET> nodeDescription,
 			NodeDescription<?> genericTargetNodeDescription, @Nullable Object lastMappedEntity,
 			@Nullable RelationshipDescription relationshipDescription,
-			@Nullable Collection<Relationship> relationshipsFromResult, Collection<Node> nodesFromResult) {
+			@Nullable Collection<Relationship> relationshipsFromResult, Collection<Node> nodesFromResult,
+			KnownObjects knownObjects) {
 
 		// prior to SDN 7 local `getInternalId` didn't check relationships, so in that
 		// case, they have never been a known
@@ -421,11 +458,11 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		// losing the central access. The behaviour of knowObjects should take different
 		// sources of ids into account,
 		// as relationships and nodes might have overlapping values
-		String direction = (relationshipDescription != null) ? relationshipDescription.getDirection().name() : null;
-		String internalId = IdentitySupport.getPrefixedElementId(queryResult, direction);
+		Direction direction = (relationshipDescription != null) ? relationshipDescription.getDirection() : null;
+		KnownObjectId internalId = KnownObjectId.of(queryResult, direction);
 
 		Supplier<ET> mappedObjectSupplier = () -> {
-			this.knownObjects.setInCreation(internalId);
+			knownObjects.setInCreation(internalId);
 
 			List<String> allLabels = getLabels(queryResult, nodeDescription);
 			NodeDescriptionAndLabels nodeDescriptionAndLabels = this.nodeDescriptionStore
@@ -436,14 +473,15 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 
 			ET instance = instantiate(concreteNodeDescription, genericTargetNodeDescription, queryResult,
 					nodeDescriptionAndLabels.getDynamicLabels(), lastMappedEntity, relationshipsFromResult,
-					nodesFromResult);
+					nodesFromResult, knownObjects);
 
-			this.knownObjects.removeFromInCreation(internalId);
+			knownObjects.removeFromInCreation(internalId);
 
 			populateProperties(queryResult, (Neo4jPersistentEntity<ET>) genericTargetNodeDescription, nodeDescription,
-					internalId, instance, lastMappedEntity, relationshipsFromResult, nodesFromResult, false);
+					internalId, instance, lastMappedEntity, relationshipsFromResult, nodesFromResult, false,
+					knownObjects);
 
-			var mostCurrentInstance = Objects.requireNonNull(getMostCurrentInstance(internalId, instance),
+			var mostCurrentInstance = Objects.requireNonNull(getMostCurrentInstance(internalId, instance, knownObjects),
 					"Could not get the most current instance for the internal id %s".formatted(internalId));
 			PersistentPropertyAccessor<ET> propertyAccessor = concreteNodeDescription
 				.getPropertyAccessor(mostCurrentInstance);
@@ -451,20 +489,20 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 			bean = this.eventSupport.maybeCallAfterConvert(bean, concreteNodeDescription, queryResult);
 
 			// save final state of the bean
-			this.knownObjects.storeObject(internalId, bean);
-			this.knownObjects.mappedWithQueryResult(internalId, queryResult);
+			knownObjects.storeObject(internalId, bean);
+			knownObjects.mappedWithQueryResult(internalId, queryResult);
 			return bean;
 		};
 
 		@SuppressWarnings("unchecked")
-		ET mappedObject = (ET) this.knownObjects.getObject(internalId);
+		ET mappedObject = (ET) knownObjects.getObject(internalId);
 		if (mappedObject == null) {
 			mappedObject = mappedObjectSupplier.get();
-			this.knownObjects.storeObject(internalId, mappedObject);
-			this.knownObjects.mappedWithQueryResult(internalId, queryResult);
+			knownObjects.storeObject(internalId, mappedObject);
+			knownObjects.mappedWithQueryResult(internalId, queryResult);
 		}
-		else if (this.knownObjects.alreadyMappedInPreviousRecord(internalId)
-				|| hasMoreFields(queryResult.asMap(), this.knownObjects.getQueryResultsFor(internalId))) {
+		else if (knownObjects.alreadyMappedInPreviousRecord(internalId)
+				|| hasMoreFields(queryResult.asMap(), knownObjects.getQueryResultsFor(internalId))) {
 			// If the object were created in a run before or from a different path that
 			// represents another projection,
 			// it _could_ have missing relationships and properties.
@@ -475,11 +513,12 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 			// 2. Mutable target types
 			// because we cannot just create new instances
 			populateProperties(queryResult, (Neo4jPersistentEntity<ET>) genericTargetNodeDescription, nodeDescription,
-					internalId, mappedObject, lastMappedEntity, relationshipsFromResult, nodesFromResult, true);
+					internalId, mappedObject, lastMappedEntity, relationshipsFromResult, nodesFromResult, true,
+					knownObjects);
 		}
 		// due to a needed side effect in `populateProperties`, the entity might have been
 		// changed
-		return Objects.requireNonNull(getMostCurrentInstance(internalId, mappedObject),
+		return Objects.requireNonNull(getMostCurrentInstance(internalId, mappedObject, knownObjects),
 				"Could not get mapped instance for internal id %s".formatted(internalId));
 	}
 
@@ -498,15 +537,16 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 	}
 
 	@SuppressWarnings("unchecked")
-	@Nullable private <ET> ET getMostCurrentInstance(@Nullable String internalId, @Nullable ET fallbackInstance) {
-		return (ET) ((internalId != null && this.knownObjects.getObject(internalId) != null)
-				? this.knownObjects.getObject(internalId) : fallbackInstance);
+	@Nullable private <ET> ET getMostCurrentInstance(@Nullable KnownObjectId internalId, @Nullable ET fallbackInstance,
+			KnownObjects knownObjects) {
+		return (ET) ((internalId != null && knownObjects.getObject(internalId) != null)
+				? knownObjects.getObject(internalId) : fallbackInstance);
 	}
 
 	private <ET> void populateProperties(MapAccessor queryResult, Neo4jPersistentEntity<ET> baseNodeDescription,
-			Neo4jPersistentEntity<ET> moreConcreteNodeDescription, @Nullable String internalId, ET mappedObject,
+			Neo4jPersistentEntity<ET> moreConcreteNodeDescription, @Nullable KnownObjectId internalId, ET mappedObject,
 			@Nullable Object lastMappedEntity, @Nullable Collection<Relationship> relationshipsFromResult,
-			Collection<Node> nodesFromResult, boolean objectAlreadyMapped) {
+			Collection<Node> nodesFromResult, boolean objectAlreadyMapped, KnownObjects knownObjects) {
 
 		List<String> allLabels = getLabels(queryResult, moreConcreteNodeDescription);
 		NodeDescriptionAndLabels nodeDescriptionAndLabels = this.nodeDescriptionStore
@@ -529,21 +569,34 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 
 		boolean isKotlinType = KotlinDetector.isKotlinType(concreteNodeDescription.getType());
 		// Fill simple properties
-		PropertyHandler<@NonNull Neo4jPersistentProperty> handler = populateFrom(queryResult, propertyAccessor,
-				isConstructorParameter, nodeDescriptionAndLabels.getDynamicLabels(), lastMappedEntity, isKotlinType,
-				objectAlreadyMapped);
-		PropertyHandlerSupport.of(concreteNodeDescription).doWithProperties(handler);
+		EntityMappingPlans.ReadPlan readPlan = (this.mappingPlans != null)
+				? this.mappingPlans.getReadPlan(concreteNodeDescription) : null;
+		if (readPlan != null && !readPlan.requiresGenericPopulation()) {
+			for (EntityMappingPlans.PropertyReader reader : readPlan.readers()) {
+				Object value = reader.reader().apply(extractValueOf(reader.property(), queryResult));
+				if (value != null) {
+					propertyAccessor.setProperty(reader.property(),
+							getValueOrDefault(isKotlinType, reader.rawType(), value));
+				}
+			}
+		}
+		else {
+			PropertyHandler<@NonNull Neo4jPersistentProperty> handler = populateFrom(queryResult, propertyAccessor,
+					isConstructorParameter, nodeDescriptionAndLabels.getDynamicLabels(), lastMappedEntity, isKotlinType,
+					objectAlreadyMapped);
+			PropertyHandlerSupport.of(concreteNodeDescription).doWithProperties(handler);
+		}
 		// in a cyclic graph / with bidirectional relationships, we could end up in a
 		// state in which we
 		// reference the start again. Because it is getting still constructed, it won't be
 		// in the knownObjects
 		// store unless we temporarily put it there.
-		this.knownObjects.storeObject(internalId, propertyAccessor.getBean());
-		this.knownObjects.mappedWithQueryResult(internalId, queryResult);
+		knownObjects.storeObject(internalId, propertyAccessor.getBean());
+		knownObjects.mappedWithQueryResult(internalId, queryResult);
 
 		AssociationHandlerSupport.of(concreteNodeDescription)
 			.doWithAssociations(populateFrom(queryResult, baseNodeDescription, propertyAccessor, isConstructorParameter,
-					objectAlreadyMapped, relationshipsFromResult, nodesFromResult));
+					objectAlreadyMapped, relationshipsFromResult, nodesFromResult, knownObjects));
 	}
 
 	private Neo4jPersistentEntity<?> getMostConcreteTargetNodeDescription(
@@ -609,7 +662,8 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 
 	private <ET> ET instantiate(Neo4jPersistentEntity<ET> nodeDescription, NodeDescription<?> genericNodeDescription,
 			MapAccessor values, Collection<String> surplusLabels, @Nullable Object lastMappedEntity,
-			@Nullable Collection<Relationship> relationshipsFromResult, Collection<Node> nodesFromResult) {
+			@Nullable Collection<Relationship> relationshipsFromResult, Collection<Node> nodesFromResult,
+			KnownObjects knownObjects) {
 
 		ParameterValueProvider<@NonNull Neo4jPersistentProperty> parameterValueProvider = new ParameterValueProvider<>() {
 
@@ -636,14 +690,14 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 					// CONCRETE_TYPE_TARGET but ABSTRACT_TYPE_TARGET.
 					// For this we bubble up the hierarchy of NodeDescriptions.
 					result = createInstanceOfRelationships(matchingProperty, values, relationshipDescription,
-							genericNodeDescription, relationshipsFromResult, nodesFromResult)
+							genericNodeDescription, relationshipsFromResult, nodesFromResult, knownObjects)
 						.orElseGet(() -> {
 							NodeDescription<?> parentNodeDescription = nodeDescription.getParentNodeDescription();
 							T resultValue = null;
 							while (parentNodeDescription != null) {
 								Optional<Object> value = createInstanceOfRelationships(matchingProperty, values,
 										relationshipDescription, parentNodeDescription, relationshipsFromResult,
-										nodesFromResult);
+										nodesFromResult, knownObjects);
 								if (value.isPresent()) {
 									resultValue = (T) value.get();
 									break;
@@ -694,8 +748,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 				}
 			}
 			if (!property.isDynamicLabels() && !property.isAnnotationPresent(TargetNode.class)) {
-				Object value = this.conversionService.readValue(extractValueOf(property, queryResult), typeInformation,
-						property.getOptionalConverter());
+				Object value = this.conversionService.readValue(extractValueOf(property, queryResult), property);
 				if (value != null) {
 					Class<?> rawType = typeInformation.getType();
 					propertyAccessor.setProperty(property, getValueOrDefault(ownerIsKotlinType, rawType, value));
@@ -707,7 +760,8 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 	private AssociationHandler<@NonNull Neo4jPersistentProperty> populateFrom(MapAccessor queryResult,
 			NodeDescription<?> baseDescription, PersistentPropertyAccessor<?> propertyAccessor,
 			Predicate<Neo4jPersistentProperty> isConstructorParameter, boolean objectAlreadyMapped,
-			@Nullable Collection<Relationship> relationshipsFromResult, Collection<Node> nodesFromResult) {
+			@Nullable Collection<Relationship> relationshipsFromResult, Collection<Node> nodesFromResult,
+			KnownObjects knownObjects) {
 
 		return association -> {
 
@@ -740,7 +794,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 				if (populatedCollection) {
 					createInstanceOfRelationships(persistentProperty, queryResult,
 							(RelationshipDescription) association, baseDescription, relationshipsFromResult,
-							nodesFromResult, false)
+							nodesFromResult, false, knownObjects)
 						.ifPresent(value -> {
 							Collection<?> providedCollection = (Collection<?>) value;
 							Collection<?> existingValue = (Collection<?>) propertyValue;
@@ -766,7 +820,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 			}
 
 			createInstanceOfRelationships(persistentProperty, queryResult, (RelationshipDescription) association,
-					baseDescription, relationshipsFromResult, nodesFromResult)
+					baseDescription, relationshipsFromResult, nodesFromResult, knownObjects)
 				.ifPresent(value -> propertyAccessor.setProperty(persistentProperty, value));
 
 		};
@@ -800,16 +854,17 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 
 	private Optional<Object> createInstanceOfRelationships(Neo4jPersistentProperty persistentProperty,
 			MapAccessor values, RelationshipDescription relationshipDescription, NodeDescription<?> baseDescription,
-			@Nullable Collection<Relationship> relationshipsFromResult, Collection<Node> nodesFromResult) {
+			@Nullable Collection<Relationship> relationshipsFromResult, Collection<Node> nodesFromResult,
+			KnownObjects knownObjects) {
 		return createInstanceOfRelationships(persistentProperty, values, relationshipDescription, baseDescription,
-				relationshipsFromResult, nodesFromResult, true);
+				relationshipsFromResult, nodesFromResult, true, knownObjects);
 	}
 
 	@SuppressWarnings("deprecation")
 	private Optional<Object> createInstanceOfRelationships(Neo4jPersistentProperty persistentProperty,
 			MapAccessor values, RelationshipDescription relationshipDescription, NodeDescription<?> baseDescription,
 			@Nullable Collection<Relationship> relationshipsFromResult, Collection<Node> nodesFromResult,
-			boolean fetchMore) {
+			boolean fetchMore, KnownObjects knownObjects) {
 
 		String typeOfRelationship = relationshipDescription.getType();
 		String targetLabel = relationshipDescription.getTarget().getPrimaryLabel();
@@ -882,27 +937,30 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 				sourceIdSelector = hlp.andThen(l -> Long.toString(l));
 			}
 
-			// Retrieve all matching relationships from the result's list(s)
-			Collection<Relationship> allMatchingTypeRelationshipsInResult = extractMatchingRelationships(
-					relationshipsFromResult, relationshipDescription, typeOfRelationship,
-					(possibleRelationship) -> sourceIdSelector.apply(possibleRelationship).equals(sourceNodeId));
+			// Retrieve all matching relationships from the result's list(s), using the
+			// index of the record when the element id of the source node is known
+			Collection<Relationship> allMatchingTypeRelationshipsInResult = (elementId != null)
+					? knownObjects.recordIndex.getRelationships(relationshipsFromResult, sourceNodeId,
+							relationshipDescription.isIncoming(), typeOfRelationship,
+							relationshipDescription.isDynamic())
+					: extractMatchingRelationships(relationshipsFromResult, relationshipDescription, typeOfRelationship,
+							(possibleRelationship) -> sourceIdSelector.apply(possibleRelationship)
+								.equals(sourceNodeId));
 
 			// Fast exit if there is no relationship that can be mapped
 			if (!allMatchingTypeRelationshipsInResult.isEmpty()) {
 
-				// Retrieve all nodes from the result's list(s)
-				Collection<Node> allNodesWithMatchingLabelInResult = extractMatchingNodes(nodesFromResult, targetLabel);
-				for (Node possibleValueNode : allNodesWithMatchingLabelInResult) {
+				// Resolve the target nodes from the result's list(s) in the order they
+				// appear in the result
+				for (Map.Entry<Node, List<Relationship>> candidate : knownObjects.recordIndex
+					.groupByTargetNode(allMatchingTypeRelationshipsInResult, targetIdSelector, targetLabel)) {
+					Node possibleValueNode = candidate.getKey();
 					String targetNodeId = IdentitySupport.getElementId(possibleValueNode);
 
 					Neo4jPersistentEntity<?> concreteTargetNodeDescription = getMostConcreteTargetNodeDescription(
 							genericTargetNodeDescription, possibleValueNode);
 
-					Set<Relationship> relationshipsProcessed = new HashSet<>();
-					for (Relationship possibleRelationship : allMatchingTypeRelationshipsInResult) {
-						if (!targetIdSelector.apply(possibleRelationship).equals(targetNodeId)) {
-							continue;
-						}
+					for (Relationship possibleRelationship : candidate.getValue()) {
 
 						// Reduce the amount of relationships in the candidate list.
 						// If this relationship got processed twice (OUTGOING,
@@ -910,9 +968,9 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 						// and therefor should not be in the list.
 						// Otherwise, for highly linked data it could potentially
 						// cause a StackOverflowError.
-						String direction = relationshipDescription.getDirection().name();
-						if (relationshipsFromResult != null && this.knownObjects.hasProcessedRelationshipCompletely(
-								"R" + direction + IdentitySupport.getElementId(possibleRelationship))) {
+						if (relationshipsFromResult != null && knownObjects.hasProcessedRelationshipCompletely(
+								KnownObjectId.relationship(relationshipDescription.getDirection(),
+										IdentitySupport.getElementId(possibleRelationship)))) {
 							relationshipsFromResult.remove(possibleRelationship);
 						}
 						// If the target is the same(equal) node, get the related
@@ -927,15 +985,15 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 						Object mappedObject;
 						if (fetchMore) {
 							mappedObject = (sourceNodeId != null && sourceNodeId.equals(targetNodeId))
-									? this.knownObjects.getObject("N" + sourceNodeId)
+									? knownObjects.getNode(sourceNodeId)
 									: map(possibleValueNode, concreteTargetNodeDescription, baseDescription, null, null,
-											relationshipsFromResult, nodesFromResult);
+											relationshipsFromResult, nodesFromResult, knownObjects);
 						}
 						else {
-							Object objectFromStore = this.knownObjects.getObject("N" + targetNodeId);
+							Object objectFromStore = knownObjects.getNode(targetNodeId);
 							mappedObject = (objectFromStore != null) ? objectFromStore
 									: map(possibleValueNode, concreteTargetNodeDescription, baseDescription, null, null,
-											relationshipsFromResult, nodesFromResult);
+											relationshipsFromResult, nodesFromResult, knownObjects);
 						}
 
 						if (relationshipDescription.hasRelationshipProperties()) {
@@ -945,16 +1003,15 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 							if (fetchMore) {
 								relationshipProperties = map(possibleRelationship, relationshipPropertiesEntity,
 										relationshipPropertiesEntity, mappedObject, relationshipDescription,
-										relationshipsFromResult, nodesFromResult);
+										relationshipsFromResult, nodesFromResult, knownObjects);
 							}
 							else {
-								Object objectFromStore = this.knownObjects
-									.getObject(IdentitySupport.getPrefixedElementId(possibleRelationship,
-											relationshipDescription.getDirection().name()));
+								Object objectFromStore = knownObjects.getObject(
+										KnownObjectId.of(possibleRelationship, relationshipDescription.getDirection()));
 								relationshipProperties = (objectFromStore != null) ? objectFromStore
 										: map(possibleRelationship, relationshipPropertiesEntity,
 												relationshipPropertiesEntity, mappedObject, relationshipDescription,
-												relationshipsFromResult, nodesFromResult);
+												relationshipsFromResult, nodesFromResult, knownObjects);
 							}
 							relationshipsAndProperties.add(relationshipProperties);
 							mappedObjectHandler.accept(possibleRelationship.type(), relationshipProperties);
@@ -962,9 +1019,7 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 						else {
 							mappedObjectHandler.accept(possibleRelationship.type(), mappedObject);
 						}
-						relationshipsProcessed.add(possibleRelationship);
 					}
-					allMatchingTypeRelationshipsInResult.removeAll(relationshipsProcessed);
 				}
 			}
 		}
@@ -977,14 +1032,13 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 				Object valueEntry;
 				if (fetchMore) {
 					valueEntry = map(relatedEntity, concreteTargetNodeDescription, genericTargetNodeDescription, null,
-							null, relationshipsFromResult, nodesFromResult);
+							null, relationshipsFromResult, nodesFromResult, knownObjects);
 				}
 				else {
-					Object objectFromStore = this.knownObjects
-						.getObject(IdentitySupport.getPrefixedElementId(relatedEntity, null));
+					Object objectFromStore = knownObjects.getObject(KnownObjectId.of(relatedEntity, null));
 					valueEntry = (objectFromStore != null) ? objectFromStore
 							: map(relatedEntity, concreteTargetNodeDescription, genericTargetNodeDescription, null,
-									null, relationshipsFromResult, nodesFromResult);
+									null, relationshipsFromResult, nodesFromResult, knownObjects);
 				}
 
 				if (relationshipDescription.hasRelationshipProperties()) {
@@ -1001,15 +1055,15 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 					if (fetchMore) {
 						relationshipProperties = map(relatedEntityRelationship, relationshipPropertiesEntity,
 								relationshipPropertiesEntity, valueEntry, relationshipDescription,
-								relationshipsFromResult, nodesFromResult);
+								relationshipsFromResult, nodesFromResult, knownObjects);
 					}
 					else {
-						Object objectFromStore = this.knownObjects.getObject(IdentitySupport.getPrefixedElementId(
-								relatedEntityRelationship, relationshipDescription.getDirection().name()));
+						Object objectFromStore = knownObjects.getObject(
+								KnownObjectId.of(relatedEntityRelationship, relationshipDescription.getDirection()));
 						relationshipProperties = (objectFromStore != null) ? objectFromStore
 								: map(relatedEntityRelationship, relationshipPropertiesEntity,
 										relationshipPropertiesEntity, valueEntry, relationshipDescription,
-										relationshipsFromResult, nodesFromResult);
+										relationshipsFromResult, nodesFromResult, knownObjects);
 					}
 
 					relationshipsAndProperties.add(relationshipProperties);
@@ -1047,15 +1101,6 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		}
 	}
 
-	private Collection<Node> extractMatchingNodes(Collection<Node> allNodesInResult, String targetLabel) {
-
-		return this.labelNodeCache.computeIfAbsent(targetLabel, (label) -> {
-
-			Predicate<Node> onlyWithMatchingLabels = n -> n.hasLabel(label);
-			return allNodesInResult.stream().filter(onlyWithMatchingLabels).collect(Collectors.toList());
-		});
-	}
-
 	private Collection<Node> extractNodes(MapAccessor allValues) {
 		Collection<Node> allNodesInResult = new LinkedHashSet<>();
 		StreamSupport.stream(allValues.values().spliterator(), false)
@@ -1096,184 +1141,291 @@ final class DefaultNeo4jEntityConverter implements Neo4jEntityConverter {
 		return allRelationshipsInResult;
 	}
 
-	static class KnownObjects {
-
-		private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-
-		private final Lock read = this.lock.readLock();
+	/**
+	 * Index over the nodes and relationships of a single record, built once per record.
+	 * Looking up the relationships of a source node and their target nodes is done via
+	 * hash lookups instead of scanning all nodes and relationships of the record for each
+	 * mapped node, so that mapping scales linearly with the size of the record.
+	 */
+	static final class RecordIndex {
 
-		private final Lock write = this.lock.writeLock();
+		static final RecordIndex EMPTY = new RecordIndex(List.of(), List.of());
 
-		private final Map<String, Object> internalIdStore = new HashMap<>();
+		private final Map<String, List<Relationship>> relationshipsByStartNode = new HashMap<>();
 
-		private final Map<String, Boolean> internalCurrentRecord = new HashMap<>();
+		private final Map<String, List<Relationship>> relationshipsByEndNode = new HashMap<>();
 
-		private final Set<String> previousRecords = new HashSet<>();
+		private final Map<String, Node> nodesByElementId = new HashMap<>();
 
-		private final Set<String> idsInCreation = new HashSet<>();
+		private final Map<Node, Integer> positionOfNodes = new HashMap<>();
 
-		private final Map<String, Integer> processedRelationships = new HashMap<>();
+		RecordIndex(Collection<Relationship> relationships, Collection<Node> nodes) {
+			for (Relationship relationship : relationships) {
+				this.relationshipsByStartNode.computeIfAbsent(relationship.startNodeElementId(), k -> new ArrayList<>())
+					.add(relationship);
+				this.relationshipsByEndNode.computeIfAbsent(relationship.endNodeElementId(), k -> new ArrayList<>())
+					.add(relationship);
+			}
+			int position = 0;
+			for (Node node : nodes) {
+				if (this.nodesByElementId.putIfAbsent(IdentitySupport.getElementId(node), node) == null) {
+					this.positionOfNodes.put(node, position++);
+				}
+			}
+		}
 
-		private final Map<String, Set<Map<String, Object>>> mappedQueryResults = new HashMap<>();
+		/**
+		 * Retrieves the relationships starting or ending at the given node. Relationships
+		 * that have been removed from {@code relationshipsFromResult} in the meantime
+		 * won't be returned.
+		 * @param relationshipsFromResult the relationships still available for mapping
+		 * @param sourceNodeId the element id of the source node
+		 * @param incoming {@literal true} if the relationships end at the source node
+		 * @param type the required type of the relationships
+		 * @param anyType {@literal true} if relationships of any type should be returned
+		 * @return a new, mutable collection of relationships in the order of the record
+		 */
+		Collection<Relationship> getRelationships(@Nullable Collection<Relationship> relationshipsFromResult,
+				String sourceNodeId, boolean incoming, String type, boolean anyType) {
 
-		private void storeObject(@Nullable String internalId, Object object) {
-			if (internalId == null) {
-				return;
+			List<Relationship> candidates = (incoming ? this.relationshipsByEndNode : this.relationshipsByStartNode)
+				.get(sourceNodeId);
+			if (relationshipsFromResult == null || candidates == null) {
+				return new ArrayList<>();
 			}
-			try {
-				this.write.lock();
-				this.idsInCreation.remove(internalId);
-				this.internalIdStore.put(internalId, object);
-				this.internalCurrentRecord.put(internalId, false);
+			List<Relationship> result = new ArrayList<>(candidates.size());
+			for (Relationship candidate : candidates) {
+				if ((anyType || candidate.type().equals(type)) && relationshipsFromResult.contains(candidate)) {
+					result.add(candidate);
+				}
 			}
-			finally {
-				this.write.unlock();
+			return result;
+		}
+
+		/**
+		 * Groups the given relationships by their target node. Relationships without a
+		 * target node in the record or with a target node not having the given label are
+		 * skipped.
+		 * @param relationships the relationships to group
+		 * @param targetIdSelector selects the element id of the target node
+		 * @param targetLabel the required label of the target nodes
+		 * @return the target nodes with their relationships in the order of the record
+		 */
+		List<Map.Entry<Node, List<Relationship>>> groupByTargetNode(Collection<Relationship> relationships,
+				Function<Relationship, String> targetIdSelector, String targetLabel) {
+
+			Map<Node, List<Relationship>> relationshipsByTargetNode = new HashMap<>();
+			for (Relationship relationship : relationships) {
+				Node targetNode = this.nodesByElementId.get(targetIdSelector.apply(relationship));
+				if (targetNode != null && targetNode.hasLabel(targetLabel)) {
+					relationshipsByTargetNode.computeIfAbsent(targetNode, k -> new ArrayList<>()).add(relationship);
+				}
 			}
+			List<Map.Entry<Node, List<Relationship>>> result = new ArrayList<>(relationshipsByTargetNode.entrySet());
+			result.sort(Comparator.comparingInt(entry -> this.positionOfNodes.get(entry.getKey())));
+			return result;
 		}
 
-		private void setInCreation(@Nullable String internalId) {
-			if (internalId == null) {
-				return;
+	}
+
+	/**
+	 * Identifies an object known to the mapping process without concatenating
+	 * identifiers. Relationships are distinguished by the direction in which they have
+	 * been traversed, as the same relationship might be mapped in both directions.
+	 *
+	 * @param kind the kind of graph element
+	 * @param elementId the element id of the node or relationship
+	 */
+	record KnownObjectId(Kind kind, String elementId) {
+
+		static KnownObjectId node(String elementId) {
+			return new KnownObjectId(Kind.NODE, elementId);
+		}
+
+		static KnownObjectId relationship(@Nullable Direction direction, String elementId) {
+			Kind kind = (direction != null) ? switch (direction) {
+				case OUTGOING -> Kind.OUTGOING_RELATIONSHIP;
+				case INCOMING -> Kind.INCOMING_RELATIONSHIP;
+			} : Kind.RELATIONSHIP;
+			return new KnownObjectId(kind, elementId);
+		}
+
+		/**
+		 * Determines the id of the object represented by the given query result.
+		 * @param queryResult a node, a relationship or a map projection
+		 * @param direction the direction in which a relationship has been traversed
+		 * @return the id or {@literal null} if the query result has no id
+		 */
+		@Nullable static KnownObjectId of(MapAccessor queryResult, @Nullable Direction direction) {
+			if (queryResult instanceof Node) {
+				return node(IdentitySupport.getElementId(queryResult));
 			}
-			try {
-				this.write.lock();
-				this.idsInCreation.add(internalId);
+			else if (queryResult instanceof Relationship) {
+				return relationship(direction, IdentitySupport.getElementId(queryResult));
 			}
-			finally {
-				this.write.unlock();
+			Value value = queryResult.get(Constants.NAME_OF_ELEMENT_ID);
+			if (value == null || value.isNull()) {
+				return null;
 			}
+			return node(
+					value.hasType(TypeSystem.getDefault().NUMBER()) ? value.asNumber().toString() : value.asString());
 		}
 
-		private boolean isInCreation(String internalId) {
-			if (internalId == null) {
-				return false;
-			}
-			try {
-				this.read.lock();
-				return this.idsInCreation.contains(internalId);
-			}
-			finally {
-				this.read.unlock();
+		enum Kind {
+
+			NODE, RELATIONSHIP, OUTGOING_RELATIONSHIP, INCOMING_RELATIONSHIP
+
+		}
+
+	}
+
+	/**
+	 * Keeps track of all objects mapped in one mapping session, that is a single read or
+	 * all records of one result read through {@link #readerForResult(Class)}. All state
+	 * belonging to one object is kept in a single entry, so that each operation needs one
+	 * lookup in the map for the kind of object. A session is used by one thread at a
+	 * time, so none of the state needs to be guarded.
+	 */
+	static final class KnownObjects {
+
+		private final Map<KnownObjectId.Kind, Map<String, Entry>> entries = new EnumMap<>(KnownObjectId.Kind.class);
+
+		private int currentRecord;
+
+		private RecordIndex recordIndex = RecordIndex.EMPTY;
+
+		KnownObjects() {
+			for (KnownObjectId.Kind kind : KnownObjectId.Kind.values()) {
+				this.entries.put(kind, new HashMap<>());
 			}
 		}
 
-		private boolean containsNode(Node node) {
+		@Nullable private Entry get(KnownObjectId id) {
+			return this.entries.get(id.kind()).get(id.elementId());
+		}
 
-			try {
-				this.read.lock();
-				return this.internalIdStore.containsKey(IdentitySupport.getElementId(node));
+		private Entry getOrCreate(KnownObjectId id) {
+			return this.entries.get(id.kind()).computeIfAbsent(id.elementId(), k -> new Entry());
+		}
+
+		private void storeObject(@Nullable KnownObjectId id, Object object) {
+			if (id == null) {
+				return;
 			}
-			finally {
-				this.read.unlock();
+			Entry entry = getOrCreate(id);
+			entry.inCreation = false;
+			entry.object = object;
+			if (entry.firstStoredInRecord < 0) {
+				entry.firstStoredInRecord = this.currentRecord;
+			}
+		}
+
+		private void setInCreation(@Nullable KnownObjectId id) {
+			if (id == null) {
+				return;
 			}
+			getOrCreate(id).inCreation = true;
 		}
 
-		@Nullable private Object getObject(@Nullable String internalId) {
-			if (internalId == null) {
+		@Nullable private Object getNode(String elementId) {
+			return getObject(KnownObjectId.node(elementId));
+		}
+
+		@Nullable private Object getObject(@Nullable KnownObjectId id) {
+			if (id == null) {
 				return null;
 			}
-			try {
-				this.read.lock();
-				if (isInCreation(internalId)) {
-					throw new MappingException(String.format(
-							"The node with id %s has a logical cyclic mapping dependency; "
-									+ "its creation caused the creation of another node that has a reference to this",
-							internalId.substring(1)));
-				}
-				return this.internalIdStore.get(internalId);
+			Entry entry = get(id);
+			if (entry == null) {
+				return null;
 			}
-			finally {
-				this.read.unlock();
+			if (entry.inCreation) {
+				throw new MappingException(String.format(
+						"The node with id %s has a logical cyclic mapping dependency; "
+								+ "its creation caused the creation of another node that has a reference to this",
+						id.elementId()));
 			}
+			return entry.object;
 		}
 
-		private void removeFromInCreation(@Nullable String internalId) {
-			if (internalId == null) {
+		private void removeFromInCreation(@Nullable KnownObjectId id) {
+			if (id == null) {
 				return;
 			}
-			try {
-				this.write.lock();
-				this.idsInCreation.remove(internalId);
-			}
-			finally {
-				this.write.unlock();
+			Entry entry = get(id);
+			if (entry != null) {
+				entry.inCreation = false;
 			}
 		}
 
-		private boolean alreadyMappedInPreviousRecord(@Nullable String internalId) {
-			if (internalId == null) {
+		private boolean alreadyMappedInPreviousRecord(@Nullable KnownObjectId id) {
+			if (id == null) {
 				return false;
 			}
-			try {
-
-				this.read.lock();
-
-				return this.previousRecords.contains(internalId)
-						|| Optional.ofNullable(this.internalCurrentRecord.get(internalId)).orElse(Boolean.FALSE);
-
-			}
-			finally {
-				this.read.unlock();
-			}
+			Entry entry = get(id);
+			return entry != null && entry.firstStoredInRecord >= 0 && entry.firstStoredInRecord < this.currentRecord;
 		}
 
 		/**
 		 * This method has an intended side effect. It increases the process count of
 		 * relationships (mapped by their ids) AND checks if it was already processed
 		 * twice (INCOMING/OUTGOING).
-		 * @param relationshipId the id of the relationship to check
+		 * @param id the id of the relationship to check
 		 * @return true if the relationship has been completely processed
 		 */
-		private boolean hasProcessedRelationshipCompletely(String relationshipId) {
-			try {
-				this.write.lock();
-
-				int processedAmount = this.processedRelationships.computeIfAbsent(relationshipId, s -> 0);
-				if (processedAmount == 2) {
-					return true;
-				}
-
-				this.processedRelationships.put(relationshipId, processedAmount + 1);
-				return false;
-
-			}
-			finally {
-				this.write.unlock();
+		private boolean hasProcessedRelationshipCompletely(KnownObjectId id) {
+			Entry entry = getOrCreate(id);
+			if (entry.timesProcessed == 2) {
+				return true;
 			}
+			++entry.timesProcessed;
+			return false;
 		}
 
 		/**
 		 * Mark all currently existing objects as mapped.
 		 */
 		private void nextRecord() {
-			this.previousRecords.addAll(this.internalCurrentRecord.keySet());
-			this.internalCurrentRecord.clear();
+			++this.currentRecord;
+			this.recordIndex = RecordIndex.EMPTY;
 		}
 
-		private void mappedWithQueryResult(@Nullable String internalId, MapAccessor queryResult) {
-			if (internalId != null) {
-				try {
-					this.write.lock();
-					this.mappedQueryResults.computeIfAbsent(internalId, id -> ConcurrentHashMap.newKeySet())
-						.add(queryResult.asMap());
-				}
-				finally {
-					this.write.unlock();
-				}
+		private void mappedWithQueryResult(@Nullable KnownObjectId id, MapAccessor queryResult) {
+			if (id == null) {
+				return;
+			}
+			Entry entry = getOrCreate(id);
+			if (entry.queryResults == null) {
+				entry.queryResults = new HashSet<>();
 			}
+			entry.queryResults.add(queryResult.asMap());
 		}
 
-		private Set<Map<String, Object>> getQueryResultsFor(@Nullable String internalId) {
-			if (internalId == null) {
+		private Set<Map<String, Object>> getQueryResultsFor(@Nullable KnownObjectId id) {
+			if (id == null) {
 				return Set.of();
 			}
-			try {
-				this.read.lock();
-				return Objects.requireNonNullElseGet(this.mappedQueryResults.get(internalId), Set::of);
-			}
-			finally {
-				this.read.unlock();
-			}
+			Entry entry = get(id);
+			return (entry != null && entry.queryResults != null) ? entry.queryResults : Set.of();
+		}
+
+		/**
+		 * Everything known about a single node or relationship.
+		 */
+		private static final class Entry {
+
+			@Nullable
+			private Object object;
+
+			private boolean inCreation;
+
+			private int firstStoredInRecord = -1;
+
+			private int timesProcessed;
+
+			@Nullable
+			private Set<Map<String, Object>> queryResults;
+
 		}
 
 	}
@@ -27,6 +27,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -54,6 +55,7 @@ import org.springframework.data.neo4j.core.schema.TargetNode;
 import org.springframework.data.support.IsNewStrategy;
 import org.springframework.data.util.Lazy;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.StringUtils;
 
 /**
@@ -73,6 +75,11 @@ final class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo
 
 	private static final LogAccessor log = new LogAccessor(LogFactory.getLog(Neo4jPersistentEntity.class));
 
+	/**
+	 * Maximum number of memoized results of model walks per entity.
+	 */
+	private static final int MAX_MEMOIZED_WALKS = 256;
+
 	/**
 	 * The label that describes the label most concrete.
 	 */
@@ -102,9 +109,25 @@ final class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo
 
 	private List<NodeDescription<?>> childNodeDescriptionsInHierarchy;
 
-	DefaultNeo4jPersistentEntity(TypeInformation<T> information) {
+	/**
+	 * Shared by all entities of one mapping context and changed whenever the hierarchy of
+	 * one of them changes. It is part of the keys of memoized model walks, as those
+	 * cross entity boundaries.
+	 */
+	private final AtomicLong modelVersion;
+
+	private final ConcurrentLruCache<MemoizedWalkKey, Boolean> possibleCircles = new ConcurrentLruCache<>(
+			MAX_MEMOIZED_WALKS, key -> calculatePossibleCircles(key.propertyFilter()));
+
+	private final ConcurrentLruCache<MemoizedWalkKey, Collection<RelationshipDescription>> relationshipsInHierarchy = new ConcurrentLruCache<>(
+			MAX_MEMOIZED_WALKS, key -> Collections.unmodifiableSet(computeRelationshipsInHierarchy(
+					key.propertyFilter(), Objects.requireNonNull(key.path()))));
+
+	DefaultNeo4jPersistentEntity(TypeInformation<T> information, AtomicLong modelVersion) {
 		super(information);
 
+		this.modelVersion = modelVersion;
+
 		this.primaryLabel = computePrimaryLabel(this.getType());
 		this.additionalLabels = Lazy.of(this::computeAdditionalLabels);
 		this.graphProperties = Lazy.of(this::computeGraphProperties);
@@ -548,7 +571,19 @@ final class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo
 				PropertyFilter.RelaxedPropertyPath.withRootType(this.getUnderlyingClass()));
 	}
 
-	Collection<RelationshipDescription> getRelationshipsInHierarchy(
+	@Override
+	public Collection<RelationshipDescription> getRelationshipsInHierarchy(
+			Predicate<PropertyFilter.RelaxedPropertyPath> propertyFilter, PropertyFilter.RelaxedPropertyPath path) {
+
+		Object key = PropertyFilter.keyOf(propertyFilter);
+		if (key == null) {
+			return computeRelationshipsInHierarchy(propertyFilter, path);
+		}
+		return this.relationshipsInHierarchy
+			.get(new MemoizedWalkKey(this.modelVersion.get(), key, path, propertyFilter));
+	}
+
+	private Set<RelationshipDescription> computeRelationshipsInHierarchy(
 			Predicate<PropertyFilter.RelaxedPropertyPath> propertyFilter, PropertyFilter.RelaxedPropertyPath path) {
 
 		Collection<RelationshipDescription> relationships = new HashSet<>(getRelationships());
@@ -605,6 +640,7 @@ final class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo
 	public void addChildNodeDescription(NodeDescription<?> child) {
 		this.childNodeDescriptions.add(child);
 		updateChildNodeDescriptionCache();
+		this.modelVersion.incrementAndGet();
 	}
 
 	private void updateChildNodeDescriptionCache() {
@@ -646,7 +682,12 @@ final class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo
 
 	@Override
 	public boolean containsPossibleCircles(Predicate<PropertyFilter.RelaxedPropertyPath> includeField) {
-		return calculatePossibleCircles(includeField);
+
+		Object key = PropertyFilter.keyOf(includeField);
+		if (key == null) {
+			return calculatePossibleCircles(includeField);
+		}
+		return this.possibleCircles.get(new MemoizedWalkKey(this.modelVersion.get(), key, null, includeField));
 	}
 
 	@Override
@@ -746,4 +787,54 @@ final class DefaultNeo4jPersistentEntity<T> extends BasicPersistentEntity<T, Neo
 		return "DefaultNeo4jPersistentEntity{" + "primaryLabel='" + this.primaryLabel + '\'' + '}';
 	}
 
+	/**
+	 * Key of a memoized walk over the domain model. Results computed for an older version
+	 * of the model are never hit again and are evicted over time. The filter is carried
+	 * along to compute the walk on a miss, but only its key contributes to the identity.
+	 */
+	private static final class MemoizedWalkKey {
+
+		private final long modelVersion;
+
+		private final Object filterKey;
+
+		private final PropertyFilter.@Nullable RelaxedPropertyPath path;
+
+		private final Predicate<PropertyFilter.RelaxedPropertyPath> propertyFilter;
+
+		MemoizedWalkKey(long modelVersion, Object filterKey, PropertyFilter.@Nullable RelaxedPropertyPath path,
+				Predicate<PropertyFilter.RelaxedPropertyPath> propertyFilter) {
+			this.modelVersion = modelVersion;
+			this.filterKey = filterKey;
+			this.path = path;
+			this.propertyFilter = propertyFilter;
+		}
+
+		PropertyFilter.@Nullable RelaxedPropertyPath path() {
+			return this.path;
+		}
+
+		Predicate<PropertyFilter.RelaxedPropertyPath> propertyFilter() {
+			return this.propertyFilter;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof MemoizedWalkKey that)) {
+				return false;
+			}
+			return this.modelVersion == that.modelVersion && this.filterKey.equals(that.filterKey)
+					&& Objects.equals(this.path, that.path);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.modelVersion, this.filterKey, this.path);
+		}
+
+	}
+
 }
@@ -70,6 +70,8 @@ final class DefaultNeo4jPersistentProperty extends AnnotationBasedPersistentProp
 
 	private final Lazy<Neo4jPersistentPropertyConverter<?>> customConversion;
 
+	private final Lazy<PropertyValueConversion> valueConversion;
+
 	@Nullable
 	private final PersistentPropertyCharacteristics optionalCharacteristics;
 
@@ -121,6 +123,8 @@ final class DefaultNeo4jPersistentProperty extends AnnotationBasedPersistentProp
 			return this.mappingContext.getOptionalCustomConversionsFor(this);
 		});
 
+		this.valueConversion = Lazy.of(() -> this.mappingContext.resolveValueConversion(this));
+
 		this.optionalCharacteristics = optionalCharacteristics;
 	}
 
@@ -290,6 +294,14 @@ final class DefaultNeo4jPersistentProperty extends AnnotationBasedPersistentProp
 				: this.customConversion.getOptional().map(Neo4jPersistentPropertyConverter.class::cast).orElse(null);
 	}
 
+	/**
+	 * Returns the conversion of the values of this property, resolved once.
+	 * @return the conversion of the values of this property
+	 */
+	PropertyValueConversion getValueConversion() {
+		return this.valueConversion.get();
+	}
+
 	/**
 	 * Computes the target name of this property.
 	 * @return a property on a node or {@literal null} if this property describes an
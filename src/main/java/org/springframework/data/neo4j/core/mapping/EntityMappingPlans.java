@@ -0,0 +1,221 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.neo4j.driver.Value;
+
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.neo4j.core.convert.Neo4jConversionService;
+import org.springframework.data.neo4j.core.schema.TargetNode;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Precompiled plans for writing entities into parameter maps and for populating the
+ * simple properties of entities from records, one per entity. A plan resolves everything
+ * that only depends on the metadata of an entity once: Which properties are written or
+ * populated at all, how their values are converted and how many entries the written map
+ * will have. Values are converted with the conversions resolved once per property by the
+ * conversion service. Property values are read and written through the property
+ * accessors of the entities, which are generated classes unless the entity cannot be
+ * accessed that way.
+ *
+ * @author Michael J. Simons
+ * @since 8.2
+ */
+final class EntityMappingPlans {
+
+	private final Neo4jConversionService conversionService;
+
+	private final Map<Neo4jPersistentEntity<?>, WritePlan> writePlans = new ConcurrentHashMap<>();
+
+	private final Map<Neo4jPersistentEntity<?>, ReadPlan> readPlans = new ConcurrentHashMap<>();
+
+	EntityMappingPlans(Neo4jConversionService conversionService) {
+		this.conversionService = conversionService;
+	}
+
+	/**
+	 * Compiles the plans of the given entities upfront.
+	 * @param entities the entities to compile plans for
+	 */
+	void compile(Iterable<? extends Neo4jPersistentEntity<?>> entities) {
+
+		for (Neo4jPersistentEntity<?> entity : entities) {
+			if (!entity.describesInterface()) {
+				getWritePlan(entity);
+				getReadPlan(entity);
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the plan to write instances of the given entity, compiling it if
+	 * necessary.
+	 * @param entity the entity to write
+	 * @return the write plan of the entity
+	 */
+	WritePlan getWritePlan(Neo4jPersistentEntity<?> entity) {
+		return this.writePlans.computeIfAbsent(entity, this::compileWritePlan);
+	}
+
+	/**
+	 * Retrieves the plan to populate the properties of instances of the given entity,
+	 * compiling it if necessary.
+	 * @param entity the entity to populate
+	 * @return the read plan of the entity
+	 */
+	ReadPlan getReadPlan(Neo4jPersistentEntity<?> entity) {
+		return this.readPlans.computeIfAbsent(entity, this::compileReadPlan);
+	}
+
+	private WritePlan compileWritePlan(Neo4jPersistentEntity<?> entity) {
+
+		List<PropertyWriter> writers = new ArrayList<>();
+		PropertyHandlerSupport.of(entity).doWithProperties((Neo4jPersistentProperty p) -> {
+			if (p.isInternalIdProperty() || p.isDynamicLabels() || p.isEntity() || p.isVersionProperty()
+					|| p.isReadOnly() || p.isVectorProperty()) {
+				return;
+			}
+			writers.add(new PropertyWriter(p, p.getPropertyName(), p.isComposite(), writerFor(p)));
+		});
+
+		String relationshipType = entity.hasRelationshipPropertyPersistTypeInfoFlag() ? entity.getPrimaryLabel() : null;
+		Neo4jPersistentProperty idProperty = entity.getIdProperty();
+		Neo4jPersistentProperty vectorProperty = entity.hasVectorProperty() ? entity.getRequiredVectorProperty() : null;
+		return new WritePlan(relationshipType, List.copyOf(writers),
+				(idProperty != null)
+						? new PropertyWriter(idProperty, Constants.NAME_OF_ID, false, writerFor(idProperty)) : null,
+				entity.hasVersionProperty() ? entity.getRequiredVersionProperty() : null,
+				(vectorProperty != null) ? new PropertyWriter(vectorProperty, vectorProperty.getPropertyName(), false,
+						writerFor(vectorProperty)) : null);
+	}
+
+	private ReadPlan compileReadPlan(Neo4jPersistentEntity<?> entity) {
+
+		List<PropertyReader> readers = new ArrayList<>();
+		boolean[] requiresGenericPopulation = { false };
+		var creatorMetadata = entity.getInstanceCreatorMetadata();
+		PropertyHandlerSupport.of(entity).doWithProperties((Neo4jPersistentProperty p) -> {
+			if (creatorMetadata != null && creatorMetadata.isCreatorParameter(p)) {
+				return;
+			}
+			if (p.isDynamicLabels() || p.isAnnotationPresent(TargetNode.class)) {
+				requiresGenericPopulation[0] = true;
+				return;
+			}
+			readers.add(new PropertyReader(p, p.getTypeInformation().getType(), readerFor(p)));
+		});
+		return new ReadPlan(List.copyOf(readers), requiresGenericPopulation[0]);
+	}
+
+	private Function<@Nullable Object, @Nullable Value> writerFor(Neo4jPersistentProperty property) {
+		return value -> this.conversionService.writeValue(value, property);
+	}
+
+	private Function<Value, @Nullable Object> readerFor(Neo4jPersistentProperty property) {
+		return value -> this.conversionService.readValue(value, property);
+	}
+
+	/**
+	 * Writes the properties of an entity with the given writers.
+	 *
+	 * @param relationshipType the type of relationship to store alongside the properties,
+	 * if any
+	 * @param writers the writers of the persistent properties
+	 * @param idWriter the writer of the id, if any
+	 * @param versionProperty the version property, if any
+	 * @param vectorWriter the writer of the vector property, if any
+	 */
+	record WritePlan(@Nullable String relationshipType, List<PropertyWriter> writers, @Nullable PropertyWriter idWriter,
+			@Nullable Neo4jPersistentProperty versionProperty, @Nullable PropertyWriter vectorWriter) {
+
+		/**
+		 * Writes the given instance into the parameters.
+		 * @param propertyAccessor the accessor of the instance to write
+		 * @param parameters the parameters to write into
+		 */
+		void write(PersistentPropertyAccessor<?> propertyAccessor, Map<String, Object> parameters) {
+
+			Map<String, Object> properties = CollectionUtils.newHashMap(this.writers.size() + 1);
+			if (this.relationshipType != null) {
+				properties.put(Constants.NAME_OF_RELATIONSHIP_TYPE, this.relationshipType);
+			}
+			for (PropertyWriter writer : this.writers) {
+				Value value = writer.write(propertyAccessor);
+				properties.put(writer.name(),
+						(writer.composite() && value != null) ? new MapValueWrapper(value) : value);
+			}
+			parameters.put(Constants.NAME_OF_PROPERTIES_PARAM, properties);
+
+			if (this.idWriter != null) {
+				parameters.put(this.idWriter.name(), this.idWriter.write(propertyAccessor));
+			}
+			if (this.versionProperty != null) {
+				parameters.put(Constants.NAME_OF_VERSION_PARAM, propertyAccessor.getProperty(this.versionProperty));
+			}
+			if (this.vectorWriter != null) {
+				parameters.put(Constants.NAME_OF_VECTOR_PROPERTY, this.vectorWriter.name());
+				parameters.put(Constants.NAME_OF_VECTOR_VALUE, this.vectorWriter.write(propertyAccessor));
+			}
+		}
+	}
+
+	/**
+	 * Populates the simple properties of an entity that are not set through its
+	 * constructor.
+	 *
+	 * @param readers the readers of the properties to populate
+	 * @param requiresGenericPopulation true if the entity has dynamic labels or a target
+	 * node, which are not covered by the plan
+	 */
+	record ReadPlan(List<PropertyReader> readers, boolean requiresGenericPopulation) {
+	}
+
+	/**
+	 * Writes a single property.
+	 *
+	 * @param property the property to write
+	 * @param name the name of the written property
+	 * @param composite true if the property is a composite property
+	 * @param writer the conversion of the value of the property
+	 */
+	record PropertyWriter(Neo4jPersistentProperty property, String name, boolean composite,
+			Function<@Nullable Object, @Nullable Value> writer) {
+
+		@Nullable Value write(PersistentPropertyAccessor<?> propertyAccessor) {
+			return this.writer.apply(propertyAccessor.getProperty(this.property));
+		}
+	}
+
+	/**
+	 * Reads a single property.
+	 *
+	 * @param property the property to read
+	 * @param rawType the raw type of the property
+	 * @param reader the conversion of the stored value
+	 */
+	record PropertyReader(Neo4jPersistentProperty property, Class<?> rawType,
+			Function<Value, @Nullable Object> reader) {
+	}
+
+}
@@ -16,6 +16,7 @@
 package org.springframework.data.neo4j.core.mapping;
 
 import java.util.Map;
+import java.util.function.Function;
 
 import org.apiguardian.api.API;
 import org.neo4j.driver.types.MapAccessor;
@@ -33,4 +34,20 @@ import org.springframework.data.convert.EntityWriter;
 public interface Neo4jEntityConverter
 		extends EntityReader<Object, MapAccessor>, EntityWriter<Object, Map<String, Object>> {
 
+	/**
+	 * Returns a reader for all records of one result. Other than
+	 * {@link #read(Class, Object)}, which maps every record on its own, the returned
+	 * function keeps track of the objects it has mapped, so that an object contained in
+	 * several records of the result is mapped into one instance. The tracked objects are
+	 * discarded together with the function, which should therefore not be reused for
+	 * another result.
+	 * @param targetType the type of the entities to read
+	 * @param <R> the type of the entities to read
+	 * @return a reader for the records of one result
+	 * @since 8.2
+	 */
+	default <R> Function<MapAccessor, R> readerForResult(Class<R> targetType) {
+		return mapAccessor -> read(targetType, mapAccessor);
+	}
+
 }
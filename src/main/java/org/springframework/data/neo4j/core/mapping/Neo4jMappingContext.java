@@ -35,6 +35,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 import org.apiguardian.api.API;
@@ -109,9 +110,14 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 	 */
 	private final NodeDescriptionStore nodeDescriptionStore = new NodeDescriptionStore();
 
+	/**
+	 * Version of the entity hierarchies of this context, shared by all its entities.
+	 */
+	private final AtomicLong modelVersion = new AtomicLong();
+
 	private final TypeSystem typeSystem;
 
-	private final Neo4jConversionService conversionService;
+	private final DefaultNeo4jConversionService conversionService;
 
 	private final Map<Neo4jPersistentEntity<?>, Set<MethodHolder>> postLoadMethods = new ConcurrentHashMap<>();
 
@@ -124,6 +130,9 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 
 	private boolean strict = false;
 
+	@Nullable
+	private volatile EntityMappingPlans mappingPlans;
+
 	public Neo4jMappingContext() {
 
 		this(new Builder());
@@ -199,16 +208,52 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 		this.strict = strict;
 	}
 
+	/**
+	 * Enables or disables precompiled mapping plans. When enabled, the persistent
+	 * properties of each entity that are written into parameters and populated from
+	 * records are resolved once per entity, together with the conversion of their values,
+	 * instead of being determined for each instance. The plans of all initial entities are
+	 * compiled when the context is initialized, the others on first use. Plans are
+	 * disabled by default.
+	 * @param precompiledMappingEnabled true to use precompiled mapping plans
+	 * @since 8.2
+	 */
+	public void setPrecompiledMappingEnabled(boolean precompiledMappingEnabled) {
+
+		this.mappingPlans = precompiledMappingEnabled ? new EntityMappingPlans(this.conversionService) : null;
+	}
+
+	@Override
+	public void initialize() {
+
+		super.initialize();
+
+		EntityMappingPlans currentMappingPlans = this.mappingPlans;
+		if (currentMappingPlans != null) {
+			currentMappingPlans.compile(getPersistentEntities());
+		}
+	}
+
 	@Override
 	public Neo4jEntityConverter getEntityConverter() {
 		return new DefaultNeo4jEntityConverter(INSTANTIATORS, this.nodeDescriptionStore, this.conversionService,
-				this.eventSupport, this.typeSystem);
+				this.eventSupport, this.typeSystem, this.mappingPlans);
 	}
 
 	public Neo4jConversionService getConversionService() {
 		return this.conversionService;
 	}
 
+	/**
+	 * Resolves the conversion of the values of the given property.
+	 * @param property the property to resolve the conversion for
+	 * @return the conversion of the values of the property
+	 */
+	PropertyValueConversion resolveValueConversion(Neo4jPersistentProperty property) {
+		return this.conversionService.resolveConversion(property.getTypeInformation(),
+				property.getOptionalConverter());
+	}
+
 	public EntityInstantiator getInstantiatorFor(PersistentEntity<?, ?> entity) {
 		return INSTANTIATORS.getInstantiatorFor(entity);
 	}
@@ -220,7 +265,8 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 	@Override
 	protected <T> Neo4jPersistentEntity<?> createPersistentEntity(TypeInformation<T> typeInformation) {
 
-		final DefaultNeo4jPersistentEntity<T> newEntity = new DefaultNeo4jPersistentEntity<>(typeInformation);
+		final DefaultNeo4jPersistentEntity<T> newEntity = new DefaultNeo4jPersistentEntity<>(typeInformation,
+				this.modelVersion);
 		String primaryLabel = newEntity.getPrimaryLabel();
 
 		// We don't store interface in the index.
@@ -311,6 +357,16 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 		return new DefaultNeo4jPersistentProperty(property, owner, this, simpleTypeHolder, optionalCharacteristics);
 	}
 
+	/**
+	 * Returns a snapshot of the statistics of the bounded cache used to resolve the most
+	 * concrete node description for the labels of a node.
+	 * @return the current statistics
+	 * @since 8.2
+	 */
+	public LabelResolutionStatistics getLabelResolutionStatistics() {
+		return this.nodeDescriptionStore.getLabelResolutionStatistics();
+	}
+
 	@Override
 	@Nullable public NodeDescription<?> getNodeDescription(String primaryLabel) {
 		return this.nodeDescriptionStore.get(primaryLabel);
@@ -501,8 +557,28 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 			Neo4jPersistentEntity<?> neo4jPersistentEntity, RelationshipDescription relationshipDescription,
 			List<Object> plainRelationshipRows, boolean canUseElementId) {
 
+		return createStatementForImperativeSimpleRelationshipBatch(neo4jPersistentEntity, relationshipDescription,
+				plainRelationshipRows, canUseElementId, false);
+	}
+
+	/**
+	 * Creates the statement for a batch of relationships without properties.
+	 * @param neo4jPersistentEntity the source of the relationships
+	 * @param relationshipDescription the relationship
+	 * @param plainRelationshipRows the rows to create
+	 * @param canUseElementId flag if the renderer supports the elementId function
+	 * @param matchTargetsById flag if the rows contain the ids of the targets as defined
+	 * by their id property instead of their internal ids
+	 * @return the statement holder
+	 * @since 8.2
+	 */
+	public CreateRelationshipStatementHolder createStatementForImperativeSimpleRelationshipBatch(
+			Neo4jPersistentEntity<?> neo4jPersistentEntity, RelationshipDescription relationshipDescription,
+			List<Object> plainRelationshipRows, boolean canUseElementId, boolean matchTargetsById) {
+
 		return createStatementForSingleRelationship(neo4jPersistentEntity,
-				(DefaultRelationshipDescription) relationshipDescription, plainRelationshipRows, canUseElementId);
+				(DefaultRelationshipDescription) relationshipDescription, plainRelationshipRows, canUseElementId,
+				matchTargetsById);
 	}
 
 	public CreateRelationshipStatementHolder createStatementForImperativeRelationshipsWithPropertiesBatch(boolean isNew,
@@ -522,6 +598,27 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 			Neo4jPersistentEntity<?> neo4jPersistentEntity, RelationshipDescription relationshipContext,
 			Object relatedValue, boolean isNewRelationship, boolean canUseElementId) {
 
+		return createStatementForSingleRelationship(neo4jPersistentEntity, relationshipContext, relatedValue,
+				isNewRelationship, canUseElementId, false);
+	}
+
+	/**
+	 * Creates the statement for a single relationship.
+	 * @param neo4jPersistentEntity the source of the relationship
+	 * @param relationshipContext the relationship
+	 * @param relatedValue the related value
+	 * @param isNewRelationship flag if the relationship is new
+	 * @param canUseElementId flag if the renderer supports the elementId function
+	 * @param matchTargetById flag if the target is identified by the value of its id
+	 * property instead of its internal id, only supported for relationships without
+	 * properties
+	 * @return the statement holder
+	 * @since 8.2
+	 */
+	public CreateRelationshipStatementHolder createStatementForSingleRelationship(
+			Neo4jPersistentEntity<?> neo4jPersistentEntity, RelationshipDescription relationshipContext,
+			Object relatedValue, boolean isNewRelationship, boolean canUseElementId, boolean matchTargetById) {
+
 		if (relationshipContext.hasRelationshipProperties()) {
 			MappingSupport.RelationshipPropertiesWithEntityHolder relatedValueEntityHolder = (MappingSupport.RelationshipPropertiesWithEntityHolder) (
 			// either this is a scalar entity holder value
@@ -547,7 +644,8 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 		}
 		else {
 			return createStatementForSingleRelationship(neo4jPersistentEntity,
-					(DefaultRelationshipDescription) relationshipContext, relatedValue, canUseElementId);
+					(DefaultRelationshipDescription) relationshipContext, relatedValue, canUseElementId,
+					matchTargetById);
 		}
 	}
 
@@ -592,7 +690,7 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 
 	private CreateRelationshipStatementHolder createStatementForSingleRelationship(
 			Neo4jPersistentEntity<?> neo4jPersistentEntity, DefaultRelationshipDescription relationshipDescription,
-			Object relatedValue, boolean canUseElementId) {
+			Object relatedValue, boolean canUseElementId, boolean matchTargetsById) {
 
 		String relationshipType;
 		if (!relationshipDescription.isDynamic()) {
@@ -607,7 +705,7 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 		}
 
 		Statement relationshipCreationQuery = CypherGenerator.INSTANCE.prepareSaveOfRelationships(neo4jPersistentEntity,
-				relationshipDescription, relationshipType, canUseElementId);
+				relationshipDescription, relationshipType, canUseElementId, matchTargetsById);
 		return new CreateRelationshipStatementHolder(relationshipCreationQuery, Collections.emptyMap());
 	}
 
@@ -717,4 +815,26 @@ public final class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersi
 
 	}
 
+	/**
+	 * Statistics of the cache resolving node descriptions from labels.
+	 *
+	 * @param hits the number of resolutions that have been answered from the cache
+	 * @param misses the number of resolutions that have been computed
+	 * @param size the number of resolutions currently cached
+	 * @param capacity the maximum number of resolutions cached
+	 * @since 8.2
+	 */
+	public record LabelResolutionStatistics(long hits, long misses, int size, int capacity) {
+
+		/**
+		 * Computes the ratio of hits to all resolutions.
+		 * @return the hit ratio, {@literal 0.0} if no labels have been resolved yet
+		 */
+		public double hitRatio() {
+			long total = this.hits + this.misses;
+			return (total != 0) ? (double) this.hits / total : 0.0;
+		}
+
+	}
+
 }
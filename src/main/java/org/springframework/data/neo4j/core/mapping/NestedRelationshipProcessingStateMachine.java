@@ -50,6 +50,11 @@ public final class NestedRelationshipProcessingStateMachine {
 	 */
 	private final Set<RelationshipDescriptionWithSourceId> processedRelationshipDescriptions = new HashSet<>();
 
+	/**
+	 * The set of relationships whose stale instances have already been removed upfront.
+	 */
+	private final Set<RelationshipDescriptionWithSourceId> relationshipsWithStaleInstancesRemoved = new HashSet<>();
+
 	/**
 	 * A map of processed objects pointing towards a possible new instance of themselves.
 	 * This will happen for immutable entities.
@@ -144,6 +149,49 @@ public final class NestedRelationshipProcessingStateMachine {
 		}
 	}
 
+	/**
+	 * Marks the stale instances of a relationship as removed, so that they don't need to
+	 * be removed again while processing the relationship.
+	 * @param fromId the originating id
+	 * @param relationshipDescription the relationship whose stale instances have been
+	 * removed
+	 * @since 8.2
+	 */
+	public void markStaleRelationshipsAsRemoved(Object fromId, RelationshipDescription relationshipDescription) {
+
+		final long stamp = this.lock.writeLock();
+		try {
+			this.relationshipsWithStaleInstancesRemoved
+				.add(new RelationshipDescriptionWithSourceId(fromId, relationshipDescription));
+		}
+		finally {
+			this.lock.unlock(stamp);
+		}
+	}
+
+	/**
+	 * Checks if the stale instances of a relationship have already been removed.
+	 * @param fromId the originating id to be checked
+	 * @param relationshipDescription the relationship to check
+	 * @return {@literal true} if the stale instances have already been removed
+	 * @since 8.2
+	 */
+	public boolean hasRemovedStaleRelationships(@Nullable Object fromId,
+			RelationshipDescription relationshipDescription) {
+		if (fromId == null) {
+			return false;
+		}
+
+		final long stamp = this.lock.readLock();
+		try {
+			return this.relationshipsWithStaleInstancesRemoved
+				.contains(new RelationshipDescriptionWithSourceId(fromId, relationshipDescription));
+		}
+		finally {
+			this.lock.unlock(stamp);
+		}
+	}
+
 	/**
 	 * Marks the passed objects as processed.
 	 * @param valueToStore if not {@literal null}, all non-null values will be marked as
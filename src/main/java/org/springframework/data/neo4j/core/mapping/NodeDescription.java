@@ -127,6 +127,21 @@ public interface NodeDescription<T> {
 	Collection<RelationshipDescription> getRelationshipsInHierarchy(
 			Predicate<PropertyFilter.RelaxedPropertyPath> propertyPredicate);
 
+	/**
+	 * This returns the relationships this node, its parent and child has to other nodes,
+	 * when this node is reached via the given path.
+	 * @param propertyPredicate predicate to filter the fields on this node description,
+	 * tested with the fields appended to {@code path}
+	 * @param path the path leading to this node
+	 * @return the relationships defined by instances of this node
+	 * @since 8.2
+	 */
+	default Collection<RelationshipDescription> getRelationshipsInHierarchy(
+			Predicate<PropertyFilter.RelaxedPropertyPath> propertyPredicate, PropertyFilter.RelaxedPropertyPath path) {
+		return getRelationshipsInHierarchy(
+				relaxedPropertyPath -> propertyPredicate.test(path.append(relaxedPropertyPath.toDotPath())));
+	}
+
 	/**
 	 * Register a direct child node description for this entity.
 	 * @param child - {@link NodeDescription} that defines an extending class.
@@ -25,12 +25,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.BiFunction;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.data.mapping.context.AbstractMappingContext;
+import org.springframework.util.ConcurrentLruCache;
 
 /**
  * This class is more or less just a wrapper around the node description lookup map. It
@@ -42,6 +44,11 @@ import org.springframework.data.mapping.context.AbstractMappingContext;
  */
 final class NodeDescriptionStore {
 
+	/**
+	 * Default number of resolved combinations of node descriptions and labels kept.
+	 */
+	static final int DEFAULT_LABEL_RESOLUTION_CACHE_CAPACITY = 1024;
+
 	/**
 	 * A lookup of entities based on their primary label. We depend on the locking
 	 * mechanism provided by the {@link AbstractMappingContext}, so this lookup is not
@@ -49,24 +56,32 @@ final class NodeDescriptionStore {
 	 */
 	private final Map<String, NodeDescription<?>> nodeDescriptionsByPrimaryLabel = new ConcurrentHashMap<>();
 
-	private final Map<NodeDescription<?>, Map<List<String>, NodeDescriptionAndLabels>> nodeDescriptionAndLabelsCache = new ConcurrentHashMap<>();
+	/**
+	 * The same entities as above, indexed by their underlying class.
+	 */
+	private final Map<Class<?>, NodeDescription<?>> nodeDescriptionsByType = new ConcurrentHashMap<>();
 
-	private final BiFunction<NodeDescription<?>, List<String>, NodeDescriptionAndLabels> nodeDescriptionAndLabels = (
-			nodeDescription, labels) -> {
-		Map<List<String>, NodeDescriptionAndLabels> listNodeDescriptionAndLabelsMap = this.nodeDescriptionAndLabelsCache
-			.get(nodeDescription);
-		if (listNodeDescriptionAndLabelsMap == null) {
-			this.nodeDescriptionAndLabelsCache.put(nodeDescription, new ConcurrentHashMap<>());
-			listNodeDescriptionAndLabelsMap = this.nodeDescriptionAndLabelsCache.get(nodeDescription);
-		}
+	/**
+	 * Resolved concrete node descriptions, keyed by the requested node description and
+	 * the canonical form of the labels of a node. Bounded, as dynamic labels can create
+	 * an arbitrary number of label combinations.
+	 */
+	private final ConcurrentLruCache<LabelResolutionKey, NodeDescriptionAndLabels> nodeDescriptionAndLabelsCache;
 
-		NodeDescriptionAndLabels cachedNodeDescriptionAndLabels = listNodeDescriptionAndLabelsMap.get(labels);
-		if (cachedNodeDescriptionAndLabels == null) {
-			cachedNodeDescriptionAndLabels = computeConcreteNodeDescription(nodeDescription, labels);
-			listNodeDescriptionAndLabelsMap.put(labels, cachedNodeDescriptionAndLabels);
-		}
-		return cachedNodeDescriptionAndLabels;
-	};
+	private final LongAdder requests = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	NodeDescriptionStore() {
+		this(DEFAULT_LABEL_RESOLUTION_CACHE_CAPACITY);
+	}
+
+	NodeDescriptionStore(int labelResolutionCacheCapacity) {
+		this.nodeDescriptionAndLabelsCache = new ConcurrentLruCache<>(labelResolutionCacheCapacity, key -> {
+			this.misses.increment();
+			return computeConcreteNodeDescription(key.nodeDescription(), key.labels());
+		});
+	}
 
 	boolean containsKey(String primaryLabel) {
 		return this.nodeDescriptionsByPrimaryLabel.containsKey(primaryLabel);
@@ -78,6 +93,9 @@ final class NodeDescriptionStore {
 
 	<T> void put(String primaryLabel, DefaultNeo4jPersistentEntity<T> newEntity) {
 		this.nodeDescriptionsByPrimaryLabel.put(primaryLabel, newEntity);
+		this.nodeDescriptionsByType.put(newEntity.getUnderlyingClass(), newEntity);
+		// A new entity might be a better match for labels resolved before
+		this.nodeDescriptionAndLabelsCache.clear();
 	}
 
 	Set<Map.Entry<String, NodeDescription<?>>> entrySet() {
@@ -93,16 +111,33 @@ final class NodeDescriptionStore {
 	}
 
 	@Nullable NodeDescription<?> getNodeDescription(Class<?> targetType) {
-		for (NodeDescription<?> nodeDescription : values()) {
-			if (nodeDescription.getUnderlyingClass().equals(targetType)) {
-				return nodeDescription;
-			}
-		}
-		return null;
+		return this.nodeDescriptionsByType.get(targetType);
+	}
+
+	NodeDescriptionAndLabels deriveConcreteNodeDescription(NodeDescription<?> entityDescription,
+			@Nullable List<String> labels) {
+		this.requests.increment();
+		return this.nodeDescriptionAndLabelsCache.get(new LabelResolutionKey(entityDescription, canonicalize(labels)));
+	}
+
+	/**
+	 * Returns a snapshot of the statistics of the cache of resolved labels.
+	 * @return the current statistics
+	 */
+	Neo4jMappingContext.LabelResolutionStatistics getLabelResolutionStatistics() {
+		long numberOfMisses = this.misses.sum();
+		return new Neo4jMappingContext.LabelResolutionStatistics(Math.max(0, this.requests.sum() - numberOfMisses),
+				numberOfMisses, this.nodeDescriptionAndLabelsCache.size(),
+				this.nodeDescriptionAndLabelsCache.capacity());
 	}
 
-	NodeDescriptionAndLabels deriveConcreteNodeDescription(NodeDescription<?> entityDescription, List<String> labels) {
-		return this.nodeDescriptionAndLabels.apply(entityDescription, labels);
+	// The resolution depends neither on the order nor on duplicates of labels, so all
+	// permutations share one entry
+	private static List<String> canonicalize(@Nullable List<String> labels) {
+		if (labels == null || labels.isEmpty()) {
+			return List.of();
+		}
+		return List.copyOf(new TreeSet<>(labels));
 	}
 
 	private NodeDescriptionAndLabels computeConcreteNodeDescription(NodeDescription<?> entityDescription,
@@ -112,7 +147,7 @@ final class NodeDescriptionStore {
 		boolean isConcreteClassThatFulfillsEverything = !isAbstractClassOrInterface
 				&& entityDescription.getStaticLabels().containsAll(labels);
 
-		if (labels == null || labels.isEmpty() || isConcreteClassThatFulfillsEverything) {
+		if (labels.isEmpty() || isConcreteClassThatFulfillsEverything) {
 			return new NodeDescriptionAndLabels(entityDescription, Collections.emptyList());
 		}
 
@@ -185,4 +220,7 @@ final class NodeDescriptionStore {
 		return new NodeDescriptionAndLabels(entityDescription, surplusLabels);
 	}
 
+	private record LabelResolutionKey(NodeDescription<?> nodeDescription, List<String> labels) {
+	}
+
 }
@@ -51,6 +51,34 @@ public abstract class PropertyFilter {
 		return new NonFilteringPropertyFilter();
 	}
 
+	/**
+	 * Attaches a canonical key to a predicate on property paths. Walks over the domain
+	 * model that only depend on the answers of such a predicate, like
+	 * {@link NodeDescription#containsPossibleCircles(Predicate)}, are memoized by that
+	 * key. Predicates with equal keys must give the same answers.
+	 * @param key the canonical key, must implement {@code equals} and {@code hashCode}
+	 * @param predicate the predicate deciding which paths are included
+	 * @return a predicate carrying the given key
+	 * @since 8.2
+	 */
+	public static Predicate<RelaxedPropertyPath> withKey(Object key, Predicate<RelaxedPropertyPath> predicate) {
+		return new KeyedPredicate(key, predicate);
+	}
+
+	/**
+	 * Returns the canonical key of a predicate if it has one.
+	 * @param predicate the predicate to inspect
+	 * @return the key of the predicate or {@literal null} if results derived from it
+	 * cannot be memoized
+	 * @since 8.2
+	 */
+	@Nullable public static Object keyOf(Predicate<RelaxedPropertyPath> predicate) {
+		if (predicate == NO_FILTER) {
+			return NO_FILTER;
+		}
+		return (predicate instanceof KeyedPredicate keyedPredicate) ? keyedPredicate.key() : null;
+	}
+
 	static String toDotPath(RelaxedPropertyPath propertyPath, String lastSegment) {
 
 		if (lastSegment == null) {
@@ -262,6 +290,16 @@ public abstract class PropertyFilter {
 
 	}
 
+	private record KeyedPredicate(Object key,
+			Predicate<RelaxedPropertyPath> delegate) implements Predicate<RelaxedPropertyPath> {
+
+		@Override
+		public boolean test(RelaxedPropertyPath relaxedPropertyPath) {
+			return this.delegate.test(relaxedPropertyPath);
+		}
+
+	}
+
 	/**
 	 * Wrapper class for property paths and information if they point to an entity.
 	 */
@@ -276,6 +314,20 @@ public abstract class PropertyFilter {
 			this.isEntity = isEntity;
 		}
 
+		@Override
+		public boolean equals(Object o) {
+			if (o == null || this.getClass() != o.getClass()) {
+				return false;
+			}
+			ProjectedPath that = (ProjectedPath) o;
+			return this.isEntity == that.isEntity && Objects.equals(this.propertyPath, that.propertyPath);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.propertyPath, this.isEntity);
+		}
+
 	}
 
 }
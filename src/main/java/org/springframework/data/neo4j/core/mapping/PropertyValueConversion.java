@@ -0,0 +1,39 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+import org.neo4j.driver.Value;
+
+import org.springframework.data.core.TypeInformation;
+
+/**
+ * The conversion of the values of a single property, resolved once by a
+ * {@link DefaultNeo4jConversionService}.
+ *
+ * @param resolvedBy the conversion service that resolved this conversion
+ * @param type the type of the property
+ * @param elementWise true if the reader and writer apply to the elements of a collection
+ * @param reader the conversion of a stored value (or of one of its elements)
+ * @param writer the conversion into a stored value (or of one of its elements)
+ * @author Michael J. Simons
+ * @since 8.2
+ */
+record PropertyValueConversion(DefaultNeo4jConversionService resolvedBy, TypeInformation<?> type, boolean elementWise,
+		Function<Value, @Nullable Object> reader, Function<@Nullable Object, @Nullable Value> writer) {
+}
@@ -83,19 +83,23 @@ public interface Schema {
 	 * an exception and prevent further processing.
 	 * @param targetClass the target class to which to map to.
 	 * @param <T> the type of the target class
-	 * @return the default, stateless and reusable mapping function for the given target
-	 * class
+	 * <p>
+	 * The returned function maps the records of one result. It keeps track of the
+	 * objects it has mapped, so that an entity contained in several records is mapped
+	 * into one instance, and a new function should be retrieved for each result.
+	 * @return the default mapping function for the given target class
 	 * @throws UnknownEntityException when {@code targetClass} is not a managed class
+	 * @see Neo4jEntityConverter#readerForResult(Class)
 	 */
 	default <T> BiFunction<TypeSystem, MapAccessor, T> getRequiredMappingFunctionFor(Class<T> targetClass) {
 		NodeDescription<?> nodeDescription = getNodeDescription(targetClass);
 		if (nodeDescription == null) {
 			throw new UnknownEntityException(targetClass);
 		}
-		Neo4jEntityConverter entityConverter = getEntityConverter();
+		Function<MapAccessor, T> reader = getEntityConverter().readerForResult(targetClass);
 		return (typeSystem, record) -> {
 			try {
-				return entityConverter.read(targetClass, record);
+				return reader.apply(record);
 			}
 			catch (IllegalStateException ex) {
 				return null;
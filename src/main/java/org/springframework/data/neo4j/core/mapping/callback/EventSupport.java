@@ -15,6 +15,8 @@
  */
 package org.springframework.data.neo4j.core.mapping.callback;
 
+import java.util.Collection;
+
 import org.apiguardian.api.API;
 import org.neo4j.driver.types.MapAccessor;
 
@@ -37,8 +39,12 @@ public final class EventSupport {
 
 	private final EntityCallbacks entityCallbacks;
 
-	private EventSupport(EntityCallbacks entityCallbacks) {
+	private final IdPopulator idPopulator;
+
+	private EventSupport(Neo4jMappingContext context, EntityCallbacks entityCallbacks) {
 		this.entityCallbacks = entityCallbacks;
+		this.idPopulator = new IdPopulator(context);
+		addDefaultEntityCallbacks(context, this.idPopulator, entityCallbacks);
 	}
 
 	/**
@@ -51,8 +57,7 @@ public final class EventSupport {
 	public static EventSupport discoverCallbacks(Neo4jMappingContext context, BeanFactory beanFactory) {
 
 		EntityCallbacks entityCallbacks = EntityCallbacks.create(beanFactory);
-		addDefaultEntityCallbacks(context, entityCallbacks);
-		return new EventSupport(entityCallbacks);
+		return new EventSupport(context, entityCallbacks);
 	}
 
 	/**
@@ -64,13 +69,15 @@ public final class EventSupport {
 	 */
 	public static EventSupport useExistingCallbacks(Neo4jMappingContext context, EntityCallbacks entityCallbacks) {
 
-		addDefaultEntityCallbacks(context, entityCallbacks);
-		return new EventSupport(entityCallbacks);
+		return new EventSupport(context, entityCallbacks);
 	}
 
-	private static void addDefaultEntityCallbacks(Neo4jMappingContext context, EntityCallbacks entityCallbacks) {
+	private static void addDefaultEntityCallbacks(Neo4jMappingContext context, IdPopulator idPopulator,
+			EntityCallbacks entityCallbacks) {
 
-		entityCallbacks.addEntityCallback(new IdGeneratingBeforeBindCallback(context));
+		// The id populator is shared with this instance, so that ids reserved in advance
+		// are used by the callback
+		entityCallbacks.addEntityCallback(new IdGeneratingBeforeBindCallback(idPopulator));
 		entityCallbacks.addEntityCallback(new PostLoadInvocation(context));
 	}
 
@@ -98,4 +105,30 @@ public final class EventSupport {
 		return this.entityCallbacks.callback(AfterConvertCallback.class, object, entity, source);
 	}
 
+	/**
+	 * Only populates the id of the given object if necessary, without invoking any
+	 * callbacks. Used when the callbacks are explicitly skipped but ids still need to be
+	 * generated.
+	 * @param object the object to populate
+	 * @param <T> the type of the object
+	 * @return the object with a populated id, might be a new instance
+	 * @since 8.2
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T populateIdIfNecessary(T object) {
+		return (T) this.idPopulator.populateIfNecessary(object);
+	}
+
+	/**
+	 * Reserves the ids of all given objects that will be generated by a
+	 * {@link org.springframework.data.neo4j.core.schema.BatchIdGenerator}, so that they
+	 * are generated with one call per generator instead of one call per object. Should be
+	 * called before invoking the callbacks of the single objects.
+	 * @param objects the objects about to be saved
+	 * @since 8.2
+	 */
+	public void reserveIdsIfNecessary(Collection<?> objects) {
+		this.idPopulator.reserveIdsIfNecessary(objects);
+	}
+
 }
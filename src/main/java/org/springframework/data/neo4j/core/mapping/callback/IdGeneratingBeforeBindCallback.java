@@ -16,7 +16,6 @@
 package org.springframework.data.neo4j.core.mapping.callback;
 
 import org.springframework.core.Ordered;
-import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
 
 /**
  * Callback used to call the ID generator configured for an entity just before binding.
@@ -28,8 +27,8 @@ final class IdGeneratingBeforeBindCallback implements BeforeBindCallback<Object>
 
 	private final IdPopulator idPopulator;
 
-	IdGeneratingBeforeBindCallback(Neo4jMappingContext neo4jMappingContext) {
-		this.idPopulator = new IdPopulator(neo4jMappingContext);
+	IdGeneratingBeforeBindCallback(IdPopulator idPopulator) {
+		this.idPopulator = idPopulator;
 	}
 
 	@Override
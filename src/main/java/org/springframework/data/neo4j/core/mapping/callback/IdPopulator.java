@@ -15,13 +15,20 @@
  */
 package org.springframework.data.neo4j.core.mapping.callback;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.neo4j.core.mapping.IdDescription;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.core.schema.BatchIdGenerator;
 import org.springframework.data.neo4j.core.schema.IdGenerator;
 import org.springframework.util.Assert;
 
@@ -34,6 +41,12 @@ final class IdPopulator {
 
 	private final Neo4jMappingContext neo4jMappingContext;
 
+	/**
+	 * Ids reserved from {@link BatchIdGenerator batch id generators}, per generator and
+	 * primary label.
+	 */
+	private final Map<ReservationKey, Queue<Object>> reservedIds = new ConcurrentHashMap<>();
+
 	IdPopulator(Neo4jMappingContext neo4jMappingContext) {
 
 		Assert.notNull(neo4jMappingContext, "A mapping context is required");
@@ -72,26 +85,96 @@ final class IdPopulator {
 			return entity;
 		}
 
-		IdGenerator<?> idGenerator;
+		IdGenerator<?> idGenerator = getIdGenerator(idDescription);
+		Object id = null;
+		if (idGenerator instanceof BatchIdGenerator<?>) {
+			Queue<Object> ids = this.reservedIds
+				.get(new ReservationKey(idGenerator, nodeDescription.getPrimaryLabel()));
+			id = (ids != null) ? ids.poll() : null;
+		}
+		if (id == null) {
+			id = idGenerator.generateId(nodeDescription.getPrimaryLabel(), entity);
+		}
+
+		propertyAccessor.setProperty(idProperty, id);
+		return propertyAccessor.getBean();
+	}
+
+	/**
+	 * Reserves ids for all given entities that will need a generated id from a
+	 * {@link BatchIdGenerator}, with one call per generator and primary label. The ids
+	 * are assigned when the entities are populated later on.
+	 * @param entities the entities about to be saved
+	 */
+	void reserveIdsIfNecessary(Collection<?> entities) {
+		reserveIds(countIdsToReserve(entities));
+	}
+
+	/**
+	 * Counts the ids that need to be reserved for the given entities, without generating
+	 * them yet.
+	 * @param entities the entities about to be saved
+	 * @return the number of ids needed per generator and primary label, empty if nothing
+	 * needs to be reserved
+	 */
+	Map<ReservationKey, Integer> countIdsToReserve(Collection<?> entities) {
+
+		Map<ReservationKey, Integer> numberOfIds = new LinkedHashMap<>();
+		for (Object entity : entities) {
+			if (entity == null || !this.neo4jMappingContext.hasPersistentEntityFor(entity.getClass())) {
+				continue;
+			}
+			Neo4jPersistentEntity<?> nodeDescription = this.neo4jMappingContext
+				.getRequiredPersistentEntity(entity.getClass());
+			IdDescription idDescription = nodeDescription.getIdDescription();
+			if (idDescription == null || !idDescription.isExternallyGeneratedId()
+					|| nodeDescription.getPropertyAccessor(entity)
+						.getProperty(nodeDescription.getRequiredIdProperty()) != null) {
+				continue;
+			}
+			if (getIdGenerator(idDescription) instanceof BatchIdGenerator<?> idGenerator) {
+				numberOfIds.merge(new ReservationKey(idGenerator, nodeDescription.getPrimaryLabel()), 1, Integer::sum);
+			}
+		}
+
+		numberOfIds.replaceAll((key, count) -> {
+			Queue<Object> ids = this.reservedIds.get(key);
+			return count - ((ids != null) ? ids.size() : 0);
+		});
+		numberOfIds.values().removeIf(count -> count <= 0);
+		return numberOfIds;
+	}
+
+	/**
+	 * Reserves the given number of ids, calling each generator once.
+	 * @param numberOfIds the number of ids to reserve per generator and primary label
+	 */
+	void reserveIds(Map<ReservationKey, Integer> numberOfIds) {
+
+		numberOfIds.forEach((key, count) -> this.reservedIds.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>())
+			.addAll(((BatchIdGenerator<?>) key.idGenerator()).generateIds(key.primaryLabel(), count)));
+	}
+
+	private IdGenerator<?> getIdGenerator(IdDescription idDescription) {
 
 		// Get or create the shared generator
 		// Ref has precedence over class
 		Optional<String> optionalIdGeneratorRef = idDescription.getIdGeneratorRef();
 		if (optionalIdGeneratorRef.isPresent()) {
 
-			idGenerator = this.neo4jMappingContext.getIdGenerator(optionalIdGeneratorRef.get())
+			return this.neo4jMappingContext.getIdGenerator(optionalIdGeneratorRef.get())
 				.orElseThrow(() -> new IllegalStateException(
 						"Id generator named " + optionalIdGeneratorRef.get() + " not found"));
 		}
 		else {
 
-			idGenerator = this.neo4jMappingContext.getOrCreateIdGeneratorOfType(idDescription.getIdGeneratorClass()
+			return this.neo4jMappingContext.getOrCreateIdGeneratorOfType(idDescription.getIdGeneratorClass()
 				.orElseThrow(
 						() -> new IllegalStateException("Neither generator reference nor generator class configured")));
 		}
+	}
 
-		propertyAccessor.setProperty(idProperty, idGenerator.generateId(nodeDescription.getPrimaryLabel(), entity));
-		return propertyAccessor.getBean();
+	record ReservationKey(IdGenerator<?> idGenerator, String primaryLabel) {
 	}
 
 }
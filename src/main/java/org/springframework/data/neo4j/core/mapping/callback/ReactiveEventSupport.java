@@ -15,8 +15,12 @@
  */
 package org.springframework.data.neo4j.core.mapping.callback;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.apiguardian.api.API;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.data.mapping.callback.EntityCallbacks;
@@ -37,8 +41,12 @@ public final class ReactiveEventSupport {
 
 	private final ReactiveEntityCallbacks entityCallbacks;
 
-	private ReactiveEventSupport(ReactiveEntityCallbacks entityCallbacks) {
+	private final IdPopulator idPopulator;
+
+	private ReactiveEventSupport(Neo4jMappingContext context, ReactiveEntityCallbacks entityCallbacks) {
 		this.entityCallbacks = entityCallbacks;
+		this.idPopulator = new IdPopulator(context);
+		addDefaultEntityCallbacks(context, this.idPopulator, entityCallbacks);
 	}
 
 	/**
@@ -51,8 +59,7 @@ public final class ReactiveEventSupport {
 	public static ReactiveEventSupport discoverCallbacks(Neo4jMappingContext context, BeanFactory beanFactory) {
 
 		ReactiveEntityCallbacks entityCallbacks = ReactiveEntityCallbacks.create(beanFactory);
-		addDefaultEntityCallbacks(context, entityCallbacks);
-		return new ReactiveEventSupport(entityCallbacks);
+		return new ReactiveEventSupport(context, entityCallbacks);
 	}
 
 	/**
@@ -65,14 +72,15 @@ public final class ReactiveEventSupport {
 	public static ReactiveEventSupport useExistingCallbacks(Neo4jMappingContext context,
 			ReactiveEntityCallbacks entityCallbacks) {
 
-		addDefaultEntityCallbacks(context, entityCallbacks);
-		return new ReactiveEventSupport(entityCallbacks);
+		return new ReactiveEventSupport(context, entityCallbacks);
 	}
 
-	private static void addDefaultEntityCallbacks(Neo4jMappingContext context,
+	private static void addDefaultEntityCallbacks(Neo4jMappingContext context, IdPopulator idPopulator,
 			ReactiveEntityCallbacks entityCallbacks) {
 
-		entityCallbacks.addEntityCallback(new ReactiveIdGeneratingBeforeBindCallback(context));
+		// The id populator is shared with this instance, so that ids reserved in advance
+		// are used by the callback
+		entityCallbacks.addEntityCallback(new ReactiveIdGeneratingBeforeBindCallback(idPopulator));
 		entityCallbacks.addEntityCallback(new PostLoadInvocation(context));
 	}
 
@@ -84,4 +92,38 @@ public final class ReactiveEventSupport {
 		return this.entityCallbacks.callback(ReactiveBeforeBindCallback.class, object);
 	}
 
+	/**
+	 * Only populates the id of the given object if necessary, without invoking any
+	 * callbacks. Used when the callbacks are explicitly skipped but ids still need to be
+	 * generated.
+	 * @param object the object to populate
+	 * @param <T> the type of the object
+	 * @return the object with a populated id, might be a new instance
+	 * @since 8.2
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T populateIdIfNecessary(T object) {
+		return (T) this.idPopulator.populateIfNecessary(object);
+	}
+
+	/**
+	 * Reserves the ids of all given objects that will be generated by a
+	 * {@link org.springframework.data.neo4j.core.schema.BatchIdGenerator}, so that they
+	 * are generated with one call per generator instead of one call per object. The
+	 * generator is invoked on a scheduler that allows blocking.
+	 * @param objects the objects about to be saved
+	 * @return a mono completing when the ids have been reserved
+	 * @since 8.2
+	 */
+	public Mono<Void> reserveIdsIfNecessary(Collection<?> objects) {
+		return Mono.defer(() -> {
+			Map<IdPopulator.ReservationKey, Integer> numberOfIds = this.idPopulator.countIdsToReserve(objects);
+			if (numberOfIds.isEmpty()) {
+				return Mono.empty();
+			}
+			return Mono.<Void>fromRunnable(() -> this.idPopulator.reserveIds(numberOfIds))
+				.subscribeOn(Schedulers.boundedElastic());
+		});
+	}
+
 }
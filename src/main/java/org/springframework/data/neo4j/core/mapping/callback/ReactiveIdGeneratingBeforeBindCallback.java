@@ -15,11 +15,13 @@
  */
 package org.springframework.data.neo4j.core.mapping.callback;
 
+import java.util.List;
+
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import org.springframework.core.Ordered;
-import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
 
 /**
  * Callback used to call the ID generator configured for an entity just before binding.
@@ -31,14 +33,20 @@ final class ReactiveIdGeneratingBeforeBindCallback implements ReactiveBeforeBind
 
 	private final IdPopulator idPopulator;
 
-	ReactiveIdGeneratingBeforeBindCallback(Neo4jMappingContext neo4jMappingContext) {
-		this.idPopulator = new IdPopulator(neo4jMappingContext);
+	ReactiveIdGeneratingBeforeBindCallback(IdPopulator idPopulator) {
+		this.idPopulator = idPopulator;
 	}
 
 	@Override
 	public Publisher<Object> onBeforeBind(Object entity) {
 
-		return Mono.fromSupplier(() -> this.idPopulator.populateIfNecessary(entity));
+		return Mono.defer(() -> {
+			Mono<Object> populatedEntity = Mono.fromSupplier(() -> this.idPopulator.populateIfNecessary(entity));
+			// Batch id generators might block while reserving ids that haven't been
+			// reserved upfront
+			return this.idPopulator.countIdsToReserve(List.of(entity)).isEmpty() ? populatedEntity
+					: populatedEntity.subscribeOn(Schedulers.boundedElastic());
+		});
 	}
 
 	@Override
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.schema;
+
+import java.util.List;
+
+import org.apiguardian.api.API;
+
+/**
+ * An {@link IdGenerator} that generates ids independent of the entities they are assigned
+ * to and therefore can generate many ids at once. When saving or inserting several
+ * entities, the templates reserve all ids needed by a batch with one call to
+ * {@link #generateIds(String, int)} before the callbacks of the single entities are
+ * invoked. Reserved ids that end up unused are handed out later on.
+ *
+ * @param <T> type of the ids to generate
+ * @author Michael J. Simons
+ * @since 8.2
+ */
+@API(status = API.Status.STABLE, since = "8.2")
+public interface BatchIdGenerator<T> extends IdGenerator<T> {
+
+	/**
+	 * Generates the given number of new, distinct ids.
+	 * @param primaryLabel the primary label under which the entities are registered
+	 * @param count the number of ids to generate
+	 * @return exactly {@code count} ids
+	 */
+	List<T> generateIds(String primaryLabel, int count);
+
+	@Override
+	default T generateId(String primaryLabel, Object entity) {
+		return generateIds(primaryLabel, 1).get(0);
+	}
+
+}
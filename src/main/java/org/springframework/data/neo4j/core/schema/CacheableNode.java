@@ -0,0 +1,53 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.schema;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+
+/**
+ * Marks a {@link Node node entity} as cacheable: Instances loaded by id through a
+ * template that has an {@link org.springframework.data.neo4j.core.EntityCache} configured
+ * are kept in that cache and shared between all callers. This is meant for reference data
+ * that is read often and changed rarely, and the cached instances should be treated as
+ * read-only. The annotation is inherited, all entities of a hierarchy share the cache
+ * entries of the topmost annotated entity.
+ * <p>
+ * A cached instance holds the whole graph of related entities it has been loaded with,
+ * including entities that are not cacheable themselves. When the template saves or
+ * deletes an entity of a type that is reachable through the relationships of a cacheable
+ * entity, all cached entities of that hierarchy are evicted, as the template cannot tell
+ * which of the cached graphs contain the written entity. Annotating entities with many
+ * frequently written related entities therefore gives little benefit. Changes made
+ * without the template, for example through custom Cypher statements, are not noticed.
+ *
+ * @author Michael J. Simons
+ * @since 8.2
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Documented
+@Inherited
+@API(status = API.Status.STABLE, since = "8.2")
+public @interface CacheableNode {
+
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.commons.logging.LogFactory;
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Session;
+
+import org.springframework.core.log.LogAccessor;
+import org.springframework.data.neo4j.core.DatabaseSelection;
+import org.springframework.data.neo4j.core.DatabaseSelectionProvider;
+import org.springframework.data.neo4j.core.UserSelection;
+import org.springframework.data.neo4j.core.schema.BatchIdGenerator;
+import org.springframework.data.neo4j.core.transaction.Neo4jTransactionUtils;
+import org.springframework.util.Assert;
+
+/**
+ * A generator providing numeric ids from sequences stored in the database, one sequence
+ * per primary label and database. Ids are reserved in blocks: Each block is reserved with a single
+ * atomic statement in its own transaction, independent of any ongoing transaction, by
+ * incrementing the {@code next} property of a node labeled {@code __Sequence__} with the
+ * name of the sequence. The ids of a reserved block are then handed out without locking
+ * and without further round trips. Ids are unique across all instances sharing the same
+ * database, but not necessarily contiguous, as unused ids of a block are lost when the
+ * application stops.
+ * <p>
+ * The generator needs to be registered as a bean and referenced via
+ * {@link org.springframework.data.neo4j.core.schema.GeneratedValue#generatorRef()}.
+ * Before reserving the first block in a database, the generator creates a unique
+ * constraint on {@code name} of the {@code __Sequence__} nodes if it does not exist yet,
+ * so that sequences are created only once, even when the first ids are reserved
+ * concurrently by several instances. If the constraint cannot be created, for example
+ * due to missing privileges, it must be created upfront: The generator refuses to hand
+ * out ids from a sequence that is stored in more than one node. The generator blocks
+ * while reserving a new block.
+ *
+ * @author Michael J. Simons
+ * @since 8.2
+ */
+@API(status = API.Status.STABLE, since = "8.2")
+public final class HiLoIdGenerator implements BatchIdGenerator<Long> {
+
+	/**
+	 * The number of ids reserved at once if not configured otherwise.
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 50;
+
+	private static final LogAccessor log = new LogAccessor(LogFactory.getLog(HiLoIdGenerator.class));
+
+	private static final String CREATE_CONSTRAINT = "CREATE CONSTRAINT `__Sequence___name` IF NOT EXISTS "
+			+ "FOR (s:`__Sequence__`) REQUIRE s.name IS UNIQUE";
+
+	private static final String RESERVE_BLOCK = "MERGE (s:`__Sequence__` {name: $name}) "
+			+ "ON CREATE SET s.next = $size ON MATCH SET s.next = s.next + $size RETURN s.next";
+
+	private final Driver driver;
+
+	@Nullable
+	private final DatabaseSelectionProvider databaseSelectionProvider;
+
+	private final int blockSize;
+
+	private final Map<SequenceKey, Sequence> sequences = new ConcurrentHashMap<>();
+
+	private final Set<DatabaseSelection> databasesWithConstraint = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Creates a new generator reserving {@link #DEFAULT_BLOCK_SIZE} ids at once in the
+	 * default database.
+	 * @param driver the driver used to reserve blocks of ids
+	 */
+	public HiLoIdGenerator(Driver driver) {
+		this(driver, null, DEFAULT_BLOCK_SIZE);
+	}
+
+	/**
+	 * Creates a new generator.
+	 * @param driver the driver used to reserve blocks of ids
+	 * @param databaseSelectionProvider the provider of the database storing the
+	 * sequences, {@literal null} for the default database
+	 * @param blockSize the minimum number of ids reserved at once, must be positive
+	 */
+	public HiLoIdGenerator(Driver driver, @Nullable DatabaseSelectionProvider databaseSelectionProvider,
+			int blockSize) {
+
+		Assert.notNull(driver, "A driver is required");
+		Assert.isTrue(blockSize > 0, "The block size must be greater than 0");
+
+		this.driver = driver;
+		this.databaseSelectionProvider = databaseSelectionProvider;
+		this.blockSize = blockSize;
+	}
+
+	@Override
+	public List<Long> generateIds(String primaryLabel, int count) {
+
+		Assert.isTrue(count >= 0, "The number of ids must not be negative");
+
+		DatabaseSelection databaseSelection = (this.databaseSelectionProvider != null)
+				? this.databaseSelectionProvider.getDatabaseSelection() : DatabaseSelection.undecided();
+		List<Long> ids = new ArrayList<>(count);
+		Sequence sequence = this.sequences.computeIfAbsent(new SequenceKey(databaseSelection, primaryLabel),
+				Sequence::new);
+		sequence.take(count, ids);
+		if (ids.size() < count) {
+			sequence.reserveAndTake(count, ids);
+		}
+		return ids;
+	}
+
+	/**
+	 * Reserves a new block of ids in a new transaction, creating the unique constraint on
+	 * the sequences first if this hasn't been done for the database of the sequence yet.
+	 * @param key the database and name of the sequence
+	 * @param size the number of ids to reserve
+	 * @return the highest id of the new block
+	 */
+	private long reserve(SequenceKey key, long size) {
+
+		DatabaseSelection databaseSelection = key.databaseSelection();
+		try (Session session = this.driver
+			.session(Neo4jTransactionUtils.defaultSessionConfig(databaseSelection, UserSelection.connectedUser()))) {
+			if (!this.databasesWithConstraint.contains(databaseSelection)) {
+				createConstraint(session);
+				this.databasesWithConstraint.add(databaseSelection);
+			}
+			List<Record> records = session
+				.executeWrite(tx -> tx.run(RESERVE_BLOCK, Map.of("name", key.name(), "size", size)).list());
+			if (records.size() != 1) {
+				throw new IllegalStateException(("The sequence `%s` is stored in %d `__Sequence__` nodes, "
+						+ "ids from it might not be unique; merge them into one node and create a unique "
+						+ "constraint on their names")
+					.formatted(key.name(), records.size()));
+			}
+			return records.get(0).get(0).asLong();
+		}
+	}
+
+	private static void createConstraint(Session session) {
+
+		try {
+			session.run(CREATE_CONSTRAINT).consume();
+		}
+		catch (RuntimeException ex) {
+			log.warn(ex, () -> "Could not create a unique constraint on the names of the `__Sequence__` nodes, "
+					+ "the first ids reserved concurrently might not be unique without it");
+		}
+	}
+
+	private final class Sequence {
+
+		private final SequenceKey key;
+
+		private final AtomicReference<Block> currentBlock = new AtomicReference<>(new Block(0, 0));
+
+		private final Lock reservationLock = new ReentrantLock();
+
+		Sequence(SequenceKey key) {
+			this.key = key;
+		}
+
+		// Hands out ids from the current block without locking
+		void take(int count, List<Long> ids) {
+
+			while (ids.size() < count) {
+				Block block = this.currentBlock.get();
+				long available = block.end() - block.next();
+				if (available <= 0) {
+					return;
+				}
+				long taken = Math.min(count - ids.size(), available);
+				if (this.currentBlock.compareAndSet(block, new Block(block.next() + taken, block.end()))) {
+					for (long id = block.next(); id < block.next() + taken; ++id) {
+						ids.add(id);
+					}
+				}
+			}
+		}
+
+		// Only one thread reserves a new block, the others use it afterwards
+		void reserveAndTake(int count, List<Long> ids) {
+
+			this.reservationLock.lock();
+			try {
+				take(count, ids);
+				int missing = count - ids.size();
+				if (missing <= 0) {
+					return;
+				}
+
+				long size = Math.max(missing, HiLoIdGenerator.this.blockSize);
+				long lo = reserve(this.key, size) - size + 1;
+				for (long id = lo; id < lo + missing; ++id) {
+					ids.add(id);
+				}
+				this.currentBlock.set(new Block(lo + missing, lo + size));
+			}
+			finally {
+				this.reservationLock.unlock();
+			}
+		}
+
+	}
+
+	private record SequenceKey(DatabaseSelection databaseSelection, String name) {
+	}
+
+	private record Block(long next, long end) {
+	}
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.transaction;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Keeps the instances of entities that have been loaded or written in one transaction,
+ * so that repeated lookups of the same entity by id within that transaction yield the
+ * same instance. An identity map is owned by the resource holder of a transaction and
+ * thus shares its lifecycle: It is suspended and resumed together with the transaction
+ * and discarded when the transaction completes.
+ * <p>
+ * <strong>Note:</strong> Intended for internal usage only.
+ *
+ * @author Michael J. Simons
+ * @since 8.2
+ */
+@API(status = API.Status.INTERNAL, since = "8.2")
+public final class EntityIdentityMap {
+
+	private final Map<Key, Object> entities = new ConcurrentHashMap<>();
+
+	EntityIdentityMap() {
+	}
+
+	/**
+	 * Retrieves an instance.
+	 * @param type the type under which the instance has been registered
+	 * @param id the id of the instance
+	 * @return the registered instance or {@literal null}
+	 */
+	@Nullable public Object get(Class<?> type, Object id) {
+		return this.entities.get(new Key(type, id));
+	}
+
+	/**
+	 * Registers an instance, replacing any other instance registered with the same type
+	 * and id.
+	 * @param type the type under which the instance is registered
+	 * @param id the id of the instance
+	 * @param entity the instance to register
+	 */
+	public void put(Class<?> type, Object id, Object entity) {
+		this.entities.put(new Key(type, id), entity);
+	}
+
+	/**
+	 * Registers an instance unless there is already an instance with the same type and
+	 * id.
+	 * @param type the type under which the instance is registered
+	 * @param id the id of the instance
+	 * @param entity the instance to register
+	 * @return the instance registered before or the given instance
+	 */
+	public Object putIfAbsent(Class<?> type, Object id, Object entity) {
+		Object registeredEntity = this.entities.putIfAbsent(new Key(type, id), entity);
+		return (registeredEntity != null) ? registeredEntity : entity;
+	}
+
+	/**
+	 * Removes an instance.
+	 * @param type the type under which the instance has been registered
+	 * @param id the id of the instance
+	 */
+	public void remove(Class<?> type, Object id) {
+		this.entities.remove(new Key(type, id));
+	}
+
+	/**
+	 * Removes all instances registered with the given type.
+	 * @param type the type under which the instances have been registered
+	 */
+	public void removeAll(Class<?> type) {
+		this.entities.keySet().removeIf(key -> key.type() == type);
+	}
+
+	/**
+	 * Removes all instances.
+	 */
+	public void clear() {
+		this.entities.clear();
+	}
+
+	/**
+	 * Returns the number of registered instances.
+	 * @return the number of registered instances
+	 */
+	public int size() {
+		return this.entities.size();
+	}
+
+	private record Key(Class<?> type, Object id) {
+	}
+
+}
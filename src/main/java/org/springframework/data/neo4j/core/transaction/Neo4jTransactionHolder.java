@@ -53,6 +53,11 @@ final class Neo4jTransactionHolder extends ResourceHolderSupport {
 	 */
 	private final Transaction transaction;
 
+	/**
+	 * Instances of entities loaded or written in this transaction.
+	 */
+	private final EntityIdentityMap identityMap = new EntityIdentityMap();
+
 	Neo4jTransactionHolder(Neo4jTransactionContext context, Session session, Transaction transaction) {
 
 		this.context = context;
@@ -124,4 +129,8 @@ final class Neo4jTransactionHolder extends ResourceHolderSupport {
 		return this.context.getBookmarks();
 	}
 
+	EntityIdentityMap getIdentityMap() {
+		return this.identityMap;
+	}
+
 }
@@ -189,6 +189,33 @@ public final class Neo4jTransactionManager extends AbstractPlatformTransactionMa
 		return Objects.requireNonNull(connectionHolder.getTransaction(targetDatabase, asUser));
 	}
 
+	/**
+	 * Retrieves the identity map of the ongoing Neo4j transaction. The identity map is
+	 * only available when exactly one Neo4j transaction is bound to the current thread,
+	 * as there is no way to tell which one is meant otherwise.
+	 * @return the identity map of the ongoing transaction or {@literal null} if the
+	 * method hasn't been called inside an ongoing Neo4j transaction
+	 * @since 8.2
+	 */
+	@API(status = API.Status.INTERNAL, since = "8.2")
+	@Nullable public static EntityIdentityMap retrieveIdentityMap() {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+
+		Neo4jTransactionHolder connectionHolder = null;
+		for (Object resource : TransactionSynchronizationManager.getResourceMap().values()) {
+			if (resource instanceof Neo4jTransactionHolder holder && holder.hasActiveTransaction()) {
+				if (connectionHolder != null) {
+					return null;
+				}
+				connectionHolder = holder;
+			}
+		}
+		return (connectionHolder != null) ? connectionHolder.getIdentityMap() : null;
+	}
+
 	private static Neo4jTransactionObject extractNeo4jTransaction(Object transaction) {
 
 		Assert.isInstanceOf(Neo4jTransactionObject.class, transaction,
@@ -44,6 +44,8 @@ final class ReactiveNeo4jTransactionHolder extends ResourceHolderSupport {
 
 	private final ReactiveTransaction transaction;
 
+	private final EntityIdentityMap identityMap = new EntityIdentityMap();
+
 	ReactiveNeo4jTransactionHolder(Neo4jTransactionContext context, ReactiveSession session,
 			ReactiveTransaction transaction) {
 
@@ -85,4 +87,8 @@ final class ReactiveNeo4jTransactionHolder extends ResourceHolderSupport {
 		return this.context.getBookmarks();
 	}
 
+	EntityIdentityMap getIdentityMap() {
+		return this.identityMap;
+	}
+
 }
@@ -196,6 +196,36 @@ public final class ReactiveNeo4jTransactionManager extends AbstractReactiveTrans
 			.onErrorResume(NoTransactionException.class, nte -> Mono.empty());
 	}
 
+	/**
+	 * Retrieves the identity map of the ongoing Neo4j transaction. The identity map is
+	 * only available when exactly one Neo4j transaction is bound to the current
+	 * transaction context, as there is no way to tell which one is meant otherwise.
+	 * @return the identity map of the ongoing transaction or an empty publisher if the
+	 * method hasn't been called inside an ongoing Neo4j transaction
+	 * @since 8.2
+	 */
+	@API(status = API.Status.INTERNAL, since = "8.2")
+	public static Mono<EntityIdentityMap> retrieveIdentityMap() {
+
+		return TransactionSynchronizationManager.forCurrentTransaction()
+			.filter(TransactionSynchronizationManager::isSynchronizationActive)
+			.<EntityIdentityMap>handle((tsm, sink) -> {
+				ReactiveNeo4jTransactionHolder connectionHolder = null;
+				for (Object resource : tsm.getResourceMap().values()) {
+					if (resource instanceof ReactiveNeo4jTransactionHolder holder) {
+						if (connectionHolder != null) {
+							return;
+						}
+						connectionHolder = holder;
+					}
+				}
+				if (connectionHolder != null) {
+					sink.next(connectionHolder.getIdentityMap());
+				}
+			})
+			.onErrorResume(NoTransactionException.class, nte -> Mono.empty());
+	}
+
 	private static ReactiveNeo4jTransactionObject extractNeo4jTransaction(Object transaction) {
 
 		Assert.isInstanceOf(ReactiveNeo4jTransactionObject.class, transaction,
@@ -15,9 +15,11 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.LongSupplier;
@@ -41,9 +43,6 @@ import org.springframework.data.geo.GeoPage;
 import org.springframework.data.geo.GeoResult;
 import org.springframework.data.neo4j.core.Neo4jOperations;
 import org.springframework.data.neo4j.core.PreparedQuery;
-import org.springframework.data.neo4j.core.PropertyFilterSupport;
-import org.springframework.data.neo4j.core.mapping.DtoInstantiatingConverter;
-import org.springframework.data.neo4j.core.mapping.EntityInstanceWithSource;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.core.mapping.PropertyFilter;
 import org.springframework.data.projection.ProjectionFactory;
@@ -53,6 +52,7 @@ import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.Assert;
+import org.springframework.util.function.SingletonSupplier;
 
 /**
  * Base class for {@link RepositoryQuery} implementations for Neo4j.
@@ -67,6 +67,15 @@ abstract class AbstractNeo4jQuery extends Neo4jQuerySupport implements Repositor
 
 	private final ProjectionFactory factory;
 
+	private final boolean geoNearQuery;
+
+	private final boolean vectorSearchQuery;
+
+	private final Supplier<QueryExecutionPlan> executionPlan;
+
+	@Nullable
+	private final PageCounts pageCounts;
+
 	AbstractNeo4jQuery(Neo4jOperations neo4jOperations, Neo4jMappingContext mappingContext,
 			Neo4jQueryMethod queryMethod, Neo4jQueryType queryType, ProjectionFactory factory) {
 
@@ -75,6 +84,11 @@ abstract class AbstractNeo4jQuery extends Neo4jQuerySupport implements Repositor
 
 		Assert.notNull(neo4jOperations, "The Neo4j operations are required");
 		this.neo4jOperations = neo4jOperations;
+		this.geoNearQuery = isGeoNearQuery();
+		this.vectorSearchQuery = isVectorSearchQuery();
+		this.executionPlan = SingletonSupplier.of(() -> createExecutionPlan(this.queryMethod.getResultProcessor(),
+				this.factory, this.geoNearQuery, this.vectorSearchQuery));
+		this.pageCounts = PageCounts.of(queryMethod.getPageCountAnnotation().orElse(null));
 	}
 
 	@Override
@@ -118,41 +132,38 @@ abstract class AbstractNeo4jQuery extends Neo4jQuerySupport implements Repositor
 		return false;
 	}
 
+	QueryExecutionPlan getExecutionPlan(Neo4jParameterAccessor parameterAccessor) {
+		if (this.queryMethod.getParameters().hasDynamicProjection()) {
+			return createExecutionPlan(this.queryMethod.getResultProcessor().withDynamicProjection(parameterAccessor),
+					this.factory, this.geoNearQuery, this.vectorSearchQuery);
+		}
+		return this.executionPlan.get();
+	}
+
 	@Override
 	@Nullable public final Object execute(Object[] parameters) {
 
 		boolean incrementLimit = this.queryMethod.incrementLimit();
-		boolean geoNearQuery = isGeoNearQuery();
-		boolean vectorSearchQuery = isVectorSearchQuery();
 		Neo4jParameterAccessor parameterAccessor = new Neo4jParameterAccessor(
 				(Neo4jQueryMethod.Neo4jParameters) this.queryMethod.getParameters(), parameters);
 
-		ResultProcessor resultProcessor = this.queryMethod.getResultProcessor()
-			.withDynamicProjection(parameterAccessor);
+		QueryExecutionPlan plan = getExecutionPlan(parameterAccessor);
+		LongSupplier totalSupplier = this.queryMethod.isPageQuery() ? startCount(parameterAccessor) : null;
+		ResultProcessor resultProcessor = plan.resultProcessor();
 		ReturnedType returnedType = resultProcessor.getReturnedType();
-		PreparedQuery<?> preparedQuery = prepareQuery(returnedType.getReturnedType(),
-				PropertyFilterSupport.getInputProperties(resultProcessor, this.factory, this.mappingContext),
-				parameterAccessor, null, getMappingFunction(resultProcessor, geoNearQuery, vectorSearchQuery),
+		PreparedQuery<?> preparedQuery = prepareQuery(returnedType.getReturnedType(), plan.includedProperties(),
+				parameterAccessor, null, plan.mappingFunction(),
 				incrementLimit ? l -> l + 1 : UnaryOperator.identity());
 
-		Object rawResult = new Neo4jQueryExecution.DefaultQueryExecution(this.neo4jOperations).execute(preparedQuery,
-				this.queryMethod.asCollectionQuery());
-
-		Converter<Object, Object> preparingConverter = OptionalUnwrappingConverter.INSTANCE;
-		if (returnedType.isProjecting()) {
-			DtoInstantiatingConverter converter = new DtoInstantiatingConverter(returnedType.getReturnedType(),
-					this.mappingContext);
+		boolean streamQuery = this.queryMethod.isStreamQuery() && !this.geoNearQuery
+				&& !this.queryMethod.isSearchQuery();
+		Object rawResult = new Neo4jQueryExecution.DefaultQueryExecution(this.neo4jOperations, streamQuery)
+			.execute(preparedQuery, this.queryMethod.asCollectionQuery());
 
-			// Neo4jQuerySupport ensure we will get an EntityInstanceWithSource in the
-			// projecting case
-			preparingConverter = source -> {
-				var unwrapped = (EntityInstanceWithSource) OptionalUnwrappingConverter.INSTANCE.convert(source);
-				return (unwrapped != null) ? converter.convert(unwrapped) : null;
-			};
-		}
+		Converter<Object, Object> preparingConverter = plan.preparingConverter();
 
 		if (this.queryMethod.isPageQuery()) {
-			rawResult = createPage(parameterAccessor, (List<?>) rawResult);
+			rawResult = createPage(parameterAccessor, (List<?>) rawResult, Objects.requireNonNull(totalSupplier));
 		}
 		else if (this.queryMethod.isSliceQuery()) {
 			rawResult = createSlice(incrementLimit, parameterAccessor, (List<?>) rawResult);
@@ -161,7 +172,7 @@ abstract class AbstractNeo4jQuery extends Neo4jQuerySupport implements Repositor
 			rawResult = createWindow(resultProcessor, incrementLimit, parameterAccessor, (List<?>) rawResult,
 					preparedQuery.getQueryFragmentsAndParameters());
 		}
-		else if (geoNearQuery) {
+		else if (this.geoNearQuery) {
 			rawResult = newGeoResults(rawResult);
 		}
 		else if (this.queryMethod.isSearchQuery()) {
@@ -171,18 +182,35 @@ abstract class AbstractNeo4jQuery extends Neo4jQuerySupport implements Repositor
 		return resultProcessor.processResult(rawResult, preparingConverter);
 	}
 
-	private Page<?> createPage(Neo4jParameterAccessor parameterAccessor, List<?> rawResult) {
-
-		LongSupplier totalSupplier = () -> {
+	/**
+	 * Prepares the count query of a paged query. It might be dispatched right away when
+	 * configured to run in parallel, so this must be called before the content is
+	 * queried.
+	 * @param parameterAccessor the accessor for the actual parameters
+	 * @return a supplier for the total number of elements
+	 */
+	private LongSupplier startCount(Neo4jParameterAccessor parameterAccessor) {
+
+		Supplier<PreparedQuery<Long>> countQuery = () -> getCountQuery(parameterAccessor)
+			.orElseGet(() -> prepareQuery(Long.class, Collections.emptySet(), parameterAccessor, Neo4jQueryType.COUNT,
+					null, UnaryOperator.identity()));
+
+		if (this.pageCounts == null) {
+			return () -> this.neo4jOperations.toExecutableQuery(countQuery.get()).getRequiredSingleResult();
+		}
 
-			Supplier<PreparedQuery<Long>> defaultCountQuery = () -> prepareQuery(Long.class, Collections.emptySet(),
-					parameterAccessor, Neo4jQueryType.COUNT, null, UnaryOperator.identity());
-			PreparedQuery<Long> countQuery = getCountQuery(parameterAccessor).orElseGet(defaultCountQuery);
+		PreparedQuery<Long> preparedCountQuery = countQuery.get();
+		QueryFragmentsAndParameters queryFragmentsAndParameters = preparedCountQuery.getQueryFragmentsAndParameters();
+		return this.pageCounts.start(
+				Arrays.asList(queryFragmentsAndParameters.getCypherQuery(),
+						queryFragmentsAndParameters.getParameters()),
+				parameterAccessor.getPageable(), () -> this.neo4jOperations.toExecutableQuery(preparedCountQuery).getRequiredSingleResult());
+	}
 
-			return this.neo4jOperations.toExecutableQuery(countQuery).getRequiredSingleResult();
-		};
+	private Page<?> createPage(Neo4jParameterAccessor parameterAccessor, List<?> rawResult,
+			LongSupplier totalSupplier) {
 
-		if (isGeoNearQuery()) {
+		if (this.geoNearQuery) {
 			return new GeoPage<>(newGeoResults(rawResult), parameterAccessor.getPageable(), totalSupplier.getAsLong());
 		}
 
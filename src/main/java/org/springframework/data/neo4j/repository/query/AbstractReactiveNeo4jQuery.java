@@ -31,10 +31,7 @@ import org.springframework.data.core.TypeInformation;
 import org.springframework.data.domain.SearchResult;
 import org.springframework.data.geo.GeoResult;
 import org.springframework.data.neo4j.core.PreparedQuery;
-import org.springframework.data.neo4j.core.PropertyFilterSupport;
 import org.springframework.data.neo4j.core.ReactiveNeo4jOperations;
-import org.springframework.data.neo4j.core.mapping.DtoInstantiatingConverter;
-import org.springframework.data.neo4j.core.mapping.EntityInstanceWithSource;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.core.mapping.PropertyFilter;
 import org.springframework.data.projection.ProjectionFactory;
@@ -43,6 +40,7 @@ import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.util.Assert;
+import org.springframework.util.function.SingletonSupplier;
 
 /**
  * Base class for {@link RepositoryQuery} implementations for Neo4j.
@@ -55,7 +53,13 @@ abstract class AbstractReactiveNeo4jQuery extends Neo4jQuerySupport implements R
 
 	protected final ReactiveNeo4jOperations neo4jOperations;
 
-	private ProjectionFactory factory;
+	private final ProjectionFactory factory;
+
+	private final boolean geoNearQuery;
+
+	private final boolean vectorSearchQuery;
+
+	private final Supplier<QueryExecutionPlan> executionPlan;
 
 	AbstractReactiveNeo4jQuery(ReactiveNeo4jOperations neo4jOperations, Neo4jMappingContext mappingContext,
 			Neo4jQueryMethod queryMethod, Neo4jQueryType queryType, ProjectionFactory factory) {
@@ -65,6 +69,10 @@ abstract class AbstractReactiveNeo4jQuery extends Neo4jQuerySupport implements R
 		Assert.notNull(neo4jOperations, "The Neo4j operations are required");
 		this.neo4jOperations = neo4jOperations;
 		this.factory = factory;
+		this.geoNearQuery = isGeoNearQuery();
+		this.vectorSearchQuery = isVectorSearchQuery();
+		this.executionPlan = SingletonSupplier.of(() -> createExecutionPlan(this.queryMethod.getResultProcessor(),
+				this.factory, this.geoNearQuery, this.vectorSearchQuery));
 	}
 
 	@Override
@@ -110,38 +118,32 @@ abstract class AbstractReactiveNeo4jQuery extends Neo4jQuerySupport implements R
 		return false;
 	}
 
+	private QueryExecutionPlan getExecutionPlan(Neo4jParameterAccessor parameterAccessor) {
+		if (this.queryMethod.getParameters().hasDynamicProjection()) {
+			return createExecutionPlan(this.queryMethod.getResultProcessor().withDynamicProjection(parameterAccessor),
+					this.factory, this.geoNearQuery, this.vectorSearchQuery);
+		}
+		return this.executionPlan.get();
+	}
+
 	@Override
 	@Nullable public final Object execute(Object[] parameters) {
 
 		boolean incrementLimit = this.queryMethod.incrementLimit();
-		boolean geoNearQuery = isGeoNearQuery();
-		boolean vectorSearchQuery = isVectorSearchQuery();
 		Neo4jParameterAccessor parameterAccessor = new Neo4jParameterAccessor(
 				(Neo4jQueryMethod.Neo4jParameters) this.queryMethod.getParameters(), parameters);
-		ResultProcessor resultProcessor = this.queryMethod.getResultProcessor()
-			.withDynamicProjection(parameterAccessor);
 
+		QueryExecutionPlan plan = getExecutionPlan(parameterAccessor);
+		ResultProcessor resultProcessor = plan.resultProcessor();
 		ReturnedType returnedType = resultProcessor.getReturnedType();
-		PreparedQuery<?> preparedQuery = prepareQuery(returnedType.getReturnedType(),
-				PropertyFilterSupport.getInputProperties(resultProcessor, this.factory, this.mappingContext),
-				parameterAccessor, null, getMappingFunction(resultProcessor, geoNearQuery, vectorSearchQuery),
+		PreparedQuery<?> preparedQuery = prepareQuery(returnedType.getReturnedType(), plan.includedProperties(),
+				parameterAccessor, null, plan.mappingFunction(),
 				incrementLimit ? l -> l + 1 : UnaryOperator.identity());
 
 		Object rawResult = new Neo4jQueryExecution.ReactiveQueryExecution(this.neo4jOperations).execute(preparedQuery,
 				this.queryMethod.asCollectionQuery());
 
-		Converter<Object, Object> preparingConverter = OptionalUnwrappingConverter.INSTANCE;
-		if (returnedType.isProjecting()) {
-			DtoInstantiatingConverter converter = new DtoInstantiatingConverter(returnedType.getReturnedType(),
-					this.mappingContext);
-
-			// Neo4jQuerySupport ensure we will get an EntityInstanceWithSource in the
-			// projecting case
-			preparingConverter = source -> {
-				var intermediate = (EntityInstanceWithSource) OptionalUnwrappingConverter.INSTANCE.convert(source);
-				return (intermediate != null) ? converter.convert(intermediate) : null;
-			};
-		}
+		Converter<Object, Object> preparingConverter = plan.preparingConverter();
 
 		if (this.queryMethod.isScrollQuery()) {
 			rawResult = ((Flux<?>) rawResult).collectList()
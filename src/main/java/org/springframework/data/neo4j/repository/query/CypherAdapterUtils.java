@@ -41,6 +41,7 @@ import org.springframework.data.neo4j.core.mapping.Constants;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.core.mapping.NodeDescription;
+import org.springframework.data.neo4j.core.mapping.PropertyFilter;
 
 import static org.neo4j.cypherdsl.core.Cypher.property;
 
@@ -107,7 +108,7 @@ public final class CypherAdapterUtils {
 						domainProperty));
 			}
 			else if (graphProperty.isComposite()) {
-				if (nodeDescription.containsPossibleCircles(rpp -> true)) {
+				if (nodeDescription.containsPossibleCircles(PropertyFilter.NO_FILTER)) {
 					expression = property(root, domainProperty);
 				}
 				else {
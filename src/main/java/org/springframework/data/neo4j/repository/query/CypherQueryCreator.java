@@ -98,6 +98,11 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 
 	private final List<Parameter> boundedParameters = new ArrayList<>();
 
+	/**
+	 * Number of actual parameters consumed so far.
+	 */
+	private int consumedParameters = 0;
+
 	private final Pageable pagingParameter;
 
 	@Nullable
@@ -227,6 +232,7 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 
 	private QueryFragments createQueryFragments(@Nullable Condition condition, Sort sort) {
 		QueryFragments queryFragments = new QueryFragments();
+		queryFragments.setRelatedNodesLoadingStrategy(this.queryMethod.getRelatedNodesLoadingStrategy().orElse(null));
 
 		// all the ways we could query for
 		Node startNode = Cypher.node(this.nodeDescription.getPrimaryLabel(), this.nodeDescription.getAdditionalLabels())
@@ -640,7 +646,7 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 			final Neo4jQueryMethod.Neo4jParameter parameter = this.formalParameters.next();
 
 			Parameter boundedParameter = new Parameter(parameter.getName().orElseGet(this.indexSupplier),
-					actualParameters.next(), property.getOptionalConverter());
+					this.consumedParameters++, actualParameters.next(), property.getOptionalConverter());
 			this.boundedParameters.add(boundedParameter);
 			return Optional.of(boundedParameter);
 		}
@@ -661,23 +667,39 @@ final class CypherQueryCreator extends AbstractQueryCreator<QueryFragmentsAndPar
 			}
 			final Neo4jQueryMethod.Neo4jParameter parameter = this.formalParameters.next();
 			Parameter boundedParameter = new Parameter(parameter.getName().orElseGet(this.indexSupplier),
-					actualParameters.next(), property.getOptionalConverter());
+					this.consumedParameters++, actualParameters.next(), property.getOptionalConverter());
 			this.boundedParameters.add(boundedParameter);
 			return boundedParameter;
 		}
 	}
 
+	/**
+	 * Returns the parameters that have been bound while creating the query. Only
+	 * available after {@link #createQuery()} has been called.
+	 * @return the list of bound parameters in the order they have been bound
+	 */
+	List<Parameter> getBoundedParameters() {
+		return List.copyOf(this.boundedParameters);
+	}
+
 	static class Parameter {
 
 		final String nameOrIndex;
 
+		/**
+		 * The position of the value in the list of bindable parameter values.
+		 */
+		final int position;
+
 		final Object value;
 
 		@Nullable
 		final Neo4jPersistentPropertyConverter<?> conversionOverride;
 
-		Parameter(String nameOrIndex, Object value, @Nullable Neo4jPersistentPropertyConverter<?> conversionOverride) {
+		Parameter(String nameOrIndex, int position, Object value,
+				@Nullable Neo4jPersistentPropertyConverter<?> conversionOverride) {
 			this.nameOrIndex = nameOrIndex;
+			this.position = position;
 			this.value = value;
 			this.conversionOverride = conversionOverride;
 		}
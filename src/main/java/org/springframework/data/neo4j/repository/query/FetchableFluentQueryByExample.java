@@ -180,7 +180,12 @@ final class FetchableFluentQueryByExample<S, R> extends FluentQuerySupport<R> im
 
 	@Override
 	public Stream<R> stream() {
-		return all().stream();
+
+		return this.findOperation.find(this.example.getProbeType())
+			.as(this.resultType)
+			.matching(QueryFragmentsAndParameters.forExampleWithSort(this.mappingContext, this.example, this.sort,
+					this.limit, createIncludedFieldsPredicate()))
+			.stream();
 	}
 
 	@Override
@@ -179,7 +179,12 @@ final class FetchableFluentQueryByPredicate<S, R> extends FluentQuerySupport<R>
 
 	@Override
 	public Stream<R> stream() {
-		return all().stream();
+
+		return this.findOperation.find(this.metaData.getType())
+			.as(this.resultType)
+			.matching(QueryFragmentsAndParameters.forConditionAndSort(this.metaData,
+					Cypher.adapt(this.predicate).asCondition(), this.sort, this.limit, createIncludedFieldsPredicate()))
+			.stream();
 	}
 
 	@Override
@@ -86,7 +86,8 @@ abstract class FluentQuerySupport<R> {
 		if (this.properties == null || this.properties.isEmpty()) {
 			return PropertyFilter.NO_FILTER;
 		}
-		return path -> this.properties.contains(path.toDotPath());
+		Set<String> includedProperties = Set.copyOf(this.properties);
+		return PropertyFilter.withKey(includedProperties, path -> includedProperties.contains(path.toDotPath()));
 	}
 
 	final Collection<String> mergeProperties(Collection<String> additionalProperties) {
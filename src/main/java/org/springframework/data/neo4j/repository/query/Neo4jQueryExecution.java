@@ -39,15 +39,25 @@ interface Neo4jQueryExecution {
 
 		private final Neo4jOperations neo4jOperations;
 
+		private final boolean streamQuery;
+
 		DefaultQueryExecution(Neo4jOperations neo4jOperations) {
+			this(neo4jOperations, false);
+		}
+
+		DefaultQueryExecution(Neo4jOperations neo4jOperations, boolean streamQuery) {
 			this.neo4jOperations = neo4jOperations;
+			this.streamQuery = streamQuery;
 		}
 
 		@Override
 		public Object execute(PreparedQuery<?> preparedQuery, boolean asCollectionQuery) {
 
 			Neo4jOperations.ExecutableQuery<?> executableQuery = this.neo4jOperations.toExecutableQuery(preparedQuery);
-			if (asCollectionQuery) {
+			if (this.streamQuery) {
+				return executableQuery.getResultStream();
+			}
+			else if (asCollectionQuery) {
 				return executableQuery.getResults();
 			}
 			else {
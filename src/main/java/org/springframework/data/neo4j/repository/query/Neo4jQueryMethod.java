@@ -31,6 +31,7 @@ import org.springframework.data.domain.SearchResults;
 import org.springframework.data.geo.GeoPage;
 import org.springframework.data.geo.GeoResult;
 import org.springframework.data.geo.GeoResults;
+import org.springframework.data.neo4j.core.RelatedNodesLoadingStrategy;
 import org.springframework.data.neo4j.repository.support.CypherdslStatementExecutor;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -69,6 +70,12 @@ class Neo4jQueryMethod extends QueryMethod {
 	@Nullable
 	private final VectorSearch vectorSearchAnnotation;
 
+	@Nullable
+	private final RelatedNodesLoading relatedNodesLoadingAnnotation;
+
+	@Nullable
+	private final PageCount pageCountAnnotation;
+
 	private final String repositoryName;
 
 	private final boolean cypherBasedProjection;
@@ -103,6 +110,11 @@ class Neo4jQueryMethod extends QueryMethod {
 		this.cypherBasedProjection = cypherBasedProjection;
 		this.queryAnnotation = AnnotatedElementUtils.findMergedAnnotation(this.method, Query.class);
 		this.vectorSearchAnnotation = AnnotatedElementUtils.findMergedAnnotation(this.method, VectorSearch.class);
+		this.relatedNodesLoadingAnnotation = AnnotatedElementUtils.findMergedAnnotation(this.method,
+				RelatedNodesLoading.class);
+		PageCount pageCount = AnnotatedElementUtils.findMergedAnnotation(this.method, PageCount.class);
+		this.pageCountAnnotation = (pageCount != null) ? pageCount
+				: AnnotatedElementUtils.findMergedAnnotation(metadata.getRepositoryInterface(), PageCount.class);
 	}
 
 	String getRepositoryName() {
@@ -143,6 +155,19 @@ class Neo4jQueryMethod extends QueryMethod {
 		return Optional.ofNullable(this.vectorSearchAnnotation);
 	}
 
+	Optional<RelatedNodesLoadingStrategy> getRelatedNodesLoadingStrategy() {
+		return Optional.ofNullable(this.relatedNodesLoadingAnnotation).map(RelatedNodesLoading::value);
+	}
+
+	/**
+	 * Returns the configuration of the count for paged queries, either from the method or
+	 * from the repository.
+	 * @return the {@link PageCount} annotation applicable to this method
+	 */
+	Optional<PageCount> getPageCountAnnotation() {
+		return Optional.ofNullable(this.pageCountAnnotation);
+	}
+
 	@Override
 	public Class<?> getReturnedObjectType() {
 		Class<?> returnedObjectType = super.getReturnedObjectType();
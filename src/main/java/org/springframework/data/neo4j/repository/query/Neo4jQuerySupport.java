@@ -39,6 +39,7 @@ import org.neo4j.driver.Values;
 import org.neo4j.driver.types.MapAccessor;
 import org.neo4j.driver.types.TypeSystem;
 
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.log.LogAccessor;
 import org.springframework.data.convert.EntityWriter;
 import org.springframework.data.core.TypeInformation;
@@ -57,12 +58,15 @@ import org.springframework.data.geo.Distance;
 import org.springframework.data.geo.GeoResult;
 import org.springframework.data.geo.GeoResults;
 import org.springframework.data.geo.Metrics;
+import org.springframework.data.neo4j.core.PropertyFilterSupport;
 import org.springframework.data.neo4j.core.TemplateSupport;
 import org.springframework.data.neo4j.core.convert.Neo4jPersistentPropertyConverter;
 import org.springframework.data.neo4j.core.mapping.Constants;
 import org.springframework.data.neo4j.core.mapping.CypherGenerator;
+import org.springframework.data.neo4j.core.mapping.DtoInstantiatingConverter;
 import org.springframework.data.neo4j.core.mapping.EntityInstanceWithSource;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
@@ -245,6 +249,39 @@ abstract class Neo4jQuerySupport {
 		};
 	}
 
+	/**
+	 * Computes the parts of a query execution that only depend on the shape of the
+	 * result.
+	 * @param resultProcessor the result processor, dynamic projections already applied
+	 * @param factory the projection factory in use
+	 * @param isGeoNearQuery flag if the method returns geo results
+	 * @param isVectorSearchQuery flag if the method returns search results
+	 * @return an execution plan
+	 */
+	final QueryExecutionPlan createExecutionPlan(ResultProcessor resultProcessor, ProjectionFactory factory,
+			boolean isGeoNearQuery, boolean isVectorSearchQuery) {
+
+		ReturnedType returnedType = resultProcessor.getReturnedType();
+		Converter<Object, Object> preparingConverter = OptionalUnwrappingConverter.INSTANCE;
+		if (returnedType.isProjecting()) {
+			DtoInstantiatingConverter converter = new DtoInstantiatingConverter(returnedType.getReturnedType(),
+					this.mappingContext);
+
+			// Neo4jQuerySupport ensure we will get an EntityInstanceWithSource in the
+			// projecting case
+			preparingConverter = source -> {
+				var unwrapped = (EntityInstanceWithSource) OptionalUnwrappingConverter.INSTANCE.convert(source);
+				return (unwrapped != null) ? converter.convert(unwrapped) : null;
+			};
+		}
+
+		return new QueryExecutionPlan(resultProcessor,
+				Collections.unmodifiableCollection(
+						PropertyFilterSupport.getInputProperties(resultProcessor, factory, this.mappingContext)),
+				getMappingFunction(resultProcessor, isGeoNearQuery, isVectorSearchQuery),
+				preparingConverter);
+	}
+
 	/**
 	 * Converts parameter as needed by the query generated, which is not covered by
 	 * standard conversion services.
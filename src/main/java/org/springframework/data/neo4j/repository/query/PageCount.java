@@ -0,0 +1,70 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+import org.apiguardian.api.API;
+
+/**
+ * Configures how the total number of elements of a
+ * {@link org.springframework.data.domain.Page} is computed. Can be put on query methods
+ * returning a page or on a repository interface, in which case it applies to all its
+ * paged query methods and to {@code findAll(Pageable)}.
+ * <p>
+ * A count that runs in parallel is executed in its own session on a separate thread and
+ * therefore does not participate in an ongoing transaction: It won't see any uncommitted
+ * changes. A cached count might be outdated by up to the configured duration.
+ *
+ * @author Michael J. Simons
+ * @since 8.2
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE, ElementType.ANNOTATION_TYPE })
+@Documented
+@API(status = API.Status.STABLE, since = "8.2")
+public @interface PageCount {
+
+	/**
+	 * Dispatches the count query before the query for the content and executes it in
+	 * parallel. This happens only when the requested page presumably needs a total, that
+	 * is, unless the last known total indicates that the page is the last one, and only
+	 * as long as the number of parallel counts stays below
+	 * {@code spring.data.neo4j.page-count.max-parallel}. Otherwise, the count is executed
+	 * on demand.
+	 * @return true if the count query should be run in parallel to the content query
+	 */
+	boolean parallel() default false;
+
+	/**
+	 * The duration for which a total is reused for the same count query and the same
+	 * parameters, {@literal 0} disables caching.
+	 * @return the duration for which a total is cached
+	 */
+	long cacheFor() default 0;
+
+	/**
+	 * The unit of {@link #cacheFor()}.
+	 * @return the time unit to use
+	 */
+	TimeUnit timeUnit() default TimeUnit.SECONDS;
+
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.LongSupplier;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.SpringProperties;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Computes the totals of pages as configured via {@link PageCount}, either in parallel to
+ * the query for the content, from a cache, or both. One instance is used per query method
+ * or repository.
+ * <p>
+ * The number of counts running in parallel is limited by
+ * {@value #MAX_PARALLEL_COUNTS_PROPERTY}, which defaults to twice the number of available
+ * processors. Counts exceeding that limit are executed on demand in the calling thread.
+ *
+ * @author Michael J. Simons
+ * @since 8.2
+ */
+@API(status = API.Status.INTERNAL, since = "8.2")
+public final class PageCounts {
+
+	/**
+	 * Name of the Spring property configuring how many counts may run in parallel at most.
+	 */
+	public static final String MAX_PARALLEL_COUNTS_PROPERTY = "spring.data.neo4j.page-count.max-parallel";
+
+	/**
+	 * Upper bound of cached totals per instance. When reached, expired totals are
+	 * evicted, and if that doesn't help, all of them.
+	 */
+	private static final int MAX_CACHED_TOTALS = 1024;
+
+	private static final Executor EXECUTOR = createExecutor();
+
+	private static final Semaphore PARALLEL_COUNTS = new Semaphore(getMaxParallelCounts());
+
+	private final boolean parallel;
+
+	private final long cacheForNanos;
+
+	private final Semaphore parallelCounts;
+
+	/**
+	 * The last totals per count query. They are used as cache if configured and otherwise
+	 * only as hint whether a total will be needed at all.
+	 */
+	private final Map<Object, CachedTotal> cachedTotals = new ConcurrentHashMap<>();
+
+	PageCounts(boolean parallel, long cacheForNanos, Semaphore parallelCounts) {
+		this.parallel = parallel;
+		this.cacheForNanos = cacheForNanos;
+		this.parallelCounts = parallelCounts;
+	}
+
+	/**
+	 * Creates a new instance if the given annotation requires any special treatment of
+	 * the count.
+	 * @param pageCount the configuration, might be {@literal null}
+	 * @return a new instance or {@literal null} if counts can be run as usual
+	 */
+	public static @Nullable PageCounts of(@Nullable PageCount pageCount) {
+		if (pageCount == null || !pageCount.parallel() && pageCount.cacheFor() <= 0) {
+			return null;
+		}
+		return new PageCounts(pageCount.parallel(), Math.max(0, pageCount.timeUnit().toNanos(pageCount.cacheFor())),
+				PARALLEL_COUNTS);
+	}
+
+	private static int getMaxParallelCounts() {
+		String value = SpringProperties.getProperty(MAX_PARALLEL_COUNTS_PROPERTY);
+		if (value == null) {
+			return 2 * Runtime.getRuntime().availableProcessors();
+		}
+		try {
+			return Math.max(0, Integer.parseInt(value.trim()));
+		}
+		catch (NumberFormatException ex) {
+			throw new IllegalArgumentException(
+					"Invalid value for %s: %s".formatted(MAX_PARALLEL_COUNTS_PROPERTY, value), ex);
+		}
+	}
+
+	private static Executor createExecutor() {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("sdn-page-count-");
+		executor.setDaemon(true);
+		try {
+			executor.setVirtualThreads(true);
+		}
+		catch (UnsupportedOperationException ex) {
+			// Virtual threads are only available on JDK 21 and higher
+		}
+		return executor;
+	}
+
+	/**
+	 * Starts computing a total. When run in parallel, the count is dispatched right away
+	 * if the requested page will presumably need it, so this method should be called
+	 * before the query for the content is executed. Otherwise, the count is executed on
+	 * demand.
+	 * @param key identifies the count query and its parameters
+	 * @param pageable the requested page
+	 * @param count the actual count query
+	 * @return a supplier for the total, blocking until it is available
+	 */
+	public LongSupplier start(Object key, Pageable pageable, LongSupplier count) {
+
+		CachedTotal lastTotal = this.cachedTotals.get(key);
+		if (lastTotal != null && this.cacheForNanos > 0
+				&& !lastTotal.isExpired(System.nanoTime(), this.cacheForNanos)) {
+			return lastTotal::value;
+		}
+
+		LongSupplier total = () -> store(key, count.getAsLong());
+		if (!this.parallel || !isTotalNeeded(pageable, lastTotal) || !this.parallelCounts.tryAcquire()) {
+			return total;
+		}
+
+		CompletableFuture<Long> futureTotal;
+		try {
+			futureTotal = CompletableFuture.supplyAsync(() -> {
+				try {
+					return total.getAsLong();
+				}
+				finally {
+					this.parallelCounts.release();
+				}
+			}, EXECUTOR);
+		}
+		catch (RejectedExecutionException ex) {
+			this.parallelCounts.release();
+			return total;
+		}
+		return () -> {
+			try {
+				return futureTotal.join();
+			}
+			catch (CompletionException ex) {
+				if (ex.getCause() instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				throw ex;
+			}
+		};
+	}
+
+	/**
+	 * A page derives its total from its content when it is the first page and not full,
+	 * or when it is the last page (see
+	 * {@link org.springframework.data.support.PageableExecutionUtils}). Whether the
+	 * requested page is the last one can only be guessed from the last known total.
+	 * @param pageable the requested page
+	 * @param lastTotal the last known total, if any
+	 * @return true if the count query will presumably be needed
+	 */
+	private static boolean isTotalNeeded(Pageable pageable, @Nullable CachedTotal lastTotal) {
+
+		if (pageable.isUnpaged()) {
+			return false;
+		}
+		if (lastTotal == null) {
+			return true;
+		}
+		long offset = pageable.getOffset();
+		return offset + pageable.getPageSize() <= lastTotal.value() || offset > 0 && offset >= lastTotal.value();
+	}
+
+	private long store(Object key, long value) {
+
+		long now = System.nanoTime();
+		if (this.cachedTotals.size() >= MAX_CACHED_TOTALS && this.cacheForNanos > 0) {
+			this.cachedTotals.values().removeIf(cachedTotal -> cachedTotal.isExpired(now, this.cacheForNanos));
+		}
+		if (this.cachedTotals.size() >= MAX_CACHED_TOTALS) {
+			this.cachedTotals.clear();
+		}
+		this.cachedTotals.put(key, new CachedTotal(value, now));
+		return value;
+	}
+
+	private record CachedTotal(long value, long createdAt) {
+
+		boolean isExpired(long now, long cacheForNanos) {
+			return now - this.createdAt >= cacheForNanos;
+		}
+
+	}
+
+}
@@ -45,6 +45,8 @@ final class PartTreeNeo4jQuery extends AbstractNeo4jQuery {
 
 	private final PartTree tree;
 
+	private final PartTreeQueryCache queryCache;
+
 	private PartTreeNeo4jQuery(Neo4jOperations neo4jOperations, Neo4jMappingContext mappingContext,
 			Neo4jQueryMethod queryMethod, PartTree tree, ProjectionFactory factory) {
 		super(neo4jOperations, mappingContext, queryMethod, Neo4jQueryType.fromPartTree(tree), factory);
@@ -53,6 +55,7 @@ final class PartTreeNeo4jQuery extends AbstractNeo4jQuery {
 		// Validate parts. Sort properties will be validated by Spring Data already.
 		PartValidator validator = new PartValidator(mappingContext, queryMethod);
 		this.tree.flatMap(OrPart::stream).forEach(validator::validatePart);
+		this.queryCache = new PartTreeQueryCache(queryMethod, tree, this::convertParameter);
 	}
 
 	static RepositoryQuery create(Neo4jOperations neo4jOperations, Neo4jMappingContext mappingContext,
@@ -73,12 +76,13 @@ final class PartTreeNeo4jQuery extends AbstractNeo4jQuery {
 			@Nullable Supplier<BiFunction<TypeSystem, MapAccessor, ?>> mappingFunction,
 			UnaryOperator<Integer> limitModifier) {
 
-		CypherQueryCreator queryCreator = new CypherQueryCreator(this.mappingContext, this.queryMethod,
-				getDomainType(this.queryMethod),
-				Optional.ofNullable(queryType).orElseGet(() -> Neo4jQueryType.fromPartTree(this.tree)), this.tree,
-				parameterAccessor, includedProperties, this::convertParameter, limitModifier);
-
-		QueryFragmentsAndParameters queryAndParameters = queryCreator.createQuery();
+		Neo4jQueryType resolvedQueryType = Optional.ofNullable(queryType)
+			.orElseGet(() -> Neo4jQueryType.fromPartTree(this.tree));
+		QueryFragmentsAndParameters queryAndParameters = this.queryCache.createQuery(resolvedQueryType,
+				includedProperties, parameterAccessor, limitModifier,
+				() -> new CypherQueryCreator(this.mappingContext, this.queryMethod, getDomainType(this.queryMethod),
+						resolvedQueryType, this.tree, parameterAccessor, includedProperties, this::convertParameter,
+						limitModifier));
 		return PreparedQuery.queryFor(returnedType)
 			.withQueryFragmentsAndParameters(queryAndParameters)
 			.usingMappingFunction(mappingFunction)
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.core.convert.Neo4jPersistentPropertyConverter;
+import org.springframework.data.neo4j.core.mapping.NodeDescription;
+import org.springframework.data.neo4j.core.mapping.PropertyFilter;
+import org.springframework.data.repository.query.parser.PartTree;
+
+/**
+ * Caches the query fragments created by a {@link CypherQueryCreator} for a derived finder
+ * method. The fragments only depend on the shape of an invocation: The query type, the
+ * projected properties, the dynamic sort, the effective limit and the types of the actual
+ * parameters (including {@literal null} values and the bounds of ranges). For invocations
+ * with a known shape, only the parameter values are converted and bound again.
+ * <p>
+ * Scroll queries, paged invocations and vector searches are never cached, as their
+ * fragments depend on actual parameter values such as the offset and size of a page. The number of cached shapes per method is bounded, shapes
+ * exceeding the capacity are just not cached.
+ *
+ * @author Michael J. Simons
+ * @since 8.2
+ */
+final class PartTreeQueryCache {
+
+	/**
+	 * Default number of shapes cached per query method.
+	 */
+	static final int DEFAULT_CAPACITY = 32;
+
+	private final Neo4jQueryMethod queryMethod;
+
+	private final PartTree tree;
+
+	private final BiFunction<Object, Neo4jPersistentPropertyConverter<?>, Object> parameterConversion;
+
+	private final int capacity;
+
+	private final Map<Shape, QueryTemplate> templates = new ConcurrentHashMap<>();
+
+	PartTreeQueryCache(Neo4jQueryMethod queryMethod, PartTree tree,
+			BiFunction<Object, Neo4jPersistentPropertyConverter<?>, Object> parameterConversion) {
+		this(queryMethod, tree, parameterConversion, DEFAULT_CAPACITY);
+	}
+
+	PartTreeQueryCache(Neo4jQueryMethod queryMethod, PartTree tree,
+			BiFunction<Object, Neo4jPersistentPropertyConverter<?>, Object> parameterConversion, int capacity) {
+		this.queryMethod = queryMethod;
+		this.tree = tree;
+		this.parameterConversion = parameterConversion;
+		this.capacity = capacity;
+	}
+
+	private static Object shapeOf(@Nullable Object value) {
+		if (value == null) {
+			return Void.class;
+		}
+		else if (value instanceof Range<?> range) {
+			return new RangeShape(range.getLowerBound().isBounded(), range.getLowerBound().isInclusive(),
+					range.getUpperBound().isBounded(), range.getUpperBound().isInclusive());
+		}
+		return value.getClass();
+	}
+
+	/**
+	 * Retrieves the query fragments for the given invocation from the cache or creates
+	 * them using the query creator provided by the supplier.
+	 * @param queryType the type of the query to create
+	 * @param includedProperties the properties to return
+	 * @param parameterAccessor the actual parameters
+	 * @param limitModifier modifier to the limit of the derived query
+	 * @param queryCreator supplier of a new query creator, used for unknown shapes
+	 * @return query fragments and parameters for the given invocation
+	 */
+	QueryFragmentsAndParameters createQuery(Neo4jQueryType queryType,
+			Collection<PropertyFilter.ProjectedPath> includedProperties, Neo4jParameterAccessor parameterAccessor,
+			UnaryOperator<Integer> limitModifier, Supplier<CypherQueryCreator> queryCreator) {
+
+		if (this.queryMethod.isScrollQuery() || this.queryMethod.hasVectorSearchAnnotation()
+				|| parameterAccessor.getPageable().isPaged()) {
+			return queryCreator.get().createQuery();
+		}
+
+		List<@Nullable Object> values = new ArrayList<>();
+		parameterAccessor.iterator().forEachRemaining(values::add);
+
+		Shape shape = Shape.of(queryType, includedProperties, parameterAccessor,
+				this.tree.isLimiting() ? limitModifier.apply(this.tree.getMaxResults()) : null, values);
+		QueryTemplate template = this.templates.get(shape);
+		if (template != null) {
+			return template.bind(values, this.parameterConversion);
+		}
+
+		CypherQueryCreator creator = queryCreator.get();
+		QueryFragmentsAndParameters queryFragmentsAndParameters = creator.createQuery();
+		if (this.templates.size() < this.capacity) {
+			this.templates.putIfAbsent(shape, QueryTemplate.of(queryFragmentsAndParameters, creator));
+		}
+		return queryFragmentsAndParameters;
+	}
+
+	int size() {
+		return this.templates.size();
+	}
+
+	private record RangeShape(boolean lowerBounded, boolean lowerInclusive, boolean upperBounded,
+			boolean upperInclusive) {
+	}
+
+	private record Shape(Neo4jQueryType queryType, List<PropertyFilter.ProjectedPath> includedProperties, Sort sort,
+			Sort pageableSort, @Nullable Integer limit, List<Object> parameters) {
+
+		static Shape of(Neo4jQueryType queryType, Collection<PropertyFilter.ProjectedPath> includedProperties,
+				Neo4jParameterAccessor parameterAccessor, @Nullable Integer limit, List<@Nullable Object> values) {
+
+			List<Object> parameters = new ArrayList<>(values.size());
+			for (Object value : values) {
+				parameters.add(shapeOf(value));
+			}
+			return new Shape(queryType, List.copyOf(includedProperties), parameterAccessor.getSort(),
+					parameterAccessor.getPageable().getSort(), limit, parameters);
+		}
+	}
+
+	private record ParameterBinding(String nameOrIndex, int position,
+			@Nullable Neo4jPersistentPropertyConverter<?> conversionOverride) {
+	}
+
+	/**
+	 * The reusable parts of a derived query. The query fragments are not modified after
+	 * creation and can therefore be shared between invocations.
+	 */
+	private record QueryTemplate(@Nullable NodeDescription<?> nodeDescription, QueryFragments queryFragments, Sort sort,
+			List<ParameterBinding> parameterBindings) {
+
+		static QueryTemplate of(QueryFragmentsAndParameters queryFragmentsAndParameters, CypherQueryCreator creator) {
+			List<ParameterBinding> parameterBindings = creator.getBoundedParameters()
+				.stream()
+				.map(p -> new ParameterBinding(p.nameOrIndex, p.position, p.conversionOverride))
+				.toList();
+			return new QueryTemplate(queryFragmentsAndParameters.getNodeDescription(),
+					queryFragmentsAndParameters.getQueryFragments(), queryFragmentsAndParameters.getSort(),
+					parameterBindings);
+		}
+
+		QueryFragmentsAndParameters bind(List<@Nullable Object> values,
+				BiFunction<Object, Neo4jPersistentPropertyConverter<?>, Object> parameterConversion) {
+
+			Map<String, Object> convertedParameters = new HashMap<>(this.parameterBindings.size());
+			for (ParameterBinding binding : this.parameterBindings) {
+				Object value = values.get(binding.position());
+				Neo4jQuerySupport.logParameterIfNull(binding.nameOrIndex(), value);
+				convertedParameters.put(binding.nameOrIndex(),
+						parameterConversion.apply(value, binding.conversionOverride()));
+			}
+			return new QueryFragmentsAndParameters(this.nodeDescription, this.queryFragments, convertedParameters,
+					this.sort);
+		}
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.Collection;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+import org.neo4j.driver.types.MapAccessor;
+import org.neo4j.driver.types.TypeSystem;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.neo4j.core.mapping.PropertyFilter;
+import org.springframework.data.repository.query.ResultProcessor;
+
+/**
+ * Everything the execution of a query method needs that does not depend on the actual
+ * arguments. A plan is computed once per query method and reused for all invocations,
+ * unless the method uses a dynamic projection, in which case the shape of the result is
+ * only known at runtime.
+ *
+ * @author Michael J. Simons
+ * @param resultProcessor the result processor, with a dynamic projection already applied
+ * @param includedProperties the properties to fetch, empty when all properties are
+ * fetched
+ * @param mappingFunction the supplier of the mapping function, to be called once per
+ * execution, as a mapping function keeps track of the instances it has mapped
+ * @param preparingConverter the converter applied before processing the results, turning
+ * mapped entities into DTOs if necessary
+ */
+record QueryExecutionPlan(ResultProcessor resultProcessor, Collection<PropertyFilter.ProjectedPath> includedProperties,
+		Supplier<BiFunction<TypeSystem, MapAccessor, ?>> mappingFunction,
+		Converter<Object, Object> preparingConverter) {
+
+}
@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 
@@ -34,6 +35,7 @@ import org.neo4j.cypherdsl.core.SortItem;
 import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.cypherdsl.core.StatementBuilder;
 
+import org.springframework.data.neo4j.core.RelatedNodesLoadingStrategy;
 import org.springframework.data.neo4j.core.mapping.Constants;
 import org.springframework.data.neo4j.core.mapping.CypherGenerator;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
@@ -84,6 +86,16 @@ public final class QueryFragments {
 	@Nullable
 	private Predicate<PropertyFilter.RelaxedPropertyPath> projectingPropertyFilter;
 
+	/**
+	 * The keyed predicate returned by {@link #getIncludeField()}, computed on first use
+	 * and reset when the projecting filter or the return tuple changes.
+	 */
+	@Nullable
+	private Predicate<PropertyFilter.RelaxedPropertyPath> includeField;
+
+	@Nullable
+	private RelatedNodesLoadingStrategy relatedNodesLoadingStrategy;
+
 	// Yeah, would be kinda nice having a simple method in Cypher-DSL ;)
 	private static SortItem reverse(SortItem sortItem) {
 
@@ -143,6 +155,7 @@ public final class QueryFragments {
 	public void setProjectingPropertyFilter(
 			@Nullable Predicate<PropertyFilter.RelaxedPropertyPath> projectingPropertyFilter) {
 		this.projectingPropertyFilter = projectingPropertyFilter;
+		this.includeField = null;
 	}
 
 	public boolean includeField(PropertyFilter.RelaxedPropertyPath fieldName) {
@@ -150,10 +163,41 @@ public final class QueryFragments {
 				&& (this.returnTuple == null || this.returnTuple.include(fieldName));
 	}
 
+	/**
+	 * Returns {@link #includeField(PropertyFilter.RelaxedPropertyPath)} as a predicate.
+	 * The predicate carries a canonical key of the included properties if possible, so
+	 * that walks over the domain model depending on it can be memoized.
+	 * @return a predicate deciding which fields are included
+	 * @since 8.2
+	 */
+	public Predicate<PropertyFilter.RelaxedPropertyPath> getIncludeField() {
+
+		Predicate<PropertyFilter.RelaxedPropertyPath> result = this.includeField;
+		if (result == null) {
+			result = computeIncludeField();
+			this.includeField = result;
+		}
+		return result;
+	}
+
+	private Predicate<PropertyFilter.RelaxedPropertyPath> computeIncludeField() {
+
+		Object projectingKey = (this.projectingPropertyFilter != null)
+				? PropertyFilter.keyOf(this.projectingPropertyFilter) : PropertyFilter.NO_FILTER;
+		if (projectingKey == null) {
+			return this::includeField;
+		}
+		IncludeFieldKey key = (this.returnTuple != null)
+				? new IncludeFieldKey(projectingKey, this.returnTuple.nodeDescription, this.returnTuple.projectedPaths)
+				: new IncludeFieldKey(projectingKey, null, Set.of());
+		return PropertyFilter.withKey(key, this::includeField);
+	}
+
 	public void setReturnBasedOn(NodeDescription<?> nodeDescription,
 			Collection<PropertyFilter.ProjectedPath> includedProperties, boolean isDistinct,
 			List<Expression> additionalExpressions) {
 		this.returnTuple = new ReturnTuple(nodeDescription, includedProperties, isDistinct, additionalExpressions);
+		this.includeField = null;
 	}
 
 	public boolean isScalarValueReturn() {
@@ -164,6 +208,26 @@ public final class QueryFragments {
 		this.requiresReverseSort = requiresReverseSort;
 	}
 
+	/**
+	 * Returns the strategy for loading related nodes of entities with possible cycles.
+	 * @return the strategy to use or {@literal null} to use the default of the template
+	 * @since 8.2
+	 */
+	@Nullable public RelatedNodesLoadingStrategy getRelatedNodesLoadingStrategy() {
+		return this.relatedNodesLoadingStrategy;
+	}
+
+	/**
+	 * Configures the strategy for loading related nodes of entities with possible cycles
+	 * for this query.
+	 * @param relatedNodesLoadingStrategy the strategy to use, {@literal null} to use the
+	 * default of the template
+	 * @since 8.2
+	 */
+	public void setRelatedNodesLoadingStrategy(@Nullable RelatedNodesLoadingStrategy relatedNodesLoadingStrategy) {
+		this.relatedNodesLoadingStrategy = relatedNodesLoadingStrategy;
+	}
+
 	public Statement toStatement() {
 
 		if (this.matchOn.isEmpty()) {
@@ -245,14 +309,14 @@ public final class QueryFragments {
 	private Collection<Expression> getReturnExpressionsForVectorSearch() {
 		return (this.returnExpressions.isEmpty() && this.returnTuple != null) ? CypherGenerator.INSTANCE
 			.createReturnStatementForMatch((Neo4jPersistentEntity<?>) this.returnTuple.nodeDescription,
-					this::includeField, this.returnTuple.additionalExpressions.toArray(Expression[]::new))
+					getIncludeField(), this.returnTuple.additionalExpressions.toArray(Expression[]::new))
 				: this.returnExpressions;
 	}
 
 	private Collection<Expression> getReturnExpressions() {
 		return (this.returnExpressions.isEmpty() && this.returnTuple != null) ? CypherGenerator.INSTANCE
 			.createReturnStatementForMatch((Neo4jPersistentEntity<?>) this.returnTuple.nodeDescription,
-					this::includeField, this.returnTuple.additionalExpressions.toArray(Expression[]::new))
+					getIncludeField(), this.returnTuple.additionalExpressions.toArray(Expression[]::new))
 				: this.returnExpressions;
 	}
 
@@ -301,6 +365,10 @@ public final class QueryFragments {
 		this.skip = skip;
 	}
 
+	private record IncludeFieldKey(Object projectingKey, @Nullable NodeDescription<?> nodeDescription,
+			Set<PropertyFilter.ProjectedPath> projectedPaths) {
+	}
+
 	/**
 	 * Describes which fields of an entity needs to get returned.
 	 */
@@ -310,6 +378,8 @@ public final class QueryFragments {
 
 		final PropertyFilter filteredProperties;
 
+		final Set<PropertyFilter.ProjectedPath> projectedPaths;
+
 		final boolean isDistinct;
 
 		final List<Expression> additionalExpressions;
@@ -319,6 +389,7 @@ public final class QueryFragments {
 				List<Expression> additionalExpressions) {
 			this.nodeDescription = nodeDescription;
 			this.filteredProperties = PropertyFilter.from(filteredProperties, nodeDescription);
+			this.projectedPaths = Set.copyOf(filteredProperties);
 			this.isDistinct = isDistinct;
 			this.additionalExpressions = List.copyOf(additionalExpressions);
 		}
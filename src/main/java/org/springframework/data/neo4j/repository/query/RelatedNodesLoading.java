@@ -0,0 +1,47 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+
+import org.springframework.data.neo4j.core.RelatedNodesLoadingStrategy;
+
+/**
+ * Selects the strategy for loading the related nodes of entities that might contain
+ * cycles for a derived finder method, overriding the default of the template.
+ *
+ * @author Michael J. Simons
+ * @since 8.2
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+@Documented
+@API(status = API.Status.STABLE, since = "8.2")
+public @interface RelatedNodesLoading {
+
+	/**
+	 * The strategy to use.
+	 * @return the strategy for loading related nodes
+	 */
+	RelatedNodesLoadingStrategy value();
+
+}
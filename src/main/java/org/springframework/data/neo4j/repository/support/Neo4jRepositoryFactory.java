@@ -22,12 +22,15 @@ import org.neo4j.cypherdsl.core.renderer.Configuration;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.neo4j.core.Neo4jOperations;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.repository.Neo4jRepository;
 import org.springframework.data.neo4j.repository.query.CypherdslConditionExecutorImpl;
 import org.springframework.data.neo4j.repository.query.Neo4jQueryLookupStrategy;
+import org.springframework.data.neo4j.repository.query.PageCount;
+import org.springframework.data.neo4j.repository.query.PageCounts;
 import org.springframework.data.neo4j.repository.query.QuerydslNeo4jPredicateExecutor;
 import org.springframework.data.neo4j.repository.query.SimpleQueryByExampleExecutor;
 import org.springframework.data.projection.ProjectionFactory;
@@ -76,7 +79,12 @@ final class Neo4jRepositoryFactory extends RepositoryFactorySupport {
 
 		Neo4jEntityInformation<?, ?> entityInformation = getEntityInformation(metadata);
 		Neo4jRepositoryFactorySupport.assertIdentifierType(metadata.getIdType(), entityInformation.getIdType());
-		return getTargetRepositoryViaReflection(metadata, this.neo4jOperations, entityInformation);
+		Object repository = getTargetRepositoryViaReflection(metadata, this.neo4jOperations, entityInformation);
+		if (repository instanceof SimpleNeo4jRepository<?, ?> simpleNeo4jRepository) {
+			simpleNeo4jRepository.setPageCounts(PageCounts
+				.of(AnnotatedElementUtils.findMergedAnnotation(metadata.getRepositoryInterface(), PageCount.class)));
+		}
+		return repository;
 	}
 
 	@Override
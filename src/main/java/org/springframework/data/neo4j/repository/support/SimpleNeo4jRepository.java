@@ -23,6 +23,7 @@ import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -30,6 +31,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.core.Neo4jOperations;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.repository.query.PageCounts;
 import org.springframework.data.neo4j.repository.query.QueryFragmentsAndParameters;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
@@ -59,6 +61,9 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 
 	private final Neo4jPersistentEntity<T> entityMetaData;
 
+	@Nullable
+	private PageCounts pageCounts;
+
 	protected SimpleNeo4jRepository(Neo4jOperations neo4jOperations, Neo4jEntityInformation<T, ID> entityInformation) {
 
 		this.neo4jOperations = neo4jOperations;
@@ -66,6 +71,14 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 		this.entityMetaData = this.entityInformation.getEntityMetaData();
 	}
 
+	/**
+	 * Configures how the total of {@link #findAll(Pageable)} is computed.
+	 * @param pageCounts the page counts to use, {@literal null} for a plain count
+	 */
+	void setPageCounts(@Nullable PageCounts pageCounts) {
+		this.pageCounts = pageCounts;
+	}
+
 	@Override
 	public Optional<T> findById(ID id) {
 
@@ -95,12 +108,13 @@ public class SimpleNeo4jRepository<T, ID> implements PagingAndSortingRepository<
 
 	@Override
 	public Page<T> findAll(Pageable pageable) {
+		LongSupplier totalCountSupplier = (this.pageCounts != null)
+				? this.pageCounts.start(this.entityInformation.getJavaType(), pageable, this::count) : this::count;
 		List<T> allResult = this.neo4jOperations
 			.toExecutableQuery(this.entityInformation.getJavaType(),
 					QueryFragmentsAndParameters.forPageableAndSort(this.entityMetaData, pageable, null))
 			.getResults();
 
-		LongSupplier totalCountSupplier = this::count;
 		return PageableExecutionUtils.getPage(allResult, pageable, totalCountSupplier);
 	}
 
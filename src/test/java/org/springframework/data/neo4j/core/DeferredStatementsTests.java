@@ -0,0 +1,99 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ */
+class DeferredStatementsTests {
+
+	private static final String CREATE_RELATIONSHIPS = "UNWIND $rows AS row MATCH (s) WHERE s.id = row.fromId MATCH (e) WHERE e.id = row.toId MERGE (s)-[:KNOWS]->(e)";
+
+	private final List<List<DeferredStatements.DeferredStatement>> executed = new ArrayList<>();
+
+	private final DeferredStatements deferredStatements = new DeferredStatements(this, this.executed::add);
+
+	private static DeferredStatements.DeferredStatement statement(String cypher, Map<String, Object> parameters) {
+		return new DeferredStatements.DeferredStatement(DatabaseSelection.undecided(), UserSelection.connectedUser(),
+				cypher, parameters, "rows");
+	}
+
+	private static DeferredStatements.DeferredStatement statementWithoutRows(String cypher,
+			Map<String, Object> parameters) {
+		return new DeferredStatements.DeferredStatement(DatabaseSelection.undecided(), UserSelection.connectedUser(),
+				cypher, parameters, null);
+	}
+
+	@Test
+	void shouldCoalesceConsecutiveUnwindsOfTheSameStatement() {
+
+		this.deferredStatements.add(statement(CREATE_RELATIONSHIPS, Map.of("rows", List.of(1, 2), "x", "y")));
+		this.deferredStatements.add(statement(CREATE_RELATIONSHIPS, Map.of("rows", List.of(3), "x", "y")));
+
+		List<DeferredStatements.DeferredStatement> statements = this.deferredStatements.drain();
+		assertThat(statements).hasSize(1);
+		assertThat(statements.get(0).parameters()).containsEntry("rows", List.of(1, 2, 3)).containsEntry("x", "y");
+		assertThat(this.deferredStatements.drain()).isEmpty();
+	}
+
+	@Test
+	void shouldKeepOrderAndNotCoalesceOtherwise() {
+
+		this.deferredStatements.add(statement(CREATE_RELATIONSHIPS, Map.of("rows", List.of(1), "x", "y")));
+		this.deferredStatements.add(statement(CREATE_RELATIONSHIPS, Map.of("rows", List.of(2), "x", "z")));
+		this.deferredStatements
+			.add(statement("MATCH (n) WHERE n.id IN $rows DETACH DELETE n", Map.of("rows", List.of(3))));
+		this.deferredStatements
+			.add(statement("MATCH (n) WHERE n.id IN $rows DETACH DELETE n", Map.of("rows", List.of(4))));
+		this.deferredStatements.add(statement(CREATE_RELATIONSHIPS, Map.of("rows", List.of(5), "x", "z")));
+
+		assertThat(this.deferredStatements.drain()).extracting(s -> s.parameters().get("rows"))
+			.containsExactly(List.of(1), List.of(2), List.of(3), List.of(4), List.of(5));
+	}
+
+	@Test
+	void shouldNotCoalesceStatementsDeferredWithoutRows() {
+
+		String aggregation = "UNWIND $rows AS row MATCH (n) WHERE n.id = row RETURN count(n)";
+		this.deferredStatements.add(statementWithoutRows(aggregation, Map.of("rows", List.of(1))));
+		this.deferredStatements.add(statementWithoutRows(aggregation, Map.of("rows", List.of(2))));
+
+		assertThat(this.deferredStatements.drain()).extracting(s -> s.parameters().get("rows"))
+			.containsExactly(List.of(1), List.of(2));
+	}
+
+	@Test
+	void shouldExecutePendingStatementsBeforeCommit() {
+
+		this.deferredStatements.beforeCommit(false);
+		assertThat(this.executed).isEmpty();
+
+		this.deferredStatements.add(statement(CREATE_RELATIONSHIPS, Map.of("rows", List.of(1))));
+		this.deferredStatements.beforeCommit(false);
+		assertThat(this.executed).hasSize(1);
+		assertThat(this.executed.get(0)).hasSize(1);
+		assertThat(this.deferredStatements.drain()).isEmpty();
+	}
+
+}
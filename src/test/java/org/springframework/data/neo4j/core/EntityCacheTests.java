@@ -0,0 +1,301 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.data.annotation.Version;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.schema.CacheableNode;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ */
+class EntityCacheTests {
+
+	private InMemoryEntityCache entityCache;
+
+	private EntityCacheSupport entityCacheSupport;
+
+	@BeforeEach
+	void setupCache() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(Country.class, Capital.class, Continent.class, Tenant.class));
+		mappingContext.initialize();
+		this.entityCache = new InMemoryEntityCache(2);
+		this.entityCacheSupport = new EntityCacheSupport(this.entityCache, mappingContext);
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsedEntries() {
+
+		this.entityCache.put(Country.class, "a", new Country("a"));
+		this.entityCache.put(Country.class, "b", new Country("b"));
+		this.entityCache.get(Country.class, "a");
+		this.entityCache.put(Country.class, "c", new Country("c"));
+
+		assertThat(this.entityCache.peek(Country.class, "a")).isNotNull();
+		assertThat(this.entityCache.peek(Country.class, "b")).isNull();
+		assertThat(this.entityCache.getStatistics()).isEqualTo(new EntityCache.Statistics(1, 0, 1, 2));
+	}
+
+	@Test
+	void shouldExpireEntries() {
+
+		MutableClock clock = new MutableClock();
+		InMemoryEntityCache expiringCache = new InMemoryEntityCache(10, Duration.ofSeconds(10), clock);
+		expiringCache.put(Country.class, "a", new Country("a"));
+
+		clock.advance(Duration.ofSeconds(9));
+		assertThat(expiringCache.get(Country.class, "a")).isNotNull();
+		clock.advance(Duration.ofSeconds(1));
+		assertThat(expiringCache.get(Country.class, "a")).isNull();
+		assertThat(expiringCache.getStatistics().hitRatio()).isEqualTo(0.5);
+	}
+
+	@Test
+	void shouldCacheOnlyCacheableEntitiesInTheRegionOfTheirHierarchy() {
+
+		Capital capital = new Capital("a");
+		this.entityCacheSupport.put(capital);
+		this.entityCacheSupport.put(new Tenant("b"));
+
+		assertThat(this.entityCacheSupport.isCacheable(Tenant.class)).isFalse();
+		assertThat(this.entityCache.peek(Country.class, "a")).isSameAs(capital);
+		assertThat(this.entityCacheSupport.get(Country.class, "a")).isSameAs(capital);
+		assertThat(this.entityCacheSupport.get(Capital.class, "a")).isSameAs(capital);
+		assertThat(this.entityCache.getStatistics().size()).isOne();
+	}
+
+	@Test
+	void shouldNotReturnInstancesOfOtherTypes() {
+
+		this.entityCacheSupport.put(new Country("a"));
+
+		assertThat(this.entityCacheSupport.get(Capital.class, "a")).isNull();
+	}
+
+	@Test
+	void shouldEvictWrittenEntities() {
+
+		Country country = new Country("a");
+		this.entityCacheSupport.put(country);
+		this.entityCacheSupport.put(new Country("b"));
+
+		this.entityCacheSupport.evict(country);
+		assertThat(this.entityCache.peek(Country.class, "a")).isNull();
+
+		this.entityCacheSupport.evictById(Capital.class, "b");
+		assertThat(this.entityCache.peek(Country.class, "b")).isNull();
+	}
+
+	@Test
+	void shouldEvictEntitiesHoldingWrittenRelatedEntities() {
+
+		this.entityCacheSupport.put(new Country("a"));
+		this.entityCacheSupport.put(new Country("b"));
+
+		this.entityCacheSupport.evict(new Tenant("c"));
+		assertThat(this.entityCache.getStatistics().size()).isEqualTo(2);
+
+		this.entityCacheSupport.evict(new Continent("Europe"));
+		assertThat(this.entityCache.getStatistics().size()).isZero();
+
+		this.entityCacheSupport.put(new Country("a"));
+		this.entityCacheSupport.evictById(Continent.class, "Europe");
+		assertThat(this.entityCache.peek(Country.class, "a")).isNull();
+	}
+
+	@Test
+	void shouldEvictEntitiesHoldingWrittenRelatedEntitiesInReactiveFlows() {
+
+		this.entityCacheSupport.put(new Country("a"));
+
+		StepVerifier.create(this.entityCacheSupport.evictAllByIdReactive(Continent.class, Set.of("Europe")))
+			.verifyComplete();
+		assertThat(this.entityCache.peek(Country.class, "a")).isNull();
+	}
+
+	@Test
+	void shouldEvictWrittenEntitiesInReactiveFlows() {
+
+		this.entityCacheSupport.put(new Country("a"));
+		this.entityCacheSupport.put(new Country("b"));
+
+		StepVerifier.create(this.entityCacheSupport.evictReactive(new Country("a"))
+			.then(this.entityCacheSupport.evictAllByIdReactive(Capital.class, Set.of("b")))).verifyComplete();
+		assertThat(this.entityCache.getStatistics().size()).isZero();
+	}
+
+	@Test
+	void shouldEvictEntitiesWrittenInAReactiveTransactionAgainAfterRollback() {
+
+		TransactionalOperator transactionalOperator = TransactionalOperator
+			.create(new NoopReactiveTransactionManager());
+		Country country = new Country("a");
+		Mono<Void> writeAndLoad = this.entityCacheSupport.evictReactive(country)
+			// Loaded again with the uncommitted state of the transaction
+			.then(Mono.fromRunnable(() -> this.entityCacheSupport.put(country)))
+			.then(Mono.error(new IllegalStateException("Rolling back")));
+
+		StepVerifier.create(transactionalOperator.transactional(writeAndLoad)).verifyError(IllegalStateException.class);
+		assertThat(this.entityCache.peek(Country.class, "a")).isNull();
+	}
+
+	@Test
+	void shouldEvictStaleVersions() {
+
+		Country cached = new Country("a");
+		cached.version = 1L;
+		this.entityCacheSupport.put(cached);
+
+		Country sameVersion = new Country("a");
+		sameVersion.version = 1L;
+		this.entityCacheSupport.evictIfStale(sameVersion);
+		assertThat(this.entityCache.peek(Country.class, "a")).isSameAs(cached);
+
+		Country newerVersion = new Country("a");
+		newerVersion.version = 2L;
+		this.entityCacheSupport.evictIfStale(newerVersion);
+		assertThat(this.entityCache.peek(Country.class, "a")).isNull();
+	}
+
+	@Node
+	@CacheableNode
+	static class Country {
+
+		@Id
+		final String code;
+
+		@Version
+		Long version;
+
+		@Relationship("LOCATED_ON")
+		Continent continent;
+
+		Country(String code) {
+			this.code = code;
+		}
+
+	}
+
+	@Node
+	static class Capital extends Country {
+
+		Capital(String code) {
+			super(code);
+		}
+
+	}
+
+	@Node
+	static class Continent {
+
+		@Id
+		final String name;
+
+		Continent(String name) {
+			this.name = name;
+		}
+
+	}
+
+	@Node
+	static class Tenant {
+
+		@Id
+		final String name;
+
+		Tenant(String name) {
+			this.name = name;
+		}
+
+	}
+
+	static class NoopReactiveTransactionManager extends AbstractReactiveTransactionManager {
+
+		@Override
+		protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+			return new Object();
+		}
+
+		@Override
+		protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+				TransactionDefinition definition) {
+			return Mono.empty();
+		}
+
+		@Override
+		protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+				GenericReactiveTransaction status) {
+			return Mono.empty();
+		}
+
+		@Override
+		protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+				GenericReactiveTransaction status) {
+			return Mono.empty();
+		}
+
+	}
+
+	static class MutableClock extends Clock {
+
+		private Instant instant = Instant.EPOCH;
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneOffset getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Values;
+
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ */
+class EntitySnapshotsTests {
+
+	private Neo4jMappingContext mappingContext;
+
+	private Neo4jPersistentEntity<?> entity;
+
+	private EntitySnapshots snapshots;
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> properties(Map<String, Object> row) {
+		return (Map<String, Object>) row.get(Constants.NAME_OF_PROPERTIES_PARAM);
+	}
+
+	@BeforeEach
+	void setupMappingContext() {
+
+		this.mappingContext = new Neo4jMappingContext();
+		this.mappingContext.setInitialEntitySet(Set.of(Person.class));
+		this.mappingContext.initialize();
+		this.entity = this.mappingContext.getRequiredPersistentEntity(Person.class);
+		this.snapshots = new EntitySnapshots(this.mappingContext);
+	}
+
+	@Test
+	void shouldTrackIdsOfPlainRelationshipsOnly() {
+
+		Person a = new Person("a");
+		Person b = new Person("b");
+		a.knows = List.of(b);
+		a.relatives = Map.of("SIBLING", b);
+
+		this.snapshots.take(a);
+
+		assertThat(this.snapshots.getRelatedIds(this.entity, "a", relationship("knows"))).containsExactly("b");
+		assertThat(this.snapshots.getRelatedIds(this.entity, "b", relationship("knows"))).isEmpty();
+		assertThat(this.snapshots.getRelatedIds(this.entity, "c", relationship("knows"))).isNull();
+		assertThat(this.snapshots.getRelatedIds(this.entity, "a", relationship("relatives"))).isNull();
+	}
+
+	@Test
+	void shouldBindOnlyChangedProperties() {
+
+		Person a = new Person("a");
+		a.age = 42;
+		this.snapshots.take(a);
+
+		EntitySnapshots.ChangedPropertiesBinder<Person> binderFunction = this.snapshots
+			.retainChangedProperties(this.entity, this.mappingContext.getRequiredBinderFunctionFor(Person.class));
+		assertThat(properties(binderFunction.apply(a))).isEmpty();
+
+		a.age = 43;
+		assertThat(properties(binderFunction.apply(a))).containsExactly(Map.entry("age", Values.value(43)));
+		binderFunction.written();
+		assertThat(properties(binderFunction.apply(a))).isEmpty();
+	}
+
+	@Test
+	void shouldBindAllPropertiesOfUnknownInstances() {
+
+		Person a = new Person("a");
+		a.age = 42;
+
+		EntitySnapshots.ChangedPropertiesBinder<Person> binderFunction = this.snapshots
+			.retainChangedProperties(this.entity, this.mappingContext.getRequiredBinderFunctionFor(Person.class));
+		assertThat(properties(binderFunction.apply(a))).containsEntry("age", Values.value(42));
+		binderFunction.written();
+		assertThat(properties(binderFunction.apply(a))).isEmpty();
+	}
+
+	@Test
+	void shouldNotRecordPropertiesBeforeTheyHaveBeenWritten() {
+
+		Person a = new Person("a");
+		a.age = 42;
+		this.snapshots.take(a);
+
+		a.age = 43;
+		Function<Person, Map<String, Object>> failedWrite = this.snapshots.retainChangedProperties(this.entity,
+				this.mappingContext.getRequiredBinderFunctionFor(Person.class));
+		assertThat(properties(failedWrite.apply(a))).containsExactly(Map.entry("age", Values.value(43)));
+
+		Function<Person, Map<String, Object>> retry = this.snapshots.retainChangedProperties(this.entity,
+				this.mappingContext.getRequiredBinderFunctionFor(Person.class));
+		assertThat(properties(retry.apply(a))).containsExactly(Map.entry("age", Values.value(43)));
+	}
+
+	@Test
+	void shouldRecordIdsOfWrittenRelationships() {
+
+		this.snapshots.setRelatedIds(this.entity, "a", relationship("knows"), Set.of("b", "c"));
+		this.snapshots.setRelatedIds(this.entity, "a", relationship("relatives"), Set.of("b"));
+
+		assertThat(this.snapshots.getRelatedIds(this.entity, "a", relationship("knows"))).containsExactlyInAnyOrder("b",
+				"c");
+		assertThat(this.snapshots.getRelatedIds(this.entity, "a", relationship("relatives"))).isNull();
+	}
+
+	@Test
+	void shouldDiscardAllSnapshots() {
+
+		this.snapshots.take(new Person("a"));
+		this.snapshots.clear();
+
+		assertThat(this.snapshots.getRelatedIds(this.entity, "a", relationship("knows"))).isNull();
+	}
+
+	private RelationshipDescription relationship(String fieldName) {
+		return this.entity.getRelationships()
+			.stream()
+			.filter(relationship -> relationship.getFieldName().equals(fieldName))
+			.findFirst()
+			.orElseThrow();
+	}
+
+	@Node
+	static class Person {
+
+		@Id
+		final String name;
+
+		Integer age;
+
+		@Relationship("KNOWS")
+		List<Person> knows = List.of();
+
+		Map<String, Person> relatives = Map.of();
+
+		Person(String name) {
+			this.name = name;
+		}
+
+	}
+
+}
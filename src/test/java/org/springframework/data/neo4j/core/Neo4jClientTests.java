@@ -62,6 +62,8 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyMap;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
@@ -275,6 +277,41 @@ class Neo4jClientTests {
 		verify(this.session).close();
 	}
 
+	@Test
+	void streamShouldMapLazilyAndReleaseResourcesOnClose() {
+
+		prepareMocks();
+
+		given(this.session.run(anyString(), anyMap())).willReturn(this.result);
+		given(this.result.hasNext()).willReturn(true, true, false);
+		given(this.result.next()).willReturn(this.record1, this.record2);
+		given(this.result.consume()).willReturn(this.resultSummary);
+
+		Neo4jClient client = Neo4jClient.create(this.driver);
+
+		String cypher = "MATCH (b:Bike) RETURN b";
+		try (Stream<Map<String, Object>> bikes = client.query(cypher).fetch().stream()) {
+
+			verify(this.session).run(eq(cypher), anyMap());
+			verify(this.session, never()).close();
+			verifyNoMoreInteractions(this.result, this.record1, this.record2);
+
+			assertThat(bikes.toList()).hasSize(2);
+			verify(this.session, never()).close();
+		}
+
+		verifyDatabaseSelection(null);
+
+		verify(this.result, times(3)).hasNext();
+		verify(this.result, times(2)).next();
+		verify(this.result).consume();
+		verify(this.resultSummary).gqlStatusObjects();
+		verify(this.resultSummary).hasPlan();
+		verify(this.record1).asMap();
+		verify(this.record2).asMap();
+		verify(this.session).close();
+	}
+
 	@Test
 	void databaseSelectionShouldBePossibleOnlyOnce() {
 
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.cypherdsl.core.Cypher;
+import org.neo4j.cypherdsl.core.renderer.Configuration;
+import org.neo4j.cypherdsl.core.renderer.Dialect;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+
+import org.springframework.data.neo4j.core.mapping.CypherGenerator;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.SpringDataCypherDsl;
+import org.springframework.data.neo4j.core.schema.GeneratedValue;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+import org.springframework.data.neo4j.repository.query.QueryFragments;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ */
+class RelatedNodesPerLevelTests {
+
+	private final Renderer renderer = Renderer
+		.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build());
+
+	private final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+	private final Neo4jPersistentEntity<?> entity;
+
+	RelatedNodesPerLevelTests() {
+		this.mappingContext.setInitialEntitySet(Set.of(Person.class));
+		this.mappingContext.initialize();
+		this.entity = this.mappingContext.getRequiredPersistentEntity(Person.class);
+	}
+
+	private RelatedNodesPerLevel newInstance() {
+		QueryFragments queryFragments = new QueryFragments();
+		queryFragments.addMatchOn(Cypher.node("Person").named("person"));
+		return newInstance(queryFragments);
+	}
+
+	private RelatedNodesPerLevel newInstance(QueryFragments queryFragments) {
+		return new RelatedNodesPerLevel(CypherGenerator.INSTANCE,
+				SpringDataCypherDsl.elementIdOrIdFunction.apply(Dialect.NEO4J_5), queryFragments, Person.class);
+	}
+
+	@Test
+	void shouldCombineAllRelationshipsOfALevelIntoOneStatement() {
+
+		RelatedNodesPerLevel relatedNodes = newInstance();
+		List<RelatedNodesPerLevel.Expansion> firstLevel = relatedNodes.firstLevel(this.entity, Set.of("r"));
+
+		assertThat(firstLevel).hasSize(2);
+		String cypher = this.renderer.render(relatedNodes.toStatement(firstLevel));
+		assertThat(cypher).containsOnlyOnce("UNION ALL")
+			.contains(":`KNOWS`]", ":`WORKS_WITH`]", "0 AS __expansion__", "1 AS __expansion__");
+	}
+
+	@Test
+	void shouldComputeNextLevelFromNewlyDiscoveredNodes() {
+
+		RelatedNodesPerLevel relatedNodes = newInstance();
+		List<RelatedNodesPerLevel.Expansion> firstLevel = relatedNodes.firstLevel(this.entity, Set.of("r"));
+
+		List<RelatedNodesPerLevel.Expansion> secondLevel = relatedNodes.nextLevel(firstLevel,
+				List.of(row(1, List.of("r"), List.of("p2"), List.of("r2")),
+						row(0, List.of("r"), List.of("p1", "p2"), List.of("r1", "r2"))));
+
+		// r2 has already been seen via the first expansion, so p2 is not new
+		String firstField = firstLevel.get(0).relationship().getFieldName();
+		assertThat(secondLevel).hasSize(2).allSatisfy(expansion -> {
+			assertThat(expansion.source()).isSameAs(this.entity);
+			assertThat(expansion.sourceNodeIds()).containsExactlyInAnyOrder("p1", "p2");
+			assertThat(expansion.pathStep().path).isEqualTo(firstField);
+		});
+
+		String cypher = this.renderer.render(relatedNodes.toStatement(secondLevel));
+		assertThat(cypher).contains("$__ids__0", "$__ids__1");
+
+		List<RelatedNodesPerLevel.Expansion> thirdLevel = relatedNodes.nextLevel(secondLevel,
+				List.of(row(0, List.of("p1"), List.of("p2"), List.of("r1"))));
+		assertThat(thirdLevel).isEmpty();
+
+		var statementProvider = relatedNodes.toStatementProvider(Set.of("r"));
+		assertThat(statementProvider.hasRootNodeIds()).isTrue();
+	}
+
+	@Test
+	void shouldStartFromTheRequestedPageOfRootNodes() {
+
+		QueryFragments queryFragments = new QueryFragments();
+		queryFragments.addMatchOn(Cypher.node("Person").named("person"));
+		queryFragments.setSkip(10L);
+		queryFragments.setLimit(5);
+		RelatedNodesPerLevel relatedNodes = newInstance(queryFragments);
+
+		String cypher = this.renderer.render(relatedNodes.toRootNodeIdsStatement(this.entity));
+		assertThat(cypher).contains("SKIP 10", "LIMIT 5").doesNotContain("KNOWS", "WORKS_WITH");
+
+		String finalCypher = this.renderer
+			.render(relatedNodes.toStatementProvider(Set.of("r")).toStatement(this.entity));
+		assertThat(finalCypher).doesNotContain("SKIP", "LIMIT");
+	}
+
+	@Test
+	void shouldNotExpandWithoutRootNodes() {
+
+		RelatedNodesPerLevel relatedNodes = newInstance();
+
+		assertThat(relatedNodes.firstLevel(this.entity, Set.of())).isEmpty();
+		assertThat(relatedNodes.toStatementProvider(Set.of()).hasRootNodeIds()).isFalse();
+	}
+
+	@Test
+	void shouldKeepTheOrderOfRootNodeIds() {
+
+		assertThat(RelatedNodesPerLevel.rootNodeIds(List.of(Map.of("__sn__", "b"), Map.of("__sn__", "a"))))
+			.containsExactly("b", "a");
+	}
+
+	private static Map<String, Object> row(int expansion, List<String> rootNodes, List<String> relatedNodes,
+			List<String> relationships) {
+		return Map.of("__expansion__", expansion, "__sn__", rootNodes, "__srn__", relatedNodes, "__sr__",
+				relationships);
+	}
+
+	@Node
+	static class Person {
+
+		@Id
+		@GeneratedValue
+		Long id;
+
+		@Relationship("KNOWS")
+		List<Person> knows;
+
+		@Relationship("WORKS_WITH")
+		List<Person> worksWith;
+
+	}
+
+}
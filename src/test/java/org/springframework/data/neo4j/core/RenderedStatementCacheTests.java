@@ -0,0 +1,156 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.cypherdsl.core.renderer.Configuration;
+import org.neo4j.cypherdsl.core.renderer.Dialect;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+
+import org.springframework.data.neo4j.core.mapping.CypherGenerator;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ */
+class RenderedStatementCacheTests {
+
+	private final Renderer renderer = Renderer
+		.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build());
+
+	private final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+	@Test
+	void shouldRenderEachShapeOnlyOnce() {
+
+		RenderedStatementCache cache = new RenderedStatementCache(CypherGenerator.INSTANCE, this.renderer);
+		Neo4jPersistentEntity<?> entity = this.mappingContext.getRequiredPersistentEntity(Thing.class);
+
+		var first = cache.getSaveOf(entity, DynamicLabels.EMPTY, true);
+		var second = cache.getSaveOf(entity, DynamicLabels.EMPTY, true);
+		cache.getSaveOfMultipleInstancesOf(entity);
+		cache.getSaveOfMultipleInstancesOf(entity);
+
+		assertThat(second).isSameAs(first);
+		assertThat(first.cypher())
+			.isEqualTo(this.renderer.render(CypherGenerator.INSTANCE.prepareSaveOf(entity, DynamicLabels.EMPTY, true)));
+		assertThat(cache.getStatistics()).satisfies(statistics -> {
+			assertThat(statistics.hits()).isEqualTo(2);
+			assertThat(statistics.misses()).isEqualTo(2);
+			assertThat(statistics.size()).isEqualTo(2);
+			assertThat(statistics.hitRatio()).isEqualTo(0.5);
+		});
+	}
+
+	@Test
+	void shouldDistinguishDynamicLabels() {
+
+		RenderedStatementCache cache = new RenderedStatementCache(CypherGenerator.INSTANCE, this.renderer);
+		Neo4jPersistentEntity<?> entity = this.mappingContext.getRequiredPersistentEntity(Thing.class);
+
+		var first = cache.getSaveOf(entity, new DynamicLabels(entity, List.of("A"), List.of("B")), true);
+		var second = cache.getSaveOf(entity, new DynamicLabels(entity, List.of("A"), List.of("B")), true);
+		var third = cache.getSaveOf(entity, new DynamicLabels(entity, List.of(), List.of("C")), true);
+
+		assertThat(second).isSameAs(first);
+		assertThat(third).isNotSameAs(first);
+		assertThat(first.cypher()).contains("REMOVE thing:`A`", "SET thing:`B`");
+		assertThat(third.cypher()).doesNotContain("REMOVE").contains("SET thing:`C`");
+		assertThat(cache.getStatistics().misses()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldCacheRelationshipDeletes() {
+
+		RenderedStatementCache cache = new RenderedStatementCache(CypherGenerator.INSTANCE, this.renderer);
+		Neo4jPersistentEntity<?> entity = this.mappingContext.getRequiredPersistentEntity(Thing.class);
+		var relationship = entity.getRelationships().iterator().next();
+
+		var first = cache.getDeleteOf(entity, relationship, true);
+		var second = cache.getDeleteOf(entity, relationship, true);
+		var third = cache.getDeleteOf(entity, relationship, false);
+
+		assertThat(second).isSameAs(first);
+		assertThat(third).isNotSameAs(first);
+		assertThat(cache.getStatistics().hits()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldCacheLookupOfMultipleInstances() {
+
+		RenderedStatementCache cache = new RenderedStatementCache(CypherGenerator.INSTANCE, this.renderer);
+		Neo4jPersistentEntity<?> entity = this.mappingContext.getRequiredPersistentEntity(Thing.class);
+
+		var first = cache.getMatchOfMultipleInstancesOf(entity);
+		var second = cache.getMatchOfMultipleInstancesOf(entity);
+
+		assertThat(second).isSameAs(first);
+		assertThat(first.cypher()).isEqualTo(
+				"UNWIND $__ids__ AS id MATCH (thing:`Thing` {id: id}) RETURN elementId(thing) AS __elementId__, thing.id AS __id__");
+		assertThat(cache.getSaveOfMultipleInstancesOf(entity)).isNotSameAs(first);
+		assertThat(cache.getStatistics().misses()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldCacheRelationshipDeletesOfMultipleInstances() {
+
+		RenderedStatementCache cache = new RenderedStatementCache(CypherGenerator.INSTANCE, this.renderer);
+		Neo4jPersistentEntity<?> entity = this.mappingContext.getRequiredPersistentEntity(Thing.class);
+		var relationship = entity.getRelationships().iterator().next();
+
+		var first = cache.getDeleteOfMultipleInstancesOf(entity, relationship, true);
+		var second = cache.getDeleteOfMultipleInstancesOf(entity, relationship, true);
+
+		assertThat(second).isSameAs(first);
+		assertThat(cache.getDeleteOf(entity, relationship, true)).isNotSameAs(first);
+		assertThat(first.cypher()).isEqualTo(
+				"UNWIND $__entities__ AS row MATCH (startNode:`Thing`)-[rel:`RELATED_TO`]->(:`Thing`) WHERE (startNode.id = row.fromId AND NOT (elementId(rel) IN row.__knownRelationShipIds__)) DELETE rel");
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsed() {
+
+		RenderedStatementCache cache = new RenderedStatementCache(CypherGenerator.INSTANCE, this.renderer, 1);
+		Neo4jPersistentEntity<?> entity = this.mappingContext.getRequiredPersistentEntity(Thing.class);
+
+		cache.getSaveOf(entity, DynamicLabels.EMPTY, true);
+		cache.getSaveOfMultipleInstancesOf(entity);
+		cache.getSaveOf(entity, DynamicLabels.EMPTY, true);
+
+		assertThat(cache.getStatistics().size()).isEqualTo(1);
+		assertThat(cache.getStatistics().misses()).isEqualTo(3);
+	}
+
+	@Node
+	static class Thing {
+
+		@Id
+		String id;
+
+		@Relationship("RELATED_TO")
+		List<Thing> things;
+
+	}
+
+}
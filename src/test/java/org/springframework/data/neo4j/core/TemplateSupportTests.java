@@ -15,8 +15,14 @@
  */
 package org.springframework.data.neo4j.core;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Nested;
@@ -27,8 +33,31 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.neo4j.cypherdsl.core.renderer.Configuration;
 import org.neo4j.cypherdsl.core.renderer.Dialect;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.summary.ResultSummary;
+import org.neo4j.driver.summary.SummaryCounters;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.domain.Vector;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.neo4j.core.mapping.Constants;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.mapping.NestedRelationshipContext;
+import org.springframework.data.neo4j.core.mapping.NestedRelationshipProcessingStateMachine;
+import org.springframework.data.neo4j.core.mapping.PropertyFilter;
+import org.springframework.data.neo4j.core.mapping.RelationshipDescription;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 /**
  * @author Michael J. Simons
@@ -107,6 +136,285 @@ class TemplateSupportTests {
 		assertThat(type).isNull();
 	}
 
+	@Test
+	void shouldCollectRowsForRemovalOfStaleRelationships() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(Person.class));
+		mappingContext.initialize();
+		Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(Person.class);
+		NestedRelationshipProcessingStateMachine stateMachine = new NestedRelationshipProcessingStateMachine(
+				mappingContext);
+
+		Person a = new Person("a");
+		Person b = new Person("b");
+		a.knows = List.of(b);
+		var rows = TemplateSupport.prepareRemovalOfStaleRelationships(mappingContext, entity,
+				List.of(entity.getPropertyAccessor(a), entity.getPropertyAccessor(b)), PropertyFilter.acceptAll(),
+				stateMachine, null);
+
+		// Relationships mapped from both sides are left to the single statements
+		assertThat(rows).hasSize(1).hasEntrySatisfying(relationship("KNOWS", entity), rowsOfRelationship -> {
+			assertThat(rowsOfRelationship).hasSize(2);
+			assertThat(rowsOfRelationship).allSatisfy(
+					row -> assertThat(row).containsEntry(Constants.NAME_OF_KNOWN_RELATIONSHIPS_PARAM, List.of()));
+			assertThat(rowsOfRelationship).extracting(row -> row.get(Constants.FROM_ID_PARAMETER_NAME))
+				.containsExactly(Values.value("a"), Values.value("b"));
+		});
+		assertThat(stateMachine.hasRemovedStaleRelationships("a", relationship("KNOWS", entity))).isTrue();
+		assertThat(stateMachine.hasRemovedStaleRelationships("a", relationship("FOLLOWS", entity))).isFalse();
+	}
+
+	@Test
+	void shouldCollectRelationshipsToCreateOnlyOnce() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(Person.class));
+		mappingContext.initialize();
+		Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(Person.class);
+
+		Person a = new Person("a");
+		Person b = new Person("b");
+		a.knows = List.of(b);
+		a.follows = List.of(b);
+		b.followers = List.of(a);
+		var rows = TemplateSupport.collectRelationshipsToCreate(mappingContext, entity,
+				List.of(entity.getPropertyAccessor(a), entity.getPropertyAccessor(b)), new HashSet<>());
+
+		// The follower relationship of b is the same as the followed relationship of a
+		assertThat(rows).hasSize(2).hasEntrySatisfying(relationshipToCreate("KNOWS", entity), rowsOfRelationship -> {
+			assertThat(rowsOfRelationship).hasSize(1);
+			assertThat(rowsOfRelationship.get(0)).containsEntry(Constants.FROM_ID_PARAMETER_NAME, Values.value("a"))
+				.containsEntry(Constants.TO_ID_PARAMETER_NAME, Values.value("b"));
+		}).hasEntrySatisfying(relationshipToCreate("FOLLOWS", entity), rowsOfRelationship -> {
+			assertThat(rowsOfRelationship).hasSize(1);
+			assertThat(rowsOfRelationship.get(0)).containsEntry(Constants.FROM_ID_PARAMETER_NAME, Values.value("a"))
+				.containsEntry(Constants.TO_ID_PARAMETER_NAME, Values.value("b"));
+		});
+	}
+
+	@Test
+	void shouldCollectRelationshipsSpanningBatchesOnlyOnce() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(Person.class));
+		mappingContext.initialize();
+		Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(Person.class);
+
+		// a is inserted in the first batch, b and c in the second one
+		Person a = new Person("a");
+		Person b = new Person("b");
+		Person c = new Person("c");
+		a.knows = List.of(c);
+		a.follows = List.of(b);
+		b.followers = List.of(a);
+		var rows = TemplateSupport.collectRelationshipsToCreate(mappingContext, List.of(a, b, c));
+
+		assertThat(rows).hasSize(2).hasEntrySatisfying(relationshipToCreate("KNOWS", entity), rowsOfRelationship -> {
+			assertThat(rowsOfRelationship).hasSize(1);
+			assertThat(rowsOfRelationship.get(0)).containsEntry(Constants.FROM_ID_PARAMETER_NAME, Values.value("a"))
+				.containsEntry(Constants.TO_ID_PARAMETER_NAME, Values.value("c"));
+		}).hasEntrySatisfying(relationshipToCreate("FOLLOWS", entity), rowsOfRelationship -> {
+			assertThat(rowsOfRelationship).hasSize(1);
+			assertThat(rowsOfRelationship.get(0)).containsEntry(Constants.FROM_ID_PARAMETER_NAME, Values.value("a"))
+				.containsEntry(Constants.TO_ID_PARAMETER_NAME, Values.value("b"));
+		});
+	}
+
+	@Test
+	void shouldNotCollectRelationshipsToNodesWithoutId() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(Person.class));
+		mappingContext.initialize();
+		Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(Person.class);
+
+		Person a = new Person("a");
+		a.knows = List.of(new Person(null));
+		List<PersistentPropertyAccessor<Person>> newInstances = List.of(entity.getPropertyAccessor(a));
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> TemplateSupport.collectRelationshipsToCreate(mappingContext, entity, newInstances,
+					new HashSet<>()))
+			.withMessageContaining("without id");
+	}
+
+	@Test
+	void shouldApplyVersionsOfMultipleInstancesAndReportFailures() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(VersionedPerson.class));
+		mappingContext.initialize();
+		Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(VersionedPerson.class);
+
+		VersionedPerson a = new VersionedPerson("a");
+		VersionedPerson b = new VersionedPerson("b");
+		b.version = 1L;
+		VersionedPerson c = new VersionedPerson("c");
+		c.version = 2L;
+		var savedInstances = Map.of(Values.value("a"), new TemplateSupport.SavedInstance("4:a", 0L), Values.value("b"),
+				new TemplateSupport.SavedInstance("4:b", 2L));
+
+		TemplateSupport.updateVersionPropertiesOfMultipleInstances(mappingContext, entity,
+				List.of(entity.getPropertyAccessor(a), entity.getPropertyAccessor(b)), savedInstances);
+		assertThat(a.version).isZero();
+		assertThat(b.version).isEqualTo(2L);
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+			.isThrownBy(() -> TemplateSupport.updateVersionPropertiesOfMultipleInstances(mappingContext, entity,
+					List.of(entity.getPropertyAccessor(c), entity.getPropertyAccessor(a)), savedInstances))
+			.withMessageEndingWith("[c]");
+	}
+
+	@Test
+	void shouldPartitionRowsByChangeOfDynamicLabels() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(LabeledPerson.class));
+		mappingContext.initialize();
+		Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(LabeledPerson.class);
+
+		List<LabeledPerson> entities = List.of(new LabeledPerson("a", List.of("B", "A")),
+				new LabeledPerson("b", List.of("A", "B", "A")), new LabeledPerson("c", List.of("A")),
+				new LabeledPerson("d", List.of()));
+		List<Map<String, Object>> rows = entities.stream()
+			.map(person -> Map.<String, Object>of(Constants.NAME_OF_ID, Values.value(person.name)))
+			.toList();
+		var existingLabels = Map.of(Values.value("a"), List.of("X"), Values.value("b"), List.of("X"), Values.value("c"),
+				List.of("X"));
+
+		var partitions = new ArrayList<>(
+				TemplateSupport.partitionByDynamicLabels(entity, entities, rows, existingLabels).entrySet());
+		assertThat(partitions).hasSize(3);
+		assertThat(partitions.get(0).getKey().getOldLabels()).containsExactly("X");
+		assertThat(partitions.get(0).getKey().getNewLabels()).containsExactly("A", "B");
+		assertThat(partitions.get(0).getValue()).containsExactly(rows.get(0), rows.get(1));
+		assertThat(partitions.get(1).getKey().getOldLabels()).containsExactly("X");
+		assertThat(partitions.get(1).getKey().getNewLabels()).containsExactly("A");
+		assertThat(partitions.get(1).getValue()).containsExactly(rows.get(2));
+		assertThat(partitions.get(2).getKey().getOldLabels()).isEmpty();
+		assertThat(partitions.get(2).getKey().getNewLabels()).isEmpty();
+		assertThat(partitions.get(2).getValue()).containsExactly(rows.get(3));
+	}
+
+	@Test
+	void shouldCollectIdsOfRemovedTargets() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(Person.class));
+		mappingContext.initialize();
+		Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(Person.class);
+
+		Person a = new Person("a");
+		a.knows = List.of(new Person("b"), new Person("d"));
+		NestedRelationshipContext relationshipContext = NestedRelationshipContext.of(
+				Objects.requireNonNull(entity.getRequiredPersistentProperty("knows").getAssociation()),
+				entity.getPropertyAccessor(a), entity);
+
+		assertThat(TemplateSupport.collectRemovedRelatedIds(mappingContext, relationshipContext, a.knows,
+				Set.of("b", "c")))
+			.containsExactly(Values.value("c"));
+		assertThat(TemplateSupport.collectRemovedRelatedIds(mappingContext, relationshipContext, a.knows, Set.of("b")))
+			.isEmpty();
+	}
+
+	@Test
+	void shouldMatchOnlyPlainTargetsWithoutCascadingById() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(Person.class, VersionedPerson.class, Team.class));
+		mappingContext.initialize();
+		Neo4jPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(Team.class);
+		Neo4jPersistentEntity<?> person = mappingContext.getRequiredPersistentEntity(Person.class);
+		Neo4jPersistentEntity<?> versionedPerson = mappingContext.getRequiredPersistentEntity(VersionedPerson.class);
+
+		assertThat(TemplateSupport.canMatchTargetById(relationship("HAS_MEMBER", entity), person)).isTrue();
+		assertThat(TemplateSupport.canMatchTargetById(relationship("HAS_COACH", entity), person)).isFalse();
+		assertThat(TemplateSupport.canMatchTargetById(relationship("HAS_SPONSOR", entity), versionedPerson)).isFalse();
+	}
+
+	@Test
+	void shouldSplitValuesIntoBatches() {
+
+		List<Integer> values = List.of(1, 2, 3, 4, 5);
+
+		assertThat(TemplateSupport.inBatchesOf(values, 2)).containsExactly(List.of(1, 2), List.of(3, 4), List.of(5));
+		assertThat(TemplateSupport.inBatchesOf(values, 5)).containsExactly(values);
+		assertThat(TemplateSupport.inBatchesOf(values, Integer.MAX_VALUE)).containsExactly(values);
+		assertThat(TemplateSupport.inBatchesOf(List.of(), 2)).containsExactly(List.of());
+	}
+
+	@Test
+	void shouldUseNumericIdsOfBatchedNodesOnLegacyDialects() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(Person.class));
+		mappingContext.initialize();
+		Neo4jPersistentEntity<?> person = mappingContext.getRequiredPersistentEntity(Person.class);
+		Renderer legacyRenderer = Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_4).build());
+		Renderer renderer = Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build());
+
+		boolean canUseElementId = TemplateSupport.rendererCanUseElementIdIfPresent(legacyRenderer, person);
+		assertThat(canUseElementId).isFalse();
+		// Either id(n) or toString(id(n)), depending on the dialect
+		assertThat(TemplateSupport.convertToInternalId(Values.value(42L), canUseElementId)).isEqualTo(42L);
+		assertThat(TemplateSupport.convertToInternalId(Values.value("42"), canUseElementId)).isEqualTo(42L);
+
+		canUseElementId = TemplateSupport.rendererCanUseElementIdIfPresent(renderer, person);
+		assertThat(canUseElementId).isTrue();
+		assertThat(TemplateSupport.convertToInternalId(Values.value("4:db:42"), canUseElementId))
+			.isEqualTo("4:db:42");
+	}
+
+	@Test
+	void shouldSaveRootsWithVectorPropertiesWithSingleStatements() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(Person.class, PersonWithEmbedding.class));
+		mappingContext.initialize();
+
+		assertThat(TemplateSupport.canSaveRootsInBatch(mappingContext.getRequiredPersistentEntity(Person.class)))
+			.isTrue();
+		assertThat(TemplateSupport
+			.canSaveRootsInBatch(mappingContext.getRequiredPersistentEntity(PersonWithEmbedding.class))).isFalse();
+	}
+
+	@Test
+	void shouldFailWhenRelatedNodesOfABulkInsertAreMissing() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(Person.class));
+		mappingContext.initialize();
+		var relationships = relationshipToCreate("KNOWS", mappingContext.getRequiredPersistentEntity(Person.class));
+
+		ResultSummary summary = mock(ResultSummary.class);
+		SummaryCounters counters = mock(SummaryCounters.class);
+		given(summary.counters()).willReturn(counters);
+		given(counters.relationshipsCreated()).willReturn(2, 1);
+
+		relationships.assertAllCreated(summary, 2);
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+			.isThrownBy(() -> relationships.assertAllCreated(summary, 2))
+			.withMessageContaining("Could only create 1 of 2 relationships of type KNOWS");
+	}
+
+	private static RelationshipDescription relationship(String type, Neo4jPersistentEntity<?> entity) {
+		return entity.getRelationships()
+			.stream()
+			.filter(relationship -> relationship.getType().equals(type))
+			.findFirst()
+			.orElseThrow();
+	}
+
+	private static TemplateSupport.RelationshipsToCreate relationshipToCreate(String type,
+			Neo4jPersistentEntity<?> entity) {
+		RelationshipDescription outgoingRelationship = entity.getRelationships()
+			.stream()
+			.filter(relationship -> relationship.getType().equals(type) && relationship.isOutgoing())
+			.findFirst()
+			.orElseThrow();
+		return new TemplateSupport.RelationshipsToCreate(entity, outgoingRelationship, entity, null);
+	}
+
 	@Nested
 	class CypherRendering {
 
@@ -142,6 +450,93 @@ class TemplateSupportTests {
 
 	}
 
+	@Node
+	static class Person {
+
+		@Id
+		final String name;
+
+		@Relationship("KNOWS")
+		List<Person> knows = List.of();
+
+		@Relationship("FOLLOWS")
+		List<Person> follows = List.of();
+
+		@Relationship(type = "FOLLOWS", direction = Relationship.Direction.INCOMING)
+		List<Person> followers = List.of();
+
+		Person(String name) {
+			this.name = name;
+		}
+
+	}
+
+	@Node
+	static class Team {
+
+		@Id
+		final String name;
+
+		@Relationship(value = "HAS_MEMBER", cascadeUpdates = false)
+		List<Person> members = List.of();
+
+		@Relationship("HAS_COACH")
+		Person coach;
+
+		@Relationship(value = "HAS_SPONSOR", cascadeUpdates = false)
+		VersionedPerson sponsor;
+
+		Team(String name) {
+			this.name = name;
+		}
+
+	}
+
+	@Node
+	static class VersionedPerson {
+
+		@Id
+		final String name;
+
+		@Version
+		Long version;
+
+		VersionedPerson(String name) {
+			this.name = name;
+		}
+
+	}
+
+	@Node
+	static class PersonWithEmbedding {
+
+		@Id
+		final String name;
+
+		Vector embedding;
+
+		PersonWithEmbedding(String name) {
+			this.name = name;
+		}
+
+	}
+
+	@Node
+	static class LabeledPerson {
+
+		@Id
+		final String name;
+
+		@org.springframework.data.neo4j.core.schema.DynamicLabels
+		List<String> labels;
+
+		LabeledPerson(String name, List<String> labels) {
+			this.name = name;
+			this.labels = labels;
+		}
+
+	}
+
 	interface IA {
 
 	}
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.neo4j.core;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Nested;
@@ -22,16 +24,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.BDDMockito;
+import org.mockito.InOrder;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.neo4j.driver.Driver;
 import org.neo4j.driver.QueryRunner;
+import org.neo4j.driver.Result;
 import org.neo4j.driver.Session;
 import org.neo4j.driver.SessionConfig;
 import org.neo4j.driver.Transaction;
 import org.neo4j.driver.TransactionConfig;
 import org.neo4j.driver.reactivestreams.ReactiveSession;
 import org.neo4j.driver.reactivestreams.ReactiveTransaction;
+import org.neo4j.driver.summary.ResultSummary;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -40,6 +46,7 @@ import org.springframework.transaction.support.TransactionTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -73,6 +80,12 @@ class TransactionHandlingTests {
 		@Mock
 		private Transaction transaction;
 
+		@Mock
+		private Result result;
+
+		@Mock
+		private ResultSummary resultSummary;
+
 		@Nested
 		class AutoCloseableQueryRunnerHandlerTest {
 
@@ -150,6 +163,39 @@ class TransactionHandlingTests {
 						Neo4jClientTest.this.transaction);
 			}
 
+			@Test
+			void shouldRunDeferredStatementsBeforeCommit() {
+
+				given(TransactionHandlingTests.this.driver.session(any(SessionConfig.class)))
+					.willReturn(TransactionHandlingTests.this.session);
+				given(TransactionHandlingTests.this.session.isOpen()).willReturn(true);
+				given(TransactionHandlingTests.this.session.beginTransaction(any(TransactionConfig.class)))
+					.willReturn(Neo4jClientTest.this.transaction);
+				given(Neo4jClientTest.this.transaction.isOpen()).willReturn(true);
+				given(Neo4jClientTest.this.transaction.run(anyString(), anyMap()))
+					.willReturn(Neo4jClientTest.this.result);
+				given(Neo4jClientTest.this.result.consume()).willReturn(Neo4jClientTest.this.resultSummary);
+
+				Neo4jTransactionManager txManager = new Neo4jTransactionManager(TransactionHandlingTests.this.driver);
+				TransactionTemplate txTemplate = new TransactionTemplate(txManager);
+
+				String cypher = "UNWIND $rows AS row CREATE (n:Thing {id: row})";
+				DefaultNeo4jClient neo4jClient = new DefaultNeo4jClient(
+						Neo4jClient.with(TransactionHandlingTests.this.driver));
+				txTemplate.execute(tx -> {
+					((DeferredStatements.Deferrable) neo4jClient.query(cypher).bind(List.of(1, 2)).to("rows"))
+						.runDeferred("rows");
+					((DeferredStatements.Deferrable) neo4jClient.query(cypher).bind(List.of(3)).to("rows"))
+						.runDeferred("rows");
+					verify(Neo4jClientTest.this.transaction, never()).run(anyString(), anyMap());
+					return null;
+				});
+
+				InOrder inOrder = Mockito.inOrder(Neo4jClientTest.this.transaction);
+				inOrder.verify(Neo4jClientTest.this.transaction).run(eq(cypher), eq(Map.of("rows", List.of(1, 2, 3))));
+				inOrder.verify(Neo4jClientTest.this.transaction).commit();
+			}
+
 		}
 
 	}
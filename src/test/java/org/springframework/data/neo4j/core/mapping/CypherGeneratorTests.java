@@ -16,8 +16,10 @@
 package org.springframework.data.neo4j.core.mapping;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.UnaryOperator;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -35,7 +37,10 @@ import org.neo4j.cypherdsl.core.renderer.Configuration;
 import org.neo4j.cypherdsl.core.renderer.Dialect;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
 
+import org.springframework.data.annotation.Version;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Vector;
+import org.springframework.data.neo4j.core.schema.DynamicLabels;
 import org.springframework.data.neo4j.core.schema.Id;
 import org.springframework.data.neo4j.core.schema.Node;
 
@@ -177,6 +182,47 @@ class CypherGeneratorTests {
 			.isEqualTo(expectedQuery);
 	}
 
+	@Test
+	void shouldCreateRelationshipsMatchingTargetsById() {
+
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity1.class);
+		Neo4jPersistentEntity<?> relatedEntity = new Neo4jMappingContext().getPersistentEntity(Entity2.class);
+		RelationshipDescription relationshipDescription = Mockito.mock(RelationshipDescription.class);
+		doReturn(relatedEntity).when(relationshipDescription).getTarget();
+		given(relationshipDescription.getType()).willReturn("KNOWS");
+		given(relationshipDescription.isOutgoing()).willReturn(true);
+
+		Statement statement = CypherGenerator.INSTANCE.prepareSaveOfRelationships(persistentEntity,
+				relationshipDescription, null, true, true);
+
+		String expectedQuery = "UNWIND $__relationships__ AS relationship WITH relationship "
+				+ "MATCH (startNode:`Entity1`) WHERE startNode.id = relationship.fromId "
+				+ "MATCH (endNode:`Entity2`) WHERE endNode.id = relationship.toId "
+				+ "MERGE (startNode)-[relProps:`KNOWS`]->(endNode) RETURN elementId(relProps) AS __elementId__";
+		assertThat(
+				Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build()).render(statement))
+			.isEqualTo(expectedQuery);
+	}
+
+	@Test
+	void shouldCreateRemoveQueryForRelationshipsToGivenTargets() {
+
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext().getPersistentEntity(Entity1.class);
+		Neo4jPersistentEntity<?> relatedEntity = new Neo4jMappingContext().getPersistentEntity(Entity2.class);
+		RelationshipDescription relationshipDescription = Mockito.mock(RelationshipDescription.class);
+		doReturn(relatedEntity).when(relationshipDescription).getTarget();
+		given(relationshipDescription.getType()).willReturn("KNOWS");
+		given(relationshipDescription.isOutgoing()).willReturn(true);
+
+		Statement statement = CypherGenerator.INSTANCE.prepareDeleteOfRelationshipsTo(persistentEntity,
+				relationshipDescription, true);
+
+		String expectedQuery = "MATCH (startNode:`Entity1`)-[relProps:`KNOWS`]->(endNode:`Entity2`) WHERE (startNode.id = $fromId AND endNode.id IN $__ids__) DELETE relProps";
+		assertThat(
+				Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build()).render(statement))
+			.isEqualTo(expectedQuery);
+	}
+
 	@ParameterizedTest // DATAGRAPH-1440
 	@MethodSource("pageables")
 	void shouldRenderOrderByFragment(Sort sort, Optional<String> expectValue) {
@@ -295,6 +341,85 @@ class CypherGeneratorTests {
 		assertThat(renderedStatement).doesNotContainPattern(typedRelationshipsPattern);
 	}
 
+	@Test
+	void shouldCheckAndIncrementVersionsWhenSavingMultipleInstances() {
+
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext()
+			.getPersistentEntity(VersionedEntity.class);
+
+		Statement statement = CypherGenerator.INSTANCE.prepareSaveOfMultipleInstancesOf(persistentEntity);
+
+		String expectedQuery = "UNWIND $__entities__ AS entity "
+				+ "OPTIONAL MATCH (hlp:`VersionedEntity` {id: entity.__id__}) WITH entity, hlp "
+				+ "WHERE (hlp IS NULL OR hlp.version = entity.__version__) "
+				+ "MERGE (versionedEntity:`VersionedEntity` {id: entity.__id__}) "
+				+ "ON CREATE SET versionedEntity.version = 0 "
+				+ "ON MATCH SET versionedEntity.version = (versionedEntity.version + 1) "
+				+ "WITH entity, hlp, versionedEntity "
+				+ "WHERE (hlp IS NULL OR versionedEntity.version = (entity.__version__ + 1)) "
+				+ "SET versionedEntity += entity.__properties__ "
+				+ "RETURN elementId(versionedEntity) AS __elementId__, versionedEntity.id AS __id__, "
+				+ "versionedEntity.version AS __version__";
+		assertThat(
+				Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build()).render(statement))
+			.isEqualTo(expectedQuery);
+	}
+
+	@Test
+	void shouldCreateMultipleVersionedInstances() {
+
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext()
+			.getPersistentEntity(VersionedEntity.class);
+
+		Statement statement = CypherGenerator.INSTANCE.prepareCreateOfMultipleInstancesOf(persistentEntity,
+				UnaryOperator.identity());
+
+		String expectedQuery = "UNWIND $__entities__ AS entity "
+				+ "CREATE (versionedEntity:`VersionedEntity` {id: entity.__id__}) "
+				+ "SET versionedEntity += entity.__properties__ SET versionedEntity.version = 0 "
+				+ "RETURN elementId(versionedEntity) AS __elementId__, versionedEntity.id AS __id__, "
+				+ "versionedEntity.version AS __version__";
+		assertThat(
+				Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build()).render(statement))
+			.isEqualTo(expectedQuery);
+	}
+
+	@Test
+	void shouldWriteVectorPropertiesOfMultipleInstances() {
+
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext()
+			.getPersistentEntity(EntityWithVector.class);
+
+		Statement statement = CypherGenerator.INSTANCE.prepareCreateOfMultipleInstancesOf(persistentEntity,
+				UnaryOperator.identity());
+
+		String expectedQuery = "UNWIND $__entities__ AS entity "
+				+ "CREATE (entityWithVector:`EntityWithVector` {id: entity.__id__}) "
+				+ "SET entityWithVector += entity.__properties__ " + "WITH entityWithVector, entity "
+				+ "CALL db.create.setNodeVectorProperty(entityWithVector, entity.__vectorProperty__, entity.__vectorValue__) "
+				+ "RETURN elementId(entityWithVector) AS __elementId__, entityWithVector.id AS __id__";
+		assertThat(
+				Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build()).render(statement))
+			.isEqualTo(expectedQuery);
+	}
+
+	@Test
+	void shouldReturnDynamicLabelsOfMultipleInstances() {
+
+		Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext()
+			.getPersistentEntity(EntityWithDynamicLabels.class);
+
+		Statement statement = CypherGenerator.INSTANCE
+			.createStatementReturningDynamicLabelsOfMultipleInstances(persistentEntity);
+
+		String expectedQuery = "UNWIND $__entities__ AS entity MATCH (entityWithDynamicLabels:`EntityWithDynamicLabels`) "
+				+ "WHERE entityWithDynamicLabels.id = entity.__id__ " + "RETURN entityWithDynamicLabels.id AS __id__, "
+				+ "[label IN labels(entityWithDynamicLabels) WHERE NOT (label IN $__staticLabels__)] AS __nodeLabels__";
+		assertThat(
+				Renderer.getRenderer(Configuration.newConfig().withDialect(Dialect.NEO4J_5).build()).render(statement))
+			.isEqualTo(expectedQuery);
+	}
+
 	enum CyclicRelationship {
 
 		ROUND, CORNERED
@@ -313,6 +438,40 @@ class CypherGeneratorTests {
 
 	}
 
+	@Node
+	private static final class VersionedEntity {
+
+		@Id
+		private Long id;
+
+		@Version
+		private Long version;
+
+		private String name;
+
+	}
+
+	@Node
+	private static final class EntityWithVector {
+
+		@Id
+		private Long id;
+
+		private Vector embedding;
+
+	}
+
+	@Node
+	private static final class EntityWithDynamicLabels {
+
+		@Id
+		private String id;
+
+		@DynamicLabels
+		private List<String> labels;
+
+	}
+
 	@Node({ "Entity1", "MultipleLabel" })
 	private static final class MultipleLabelEntity1 {
 
@@ -18,9 +18,12 @@ package org.springframework.data.neo4j.core.mapping;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.Period;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAmount;
 import java.util.Date;
+import java.util.List;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -30,7 +33,9 @@ import org.neo4j.driver.exceptions.value.Uncoercible;
 
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.ConverterNotFoundException;
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.TypeMismatchDataAccessException;
+import org.springframework.data.convert.WritingConverter;
 import org.springframework.data.core.TypeInformation;
 import org.springframework.data.neo4j.core.ReactiveNeo4jClient;
 import org.springframework.data.neo4j.core.convert.Neo4jConversions;
@@ -119,4 +124,71 @@ class DefaultNeo4jConversionServiceTests {
 
 	}
 
+	@Nested
+	class ResolvedConversions {
+
+		@Test
+		void shouldReadAndWriteNativeTypesLikeTheConversionService() {
+
+			DefaultNeo4jConversionService conversionService = DefaultNeo4jConversionServiceTests.this.defaultNeo4jEntityAccessor;
+			PropertyValueConversion conversion = conversionService.resolveConversion(TypeInformation.of(ZonedDateTime.class),
+					null);
+			ZonedDateTime now = ZonedDateTime.now();
+
+			assertThat(conversion.writer().apply(now)).isEqualTo(conversionService.convert(now, Value.class));
+			assertThat(conversion.writer().apply(null)).isNull();
+			assertThat(conversion.reader().apply(Values.value(now))).isEqualTo(now);
+		}
+
+		@Test
+		void shouldReadCollectionsOfNativeTypesElementWise() {
+
+			TypeInformation<?> type = TypeInformation.of(ClassWithNativeList.class).getRequiredProperty("values");
+			Object value = DefaultNeo4jConversionServiceTests.this.defaultNeo4jEntityAccessor
+				.readValue(Values.value(List.of(1L, 2L)), type, null);
+
+			assertThat(value).isEqualTo(List.of(1L, 2L));
+		}
+
+		@Test
+		void shouldTranslateFailuresOfNativeTypes() {
+
+			PropertyValueConversion conversion = DefaultNeo4jConversionServiceTests.this.defaultNeo4jEntityAccessor
+				.resolveConversion(TypeInformation.of(Long.class), null);
+
+			assertThatExceptionOfType(ConversionFailedException.class)
+				.isThrownBy(() -> conversion.reader().apply(Values.value("x")))
+				.withCauseInstanceOf(Uncoercible.class);
+		}
+
+		@Test
+		void shouldNotBypassCustomConverters() {
+
+			Neo4jConversions conversions = new Neo4jConversions(List.of(new UpperCaseWritingConverter()));
+			DefaultNeo4jConversionService conversionService = new DefaultNeo4jConversionService(conversions);
+
+			assertThat(conversions.hasCustomConverterFor(String.class)).isTrue();
+			assertThat(conversions.hasCustomConverterFor(long.class)).isFalse();
+			assertThat(conversionService.resolveConversion(TypeInformation.of(String.class), null).writer().apply("a"))
+				.isEqualTo(Values.value("A"));
+		}
+
+	}
+
+	static class ClassWithNativeList {
+
+		List<Long> values;
+
+	}
+
+	@WritingConverter
+	static class UpperCaseWritingConverter implements Converter<String, Value> {
+
+		@Override
+		public Value convert(String source) {
+			return Values.value(source.toUpperCase(Locale.ROOT));
+		}
+
+	}
+
 }
@@ -15,17 +15,31 @@
  */
 package org.springframework.data.neo4j.core.mapping;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.neo4j.driver.Record;
 import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
 import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.InternalRelationship;
 import org.neo4j.driver.internal.types.InternalTypeSystem;
+import org.neo4j.driver.internal.value.ListValue;
 import org.neo4j.driver.internal.value.NodeValue;
-import org.neo4j.driver.types.TypeSystem;
+import org.neo4j.driver.types.MapAccessor;
 
 import org.springframework.data.core.TypeInformation;
 import org.springframework.data.mapping.callback.EntityCallbacks;
@@ -35,6 +49,7 @@ import org.springframework.data.neo4j.core.mapping.callback.EventSupport;
 import org.springframework.data.neo4j.core.schema.GeneratedValue;
 import org.springframework.data.neo4j.core.schema.Id;
 import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.neo4j.core.schema.Relationship;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -43,20 +58,53 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 class DefaultNeo4jEntityConverterTests {
 
+	private static final Log log = LogFactory.getLog(DefaultNeo4jEntityConverterTests.class);
+
 	private final DefaultNeo4jEntityConverter entityConverter;
 
+	private final NodeDescriptionStore nodeDescriptionStore;
+
+	private final EventSupport eventSupport;
+
 	DefaultNeo4jEntityConverterTests() {
-		EntityInstantiators entityInstantiators = new EntityInstantiators();
 		NodeDescriptionStore nodeDescriptionStore = new NodeDescriptionStore();
-		DefaultNeo4jConversionService conversionService = new DefaultNeo4jConversionService(new Neo4jConversions());
 		Neo4jMappingContext context = new Neo4jMappingContext();
 		context.addPersistentEntity(TypeInformation.of(EntityWithDefaultValues.class));
+		context.addPersistentEntity(TypeInformation.of(Person.class));
 		nodeDescriptionStore.put("User",
 				(DefaultNeo4jPersistentEntity<?>) context.getNodeDescription(EntityWithDefaultValues.class));
+		nodeDescriptionStore.put("Person", (DefaultNeo4jPersistentEntity<?>) context.getNodeDescription(Person.class));
 		EventSupport eventSupport = EventSupport.useExistingCallbacks(context, EntityCallbacks.create());
-		TypeSystem typeSystem = InternalTypeSystem.TYPE_SYSTEM;
-		this.entityConverter = new DefaultNeo4jEntityConverter(entityInstantiators, nodeDescriptionStore,
-				conversionService, eventSupport, typeSystem);
+		this.nodeDescriptionStore = nodeDescriptionStore;
+		this.eventSupport = eventSupport;
+		this.entityConverter = newEntityConverter();
+	}
+
+	private DefaultNeo4jEntityConverter newEntityConverter() {
+		return new DefaultNeo4jEntityConverter(new EntityInstantiators(), this.nodeDescriptionStore,
+				new DefaultNeo4jConversionService(new Neo4jConversions()), this.eventSupport,
+				InternalTypeSystem.TYPE_SYSTEM);
+	}
+
+	/**
+	 * Creates a record in the shape of the final query for cyclic models: The root person
+	 * knows all others, and everyone else knows the root person back.
+	 * @param numberOfFriends the number of persons related to the root
+	 * @return a record containing {@code 2 * numberOfFriends} relationships
+	 */
+	private static Record createStarOfFriends(int numberOfFriends) {
+
+		InternalNode root = new InternalNode(0L, List.of("Person"), Map.of("name", Values.value("p0")));
+		List<Value> relatedNodes = new ArrayList<>();
+		List<Value> relationships = new ArrayList<>();
+		long relationshipId = 0;
+		for (int i = 1; i <= numberOfFriends; ++i) {
+			relatedNodes.add(new InternalNode(i, List.of("Person"), Map.of("name", Values.value("p" + i))).asValue());
+			relationships.add(new InternalRelationship(relationshipId++, 0L, i, "KNOWS").asValue());
+			relationships.add(new InternalRelationship(relationshipId++, i, 0L, "KNOWS").asValue());
+		}
+		return new InternalRecord(List.of("__sn__", "__srn__", "__sr__"),
+				List.of(root.asValue(), new ListValue(relatedNodes), new ListValue(relationships)));
 	}
 
 	@Test
@@ -85,6 +133,106 @@ class DefaultNeo4jEntityConverterTests {
 		assertThat(readNode.defaultValue).isEqualTo("valueFromDatabase2");
 	}
 
+	@Test
+	void readCyclicEntitiesFromRelationshipsAndNodesOfRecord() {
+
+		Person root = this.entityConverter.read(Person.class, createStarOfFriends(2_000));
+
+		assertThat(root.name).isEqualTo("p0");
+		assertThat(root.knows).hasSize(2_000);
+		assertThat(root.knows).first().extracting(p -> p.name).isEqualTo("p1");
+		assertThat(root.knows).last().extracting(p -> p.name).isEqualTo("p2000");
+		assertThat(root.knows).allSatisfy(friend -> assertThat(friend.knows).containsExactly(root));
+	}
+
+	@Test
+	void readSameNodeFromDifferentRecordsOfOneResult() {
+
+		Function<MapAccessor, Person> reader = this.entityConverter.readerForResult(Person.class);
+		Person first = reader.apply(createStarOfFriends(2));
+		Person second = reader.apply(createStarOfFriends(3));
+
+		assertThat(second).isSameAs(first);
+		assertThat(second.knows).hasSize(3).allSatisfy(friend -> assertThat(friend.knows).containsExactly(second));
+		assertThat(this.entityConverter.readerForResult(Person.class).apply(createStarOfFriends(2)))
+			.isNotSameAs(first);
+	}
+
+	@Test
+	void singleReadsShouldNotShareObjects() {
+
+		Person first = this.entityConverter.read(Person.class, createStarOfFriends(2));
+		Person second = this.entityConverter.read(Person.class, createStarOfFriends(2));
+
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.knows).hasSize(2).noneMatch(first.knows::contains);
+	}
+
+	@Test
+	void concurrentReadsShouldNotInterfere() throws Exception {
+
+		Function<MapAccessor, Person> reader = this.entityConverter.readerForResult(Person.class);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Person>> results = new ArrayList<>();
+			for (int i = 0; i < 16; ++i) {
+				results.add(executor.submit(() -> reader.apply(createStarOfFriends(200))));
+			}
+			for (Future<Person> result : results) {
+				Person root = result.get();
+				assertThat(root.knows).hasSize(200).allSatisfy(friend -> assertThat(friend.knows).contains(root));
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void knownObjectIdsShouldDistinguishNodesAndDirectionsOfRelationships() {
+
+		var node = DefaultNeo4jEntityConverter.KnownObjectId.of(new InternalNode(1L), null);
+		var relationship = new InternalRelationship(1L, 1L, 2L, "KNOWS");
+
+		assertThat(node).isEqualTo(DefaultNeo4jEntityConverter.KnownObjectId.node("1"));
+		assertThat(DefaultNeo4jEntityConverter.KnownObjectId.of(relationship, Relationship.Direction.OUTGOING))
+			.isNotEqualTo(node)
+			.isNotEqualTo(DefaultNeo4jEntityConverter.KnownObjectId.of(relationship, Relationship.Direction.INCOMING))
+			.isEqualTo(DefaultNeo4jEntityConverter.KnownObjectId.relationship(Relationship.Direction.OUTGOING, "1"));
+	}
+
+	@Test
+	@EnabledIfSystemProperty(named = "sdn.benchmarks", matches = "true")
+	void benchmarkReadingCyclicEntities() {
+
+		for (int numberOfFriends : new int[] { 1_000, 2_000, 4_000, 8_000, 16_000, 32_000 }) {
+			Record record = createStarOfFriends(numberOfFriends);
+			long best = Long.MAX_VALUE;
+			for (int i = 0; i < 5; ++i) {
+				DefaultNeo4jEntityConverter converter = newEntityConverter();
+				long start = System.nanoTime();
+				converter.read(Person.class, record);
+				best = Math.min(best, System.nanoTime() - start);
+			}
+			log.info("Mapped %d relationships in %dms".formatted(2 * numberOfFriends,
+					TimeUnit.NANOSECONDS.toMillis(best)));
+		}
+	}
+
+	@Node
+	static class Person {
+
+		@Id
+		@GeneratedValue
+		Long id;
+
+		String name;
+
+		@Relationship("KNOWS")
+		List<Person> knows;
+
+	}
+
 	@Node
 	static class EntityWithDefaultValues {
 
@@ -20,6 +20,8 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Nested;
@@ -777,6 +779,61 @@ class DefaultNeo4jPersistentEntityTests {
 			});
 		}
 
+		@Test
+		void shouldMemoizeModelWalksForKeyedFilters() {
+
+			Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext()
+				.getRequiredPersistentEntity(EntityWithBidirectionalRelationshipToOtherEntity.class);
+			AtomicInteger evaluations = new AtomicInteger();
+			Predicate<PropertyFilter.RelaxedPropertyPath> filter = path -> evaluations.incrementAndGet() > 0;
+
+			assertThat(persistentEntity.containsPossibleCircles(PropertyFilter.withKey("all", filter))).isTrue();
+			int evaluationsOfFirstWalk = evaluations.get();
+			assertThat(evaluationsOfFirstWalk).isPositive();
+
+			assertThat(persistentEntity.containsPossibleCircles(PropertyFilter.withKey("all", filter))).isTrue();
+			assertThat(persistentEntity.getRelationshipsInHierarchy(PropertyFilter.withKey("all", filter)))
+				.isSameAs(persistentEntity.getRelationshipsInHierarchy(PropertyFilter.withKey("all", filter)))
+				.hasSize(1);
+			assertThat(evaluations).hasValue(evaluationsOfFirstWalk);
+
+			assertThat(persistentEntity.containsPossibleCircles(filter)).isTrue();
+			assertThat(evaluations).hasValueGreaterThan(evaluationsOfFirstWalk);
+		}
+
+		@Test
+		void shouldKeepMemoizedModelWalksWhenOtherContextsChange() {
+
+			Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext()
+				.getRequiredPersistentEntity(EntityWithBidirectionalRelationshipToOtherEntity.class);
+			AtomicInteger evaluations = new AtomicInteger();
+			Predicate<PropertyFilter.RelaxedPropertyPath> filter = PropertyFilter.withKey("all",
+					path -> evaluations.incrementAndGet() > 0);
+
+			assertThat(persistentEntity.containsPossibleCircles(filter)).isTrue();
+			int evaluationsOfFirstWalk = evaluations.get();
+
+			Neo4jMappingContext otherContext = new Neo4jMappingContext();
+			otherContext.getPersistentEntity(BaseClass.class);
+			otherContext.getPersistentEntity(Child.class);
+
+			assertThat(persistentEntity.containsPossibleCircles(filter)).isTrue();
+			assertThat(evaluations).hasValue(evaluationsOfFirstWalk);
+		}
+
+		@Test
+		void shouldDistinguishKeysOfFilters() {
+
+			Neo4jPersistentEntity<?> persistentEntity = new Neo4jMappingContext()
+				.getRequiredPersistentEntity(EntityWithBidirectionalRelationshipToOtherEntity.class);
+
+			assertThat(persistentEntity.containsPossibleCircles(PropertyFilter.NO_FILTER)).isTrue();
+			assertThat(persistentEntity.containsPossibleCircles(PropertyFilter.withKey("none", path -> false)))
+				.isFalse();
+			assertThat(persistentEntity.getRelationshipsInHierarchy(PropertyFilter.withKey("none", path -> false)))
+				.isEmpty();
+		}
+
 	}
 
 	@Nested
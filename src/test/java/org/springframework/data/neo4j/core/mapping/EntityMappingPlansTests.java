@@ -0,0 +1,120 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.value.NodeValue;
+
+import org.springframework.dao.TypeMismatchDataAccessException;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author Michael J. Simons
+ */
+class EntityMappingPlansTests {
+
+	private Neo4jMappingContext mappingContext;
+
+	@BeforeEach
+	void setupMappingContext() {
+
+		this.mappingContext = new Neo4jMappingContext();
+		this.mappingContext.setInitialEntitySet(Set.of(Thing.class));
+		this.mappingContext.initialize();
+	}
+
+	@Test
+	void shouldWriteTheSameParametersAsTheGenericBinder() {
+
+		Thing thing = new Thing("a");
+		thing.count = 42L;
+		thing.tags = List.of("x", "y");
+		thing.since = LocalDate.of(2026, 10, 17);
+		thing.version = 1L;
+
+		Map<String, Object> expected = this.mappingContext.getRequiredBinderFunctionFor(Thing.class).apply(thing);
+		this.mappingContext.setPrecompiledMappingEnabled(true);
+		Map<String, Object> actual = this.mappingContext.getRequiredBinderFunctionFor(Thing.class).apply(thing);
+
+		assertThat(actual).isEqualTo(expected);
+		assertThat(actual).containsEntry(Constants.NAME_OF_ID, Values.value("a"))
+			.containsEntry(Constants.NAME_OF_VERSION_PARAM, 1L);
+	}
+
+	@Test
+	void shouldReadTheSameEntityAsTheGenericReader() {
+
+		NodeValue node = new NodeValue(new InternalNode(1L, List.of("Thing"),
+				Map.of("name", Values.value("a"), "count", Values.value(42L), "active", Values.value(true), "tags",
+						Values.value(List.of("x", "y")), "since", Values.value(LocalDate.of(2026, 10, 17)))));
+
+		Thing expected = this.mappingContext.getEntityConverter().read(Thing.class, node);
+		this.mappingContext.setPrecompiledMappingEnabled(true);
+		Thing actual = this.mappingContext.getEntityConverter().read(Thing.class, node);
+
+		assertThat(actual).usingRecursiveComparison().isEqualTo(expected);
+		assertThat(actual.count).isEqualTo(42L);
+		assertThat(actual.active).isTrue();
+	}
+
+	@Test
+	void shouldTranslateConversionErrorsOfNativeTypes() {
+
+		this.mappingContext.setPrecompiledMappingEnabled(true);
+		NodeValue node = new NodeValue(
+				new InternalNode(1L, List.of("Thing"), Map.of("name", Values.value("a"), "count", Values.value("x"))));
+
+		assertThatExceptionOfType(TypeMismatchDataAccessException.class)
+			.isThrownBy(() -> this.mappingContext.getEntityConverter().read(Thing.class, node));
+	}
+
+	@Node
+	static class Thing {
+
+		@Id
+		final String name;
+
+		Long count;
+
+		boolean active;
+
+		List<String> tags;
+
+		LocalDate since;
+
+		@Version
+		Long version;
+
+		Thing(String name) {
+			this.name = name;
+		}
+
+	}
+
+}
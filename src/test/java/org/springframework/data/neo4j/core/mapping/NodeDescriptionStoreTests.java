@@ -0,0 +1,124 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ */
+class NodeDescriptionStoreTests {
+
+	private DefaultNeo4jPersistentEntity<?> animal;
+
+	private DefaultNeo4jPersistentEntity<?> dog;
+
+	private DefaultNeo4jPersistentEntity<?> cat;
+
+	private NodeDescriptionStore nodeDescriptionStore;
+
+	@BeforeEach
+	void setupStore() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		mappingContext.setInitialEntitySet(Set.of(Animal.class, Dog.class, Cat.class));
+		mappingContext.initialize();
+		this.animal = (DefaultNeo4jPersistentEntity<?>) mappingContext.getRequiredPersistentEntity(Animal.class);
+		this.dog = (DefaultNeo4jPersistentEntity<?>) mappingContext.getRequiredPersistentEntity(Dog.class);
+		this.cat = (DefaultNeo4jPersistentEntity<?>) mappingContext.getRequiredPersistentEntity(Cat.class);
+
+		this.nodeDescriptionStore = new NodeDescriptionStore(2);
+		this.nodeDescriptionStore.put(this.animal.getPrimaryLabel(), this.animal);
+		this.nodeDescriptionStore.put(this.dog.getPrimaryLabel(), this.dog);
+		this.nodeDescriptionStore.put(this.cat.getPrimaryLabel(), this.cat);
+	}
+
+	@Test
+	void shouldLookupNodeDescriptionsByClass() {
+
+		assertThat(this.nodeDescriptionStore.getNodeDescription(Dog.class)).isSameAs(this.dog);
+		assertThat(this.nodeDescriptionStore.getNodeDescription(Cat.class)).isSameAs(this.cat);
+		assertThat(this.nodeDescriptionStore.getNodeDescription(String.class)).isNull();
+	}
+
+	@Test
+	void shouldResolveAllPermutationsOfLabelsFromOneEntry() {
+
+		NodeDescriptionAndLabels resolved = this.nodeDescriptionStore.deriveConcreteNodeDescription(this.animal,
+				List.of("Animal", "Dog", "Good"));
+		assertThat(resolved.getNodeDescription()).isSameAs(this.dog);
+		assertThat(resolved.getDynamicLabels()).containsExactly("Good");
+
+		assertThat(
+				this.nodeDescriptionStore.deriveConcreteNodeDescription(this.animal, List.of("Good", "Dog", "Animal")))
+			.isSameAs(resolved);
+		assertThat(this.nodeDescriptionStore.deriveConcreteNodeDescription(this.animal,
+				List.of("Dog", "Animal", "Good", "Dog")))
+			.isSameAs(resolved);
+
+		Neo4jMappingContext.LabelResolutionStatistics statistics = this.nodeDescriptionStore
+			.getLabelResolutionStatistics();
+		assertThat(statistics.misses()).isEqualTo(1);
+		assertThat(statistics.hits()).isEqualTo(2);
+		assertThat(statistics.size()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldBoundResolutionsOfDynamicLabels() {
+
+		for (int i = 0; i < 10; ++i) {
+			NodeDescriptionAndLabels resolved = this.nodeDescriptionStore.deriveConcreteNodeDescription(this.animal,
+					List.of("Animal", "Cat", "Dynamic" + i));
+			assertThat(resolved.getNodeDescription()).isSameAs(this.cat);
+			assertThat(resolved.getDynamicLabels()).containsExactly("Dynamic" + i);
+		}
+
+		Neo4jMappingContext.LabelResolutionStatistics statistics = this.nodeDescriptionStore
+			.getLabelResolutionStatistics();
+		assertThat(statistics.misses()).isEqualTo(10);
+		assertThat(statistics.size()).isEqualTo(2);
+		assertThat(statistics.capacity()).isEqualTo(2);
+		assertThat(statistics.hitRatio()).isZero();
+	}
+
+	@Node
+	abstract static class Animal {
+
+		@Id
+		String id;
+
+	}
+
+	@Node
+	static class Dog extends Animal {
+
+	}
+
+	@Node
+	static class Cat extends Animal {
+
+	}
+
+}
@@ -15,6 +15,10 @@
  */
 package org.springframework.data.neo4j.core.mapping.callback;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,6 +29,7 @@ import org.springframework.data.neo4j.core.mapping.Constants;
 import org.springframework.data.neo4j.core.mapping.IdDescription;
 import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.core.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.core.schema.BatchIdGenerator;
 import org.springframework.data.neo4j.core.schema.GeneratedValue;
 import org.springframework.data.neo4j.core.schema.Id;
 import org.springframework.data.neo4j.core.schema.IdGenerator;
@@ -111,6 +116,30 @@ class IdPopulatorTests {
 					"Cannot persist implicit entity due to missing id property on " + ImplicitEntityWithoutId.class);
 	}
 
+	@Test
+	void shouldReserveIdsOfBatchesAtOnce() {
+
+		Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+		mappingContext.getRequiredPersistentEntity(SampleWithBatchIds.class);
+		IdPopulator idPopulator = new IdPopulator(mappingContext);
+		List<SampleWithBatchIds> samples = List.of(new SampleWithBatchIds(), new SampleWithBatchIds(),
+				new SampleWithBatchIds());
+		samples.get(1).theId = 23L;
+
+		idPopulator.reserveIdsIfNecessary(samples);
+		samples.forEach(idPopulator::populateIfNecessary);
+
+		assertThat(samples).extracting(sample -> sample.theId).containsExactly(1L, 23L, 2L);
+		CountingBatchIdGenerator idGenerator = mappingContext
+			.getOrCreateIdGeneratorOfType(CountingBatchIdGenerator.class);
+		assertThat(idGenerator.requestedCounts).containsExactly(2);
+
+		SampleWithBatchIds sample = new SampleWithBatchIds();
+		idPopulator.populateIfNecessary(sample);
+		assertThat(sample.theId).isEqualTo(3L);
+		assertThat(idGenerator.requestedCounts).containsExactly(2, 1);
+	}
+
 	@Node
 	static class Sample {
 
@@ -120,6 +149,15 @@ class IdPopulatorTests {
 
 	}
 
+	@Node
+	static class SampleWithBatchIds {
+
+		@Id
+		@GeneratedValue(CountingBatchIdGenerator.class)
+		private Long theId;
+
+	}
+
 	static class ImplicitEntityWithoutId {
 
 	}
@@ -133,4 +171,20 @@ class IdPopulatorTests {
 
 	}
 
+	static class CountingBatchIdGenerator implements BatchIdGenerator<Long> {
+
+		private final List<Integer> requestedCounts = new ArrayList<>();
+
+		private long next = 1;
+
+		@Override
+		public List<Long> generateIds(String primaryLabel, int count) {
+			this.requestedCounts.add(count);
+			long first = this.next;
+			this.next += count;
+			return LongStream.range(first, this.next).boxed().toList();
+		}
+
+	}
+
 }
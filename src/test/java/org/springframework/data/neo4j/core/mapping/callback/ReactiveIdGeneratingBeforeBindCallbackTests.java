@@ -0,0 +1,105 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.mapping.callback;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.schema.BatchIdGenerator;
+import org.springframework.data.neo4j.core.schema.GeneratedValue;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ */
+class ReactiveIdGeneratingBeforeBindCallbackTests {
+
+	private Neo4jMappingContext mappingContext;
+
+	private IdPopulator idPopulator;
+
+	private ReactiveIdGeneratingBeforeBindCallback callback;
+
+	@BeforeEach
+	void setUp() {
+
+		this.mappingContext = new Neo4jMappingContext();
+		this.mappingContext.getRequiredPersistentEntity(SampleWithBatchIds.class);
+		this.idPopulator = new IdPopulator(this.mappingContext);
+		this.callback = new ReactiveIdGeneratingBeforeBindCallback(this.idPopulator);
+	}
+
+	@Test
+	void shouldCallBatchIdGeneratorsOnASchedulerThatAllowsBlocking() {
+
+		SampleWithBatchIds sample = new SampleWithBatchIds();
+		StepVerifier.create(this.callback.onBeforeBind(sample))
+			.expectNextMatches(s -> ((SampleWithBatchIds) s).theId == 1L)
+			.verifyComplete();
+
+		ThreadRecordingBatchIdGenerator idGenerator = this.mappingContext
+			.getOrCreateIdGeneratorOfType(ThreadRecordingBatchIdGenerator.class);
+		assertThat(idGenerator.threads).singleElement().asString().startsWith("boundedElastic");
+	}
+
+	@Test
+	void shouldUseReservedIdsWithoutSwitchingThreads() {
+
+		SampleWithBatchIds sample = new SampleWithBatchIds();
+		this.idPopulator.reserveIdsIfNecessary(List.of(sample));
+
+		String currentThread = Thread.currentThread().getName();
+		StepVerifier.create(this.callback.onBeforeBind(sample))
+			.expectNextMatches(s -> ((SampleWithBatchIds) s).theId == 1L
+					&& Thread.currentThread().getName().equals(currentThread))
+			.verifyComplete();
+	}
+
+	@Node
+	static class SampleWithBatchIds {
+
+		@Id
+		@GeneratedValue(ThreadRecordingBatchIdGenerator.class)
+		private Long theId;
+
+	}
+
+	static class ThreadRecordingBatchIdGenerator implements BatchIdGenerator<Long> {
+
+		private final List<String> threads = new CopyOnWriteArrayList<>();
+
+		private final AtomicLong next = new AtomicLong(1);
+
+		@Override
+		public List<Long> generateIds(String primaryLabel, int count) {
+			this.threads.add(Thread.currentThread().getName());
+			long first = this.next.getAndAdd(count);
+			return LongStream.range(first, first + count).boxed().toList();
+		}
+
+	}
+
+}
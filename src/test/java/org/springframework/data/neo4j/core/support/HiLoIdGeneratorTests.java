@@ -0,0 +1,241 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.core.support;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.neo4j.driver.Driver;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Result;
+import org.neo4j.driver.Session;
+import org.neo4j.driver.SessionConfig;
+import org.neo4j.driver.TransactionCallback;
+import org.neo4j.driver.TransactionContext;
+import org.neo4j.driver.Values;
+import org.neo4j.driver.exceptions.ClientException;
+
+import org.springframework.data.neo4j.core.DatabaseSelection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * @author Michael J. Simons
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class HiLoIdGeneratorTests {
+
+	private final Map<String, Long> sequences = new ConcurrentHashMap<>();
+
+	private final List<Long> reservedBlockSizes = new CopyOnWriteArrayList<>();
+
+	private final Map<String, List<String>> statementsPerThread = new ConcurrentHashMap<>();
+
+	private final Map<String, String> databasePerThread = new ConcurrentHashMap<>();
+
+	@Mock
+	private Driver driver;
+
+	@Mock
+	private Session session;
+
+	@Mock
+	private TransactionContext transactionContext;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void simulateSequences() {
+
+		given(this.driver.session(any(SessionConfig.class))).willAnswer(invocation -> {
+			this.databasePerThread.put(Thread.currentThread().getName(),
+					invocation.<SessionConfig>getArgument(0).database().orElse("neo4j"));
+			return this.session;
+		});
+		given(this.session.run(anyString())).willAnswer(invocation -> {
+			recordStatement(invocation.getArgument(0));
+			return Mockito.mock(Result.class);
+		});
+		given(this.session.executeWrite(any(TransactionCallback.class)))
+			.willAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0))
+				.execute(this.transactionContext));
+		given(this.transactionContext.run(anyString(), anyMap())).willAnswer(invocation -> {
+			recordStatement(invocation.getArgument(0));
+			Map<String, Object> parameters = invocation.getArgument(1);
+			long size = (Long) parameters.get("size");
+			this.reservedBlockSizes.add(size);
+			String database = this.databasePerThread.get(Thread.currentThread().getName());
+			long next = this.sequences.merge(database + "." + parameters.get("name"), size, Long::sum);
+			Record record = Mockito.mock(Record.class);
+			given(record.get(0)).willReturn(Values.value(next));
+			Result result = Mockito.mock(Result.class);
+			given(result.list()).willReturn(List.of(record));
+			return result;
+		});
+	}
+
+	private void recordStatement(String statement) {
+		this.statementsPerThread.computeIfAbsent(Thread.currentThread().getName(), k -> new CopyOnWriteArrayList<>())
+			.add(statement.startsWith("CREATE CONSTRAINT") ? "constraint" : "reserve");
+	}
+
+	@Test
+	void shouldHandOutIdsFromReservedBlocks() {
+
+		HiLoIdGenerator generator = new HiLoIdGenerator(this.driver, null, 10);
+
+		assertThat(generator.generateIds("Person", 3)).containsExactly(1L, 2L, 3L);
+		assertThat(generator.generateId("Person", new Object())).isEqualTo(4L);
+		assertThat(generator.generateIds("Person", 8)).containsExactly(5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L);
+		assertThat(generator.generateIds("Movie", 2)).containsExactly(1L, 2L);
+		assertThat(this.reservedBlockSizes).containsExactly(10L, 10L, 10L);
+	}
+
+	@Test
+	void shouldKeepSequencesOfDifferentDatabasesApart() {
+
+		AtomicReference<DatabaseSelection> databaseSelection = new AtomicReference<>(DatabaseSelection.byName("a"));
+		HiLoIdGenerator generator = new HiLoIdGenerator(this.driver, databaseSelection::get, 10);
+
+		assertThat(generator.generateIds("Person", 2)).containsExactly(1L, 2L);
+		databaseSelection.set(DatabaseSelection.byName("b"));
+		assertThat(generator.generateIds("Person", 2)).containsExactly(1L, 2L);
+		databaseSelection.set(DatabaseSelection.byName("a"));
+		assertThat(generator.generateIds("Person", 2)).containsExactly(3L, 4L);
+		assertThat(this.sequences).containsOnly(Map.entry("a.Person", 10L), Map.entry("b.Person", 10L));
+	}
+
+	@Test
+	void shouldReserveLargeRequestsAtOnce() {
+
+		HiLoIdGenerator generator = new HiLoIdGenerator(this.driver, null, 10);
+
+		assertThat(generator.generateIds("Person", 2)).containsExactly(1L, 2L);
+		assertThat(generator.generateIds("Person", 30)).hasSize(30)
+			.containsExactlyElementsOf(IntStream.rangeClosed(3, 32).mapToObj(Long::valueOf).toList());
+		assertThat(generator.generateId("Person", new Object())).isEqualTo(33L);
+		assertThat(this.reservedBlockSizes).containsExactly(10L, 22L, 10L);
+	}
+
+	@Test
+	void shouldHandOutDistinctIdsConcurrently() {
+
+		HiLoIdGenerator generator = new HiLoIdGenerator(this.driver, null, 7);
+
+		Map<Integer, List<Long>> idsPerTask = new HashMap<>();
+		List<CompletableFuture<Void>> tasks = IntStream.range(0, 8).mapToObj(i -> CompletableFuture.runAsync(() -> {
+			List<Long> ids = new ArrayList<>();
+			for (int j = 0; j < 100; ++j) {
+				ids.addAll(generator.generateIds("Person", j % 3 + 1));
+			}
+			synchronized (idsPerTask) {
+				idsPerTask.put(i, ids);
+			}
+		})).toList();
+		tasks.forEach(CompletableFuture::join);
+
+		Set<Long> allIds = new HashSet<>();
+		idsPerTask.values().forEach(allIds::addAll);
+		assertThat(allIds).hasSize(idsPerTask.values().stream().mapToInt(List::size).sum());
+	}
+
+	@Test
+	void shouldCreateTheConstraintBeforeReservingTheFirstBlocksConcurrently() {
+
+		List<HiLoIdGenerator> generators = List.of(new HiLoIdGenerator(this.driver, null, 10),
+				new HiLoIdGenerator(this.driver, null, 10));
+
+		CyclicBarrier start = new CyclicBarrier(generators.size());
+		List<List<Long>> idsPerGenerator = generators.stream()
+			.map(generator -> CompletableFuture.supplyAsync(() -> {
+				try {
+					start.await();
+				}
+				catch (Exception ex) {
+					throw new IllegalStateException(ex);
+				}
+				return generator.generateIds("Person", 5);
+			}))
+			.toList()
+			.stream()
+			.map(CompletableFuture::join)
+			.toList();
+
+		assertThat(idsPerGenerator.get(0)).hasSize(5).doesNotContainAnyElementsOf(idsPerGenerator.get(1));
+		assertThat(idsPerGenerator.get(1)).hasSize(5);
+		assertThat(this.statementsPerThread).hasSize(2)
+			.allSatisfy((thread, statements) -> assertThat(statements).containsExactly("constraint", "reserve"));
+	}
+
+	@Test
+	void shouldCreateTheConstraintOnlyOnce() {
+
+		HiLoIdGenerator generator = new HiLoIdGenerator(this.driver, null, 2);
+
+		assertThat(generator.generateIds("Person", 3)).containsExactly(1L, 2L, 3L);
+		assertThat(generator.generateIds("Movie", 1)).containsExactly(1L);
+		assertThat(this.statementsPerThread.values()).singleElement()
+			.isEqualTo(List.of("constraint", "reserve", "reserve"));
+	}
+
+	@Test
+	void shouldReserveBlocksWhenTheConstraintCannotBeCreated() {
+
+		given(this.session.run(anyString())).willThrow(new ClientException("Permission denied"));
+		HiLoIdGenerator generator = new HiLoIdGenerator(this.driver, null, 10);
+
+		assertThat(generator.generateIds("Person", 2)).containsExactly(1L, 2L);
+		assertThat(this.reservedBlockSizes).containsExactly(10L);
+	}
+
+	@Test
+	void shouldFailWhenASequenceIsStoredInSeveralNodes() {
+
+		Record record = Mockito.mock(Record.class);
+		given(record.get(0)).willReturn(Values.value(10L));
+		Result result = Mockito.mock(Result.class);
+		given(result.list()).willReturn(List.of(record, record));
+		given(this.transactionContext.run(anyString(), anyMap())).willReturn(result);
+		HiLoIdGenerator generator = new HiLoIdGenerator(this.driver, null, 10);
+
+		assertThatIllegalStateException().isThrownBy(() -> generator.generateIds("Person", 1))
+			.withMessageContaining("The sequence `Person` is stored in 2 `__Sequence__` nodes");
+	}
+
+}
@@ -304,6 +304,46 @@ class Neo4jTransactionManagerTests {
 				verify(Neo4jTransactionManagerTests.this.transaction).close();
 			}
 
+			@Test
+			void shouldProvideIdentityMapOfOngoingTransaction() {
+
+				assertThat(Neo4jTransactionManager.retrieveIdentityMap()).isNull();
+
+				Neo4jTransactionManager txManager = Neo4jTransactionManager
+					.with(Neo4jTransactionManagerTests.this.driver)
+					.withDatabaseSelectionProvider(() -> Neo4jTransactionManagerTests.this.databaseSelection)
+					.build();
+				TransactionTemplate txTemplate = new TransactionTemplate(txManager);
+
+				txTemplate.execute(new TransactionCallbackWithoutResult() {
+
+					@Override
+					protected void doInTransactionWithoutResult(TransactionStatus outerStatus) {
+
+						EntityIdentityMap outerIdentityMap = Neo4jTransactionManager.retrieveIdentityMap();
+						assertThat(outerIdentityMap).isNotNull();
+						outerIdentityMap.put(String.class, 1L, "a value");
+
+						txTemplate.execute(new TransactionCallbackWithoutResult() {
+
+							@Override
+							protected void doInTransactionWithoutResult(TransactionStatus innerStatus) {
+
+								EntityIdentityMap innerIdentityMap = Neo4jTransactionManager.retrieveIdentityMap();
+								assertThat(innerIdentityMap).isSameAs(outerIdentityMap);
+								assertThat(innerIdentityMap.get(String.class, 1L)).isEqualTo("a value");
+								assertThat(innerIdentityMap.putIfAbsent(String.class, 1L, "another value"))
+									.isEqualTo("a value");
+							}
+						});
+
+						outerStatus.setRollbackOnly();
+					}
+				});
+
+				assertThat(Neo4jTransactionManager.retrieveIdentityMap()).isNull();
+			}
+
 		}
 
 		@Nested
@@ -26,6 +26,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -61,6 +62,7 @@ import org.springframework.data.neo4j.test.Neo4jImperativeTestConfiguration;
 import org.springframework.data.neo4j.test.Neo4jIntegrationTest;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -190,6 +192,56 @@ class Neo4jTemplateIT {
 		assertThat(people).hasSize(2);
 	}
 
+	@Test
+	void streamAll() {
+		try (Stream<PersonWithAllConstructor> people = this.neo4jTemplate.streamAll(PersonWithAllConstructor.class)) {
+			assertThat(people).hasSize(2);
+		}
+	}
+
+	@Test
+	void streamAllShouldNotBindATransactionToTheThread() {
+		try (Stream<PersonWithAllConstructor> people = this.neo4jTemplate.streamAll(PersonWithAllConstructor.class)) {
+			assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+			assertThat(TransactionSynchronizationManager.isSynchronizationActive()).isFalse();
+
+			// Writes on the same thread must not end up in the session of the stream
+			Person person = new Person();
+			person.setLastName("Streamed");
+			Person savedPerson = this.neo4jTemplate.save(person);
+			assertThat(this.neo4jTemplate.existsById(savedPerson.getId(), Person.class)).isTrue();
+
+			assertThat(people).hasSize(2);
+		}
+	}
+
+	@Test
+	void streamAllShouldParticipateInOngoingTransactions(@Autowired PlatformTransactionManager transactionManager) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+		long count = Objects.requireNonNull(transactionTemplate.execute(tx -> {
+			try (Stream<PersonWithAllConstructor> people = this.neo4jTemplate
+				.streamAll(PersonWithAllConstructor.class)) {
+				return people.count();
+			}
+		}));
+		assertThat(count).isEqualTo(2L);
+	}
+
+	@Test
+	void streamAllWithStatementAndParameters() {
+		Node node = Cypher.node("PersonWithAllConstructor").named("n");
+		Statement statement = Cypher.match(node)
+			.where(node.property("name").isEqualTo(Cypher.parameter("name")))
+			.returning(node)
+			.build();
+
+		try (Stream<PersonWithAllConstructor> people = this.neo4jTemplate.streamAll(statement,
+				Collections.singletonMap("name", TEST_PERSON1_NAME), PersonWithAllConstructor.class)) {
+			assertThat(people).extracting(PersonWithAllConstructor::getName).containsExactly(TEST_PERSON1_NAME);
+		}
+	}
+
 	@Test
 	void findAllWithStatement() {
 		Node node = Cypher.node("PersonWithAllConstructor").named("n");
@@ -830,6 +882,32 @@ class Neo4jTemplateIT {
 		});
 	}
 
+	@Test
+	void identityMapShouldNotRegisterPartiallyLoadedEntities(@Autowired PlatformTransactionManager transactionManager) {
+
+		this.neo4jTemplate.setIdentityMapEnabled(true);
+		try {
+			new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+				Person partiallyLoadedPerson = this.neo4jTemplate
+					.findOne("MATCH (p:Person {lastName: $lastName}) RETURN p", Map.of("lastName", "Siemons"),
+							Person.class)
+					.orElseThrow();
+				assertThat(partiallyLoadedPerson.getAddress()).isNull(); // We didn't fetch it
+
+				Optional<Person> person = this.neo4jTemplate.findById(partiallyLoadedPerson.getId(), Person.class);
+				assertThat(person).hasValueSatisfying(p -> {
+					assertThat(p).isNotSameAs(partiallyLoadedPerson);
+					assertThat(p.getAddress()).isNotNull();
+				});
+				assertThat(this.neo4jTemplate.findById(partiallyLoadedPerson.getId(), Person.class))
+					.hasValueSatisfying(p -> assertThat(p).isSameAs(person.get()));
+			});
+		}
+		finally {
+			this.neo4jTemplate.setIdentityMapEnabled(false);
+		}
+	}
+
 	@Test
 	void executableFindShouldWorkAllDomainObjectsShouldWork() {
 		List<Person> people = this.neo4jTemplate.find(Person.class).all();
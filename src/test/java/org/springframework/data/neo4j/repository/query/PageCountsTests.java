@@ -0,0 +1,178 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.ReflectionUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * @author Michael J. Simons
+ */
+class PageCountsTests {
+
+	private static final Pageable FIRST_PAGE = PageRequest.of(0, 10);
+
+	private static PageCount pageCount(String methodName) {
+		return ReflectionUtils.findMethod(Configurations.class, methodName).getAnnotation(PageCount.class);
+	}
+
+	@Test
+	void shouldNotBeCreatedWithoutSpecialTreatment() {
+
+		assertThat(PageCounts.of(null)).isNull();
+		assertThat(PageCounts.of(pageCount("defaults"))).isNull();
+	}
+
+	@Test
+	void shouldCacheTotalsPerKey() {
+
+		PageCounts pageCounts = PageCounts.of(pageCount("cached"));
+		assertThat(pageCounts).isNotNull();
+
+		AtomicInteger numberOfCounts = new AtomicInteger();
+		LongSupplier count = () -> numberOfCounts.incrementAndGet() * 10L;
+
+		assertThat(pageCounts.start("a", FIRST_PAGE, count).getAsLong()).isEqualTo(10L);
+		assertThat(pageCounts.start("a", FIRST_PAGE, count).getAsLong()).isEqualTo(10L);
+		assertThat(pageCounts.start("b", FIRST_PAGE, count).getAsLong()).isEqualTo(20L);
+		assertThat(numberOfCounts).hasValue(2);
+	}
+
+	@Test
+	void shouldNotCacheUnusedTotals() {
+
+		PageCounts pageCounts = PageCounts.of(pageCount("cached"));
+		assertThat(pageCounts).isNotNull();
+
+		AtomicInteger numberOfCounts = new AtomicInteger();
+		pageCounts.start("a", FIRST_PAGE, numberOfCounts::incrementAndGet);
+		assertThat(pageCounts.start("a", FIRST_PAGE, numberOfCounts::incrementAndGet).getAsLong()).isEqualTo(1L);
+	}
+
+	@Test
+	void shouldCountInParallel() {
+
+		PageCounts pageCounts = PageCounts.of(pageCount("parallel"));
+		assertThat(pageCounts).isNotNull();
+
+		AtomicReference<Thread> countingThread = new AtomicReference<>();
+		LongSupplier total = pageCounts.start("a", FIRST_PAGE, () -> {
+			countingThread.set(Thread.currentThread());
+			return 42L;
+		});
+
+		assertThat(total.getAsLong()).isEqualTo(42L);
+		assertThat(countingThread.get()).isNotSameAs(Thread.currentThread());
+		assertThat(countingThread.get().getName()).startsWith("sdn-page-count-");
+	}
+
+	@Test
+	void shouldPropagateErrorsOfParallelCounts() {
+
+		PageCounts pageCounts = PageCounts.of(pageCount("parallel"));
+		assertThat(pageCounts).isNotNull();
+
+		LongSupplier total = pageCounts.start("a", FIRST_PAGE, () -> {
+			throw new TransientDataAccessResourceException("Database is gone");
+		});
+
+		assertThatExceptionOfType(TransientDataAccessResourceException.class).isThrownBy(total::getAsLong)
+			.withMessage("Database is gone");
+	}
+
+	@Test
+	void shouldNotDispatchCountsForPresumablyLastPages() {
+
+		PageCounts pageCounts = PageCounts.of(pageCount("parallel"));
+		assertThat(pageCounts).isNotNull();
+
+		AtomicReference<Thread> countingThread = new AtomicReference<>();
+		LongSupplier count = () -> {
+			countingThread.set(Thread.currentThread());
+			return 15L;
+		};
+		assertThat(pageCounts.start("a", FIRST_PAGE, count).getAsLong()).isEqualTo(15L);
+		assertThat(countingThread.get()).isNotSameAs(Thread.currentThread());
+
+		countingThread.set(null);
+		LongSupplier total = pageCounts.start("a", PageRequest.of(1, 10), count);
+		assertThat(countingThread.get()).isNull();
+		assertThat(total.getAsLong()).isEqualTo(15L);
+		assertThat(countingThread.get()).isSameAs(Thread.currentThread());
+
+		countingThread.set(null);
+		pageCounts.start("b", Pageable.unpaged(), count);
+		assertThat(countingThread.get()).isNull();
+	}
+
+	@Test
+	void shouldCountOnDemandWhenTooManyCountsRunInParallel() {
+
+		PageCounts pageCounts = new PageCounts(true, 0, new Semaphore(0));
+
+		AtomicReference<Thread> countingThread = new AtomicReference<>();
+		LongSupplier total = pageCounts.start("a", FIRST_PAGE, () -> {
+			countingThread.set(Thread.currentThread());
+			return 42L;
+		});
+
+		assertThat(countingThread.get()).isNull();
+		assertThat(total.getAsLong()).isEqualTo(42L);
+		assertThat(countingThread.get()).isSameAs(Thread.currentThread());
+	}
+
+	@Test
+	void shouldReleasePermitsOfParallelCounts() {
+
+		Semaphore parallelCounts = new Semaphore(1);
+		PageCounts pageCounts = new PageCounts(true, 0, parallelCounts);
+
+		assertThat(pageCounts.start("a", FIRST_PAGE, () -> 1L).getAsLong()).isEqualTo(1L);
+		assertThat(parallelCounts.availablePermits()).isOne();
+
+		LongSupplier failingTotal = pageCounts.start("b", FIRST_PAGE, () -> {
+			throw new TransientDataAccessResourceException("Database is gone");
+		});
+		assertThatExceptionOfType(TransientDataAccessResourceException.class).isThrownBy(failingTotal::getAsLong);
+		assertThat(parallelCounts.availablePermits()).isOne();
+	}
+
+	interface Configurations {
+
+		@PageCount
+		void defaults();
+
+		@PageCount(cacheFor = 1)
+		void cached();
+
+		@PageCount(parallel = true)
+		void parallel();
+
+	}
+
+}
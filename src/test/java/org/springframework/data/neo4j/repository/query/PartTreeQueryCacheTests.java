@@ -0,0 +1,192 @@
+/*
+ * Copyright 2011-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository.query;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.junit.jupiter.api.Test;
+import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.neo4j.driver.Values;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.core.convert.Neo4jPersistentPropertyConverter;
+import org.springframework.data.neo4j.core.mapping.Neo4jMappingContext;
+import org.springframework.data.neo4j.core.schema.Id;
+import org.springframework.data.neo4j.core.schema.Node;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.util.ReflectionUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @author Michael J. Simons
+ */
+class PartTreeQueryCacheTests {
+
+	private static final BiFunction<Object, Neo4jPersistentPropertyConverter<?>, Object> IDENTITY = (v,
+			c) -> (v != null) ? v : Values.NULL;
+
+	private final Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+	private final Renderer renderer = Renderer.getDefaultRenderer();
+
+	PartTreeQueryCacheTests() {
+		this.mappingContext.setInitialEntitySet(Set.of(Thing.class));
+		this.mappingContext.initialize();
+	}
+
+	private static Neo4jQueryMethod queryMethod(String name, Class<?>... parameters) {
+		return new Neo4jQueryMethod(ReflectionUtils.findMethod(ThingRepository.class, name, parameters),
+				new DefaultRepositoryMetadata(ThingRepository.class), new SpelAwareProxyProjectionFactory());
+	}
+
+	private QueryFragmentsAndParameters createQuery(PartTreeQueryCache cache, Neo4jQueryMethod queryMethod,
+			PartTree tree, AtomicInteger creations, Object... values) {
+
+		var parameterAccessor = new Neo4jParameterAccessor(
+				(Neo4jQueryMethod.Neo4jParameters) queryMethod.getParameters(), values);
+		Supplier<CypherQueryCreator> queryCreator = () -> {
+			creations.incrementAndGet();
+			return new CypherQueryCreator(this.mappingContext, queryMethod, Thing.class, Neo4jQueryType.DEFAULT, tree,
+					parameterAccessor, Set.of(), IDENTITY, UnaryOperator.identity());
+		};
+		return cache.createQuery(Neo4jQueryType.DEFAULT, Set.of(), parameterAccessor, UnaryOperator.identity(),
+				queryCreator);
+	}
+
+	@Test
+	void shouldReuseQueryFragmentsForSameShape() {
+
+		var queryMethod = queryMethod("findAllByNameAndAge", String.class, Integer.class, Sort.class);
+		var tree = new PartTree("findAllByNameAndAge", Thing.class);
+		var cache = new PartTreeQueryCache(queryMethod, tree, IDENTITY);
+		var creations = new AtomicInteger();
+
+		var first = createQuery(cache, queryMethod, tree, creations, "a", 1, Sort.by("name"));
+		var second = createQuery(cache, queryMethod, tree, creations, "b", 2, Sort.by("name"));
+
+		assertThat(creations).hasValue(1);
+		assertThat(second.getQueryFragments()).isSameAs(first.getQueryFragments());
+		assertThat(this.renderer.render(second.toStatement())).isEqualTo(this.renderer.render(first.toStatement()));
+		assertThat(first.getParameters()).containsEntry("name", "a").containsEntry("age", 1);
+		assertThat(second.getParameters()).containsEntry("name", "b").containsEntry("age", 2);
+	}
+
+	@Test
+	void shouldDistinguishSortAndNullValues() {
+
+		var queryMethod = queryMethod("findAllByNameAndAge", String.class, Integer.class, Sort.class);
+		var tree = new PartTree("findAllByNameAndAge", Thing.class);
+		var cache = new PartTreeQueryCache(queryMethod, tree, IDENTITY);
+		var creations = new AtomicInteger();
+
+		var sortedByName = createQuery(cache, queryMethod, tree, creations, "a", 1, Sort.by("name"));
+		var sortedByAge = createQuery(cache, queryMethod, tree, creations, "a", 1, Sort.by("age"));
+		createQuery(cache, queryMethod, tree, creations, null, 1, Sort.by("age"));
+		var withNull = createQuery(cache, queryMethod, tree, creations, null, 2, Sort.by("age"));
+
+		assertThat(creations).hasValue(3);
+		assertThat(cache.size()).isEqualTo(3);
+		assertThat(this.renderer.render(sortedByName.toStatement())).endsWith("ORDER BY thing.name");
+		assertThat(this.renderer.render(sortedByAge.toStatement())).endsWith("ORDER BY thing.age");
+		assertThat(withNull.getParameters()).containsEntry("name", Values.NULL).containsEntry("age", 2);
+	}
+
+	@Test
+	void shouldDistinguishRangeBounds() {
+
+		var queryMethod = queryMethod("findAllByAgeBetween", Range.class);
+		var tree = new PartTree("findAllByAgeBetween", Thing.class);
+		var cache = new PartTreeQueryCache(queryMethod, tree, IDENTITY);
+		var creations = new AtomicInteger();
+
+		var closed = createQuery(cache, queryMethod, tree, creations, Range.closed(1, 2));
+		createQuery(cache, queryMethod, tree, creations, Range.closed(3, 4));
+		var open = createQuery(cache, queryMethod, tree, creations, Range.rightOpen(1, 2));
+
+		assertThat(creations).hasValue(2);
+		assertThat(this.renderer.render(closed.toStatement())).contains("thing.age <= $range.ub");
+		assertThat(this.renderer.render(open.toStatement())).contains("thing.age < $range.ub");
+	}
+
+	@Test
+	void shouldNotCachePagedInvocations() {
+
+		var queryMethod = queryMethod("findAllByName", String.class, Pageable.class);
+		var tree = new PartTree("findAllByName", Thing.class);
+		var cache = new PartTreeQueryCache(queryMethod, tree, IDENTITY);
+		var creations = new AtomicInteger();
+
+		var secondPage = createQuery(cache, queryMethod, tree, creations, "a", PageRequest.of(1, 20));
+		var fourthPage = createQuery(cache, queryMethod, tree, creations, "a", PageRequest.of(3, 20));
+
+		assertThat(creations).hasValue(2);
+		assertThat(cache.size()).isZero();
+		assertThat(secondPage.getQueryFragments().getSkip()).isNotEqualTo(fourthPage.getQueryFragments().getSkip());
+		assertThat(this.renderer.render(fourthPage.toStatement()))
+			.isNotEqualTo(this.renderer.render(secondPage.toStatement()))
+			.endsWith("LIMIT 20");
+	}
+
+	@Test
+	void shouldRespectCapacity() {
+
+		var queryMethod = queryMethod("findAllByNameAndAge", String.class, Integer.class, Sort.class);
+		var tree = new PartTree("findAllByNameAndAge", Thing.class);
+		var cache = new PartTreeQueryCache(queryMethod, tree, IDENTITY, 1);
+		var creations = new AtomicInteger();
+
+		for (String property : List.of("name", "age", "name", "age")) {
+			createQuery(cache, queryMethod, tree, creations, "a", 1, Sort.by(property));
+		}
+
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(creations).hasValue(3);
+	}
+
+	@Node
+	static class Thing {
+
+		@Id
+		String name;
+
+		Integer age;
+
+	}
+
+	interface ThingRepository extends Repository<Thing, String> {
+
+		List<Thing> findAllByNameAndAge(String name, Integer age, Sort sort);
+
+		List<Thing> findAllByAgeBetween(Range<Integer> range);
+
+		Page<Thing> findAllByName(String name, Pageable pageable);
+
+	}
+
+}
@@ -37,8 +37,14 @@ import org.mockito.BDDMockito;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.neo4j.cypherdsl.core.renderer.Configuration;
+import org.neo4j.driver.Record;
+import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
+import org.neo4j.driver.internal.InternalNode;
+import org.neo4j.driver.internal.InternalRecord;
+import org.neo4j.driver.internal.value.NodeValue;
 import org.neo4j.driver.types.Point;
+import org.neo4j.driver.types.TypeSystem;
 import reactor.core.publisher.Mono;
 
 import org.springframework.context.ConfigurableApplicationContext;
@@ -79,6 +85,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assumptions.assumeThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 
 /**
@@ -191,6 +198,9 @@ final class RepositoryQueryTests {
 
 		List<TestEntityDTOProjection> findAllDTOProjectionsBy();
 
+		@Query(CUSTOM_CYPHER_QUERY)
+		<T> List<T> findAllDynamicProjectionsBy(Class<T> type);
+
 		List<ExtendedTestEntity> findAllExtendedEntities();
 
 		@Query("MATCH (n:Test) RETURN n SKIP $skip LIMIT $limit")
@@ -647,6 +657,65 @@ final class RepositoryQueryTests {
 			assertThat(Neo4jQuerySupport.getDomainType(method)).isEqualTo(domainType);
 		}
 
+		@Test
+		void shouldReuseExecutionPlanUnlessProjectionIsDynamic() {
+
+			Neo4jMappingContext mappingContext = new Neo4jMappingContext();
+
+			AbstractNeo4jQuery query = StringBasedNeo4jQuery.create(RepositoryQueryTests.this.neo4jOperations,
+					mappingContext, ValueExpressionDelegate.create(), neo4jQueryMethod("findAllDTOProjectionsBy"),
+					CUSTOM_CYPHER_QUERY, PROJECTION_FACTORY);
+			Neo4jParameterAccessor parameterAccessor = new Neo4jParameterAccessor(
+					(Neo4jQueryMethod.Neo4jParameters) query.queryMethod.getParameters(), new Object[0]);
+
+			QueryExecutionPlan plan = query.getExecutionPlan(parameterAccessor);
+			assertThat(plan.resultProcessor().getReturnedType().getReturnedType())
+				.isEqualTo(TestEntityDTOProjection.class);
+			assertThat(query.getExecutionPlan(parameterAccessor)).isSameAs(plan);
+
+			AbstractNeo4jQuery dynamicQuery = StringBasedNeo4jQuery.create(RepositoryQueryTests.this.neo4jOperations,
+					mappingContext, ValueExpressionDelegate.create(),
+					neo4jQueryMethod("findAllDynamicProjectionsBy", Class.class), PROJECTION_FACTORY);
+			Neo4jParameterAccessor dynamicParameterAccessor = new Neo4jParameterAccessor(
+					(Neo4jQueryMethod.Neo4jParameters) dynamicQuery.queryMethod.getParameters(),
+					new Object[] { TestEntityDTOProjection.class });
+
+			QueryExecutionPlan dynamicPlan = dynamicQuery.getExecutionPlan(dynamicParameterAccessor);
+			assertThat(dynamicPlan.resultProcessor().getReturnedType().getReturnedType())
+				.isEqualTo(TestEntityDTOProjection.class);
+			assertThat(dynamicQuery.getExecutionPlan(dynamicParameterAccessor)).isNotSameAs(dynamicPlan);
+		}
+
+		@Test
+		@SuppressWarnings("unchecked")
+		void shouldMapEachExecutionWithItsOwnMappingFunction() {
+
+			Record record = new InternalRecord(List.of("n"), new Value[] { new NodeValue(
+					new InternalNode(1L, List.of("TestEntity"), Map.of("name", Values.value("Test")))) });
+			given(RepositoryQueryTests.this.neo4jOperations.toExecutableQuery(any(PreparedQuery.class)))
+				.willAnswer(invocation -> {
+					PreparedQuery<?> preparedQuery = invocation.getArgument(0);
+					Object entity = preparedQuery.getOptionalMappingFunction()
+						.orElseThrow()
+						.apply(TypeSystem.getDefault(), record);
+					Neo4jOperations.ExecutableQuery<Object> executableQuery = mock(
+							Neo4jOperations.ExecutableQuery.class);
+					given(executableQuery.getResults()).willReturn(List.of(entity));
+					return executableQuery;
+				});
+
+			AbstractNeo4jQuery query = StringBasedNeo4jQuery.create(RepositoryQueryTests.this.neo4jOperations,
+					new Neo4jMappingContext(), ValueExpressionDelegate.create(),
+					neo4jQueryMethod("annotatedQueryWithValidTemplate"), PROJECTION_FACTORY);
+
+			List<TestEntity> first = (List<TestEntity>) query.execute(new Object[0]);
+			List<TestEntity> second = (List<TestEntity>) query.execute(new Object[0]);
+
+			assertThat(first).hasSize(1);
+			assertThat(second).hasSize(1);
+			assertThat(second.get(0)).isNotSameAs(first.get(0));
+		}
+
 	}
 
 }